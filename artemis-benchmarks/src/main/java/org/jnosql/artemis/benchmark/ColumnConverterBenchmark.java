@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.column.ColumnEntityConverter;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion between entity and {@link ColumnEntity} to flat, embedded and collection of
+ * embeddable entities. To compare with the interpreter, run it with
+ * -Dorg.jnosql.artemis.converter.compiled=false
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnConverterBenchmark {
+
+    private ColumnEntityConverter converter;
+
+    private Person person;
+
+    private Director director;
+
+    private AppointmentBook appointmentBook;
+
+    private ColumnEntity personEntity;
+
+    private ColumnEntity directorEntity;
+
+    private ColumnEntity appointmentBookEntity;
+
+    @Setup
+    public void setUp() {
+        converter = BenchmarkContainer.INSTANCE.getBean(ColumnEntityConverter.class);
+        person = Entities.person();
+        director = Entities.director();
+        appointmentBook = Entities.appointmentBook(10);
+        personEntity = converter.toColumn(person);
+        directorEntity = converter.toColumn(director);
+        appointmentBookEntity = converter.toColumn(appointmentBook);
+    }
+
+    @Benchmark
+    public ColumnEntity toColumnFlat() {
+        return converter.toColumn(person);
+    }
+
+    @Benchmark
+    public ColumnEntity toColumnEmbedded() {
+        return converter.toColumn(director);
+    }
+
+    @Benchmark
+    public ColumnEntity toColumnCollectionEmbeddable() {
+        return converter.toColumn(appointmentBook);
+    }
+
+    @Benchmark
+    public Person toEntityFlat() {
+        return converter.toEntity(personEntity);
+    }
+
+    @Benchmark
+    public Director toEntityEmbedded() {
+        return converter.toEntity(directorEntity);
+    }
+
+    @Benchmark
+    public AppointmentBook toEntityCollectionEmbeddable() {
+        return converter.toEntity(appointmentBookEntity);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.column.ColumnEntityConverter;
+import org.jnosql.artemis.column.ColumnTemplate;
+import org.jnosql.artemis.column.ColumnTemplateProducer;
+import org.jnosql.artemis.column.ColumnWorkflow;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the {@link ColumnWorkflow} bean and the insert of a {@link ColumnTemplate} from the {@link ColumnTemplateProducer},
+ * the convert round trip without any event is the baseline, so the difference to the workflow is the cost of the events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnWorkflowBenchmark {
+
+    private final UnaryOperator<ColumnEntity> action = UnaryOperator.identity();
+
+    private ColumnEntityConverter converter;
+
+    private ColumnWorkflow workflow;
+
+    private ColumnTemplate template;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        converter = BenchmarkContainer.INSTANCE.getBean(ColumnEntityConverter.class);
+        workflow = BenchmarkContainer.INSTANCE.getBean(ColumnWorkflow.class);
+        ColumnTemplateProducer<?> producer = BenchmarkContainer.INSTANCE.getBean(ColumnTemplateProducer.class);
+        template = producer.get(BenchmarkContainer.INSTANCE.getBean(ColumnFamilyManager.class));
+        person = Entities.person();
+    }
+
+    @Benchmark
+    public Person convert() {
+        return converter.toEntity(Person.class, action.apply(converter.toColumn(person)));
+    }
+
+    @Benchmark
+    public Person flow() {
+        return workflow.flow(person, action);
+    }
+
+    @Benchmark
+    public Person insert() {
+        return template.insert(person);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Embeddable;
+
+/**
+ * The element of the collection of embeddable at {@link AppointmentBook}
+ */
+@Embeddable
+public class Contact {
+
+    @Column
+    private String name;
+
+    @Column
+    private String information;
+
+    Contact() {
+    }
+
+    public Contact(String name, String information) {
+        this.name = name;
+        this.information = information;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getInformation() {
+        return information;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+
+/**
+ * The entities converted by the benchmarks
+ */
+final class Entities {
+
+    private Entities() {
+    }
+
+    static Person person() {
+        return new Person(1L, "Ada", 36, asList("234", "2342"));
+    }
+
+    static Director director() {
+        Movie movie = new Movie("Matrix", 1999L, Collections.singleton("Keanu"));
+        return new Director(2L, "Lana", movie);
+    }
+
+    static AppointmentBook appointmentBook(int contacts) {
+        AppointmentBook book = new AppointmentBook("book");
+        for (int index = 0; index < contacts; index++) {
+            book.add(new Contact("contact" + index, "contact" + index + "@jnosql.org"));
+        }
+        return book;
+    }
+
+    static User user() {
+        return new User("ada", "Ada", 36);
+    }
+}
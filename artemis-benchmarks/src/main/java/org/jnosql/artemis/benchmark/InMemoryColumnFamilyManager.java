@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import javax.enterprise.inject.Vetoed;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stand-in {@link ColumnFamilyManager} that keeps the entities in memory, so the benchmarks measure the mapping
+ * layer without a database. It does not evaluate the query condition, a select returns the rows of the column family.
+ */
+@Vetoed
+class InMemoryColumnFamilyManager implements ColumnFamilyManager {
+
+    private final Map<String, List<ColumnEntity>> families = new ConcurrentHashMap<>();
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) throws NullPointerException {
+        return insert(entity);
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) throws NullPointerException {
+        return insert(entity);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+    }
+
+    @Override
+    public List<ColumnEntity> select(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return families.getOrDefault(query.getColumnFamily(), Collections.emptyList());
+    }
+
+    /**
+     * Defines the rows returned to a column family
+     *
+     * @param columnFamily the column family
+     * @param entities     the rows
+     */
+    void load(String columnFamily, List<ColumnEntity> entities) {
+        families.put(columnFamily, entities);
+    }
+
+    @Override
+    public void close() {
+    }
+}
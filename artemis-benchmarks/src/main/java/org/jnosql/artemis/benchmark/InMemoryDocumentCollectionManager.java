@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import javax.enterprise.inject.Vetoed;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stand-in {@link DocumentCollectionManager} that keeps the entities in memory, so the benchmarks measure the
+ * mapping layer without a database. It does not evaluate the query condition, a select returns the documents
+ * of the collection.
+ */
+@Vetoed
+class InMemoryDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final Map<String, List<DocumentEntity>> collections = new ConcurrentHashMap<>();
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) throws NullPointerException {
+        return insert(entity);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) throws NullPointerException {
+        return insert(entity);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+    }
+
+    @Override
+    public List<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return collections.getOrDefault(query.getDocumentCollection(), Collections.emptyList());
+    }
+
+    /**
+     * Defines the documents returned to a collection
+     *
+     * @param collection the collection
+     * @param entities   the documents
+     */
+    void load(String collection, List<DocumentEntity> entities) {
+        collections.put(collection, entities);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.key.KeyValueEntityConverter;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.KeyValueEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion between entity and {@link KeyValueEntity}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyValueConverterBenchmark {
+
+    private KeyValueEntityConverter converter;
+
+    private User user;
+
+    private KeyValueEntity<?> entity;
+
+    private Value value;
+
+    @Setup
+    public void setUp() {
+        converter = BenchmarkContainer.INSTANCE.getBean(KeyValueEntityConverter.class);
+        user = Entities.user();
+        entity = converter.toKeyValue(user);
+        value = Value.of(user);
+    }
+
+    @Benchmark
+    public KeyValueEntity<?> toKeyValue() {
+        return converter.toKeyValue(user);
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return converter.toEntity(User.class, entity);
+    }
+
+    @Benchmark
+    public User toEntityFromValue() {
+        return converter.toEntity(User.class, value);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Produces;
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Produces the in memory managers to the default templates and repositories, each one has a single Person row.
+ */
+@ApplicationScoped
+public class ManagerProducer {
+
+    private final InMemoryColumnFamilyManager columnFamilyManager = new InMemoryColumnFamilyManager();
+
+    private final InMemoryDocumentCollectionManager documentCollectionManager = new InMemoryDocumentCollectionManager();
+
+    @PostConstruct
+    public void init() {
+        columnFamilyManager.load("Person", Collections.singletonList(ColumnEntity.of("Person",
+                asList(Column.of("_id", 1L), Column.of("name", "Ada"), Column.of("age", 36),
+                        Column.of("phones", asList("234", "2342"))))));
+
+        documentCollectionManager.load("Person", Collections.singletonList(DocumentEntity.of("Person",
+                asList(Document.of("_id", 1L), Document.of("name", "Ada"), Document.of("age", 36),
+                        Document.of("phones", asList("234", "2342"))))));
+    }
+
+    @Produces
+    public ColumnFamilyManager getColumnFamilyManager() {
+        return columnFamilyManager;
+    }
+
+    @Produces
+    public DocumentCollectionManager getDocumentCollectionManager() {
+        return documentCollectionManager;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Embeddable;
+
+import java.util.Set;
+
+/**
+ * The embeddable class of {@link Director}
+ */
+@Embeddable
+public class Movie {
+
+    @Column
+    private String title;
+
+    @Column
+    private long year;
+
+    @Column
+    private Set<String> actors;
+
+    Movie() {
+    }
+
+    public Movie(String title, long year, Set<String> actors) {
+        this.title = title;
+        this.year = year;
+        this.actors = actors;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getYear() {
+        return year;
+    }
+
+    public Set<String> getActors() {
+        return actors;
+    }
+}
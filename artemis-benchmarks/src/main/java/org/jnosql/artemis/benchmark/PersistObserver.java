@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.EntityPostPersit;
+import org.jnosql.artemis.EntityPrePersist;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An observer of the persist events, so the benchmarks with CDI events have someone listening to them
+ */
+@ApplicationScoped
+public class PersistObserver {
+
+    private final LongAdder events = new LongAdder();
+
+    void onPrePersist(@Observes EntityPrePersist event) {
+        events.increment();
+    }
+
+    void onPostPersist(@Observes EntityPostPersit event) {
+        events.increment();
+    }
+
+    public long getEvents() {
+        return events.sum();
+    }
+}
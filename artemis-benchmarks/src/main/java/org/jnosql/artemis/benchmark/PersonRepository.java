@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The repository used on the proxy dispatch benchmarks, the same interface is injected to columns and documents
+ */
+public interface PersonRepository extends Repository<Person, Long> {
+
+    Optional<Person> findByName(String name);
+
+    List<Person> findByNameAndAge(String name, Integer age);
+
+    List<Person> findByAgeGreaterThanAndAgeLessThanOrNameLikeOrderByNameDesc(Integer begin, Integer end, String name,
+                                                                          Pagination pagination);
+
+    void deleteByName(String name);
+}
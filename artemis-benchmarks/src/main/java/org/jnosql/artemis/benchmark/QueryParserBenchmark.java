@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.column.query.ColumnQueryParser;
+import org.jnosql.artemis.document.query.DocumentQueryParser;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parse of derived query methods, from a single condition to conditions with or, sort and pagination
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParserBenchmark {
+
+    @Param({"findByName", "findByNameAndAge", "findByAgeGreaterThanAndAgeLessThanOrNameLikeOrderByNameDesc"})
+    private String methodName;
+
+    private Object[] args;
+
+    private ClassRepresentation representation;
+
+    private ColumnQueryParser columnQueryParser;
+
+    private DocumentQueryParser documentQueryParser;
+
+    @Setup
+    public void setUp() {
+        representation = BenchmarkContainer.INSTANCE.getBean(ClassRepresentations.class).get(Person.class);
+        columnQueryParser = new ColumnQueryParser();
+        documentQueryParser = new DocumentQueryParser();
+        switch (methodName) {
+            case "findByName":
+                args = new Object[]{"Ada"};
+                break;
+            case "findByNameAndAge":
+                args = new Object[]{"Ada", 36};
+                break;
+            default:
+                args = new Object[]{10, 40, "Ad%", Pagination.of(0, 10)};
+        }
+    }
+
+    @Benchmark
+    public ColumnQuery parseColumn() {
+        return columnQueryParser.parse(methodName, args, representation);
+    }
+
+    @Benchmark
+    public DocumentQuery parseDocument() {
+        return documentQueryParser.parse(methodName, args, representation);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.benchmark;
+
+import org.jnosql.artemis.DatabaseQualifier;
+import org.jnosql.artemis.Pagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the repository proxy dispatch, from the method call to the in memory manager and back to the entity,
+ * to columns and documents
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private PersonRepository columnRepository;
+
+    private PersonRepository documentRepository;
+
+    private Person person;
+
+    private Pagination pagination;
+
+    @Setup
+    public void setUp() {
+        columnRepository = BenchmarkContainer.INSTANCE.getBean(PersonRepository.class, DatabaseQualifier.ofColumn());
+        documentRepository = BenchmarkContainer.INSTANCE.getBean(PersonRepository.class, DatabaseQualifier.ofDocument());
+        person = Entities.person();
+        pagination = Pagination.of(0, 10);
+    }
+
+    @Benchmark
+    public Person saveColumn() {
+        return columnRepository.save(person);
+    }
+
+    @Benchmark
+    public Optional<Person> findByIdColumn() {
+        return columnRepository.findById(1L);
+    }
+
+    @Benchmark
+    public Optional<Person> findByNameColumn() {
+        return columnRepository.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> findByConditionsColumn() {
+        return columnRepository.findByAgeGreaterThanAndAgeLessThanOrNameLikeOrderByNameDesc(10, 40, "Ad%", pagination);
+    }
+
+    @Benchmark
+    public Person saveDocument() {
+        return documentRepository.save(person);
+    }
+
+    @Benchmark
+    public Optional<Person> findByIdDocument() {
+        return documentRepository.findById(1L);
+    }
+
+    @Benchmark
+    public Optional<Person> findByNameDocument() {
+        return documentRepository.findByName("Ada");
+    }
+
+    @Benchmark
+    public List<Person> findByConditionsDocument() {
+        return documentRepository.findByAgeGreaterThanAndAgeLessThanOrNameLikeOrderByNameDesc(10, 40, "Ad%", pagination);
+    }
+}
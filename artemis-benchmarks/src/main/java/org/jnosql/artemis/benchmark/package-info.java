@@ -0,0 +1,21 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+/**
+ * This package contains the JMH benchmarks to the mapping, the query parsers, the workflows and the repositories.
+ * They use in memory managers, so they run without a database. The module is built at the benchmarks profile:
+ * mvn package -Pbenchmarks and then
+ * java -jar artemis-benchmarks/target/benchmarks.jar
+ */
+package org.jnosql.artemis.benchmark;
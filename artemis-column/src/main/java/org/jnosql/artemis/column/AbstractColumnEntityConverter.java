@@ -21,6 +21,7 @@ import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
 import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.GenericFieldRepresentation;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
@@ -29,13 +30,14 @@ import org.jnosql.diana.api.column.ColumnEntity;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
@@ -46,8 +48,19 @@ import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
  */
 public abstract class AbstractColumnEntityConverter implements ColumnEntityConverter {
 
+    /**
+     * The system property that disables the compiled converters, when false all conversions use the interpreter
+     */
+    public static final String COMPILED_PROPERTY = "org.jnosql.artemis.converter.compiled";
+
+    private static final Logger LOGGER = Logger.getLogger(AbstractColumnEntityConverter.class.getName());
+
+    private static final boolean COMPILED = Boolean.parseBoolean(System.getProperty(COMPILED_PROPERTY, "true"));
+
     private final ColumnFieldConverterFactory converterFactory = new ColumnFieldConverterFactory();
 
+    private final Map<Class<?>, Optional<CompiledColumnConverter>> compiledConverters = new ConcurrentHashMap<>();
+
 
     protected abstract ClassRepresentations getClassRepresentations();
 
@@ -55,10 +68,24 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     protected abstract Converters getConverters();
 
+    /**
+     * Defines whether the conversion uses a converter compiled to each entity class,
+     * by default it is enabled unless the {@link AbstractColumnEntityConverter#COMPILED_PROPERTY} is false.
+     *
+     * @return true when the compiled converters are enabled
+     */
+    protected boolean isCompiled() {
+        return COMPILED;
+    }
+
     @Override
     public ColumnEntity toColumn(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassRepresentation representation = getClassRepresentations().get(entityInstance.getClass());
+        Optional<CompiledColumnConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toColumn(entityInstance);
+        }
         ColumnEntity entity = ColumnEntity.of(representation.getName());
         representation.getFields().stream()
                 .map(f -> to(f, entityInstance))
@@ -77,7 +104,11 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
 
     protected  <T> T toEntity(Class<T> entityClass, List<Column> columns) {
         ClassRepresentation representation = getClassRepresentations().get(entityClass);
-        T instance = getReflections().newInstance(representation.getConstructor());
+        Optional<CompiledColumnConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toEntity(columns);
+        }
+        T instance = representation.newInstance();
         return convertEntity(columns, representation, instance);
     }
 
@@ -86,36 +117,78 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
     public <T> T toEntity(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassRepresentation representation = getClassRepresentations().findByName(entity.getName());
-        T instance = getReflections().newInstance(representation.getConstructor());
+        Optional<CompiledColumnConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toEntity(entity.getColumns());
+        }
+        T instance = representation.newInstance();
         return convertEntity(entity.getColumns(), representation, instance);
     }
 
+    @Override
+    public <T> T toProjection(ProjectionRepresentation projection, ColumnEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        Map<String, Object> values = new HashMap<>();
+        for (FieldRepresentation field : projection.getFields()) {
+            entity.find(field.getName()).ifPresent(c -> values.put(field.getName(), getValue(field, c.getValue())));
+        }
+        return projection.newInstance(values);
+    }
+
     protected ColumnFieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = getReflections().getValue(entityInstance, field.getNativeField());
+        Object value = field.read(entityInstance);
         return DefaultColumnFieldValue.of(value, field);
     }
 
-    protected  <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return (String k) -> {
-            Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            ColumnFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, columns, column, field);
-        };
+    private Optional<CompiledColumnConverter> getCompiled(ClassRepresentation representation) {
+        if (!isCompiled()) {
+            return Optional.empty();
+        }
+        return compiledConverters.computeIfAbsent(representation.getClassInstance(), k -> compile(representation));
     }
 
-    private <T> T convertEntity(List<Column> columns, ClassRepresentation representation, T instance) {
-        Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        List<String> names = columns.stream().map(Column::getName).sorted().collect(Collectors.toList());
-        Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, columns, fieldsGroupByName));
+    private Optional<CompiledColumnConverter> compile(ClassRepresentation representation) {
+        try {
+            return Optional.of(CompiledColumnConverter.of(representation, this));
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "It cannot compile the converter to the class "
+                    + representation.getClassInstance().getName() + ", it will use the interpreter", exception);
+            return Optional.empty();
+        }
+    }
 
+    private <T> T convertEntity(List<Column> columns, ClassRepresentation representation, T instance) {
+        List<FieldRepresentation> fields = representation.getFields();
+        boolean[] converted = new boolean[fields.size()];
+        for (Column column : columns) {
+            int index = representation.getFieldIndex(column.getName());
+            if (index >= 0 && !converted[index]) {
+                converted[index] = true;
+                FieldRepresentation field = fields.get(index);
+                converterFactory.get(field).convert(instance, columns, Optional.of(column), field);
+            }
+        }
+        for (int index = 0; index < converted.length; index++) {
+            FieldRepresentation field = fields.get(index);
+            if (!converted[index] && EMBEDDED.equals(field.getType())) {
+                converterFactory.get(field).convert(instance, columns, Optional.empty(), field);
+            }
+        }
         return instance;
     }
 
 
+    private Object getValue(FieldRepresentation field, Value value) {
+        Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            AttributeConverter attributeConverter = getConverters().get(converter.get());
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
+            return field.getValue(Value.of(attributeConverted));
+        }
+        return field.getValue(value);
+    }
+
     private class ColumnFieldConverterFactory {
 
         private final EmbeddedFieldConverter embeddedFieldConverter = new EmbeddedFieldConverter();
@@ -155,15 +228,15 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
                     for (Object key : map.keySet()) {
                         embeddedColumns.add(Column.of(key.toString(), map.get(key)));
                     }
-                    getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), embeddedColumns));
+                    field.write(instance, toEntity(field.getNativeField().getType(), embeddedColumns));
                 } else {
-                    getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(),
+                    field.write(instance, toEntity(field.getNativeField().getType(),
                             subColumn.get(new TypeReference<List<Column>>() {
                             })));
                 }
 
             } else {
-                getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), columns));
+                field.write(instance, toEntity(field.getNativeField().getType(), columns));
             }
         }
     }
@@ -173,14 +246,7 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
         @Override
         public <T> void convert(T instance, List<Column> columns, Optional<Column> column, FieldRepresentation field) {
             Value value = column.get().getValue();
-            Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
-            if (converter.isPresent()) {
-                AttributeConverter attributeConverter = getConverters().get(converter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                getReflections().setValue(instance, field.getNativeField(), field.getValue(Value.of(attributeConverted)));
-            } else {
-                getReflections().setValue(instance, field.getNativeField(), field.getValue(value));
-            }
+            field.write(instance, getValue(field, value));
         }
     }
 
@@ -200,7 +266,7 @@ public abstract class AbstractColumnEntityConverter implements ColumnEntityConve
                     Object element = AbstractColumnEntityConverter.this.toEntity(genericField.getElementType(), columnList);
                     collection.add(element);
                 }
-                getReflections().setValue(instance, field.getNativeField(), collection);
+                field.write(instance, collection);
             };
         }
     }
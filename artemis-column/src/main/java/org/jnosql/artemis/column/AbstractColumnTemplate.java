@@ -16,9 +16,17 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.PersistenceContext;
+import org.jnosql.artemis.cache.QueryCache;
+import org.jnosql.artemis.reflection.ClassInformationNotFoundException;
+import org.jnosql.artemis.executor.AsyncExecutors;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
@@ -26,11 +34,22 @@ import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -39,6 +58,32 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
+    /**
+     * The system property to define how many entities are sent to the database at each bulk operation
+     * on {@link ColumnTemplate#insert(Iterable)} and {@link ColumnTemplate#update(Iterable)}, the default is 1000.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "org.jnosql.artemis.batch.size";
+
+    private static final int BATCH_SIZE = Integer.getInteger(BATCH_SIZE_PROPERTY, 1000);
+
+    /**
+     * The system property to define the number of entities at each page read by {@link ColumnTemplate#stream(ColumnQuery)},
+     * the default is 1000.
+     */
+    public static final String PAGE_SIZE_PROPERTY = "org.jnosql.artemis.stream.page.size";
+
+    private static final long PAGE_SIZE = Long.getLong(PAGE_SIZE_PROPERTY, 1000L);
+
+    /**
+     * The system property that enables the dirty tracking, the default is false. While a {@link PersistenceContext}
+     * is open, the values loaded to each managed entity are kept and {@link ColumnTemplate#update(Object)} sends
+     * just the id and the changed values. Enable it only to databases whose update merges the values
+     * instead of replacing the whole entity.
+     */
+    public static final String DIRTY_TRACKING_PROPERTY = "org.jnosql.artemis.dirty.tracking";
+
+    private static final boolean DIRTY_TRACKING = Boolean.getBoolean(DIRTY_TRACKING_PROPERTY);
+
 
     protected abstract ColumnEntityConverter getConverter();
 
@@ -50,15 +95,24 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
 
     protected abstract ClassRepresentations getClassRepresentations();
 
-    private final UnaryOperator<ColumnEntity> insert = e -> getManager().insert(e);
+    private final Map<String, Map<Class<?>, ProjectionRepresentation>> projections = new ConcurrentHashMap<>();
 
-    private final UnaryOperator<ColumnEntity> update = e -> getManager().update(e);
+    private final UnaryOperator<ColumnEntity> insert = e -> track(getManager().insert(e));
+
+    private final UnaryOperator<ColumnEntity> update = e -> {
+        ColumnEntity changes = changes(e);
+        if (changes == e) {
+            return track(getManager().update(e));
+        }
+        getManager().update(changes);
+        return track(e);
+    };
 
     @Override
     public <T> T insert(T entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
 
-        return getFlow().flow(entity, insert);
+        return afterWrite(getFlow().flow(entity, insert));
     }
 
 
@@ -66,33 +120,113 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
     public <T> T insert(T entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        UnaryOperator<ColumnEntity> insert = e -> getManager().insert(e, ttl);
-        return getFlow().flow(entity, insert);
+        UnaryOperator<ColumnEntity> insert = e -> track(getManager().insert(e, ttl));
+        return afterWrite(getFlow().flow(entity, insert));
     }
 
 
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        return getFlow().flow(entity, update);
+        return afterWrite(getFlow().flow(entity, update));
     }
 
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        UnaryOperator<List<ColumnEntity>> action = ColumnManagerOperations.of(getManager()).isBulkInsert() ?
+                es -> toList(getManager().insert(es)) : es -> each(es, e -> getManager().insert(e));
+        return afterWriteAll(batch(entities, action));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        UnaryOperator<List<ColumnEntity>> action = ColumnManagerOperations.of(getManager()).isBulkInsertTTL() ?
+                es -> toList(getManager().insert(es, ttl)) : es -> each(es, e -> getManager().insert(e, ttl));
+        return afterWriteAll(batch(entities, action));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        UnaryOperator<List<ColumnEntity>> send = ColumnManagerOperations.of(getManager()).isBulkUpdate() ?
+                es -> toList(getManager().update(es)) : es -> each(es, e -> getManager().update(e));
+        UnaryOperator<List<ColumnEntity>> action = es -> update(es, send);
+        return afterWriteAll(batch(entities, action));
+    }
+
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
         getEventManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        getCache().evictAll(query.getColumnFamily());
+        getQueryCache().evict(query.getColumnFamily());
+        PersistenceContext.current().ifPresent(c -> clear(c, query.getColumnFamily()));
     }
 
 
     @Override
     public <T> List<T> select(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        Function<ColumnEntity, T> function = toEntity();
+        return selectEntities(query).stream().map(function).collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        getEventManager().firePreQuery(query);
+        ColumnFamilyManager manager = getManager();
+        if (manager instanceof ColumnCountManager) {
+            return ((ColumnCountManager) manager).count(query);
+        }
+        return manager.select(idQuery(query)).size();
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
         getEventManager().firePreQuery(query);
-        List<ColumnEntity> entities = getManager().select(query);
-        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        return !getManager().select(new PagedColumnQuery(query, query.getFirstResult(), 1)).isEmpty();
+    }
+
+    @Override
+    public <T> List<T> select(ColumnQuery query, Class<T> projection) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        String name = query.getColumnFamily();
+        ProjectionRepresentation representation = projections.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(projection, p -> ProjectionRepresentation.of(p, getClassRepresentations().findByName(name)));
+        ColumnQuery projected = new ProjectedColumnQuery(query, representation.getColumns());
+        getEventManager().firePreQuery(projected);
+        List<ColumnEntity> entities = getManager().select(projected);
+        List<T> result = new ArrayList<>(entities.size());
+        for (ColumnEntity entity : entities) {
+            result.add(getConverter().toProjection(representation, entity));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) throws NullPointerException {
+        return stream(query, getPageSize());
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query, long pageSize) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero");
+        }
+        getEventManager().firePreQuery(query);
+        ColumnFamilyManager manager = getManager();
+        PagedColumnSpliterator<T> spliterator = new PagedColumnSpliterator<>(query, pageSize, manager::select,
+                e -> getConverter().toEntity(e));
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     @Override
@@ -103,9 +237,355 @@ public abstract class AbstractColumnTemplate implements ColumnTemplate {
         FieldRepresentation idField = classRepresentation.getId()
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
+        Optional<T> managed = PersistenceContext.current().flatMap(c -> c.find(entityClass, id));
+        if (managed.isPresent()) {
+            return managed;
+        }
+
         ColumnQuery query = ColumnQueryBuilder.select().from(classRepresentation.getName())
                 .where(idField.getName()).eq(id).build();
 
-        return singleResult(query);
+        EntityCache cache = getCache();
+        if (!cache.isCacheable(entityClass)) {
+            return singleResult(query);
+        }
+        Function<ColumnEntity, T> function = toEntity();
+        Optional<Object> cached = cache.get(entityClass, id);
+        if (cached.isPresent()) {
+            return cached.map(ColumnEntity.class::cast).map(function);
+        }
+        long generation = cache.getGeneration(entityClass);
+        Optional<ColumnEntity> entity = singleEntity(query);
+        entity.ifPresent(e -> cache.put(entityClass, id, e.copy(), generation));
+        return entity.map(function);
+    }
+
+    @Override
+    public <T, ID> List<T> find(Class<T> entityClass, Iterable<ID> ids) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(ids, "ids is required");
+        ClassRepresentation classRepresentation = getClassRepresentations().get(entityClass);
+        FieldRepresentation idField = classRepresentation.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        EntityCache cache = getCache();
+        boolean cacheable = cache.isCacheable(entityClass);
+        Function<ColumnEntity, T> function = toEntity();
+        int batchSize = Math.max(1, getBatchSize());
+        List<T> entities = new ArrayList<>();
+        List<ID> chunk = new ArrayList<>();
+        for (ID id : ids) {
+            requireNonNull(id, "id is required");
+            Optional<T> managed = context.flatMap(c -> c.find(entityClass, id));
+            if (managed.isPresent()) {
+                entities.add(managed.get());
+                continue;
+            }
+            Optional<Object> cached = cacheable ? cache.get(entityClass, id) : Optional.empty();
+            if (cached.isPresent()) {
+                entities.add(function.apply((ColumnEntity) cached.get()));
+                continue;
+            }
+            chunk.add(id);
+            if (chunk.size() == batchSize) {
+                entities.addAll(find(entityClass, classRepresentation.getName(), idField, chunk));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            entities.addAll(find(entityClass, classRepresentation.getName(), idField, chunk));
+        }
+        return entities;
+    }
+
+    /**
+     * The number of entities sent to the database at each bulk operation and the number of ids
+     * at each IN query of {@link AbstractColumnTemplate#find(Class, Iterable)},
+     * by default it is the {@link AbstractColumnTemplate#BATCH_SIZE_PROPERTY} value or 1000.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return BATCH_SIZE;
+    }
+
+    /**
+     * The number of entities at each page read by {@link AbstractColumnTemplate#stream(ColumnQuery)},
+     * by default it is the {@link AbstractColumnTemplate#PAGE_SIZE_PROPERTY} value or 1000.
+     *
+     * @return the page size
+     */
+    protected long getPageSize() {
+        return PAGE_SIZE;
+    }
+
+    /**
+     * Whether the updates send just the changed values of the entities managed by the {@link PersistenceContext},
+     * by default it is the {@link AbstractColumnTemplate#DIRTY_TRACKING_PROPERTY} value.
+     *
+     * @return true when the dirty tracking is enabled
+     */
+    protected boolean isDirtyTracking() {
+        return DIRTY_TRACKING;
+    }
+
+    /**
+     * The executor that sends the writes of a batch one by one when the manager has no bulk operation,
+     * by default it's {@link AsyncExecutors#getBatchDefault()}.
+     *
+     * @return the batch executor
+     */
+    protected Executor getBatchExecutor() {
+        return AsyncExecutors.getBatchDefault();
+    }
+
+    /**
+     * The second-level cache used by the find by id to the entities with {@link org.jnosql.artemis.Cacheable},
+     * it's invalidated by the insert, update and delete. By default it's disabled.
+     *
+     * @return the {@link EntityCache}
+     */
+    protected EntityCache getCache() {
+        return EntityCache.disabled();
+    }
+
+    /**
+     * The cache of the {@link AbstractColumnTemplate#select(ColumnQuery)} results, it's invalidated by the insert,
+     * update and delete on the same name. By default it's disabled.
+     *
+     * @return the {@link QueryCache}
+     */
+    protected QueryCache getQueryCache() {
+        return QueryCache.disabled();
+    }
+
+    private <T> T afterWrite(T entity) {
+        if (entity == null) {
+            return null;
+        }
+        Class<?> entityClass = entity.getClass();
+        ClassRepresentation classRepresentation = getClassRepresentations().get(entityClass);
+        getQueryCache().evict(classRepresentation.getName());
+        EntityCache cache = getCache();
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (context.isPresent() || cache.isCacheable(entityClass)) {
+            Object id = classRepresentation.getId().map(f -> f.read(entity)).orElse(null);
+            if (id != null) {
+                cache.evict(entityClass, id);
+                context.ifPresent(c -> c.put(entityClass, id, entity));
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Converts the entities, when there is a {@link PersistenceContext} the managed instances are returned
+     * instead of mapping them again.
+     */
+    private <T> Function<ColumnEntity, T> toEntity() {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (!context.isPresent()) {
+            return e -> getConverter().toEntity(e);
+        }
+        PersistenceContext persistenceContext = context.get();
+        return e -> {
+            ClassRepresentation classRepresentation = getClassRepresentations().findByName(e.getName());
+            Class<T> entityClass = (Class<T>) classRepresentation.getClassInstance();
+            Optional<Object> id = classRepresentation.getId()
+                    .flatMap(f -> e.find(f.getName()))
+                    .map(Column::get);
+            if (!id.isPresent()) {
+                return getConverter().toEntity(e);
+            }
+            Optional<T> managed = persistenceContext.find(entityClass, id.get());
+            if (managed.isPresent()) {
+                return managed.get();
+            }
+            T entity = persistenceContext.manage(entityClass, id.get(), getConverter().toEntity(e));
+            if (isDirtyTracking()) {
+                persistenceContext.snapshot(entityClass, id.get(), ColumnSnapshot.of(e, classRepresentation.getFieldsName()));
+            }
+            return entity;
+        };
+    }
+
+    private List<ColumnEntity> update(List<ColumnEntity> entities, UnaryOperator<List<ColumnEntity>> send) {
+        if (!isDirtyTracking() || !PersistenceContext.current().isPresent()) {
+            return send.apply(entities);
+        }
+        send.apply(entities.stream().map(this::changes).collect(Collectors.toList()));
+        entities.forEach(this::track);
+        return entities;
+    }
+
+    private ColumnEntity changes(ColumnEntity entity) {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (!isDirtyTracking() || !context.isPresent()) {
+            return entity;
+        }
+        ClassRepresentation classRepresentation = getClassRepresentations().findByName(entity.getName());
+        Optional<Column> id = classRepresentation.getId().flatMap(f -> entity.find(f.getName()));
+        return id.flatMap(i -> context.get().getSnapshot(classRepresentation.getClassInstance(), i.get())
+                .map(snapshot -> ColumnSnapshot.changes(entity, i, (Map<String, Object>) snapshot)))
+                .orElse(entity);
+    }
+
+    private ColumnEntity track(ColumnEntity entity) {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (entity == null || !isDirtyTracking() || !context.isPresent()) {
+            return entity;
+        }
+        ClassRepresentation classRepresentation = getClassRepresentations().findByName(entity.getName());
+        classRepresentation.getId()
+                .flatMap(f -> entity.find(f.getName()))
+                .ifPresent(id -> context.get().snapshot(classRepresentation.getClassInstance(), id.get(),
+                        ColumnSnapshot.of(entity, classRepresentation.getFieldsName())));
+        return entity;
+    }
+
+    private void clear(PersistenceContext context, String name) {
+        try {
+            context.clear(getClassRepresentations().findByName(name).getClassInstance());
+        } catch (ClassInformationNotFoundException exception) {
+            context.clear();
+        }
+    }
+
+    /**
+     * The query that reads just the id, the count without a native one does not load the whole entities.
+     */
+    private ColumnQuery idQuery(ColumnQuery query) {
+        try {
+            return getClassRepresentations().findByName(query.getColumnFamily()).getId()
+                    .<ColumnQuery>map(id -> new ProjectedColumnQuery(query, Collections.singletonList(id.getName())))
+                    .orElse(query);
+        } catch (ClassInformationNotFoundException exception) {
+            return query;
+        }
+    }
+
+    private static Object key(ColumnQuery query) {
+        return Arrays.asList(query.getColumnFamily(), query.getCondition().orElse(null), query.getSorts(),
+                query.getFirstResult(), query.getMaxResults(), query.getColumns());
+    }
+
+    private <T> List<T> afterWriteAll(List<T> entities) {
+        entities.forEach(this::afterWrite);
+        return entities;
+    }
+
+    /**
+     * Finds the entities of the ids with an IN query, the cacheable ones are kept at the {@link EntityCache}
+     * as the database returns them.
+     */
+    private <T, ID> List<T> find(Class<T> entityClass, String name, FieldRepresentation idField, List<ID> ids) {
+        String idName = idField.getName();
+        ColumnQuery query = ids.size() == 1 ? ColumnQueryBuilder.select().from(name).where(idName).eq(ids.get(0)).build()
+                : ColumnQueryBuilder.select().from(name).where(idName).in(ids).build();
+        EntityCache cache = getCache();
+        if (!cache.isCacheable(entityClass)) {
+            return select(query);
+        }
+        long generation = cache.getGeneration(entityClass);
+        Function<ColumnEntity, T> function = toEntity();
+        List<T> entities = new ArrayList<>();
+        for (ColumnEntity entity : selectEntities(query)) {
+            entity.find(idName).map(Column::get).ifPresent(id -> cache.put(entityClass, id, entity.copy(), generation));
+            entities.add(function.apply(entity));
+        }
+        return entities;
+    }
+
+    /**
+     * Runs the query through the {@link QueryCache}, it keeps the entities as the database returns them,
+     * so each caller maps its own instances.
+     */
+    private List<ColumnEntity> selectEntities(ColumnQuery query) {
+        getEventManager().firePreQuery(query);
+        return getQueryCache().get(query.getColumnFamily(), key(query), () -> getManager().select(query));
+    }
+
+    private Optional<ColumnEntity> singleEntity(ColumnQuery query) {
+        long maxResults = query.getMaxResults();
+        ColumnQuery limited = maxResults > 0 && maxResults <= 2 ? query
+                : new PagedColumnQuery(query, query.getFirstResult(), 2);
+        List<ColumnEntity> entities = selectEntities(limited);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() == 1) {
+            return Optional.of(entities.get(0));
+        }
+        throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+    }
+
+    private <T> List<T> batch(Iterable<T> entities, UnaryOperator<List<ColumnEntity>> action) {
+        int batchSize = Math.max(1, getBatchSize());
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                result.addAll(getFlow().batchFlow(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(getFlow().batchFlow(chunk, action));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the entities one by one at the {@link AbstractColumnTemplate#getBatchExecutor()} when the manager does not
+     * implement the bulk operation, it waits for all the writes and returns them in the input order. A write that the
+     * executor rejects runs at the caller thread.
+     */
+    private List<ColumnEntity> each(List<ColumnEntity> entities, UnaryOperator<ColumnEntity> action) {
+        Executor executor = getBatchExecutor();
+        List<CompletableFuture<ColumnEntity>> futures = new ArrayList<>(entities.size());
+        for (ColumnEntity entity : entities) {
+            CompletableFuture<ColumnEntity> future = new CompletableFuture<>();
+            Runnable write = () -> {
+                try {
+                    future.complete(action.apply(entity));
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            };
+            try {
+                executor.execute(write);
+            } catch (RejectedExecutionException exception) {
+                write.run();
+            }
+            futures.add(future);
+        }
+        List<ColumnEntity> result = new ArrayList<>(entities.size());
+        Throwable failure = null;
+        for (CompletableFuture<ColumnEntity> future : futures) {
+            try {
+                result.add(future.join());
+            } catch (CompletionException exception) {
+                failure = failure == null ? exception.getCause() : failure;
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+        return result;
+    }
+
+    private static List<ColumnEntity> toList(Iterable<ColumnEntity> entities) {
+        if (entities instanceof List) {
+            return (List<ColumnEntity>) entities;
+        }
+        return StreamSupport.stream(entities.spliterator(), false).collect(Collectors.toList());
     }
 }
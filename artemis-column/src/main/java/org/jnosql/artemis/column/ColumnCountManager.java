@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+/**
+ * A {@link ColumnFamilyManager} that counts the entities natively. When the manager implements it the
+ * {@link ColumnTemplate#count(ColumnQuery)} uses it, otherwise the ids found by the query are read and counted.
+ */
+public interface ColumnCountManager extends ColumnFamilyManager {
+
+    /**
+     * Returns the number of entities found by the query
+     *
+     * @param query the query, its start and limit are respected
+     * @return the number of entities
+     * @throws NullPointerException when query is null
+     */
+    long count(ColumnQuery query) throws NullPointerException;
+}
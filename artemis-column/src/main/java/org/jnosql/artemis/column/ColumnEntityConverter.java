@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.diana.api.column.ColumnEntity;
 
 
@@ -52,4 +53,15 @@ public interface ColumnEntityConverter {
      * @throws NullPointerException when entity is null
      */
     <T> T toEntity(ColumnEntity entity) throws NullPointerException;
+
+    /**
+     * Converts a {@link ColumnEntity} to a projection, just the columns of the projection are read
+     *
+     * @param projection the projection representation
+     * @param entity     the {@link ColumnEntity} to be converted
+     * @param <T>        the projection type
+     * @return the projection instance from {@link ColumnEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    <T> T toProjection(ProjectionRepresentation projection, ColumnEntity entity) throws NullPointerException;
 }
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The snapshot of the values of a {@link ColumnEntity} used by the dirty tracking. The values are copied into
+ * lists and maps, so a collection changed at the entity after the load doesn't change the snapshot.
+ */
+final class ColumnSnapshot {
+
+    private ColumnSnapshot() {
+    }
+
+    /**
+     * Takes the snapshot of the mapped values, the values that aren't mapped to a field are ignored
+     *
+     * @param entity the entity
+     * @param names  the names mapped to fields
+     * @return the values by name
+     */
+    static Map<String, Object> of(ColumnEntity entity, Collection<String> names) {
+        Map<String, Object> snapshot = new HashMap<>();
+        for (Column column : entity.getColumns()) {
+            if (names.contains(column.getName())) {
+                snapshot.put(column.getName(), copy(column.get()));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns an entity with the id and just the values that changed since the snapshot. When a value of the
+     * snapshot was removed from the entity the whole entity is returned, it's not possible to represent the
+     * removal at a partial update.
+     *
+     * @param entity   the entity
+     * @param id       the id
+     * @param snapshot the snapshot
+     * @return the changes or the entity itself
+     */
+    static ColumnEntity changes(ColumnEntity entity, Column id, Map<String, Object> snapshot) {
+        ColumnEntity changes = ColumnEntity.of(entity.getName());
+        changes.add(id);
+        int present = 0;
+        for (Column column : entity.getColumns()) {
+            String name = column.getName();
+            if (name.equals(id.getName())) {
+                continue;
+            }
+            boolean loaded = snapshot.containsKey(name);
+            if (loaded) {
+                present++;
+            }
+            if (!loaded || !Objects.equals(snapshot.get(name), copy(column.get()))) {
+                changes.add(column);
+            }
+        }
+        int expected = snapshot.containsKey(id.getName()) ? snapshot.size() - 1 : snapshot.size();
+        return present == expected ? changes : entity;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof Column) {
+            Column column = (Column) value;
+            return Arrays.asList(column.getName(), copy(column.get()));
+        }
+        if (value instanceof Iterable) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                values.add(copy(element));
+            }
+            return values;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> values = new HashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> values.put(k, copy(v)));
+            return values;
+        }
+        return value;
+    }
+}
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -135,6 +137,63 @@ public interface ColumnTemplate {
      */
     <T> List<T> select(ColumnQuery query) throws NullPointerException;
 
+    /**
+     * Returns the number of entities found by the query without converting them. When the manager is a
+     * {@link ColumnCountManager} it counts natively, otherwise the ids found by the query are read and counted.
+     *
+     * @param query - query to figure out entities
+     * @return the number of entities
+     * @throws NullPointerException when query is null
+     */
+    long count(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Returns whether the query finds an entity, it reads at most one entity and doesn't convert it.
+     *
+     * @param query - query to figure out entities
+     * @return true when there is an entity
+     * @throws NullPointerException when query is null
+     */
+    boolean exists(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Finds entities from query lazily, the result is read page by page with the first result and max results
+     * of the query and each entity is converted just when it's consumed. Closing the stream stops reading
+     * the next pages. The query should define a sort to the pages be stable.
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> Stream<T> stream(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Finds entities from query lazily as {@link ColumnTemplate#stream(ColumnQuery)} with the page size defined.
+     *
+     * @param query    - query to figure out entities
+     * @param pageSize the number of entities at each page
+     * @param <T>      the instance type
+     * @return entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when pageSize is not positive
+     */
+    <T> Stream<T> stream(ColumnQuery query, long pageSize) throws NullPointerException, IllegalArgumentException;
+
+    /**
+     * Finds projections from query, the query reads just the columns of the projection and the result is
+     * not converted to the entity. The projection is either an interface with getters or a class annotated
+     * with {@link org.jnosql.artemis.Projection}, its properties have the names of the entity fields.
+     *
+     * @param query      - query to figure out the projections, its name is the entity name
+     * @param projection the projection type
+     * @param <T>        the projection type
+     * @return projections found by query
+     * @throws NullPointerException  when either query or projection is null
+     * @throws DynamicQueryException when a property of the projection is not a field of the entity
+     */
+    <T> List<T> select(ColumnQuery query, Class<T> projection) throws NullPointerException, DynamicQueryException;
+
     /**
      * Finds by Id.
      *
@@ -149,7 +208,23 @@ public interface ColumnTemplate {
     <T, ID> Optional<T> find(Class<T> entityClass, ID id) throws NullPointerException, IdNotFoundException;
 
     /**
-     * Returns a single entity from query
+     * Finds the entities from their ids. The ids are split in chunks and each chunk is a single query
+     * with an IN condition, so it does one round trip to each chunk instead of one to each id.
+     * The order of the result is defined by the database and an id not found is ignored.
+     *
+     * @param entityClass the entity class
+     * @param ids         the id values
+     * @param <T>         the entity class type
+     * @param <ID>        the id type
+     * @return the entities found
+     * @throws NullPointerException when either the entityClass, ids or an id are null
+     * @throws IdNotFoundException  when the entityClass does not have the Id annotation
+     */
+    <T, ID> List<T> find(Class<T> entityClass, Iterable<ID> ids) throws NullPointerException, IdNotFoundException;
+
+    /**
+     * Returns a single entity from query, the query is limited to two entities, enough to find out whether
+     * the result is unique, unless it already has a lower limit
      *
      * @param query - query to figure out entities
      * @param <T>   the instance type
@@ -158,7 +233,11 @@ public interface ColumnTemplate {
      * @throws NullPointerException     when query is null
      */
     default <T> Optional<T> singleResult(ColumnQuery query) throws NonUniqueResultException {
-        List<T> entities = select(query);
+        Objects.requireNonNull(query, "query is required");
+        long maxResults = query.getMaxResults();
+        ColumnQuery limited = maxResults > 0 && maxResults <= 2 ? query
+                : new PagedColumnQuery(query, query.getFirstResult(), 2);
+        List<T> entities = select(limited);
         if (entities.isEmpty()) {
             return Optional.empty();
         }
@@ -169,4 +248,31 @@ public interface ColumnTemplate {
         throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
     }
 
+
+    /**
+     * Returns a single projection from query as {@link ColumnTemplate#singleResult(ColumnQuery)}
+     *
+     * @param query      - query to figure out the projection
+     * @param projection the projection type
+     * @param <T>        the projection type
+     * @return a projection on {@link Optional} or {@link Optional#empty()} when the result is not found.
+     * @throws NonUniqueResultException when the result has more than 1 entity
+     * @throws NullPointerException     when either query or projection is null
+     */
+    default <T> Optional<T> singleResult(ColumnQuery query, Class<T> projection) throws NonUniqueResultException {
+        Objects.requireNonNull(query, "query is required");
+        long maxResults = query.getMaxResults();
+        ColumnQuery limited = maxResults > 0 && maxResults <= 2 ? query
+                : new PagedColumnQuery(query, query.getFirstResult(), 2);
+        List<T> projections = select(limited, projection);
+        if (projections.isEmpty()) {
+            return Optional.empty();
+        }
+        if (projections.size() == 1) {
+            return Optional.of(projections.get(0));
+        }
+
+        throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+    }
+
 }
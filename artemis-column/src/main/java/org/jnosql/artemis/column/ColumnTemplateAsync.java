@@ -16,6 +16,8 @@ package org.jnosql.artemis.column;
 
 
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.reactive.Publisher;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -25,6 +27,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -245,4 +248,116 @@ public interface ColumnTemplateAsync {
         select(query, singleCallBack);
 
     }
+
+    /**
+     * Inserts an entity asynchronously, the stage is completed with the entity inserted or
+     * exceptionally when the insert fails
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the stage of the insert
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insertAsync(T entity) throws NullPointerException;
+
+    /**
+     * Inserts an entity asynchronously with time to live, the stage is completed with the entity inserted or
+     * exceptionally when the insert fails
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the instance type
+     * @return the stage of the insert
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    <T> CompletionStage<T> insertAsync(T entity, Duration ttl) throws NullPointerException;
+
+    /**
+     * Updates an entity asynchronously, the stage is completed with the entity updated or
+     * exceptionally when the update fails
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return the stage of the update
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException;
+
+    /**
+     * Deletes asynchronously, the stage is completed when the database confirms the delete or
+     * exceptionally when the delete fails
+     *
+     * @param query query to delete
+     * @return the stage of the delete
+     * @throws NullPointerException when query is null
+     */
+    CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) throws NullPointerException;
+
+    /**
+     * Finds entities from query asynchronously, the stage is completed with the entities or
+     * exceptionally when the select fails
+     *
+     * @param query query to figure out entities
+     * @param <T>   the instance type
+     * @return the stage of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Returns a single entity from query asynchronously, the query is limited to two entities, enough to find
+     * out whether the result is unique. The stage is completed exceptionally with {@link NonUniqueResultException}
+     * when the result has more than one entity.
+     *
+     * @param query query to figure out entities
+     * @param <T>   the instance type
+     * @return the stage of the entity found or {@link Optional#empty()}
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<Optional<T>> singleResultAsync(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Finds by id asynchronously
+     *
+     * @param entityClass the entity class
+     * @param id          the id value
+     * @param <T>         the entity class type
+     * @param <ID>        the id type
+     * @return the stage of the entity found or {@link Optional#empty()}
+     * @throws NullPointerException when either the entityClass or id are null
+     * @throws IdNotFoundException  when the entityClass does not have the Id annotation
+     */
+    <T, ID> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, ID id) throws NullPointerException, IdNotFoundException;
+
+    /**
+     * Finds entities from query as a {@link Publisher}, the entities are read page by page asynchronously
+     * just when the subscriber requests them, and each entity is converted just when it's sent. Canceling the
+     * subscription stops reading the next pages. The query should define a sort to the pages be stable.
+     *
+     * @param query query to figure out entities
+     * @param <T>   the instance type
+     * @return the publisher of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    <T> Publisher<T> publisher(ColumnQuery query) throws NullPointerException;
+
+    /**
+     * Finds entities from query as {@link ColumnTemplateAsync#publisher(ColumnQuery)} with the page size defined.
+     *
+     * @param query    query to figure out entities
+     * @param pageSize the number of entities at each page
+     * @param <T>      the instance type
+     * @return the publisher of the entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when pageSize is not positive
+     */
+    <T> Publisher<T> publisher(ColumnQuery query, long pageSize) throws NullPointerException, IllegalArgumentException;
+
+    /**
+     * Returns the limiter of the operations in flight of this template, each operation holds a permit until the
+     * driver calls back or the permit lease expires. Its limit, queue depth and rejections are the admission metrics of this template.
+     *
+     * @return the limiter
+     */
+    ConcurrencyLimiter getLimiter();
 }
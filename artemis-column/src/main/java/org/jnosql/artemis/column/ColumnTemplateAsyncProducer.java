@@ -15,8 +15,11 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
+import java.util.concurrent.Executor;
+
 /**
  * The producer of {@link ColumnTemplate}
  *
@@ -33,4 +36,38 @@ public interface ColumnTemplateAsyncProducer<T extends ColumnTemplateAsync> {
      */
     T get(ColumnFamilyManagerAsync columnFamilyManager) throws NullPointerException;
 
+    /**
+     * creates a {@link ColumnTemplateAsync} whose operations in flight are bounded by the limiter
+     *
+     * @param columnFamilyManager the columnFamilyManager
+     * @param limiter             the limiter of the operations in flight
+     * @return a new instance
+     * @throws NullPointerException when columnFamilyManager or limiter is null
+     */
+    T get(ColumnFamilyManagerAsync columnFamilyManager, ConcurrencyLimiter limiter) throws NullPointerException;
+
+    /**
+     * creates a {@link ColumnTemplateAsync} whose operations in flight are bounded by the limiter and whose entity
+     * conversion and callbacks run at the callback executor instead of the driver threads
+     *
+     * @param columnFamilyManager the columnFamilyManager
+     * @param limiter             the limiter of the operations in flight
+     * @param callbackExecutor    the executor of the entity conversion and the callbacks
+     * @return a new instance
+     * @throws NullPointerException when columnFamilyManager, limiter or callbackExecutor is null
+     */
+    T get(ColumnFamilyManagerAsync columnFamilyManager, ConcurrencyLimiter limiter, Executor callbackExecutor) throws NullPointerException;
+
+    /**
+     * creates a {@link ColumnTemplateAsync} to a unit that just has a synchronous manager, each operation of the
+     * template runs at the executor
+     *
+     * @param template the synchronous template
+     * @param executor the executor that runs the operations
+     * @return a new instance
+     * @throws NullPointerException when template or executor is null
+     * @see org.jnosql.artemis.executor.AsyncExecutors
+     */
+    ColumnTemplateAsync get(ColumnTemplate template, Executor executor) throws NullPointerException;
+
 }
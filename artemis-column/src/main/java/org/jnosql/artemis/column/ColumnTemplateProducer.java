@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 
 /**
@@ -33,4 +34,14 @@ public interface ColumnTemplateProducer<T extends ColumnTemplate> {
      */
     T get(ColumnFamilyManager columnFamilyManager) throws NullPointerException;
 
+    /**
+     * creates a {@link ColumnTemplate} that keeps the select results at the {@link QueryCache}
+     *
+     * @param columnFamilyManager the columnFamilyManager
+     * @param queryCache          the query cache
+     * @return a new instance
+     * @throws NullPointerException when either columnFamilyManager or queryCache is null
+     */
+    T get(ColumnFamilyManager columnFamilyManager, QueryCache queryCache) throws NullPointerException;
+
 }
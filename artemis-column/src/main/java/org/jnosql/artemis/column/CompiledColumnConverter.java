@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.GenericFieldRepresentation;
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+
+/**
+ * The converter compiled to a single entity class. All the decisions that the
+ * {@link AbstractColumnEntityConverter} interpreter takes to each field at each conversion, the field kind,
+ * the {@link AttributeConverter} lookup and the embeddable check, are taken once when this instance is created.
+ * The conversion just runs the prebuilt encoders and decoders.
+ */
+final class CompiledColumnConverter {
+
+    private final ClassRepresentation representation;
+
+    private final ColumnEncoder[] encoders;
+
+    private final ColumnDecoder[] decoders;
+
+    private final int[] embedded;
+
+    private CompiledColumnConverter(ClassRepresentation representation, ColumnEncoder[] encoders,
+                                    ColumnDecoder[] decoders, int[] embedded) {
+        this.representation = representation;
+        this.encoders = encoders;
+        this.decoders = decoders;
+        this.embedded = embedded;
+    }
+
+    ColumnEntity toColumn(Object instance) {
+        ColumnEntity entity = ColumnEntity.of(representation.getName());
+        for (ColumnEncoder encoder : encoders) {
+            Column column = encoder.encode(instance);
+            if (column != null) {
+                entity.add(column);
+            }
+        }
+        return entity;
+    }
+
+    <T> T toEntity(List<Column> columns) {
+        T instance = representation.newInstance();
+        boolean[] decoded = new boolean[decoders.length];
+        for (Column column : columns) {
+            int position = representation.getFieldIndex(column.getName());
+            if (position >= 0 && !decoded[position]) {
+                decoded[position] = true;
+                decoders[position].decode(instance, column, columns);
+            }
+        }
+        for (int position : embedded) {
+            if (!decoded[position]) {
+                decoders[position].decode(instance, null, columns);
+            }
+        }
+        return instance;
+    }
+
+    static CompiledColumnConverter of(ClassRepresentation representation, AbstractColumnEntityConverter converter) {
+        List<FieldRepresentation> fields = representation.getFields();
+        ColumnEncoder[] encoders = new ColumnEncoder[fields.size()];
+        ColumnDecoder[] decoders = new ColumnDecoder[fields.size()];
+        List<Integer> embedded = new ArrayList<>();
+        for (int index = 0; index < fields.size(); index++) {
+            FieldRepresentation field = fields.get(index);
+            if (EMBEDDED.equals(field.getType())) {
+                encoders[index] = embeddedEncoder(field, converter);
+                decoders[index] = embeddedDecoder(field, converter);
+                embedded.add(index);
+            } else if (COLLECTION.equals(field.getType()) && GenericFieldRepresentation.class.cast(field).isEmbeddable()) {
+                encoders[index] = collectionEncoder(field, converter);
+                decoders[index] = collectionDecoder(GenericFieldRepresentation.class.cast(field), converter);
+            } else if (field.getConverter().isPresent()) {
+                AttributeConverter attributeConverter = converter.getConverters().get(field.getConverter().get());
+                encoders[index] = attributeEncoder(field, attributeConverter);
+                decoders[index] = attributeDecoder(field, attributeConverter);
+            } else {
+                encoders[index] = defaultEncoder(field);
+                decoders[index] = defaultDecoder(field);
+            }
+        }
+        return new CompiledColumnConverter(representation, encoders, decoders,
+                embedded.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static ColumnEncoder defaultEncoder(FieldRepresentation field) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Column.of(name, value);
+        };
+    }
+
+    private static ColumnEncoder attributeEncoder(FieldRepresentation field, AttributeConverter attributeConverter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Column.of(name, attributeConverter.convertToDatabaseColumn(value));
+        };
+    }
+
+    private static ColumnEncoder embeddedEncoder(FieldRepresentation field, AbstractColumnEntityConverter converter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Column.of(name, converter.toColumn(value).getColumns());
+        };
+    }
+
+    private static ColumnEncoder collectionEncoder(FieldRepresentation field, AbstractColumnEntityConverter converter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            if (value == null) {
+                return null;
+            }
+            List<List<Column>> columns = new ArrayList<>();
+            for (Object element : Iterable.class.cast(value)) {
+                columns.add(converter.toColumn(element).getColumns());
+            }
+            return Column.of(name, columns);
+        };
+    }
+
+    private static ColumnDecoder defaultDecoder(FieldRepresentation field) {
+        return (instance, column, columns) -> field.write(instance, field.getValue(column.getValue()));
+    }
+
+    private static ColumnDecoder attributeDecoder(FieldRepresentation field, AttributeConverter attributeConverter) {
+        return (instance, column, columns) -> {
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(column.getValue().get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        };
+    }
+
+    private static ColumnDecoder embeddedDecoder(FieldRepresentation field, AbstractColumnEntityConverter converter) {
+        Class<?> type = field.getNativeField().getType();
+        return (instance, column, columns) -> {
+            if (column == null) {
+                field.write(instance, converter.toEntity(type, columns));
+                return;
+            }
+            Object value = column.get();
+            if (Map.class.isInstance(value)) {
+                Map<?, ?> map = Map.class.cast(value);
+                List<Column> embeddedColumns = new ArrayList<>(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    embeddedColumns.add(Column.of(entry.getKey().toString(), entry.getValue()));
+                }
+                field.write(instance, converter.toEntity(type, embeddedColumns));
+            } else {
+                field.write(instance, converter.toEntity(type, column.get(new TypeReference<List<Column>>() {
+                })));
+            }
+        };
+    }
+
+    private static ColumnDecoder collectionDecoder(GenericFieldRepresentation field,
+                                                   AbstractColumnEntityConverter converter) {
+        Class<?> elementType = field.getElementType();
+        return (instance, column, columns) -> {
+            Collection collection = field.getCollectionInstance();
+            List<List<Column>> embeddable = (List<List<Column>>) column.get();
+            for (List<Column> columnList : embeddable) {
+                collection.add(converter.toEntity(elementType, columnList));
+            }
+            field.write(instance, collection);
+        };
+    }
+
+    @FunctionalInterface
+    private interface ColumnEncoder {
+
+        Column encode(Object instance);
+    }
+
+    @FunctionalInterface
+    private interface ColumnDecoder {
+
+        void decode(Object instance, Column column, List<Column> columns);
+    }
+}
@@ -21,10 +21,16 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObservers.hasObserver;
+import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
+import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
+
 /**
  * The default implementation of {@link ColumnEventPersistManager}
  */
@@ -55,43 +61,96 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     @Inject
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    /*
+     * The observers are resolved once, when there is no container every event is fired.
+     */
+    private boolean hasColumnEntityPrePersistObserver = true;
+
+    private boolean hasColumnEntityPostPersistObserver = true;
+
+    private boolean hasEntityPrePersistObserver = true;
+
+    private boolean hasEntityPostPersitObserver = true;
+
+    private boolean hasEntityColumnPrePersistObserver = true;
+
+    private boolean hasEntityColumnPostPersistObserver = true;
+
+    private boolean hasColumnQueryExecuteObserver = true;
+
+    private boolean hasColumnDeleteQueryExecuteObserver = true;
+
+    @PostConstruct
+    public void init() {
+        ColumnEntity sample = ColumnEntity.of("sample");
+        ColumnQuery query = select().from(sample.getName()).build();
+        ColumnDeleteQuery deleteQuery = delete().from(sample.getName()).build();
+        hasColumnEntityPrePersistObserver = hasObserver(beanManager, ColumnEntityPrePersist.of(sample));
+        hasColumnEntityPostPersistObserver = hasObserver(beanManager, ColumnEntityPostPersist.of(sample));
+        hasEntityPrePersistObserver = hasObserver(beanManager, EntityPrePersist.of(sample));
+        hasEntityPostPersitObserver = hasObserver(beanManager, EntityPostPersit.of(sample));
+        hasEntityColumnPrePersistObserver = hasObserver(beanManager, EntityColumnPrePersist.of(sample));
+        hasEntityColumnPostPersistObserver = hasObserver(beanManager, EntityColumnPostPersist.of(sample));
+        hasColumnQueryExecuteObserver = hasObserver(beanManager, ColumnQueryExecute.of(query));
+        hasColumnDeleteQueryExecuteObserver = hasObserver(beanManager, ColumnDeleteQueryExecute.of(deleteQuery));
+    }
+
     @Override
     public void firePreColumn(ColumnEntity entity) {
-        documentEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        if (hasColumnEntityPrePersistObserver) {
+            documentEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostColumn(ColumnEntity entity) {
-        documentEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        if (hasColumnEntityPostPersistObserver) {
+            documentEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (hasEntityPrePersistObserver) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (hasEntityPostPersitObserver) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreColumnEntity(T entity) {
-        entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        if (hasEntityColumnPrePersistObserver) {
+            entityColumnPrePersist.fire(EntityColumnPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostColumnEntity(T entity) {
-        entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        if (hasEntityColumnPostPersistObserver) {
+            entityColumnPostPersist.fire(EntityColumnPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(ColumnQuery query) {
-        columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        if (hasColumnQueryExecuteObserver) {
+            columnQueryExecute.fire(ColumnQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(ColumnDeleteQuery query) {
-        columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        if (hasColumnDeleteQueryExecuteObserver) {
+            columnDeleteQueryExecute.fire(ColumnDeleteQueryExecute.of(query));
+        }
     }
 }
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.cache.EntityCache;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 
@@ -36,16 +37,26 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
 
     private ClassRepresentations classRepresentations;
 
+    private EntityCache cache;
+
     @Inject
     DefaultColumnTemplate(ColumnEntityConverter converter, Instance<ColumnFamilyManager> manager,
                           ColumnWorkflow flow,
                           ColumnEventPersistManager eventManager,
-                          ClassRepresentations classRepresentations) {
+                          ClassRepresentations classRepresentations, EntityCache cache) {
         this.converter = converter;
         this.manager = manager;
         this.flow = flow;
         this.eventManager = eventManager;
         this.classRepresentations = classRepresentations;
+        this.cache = cache;
+    }
+
+    DefaultColumnTemplate(ColumnEntityConverter converter, Instance<ColumnFamilyManager> manager,
+                          ColumnWorkflow flow,
+                          ColumnEventPersistManager eventManager,
+                          ClassRepresentations classRepresentations) {
+        this(converter, manager, flow, eventManager, classRepresentations, EntityCache.disabled());
     }
 
     DefaultColumnTemplate() {
@@ -76,4 +87,9 @@ class DefaultColumnTemplate extends AbstractColumnTemplate {
     protected ClassRepresentations getClassRepresentations() {
         return classRepresentations;
     }
+
+    @Override
+    protected EntityCache getCache() {
+        return cache;
+    }
 }
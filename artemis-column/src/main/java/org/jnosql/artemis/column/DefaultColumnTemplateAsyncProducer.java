@@ -15,6 +15,8 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.executor.AsyncExecutors;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
@@ -22,6 +24,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link ColumnTemplateAsyncProducer}
@@ -38,7 +41,30 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
     @Override
     public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager) throws NullPointerException {
         Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
-        return new ProducerColumnTemplateAsync(converter, columnFamilyManager, classRepresentations);
+        return get(columnFamilyManager, ConcurrencyLimiter.fromSystemProperties());
+    }
+
+    @Override
+    public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager, ConcurrencyLimiter limiter) throws NullPointerException {
+        Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return get(columnFamilyManager, limiter, AsyncExecutors.getCallbackDefault());
+    }
+
+    @Override
+    public ColumnTemplateAsync get(ColumnFamilyManagerAsync columnFamilyManager, ConcurrencyLimiter limiter, Executor callbackExecutor)
+            throws NullPointerException {
+        Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        return new ProducerColumnTemplateAsync(converter, columnFamilyManager, classRepresentations, limiter, callbackExecutor);
+    }
+
+    @Override
+    public ColumnTemplateAsync get(ColumnTemplate template, Executor executor) throws NullPointerException {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new ExecutorColumnTemplateAsync(template, executor, ConcurrencyLimiter.fromSystemProperties());
     }
 
     @Vetoed
@@ -50,11 +76,18 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
 
         private ClassRepresentations classRepresentations;
 
+        private ConcurrencyLimiter limiter;
+
+        private Executor callbackExecutor;
+
         ProducerColumnTemplateAsync(ColumnEntityConverter converter, ColumnFamilyManagerAsync columnFamilyManager
-        ,ClassRepresentations classRepresentations) {
+        ,ClassRepresentations classRepresentations, ConcurrencyLimiter limiter,
+        Executor callbackExecutor) {
             this.converter = converter;
             this.columnFamilyManager = columnFamilyManager;
             this.classRepresentations = classRepresentations;
+            this.limiter = limiter;
+            this.callbackExecutor = callbackExecutor;
         }
 
         ProducerColumnTemplateAsync() {
@@ -74,5 +107,15 @@ class DefaultColumnTemplateAsyncProducer implements ColumnTemplateAsyncProducer
         protected ClassRepresentations getClassRepresentations() {
             return classRepresentations;
         }
+
+        @Override
+        public ConcurrencyLimiter getLimiter() {
+            return limiter;
+        }
+
+        @Override
+        protected Executor getCallbackExecutor() {
+            return callbackExecutor;
+        }
     }
 }
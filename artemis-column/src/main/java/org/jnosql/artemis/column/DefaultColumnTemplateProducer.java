@@ -15,6 +15,7 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 
@@ -46,10 +47,18 @@ class DefaultColumnTemplateProducer implements ColumnTemplateProducer {
     public ColumnTemplate get(ColumnFamilyManager columnFamilyManager) throws NullPointerException {
         Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
         return new ProducerColumnTemplate(converter, columnWorkflow, columnFamilyManager,
-                eventManager, classRepresentations);
+                eventManager, classRepresentations, QueryCache.disabled());
     }
 
 
+    @Override
+    public ColumnTemplate get(ColumnFamilyManager columnFamilyManager, QueryCache queryCache) throws NullPointerException {
+        Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
+        Objects.requireNonNull(queryCache, "queryCache is required");
+        return new ProducerColumnTemplate(converter, columnWorkflow, columnFamilyManager,
+                eventManager, classRepresentations, queryCache);
+    }
+
     @Vetoed
     static class ProducerColumnTemplate extends AbstractColumnTemplate {
 
@@ -63,15 +72,18 @@ class DefaultColumnTemplateProducer implements ColumnTemplateProducer {
 
         private ClassRepresentations classRepresentations;
 
+        private QueryCache queryCache;
+
         ProducerColumnTemplate(ColumnEntityConverter converter, ColumnWorkflow columnWorkflow,
                                ColumnFamilyManager columnFamilyManager,
                                ColumnEventPersistManager eventManager,
-                               ClassRepresentations classRepresentations) {
+                               ClassRepresentations classRepresentations, QueryCache queryCache) {
             this.converter = converter;
             this.columnWorkflow = columnWorkflow;
             this.columnFamilyManager = columnFamilyManager;
             this.eventManager = eventManager;
             this.classRepresentations = classRepresentations;
+            this.queryCache = queryCache;
         }
 
         ProducerColumnTemplate() {
@@ -101,5 +113,10 @@ class DefaultColumnTemplateProducer implements ColumnTemplateProducer {
         protected ClassRepresentations getClassRepresentations() {
             return classRepresentations;
         }
+
+        @Override
+        protected QueryCache getQueryCache() {
+            return queryCache;
+        }
     }
 }
@@ -18,6 +18,8 @@ package org.jnosql.artemis.column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -47,6 +49,34 @@ class DefaultColumnWorkflow implements ColumnWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> batchFlow(List<T> entities, UnaryOperator<List<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<ColumnEntity> columns = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            columnEventPersistManager.firePreEntity(entity);
+            columnEventPersistManager.firePreColumnEntity(entity);
+            ColumnEntity column = converter.toColumn(entity);
+            columnEventPersistManager.firePreColumn(column);
+            columns.add(column);
+        }
+
+        List<ColumnEntity> results = action.apply(columns);
+        List<T> saved = new ArrayList<>(results.size());
+        for (int index = 0; index < results.size(); index++) {
+            ColumnEntity column = results.get(index);
+            columnEventPersistManager.firePostColumn(column);
+            T entity = converter.toEntity((Class<T>) entities.get(index).getClass(), column);
+            columnEventPersistManager.firePostEntity(entity);
+            columnEventPersistManager.firePostColumnEntity(entity);
+            saved.add(entity);
+        }
+        return saved;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
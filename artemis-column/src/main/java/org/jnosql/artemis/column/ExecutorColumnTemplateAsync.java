@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.executor.AsyncOperations;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.reactive.Publisher;
+import org.jnosql.diana.api.ExecuteAsyncQueryException;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link ColumnTemplateAsync} to the units that just have a synchronous manager, it runs each operation of the
+ * {@link ColumnTemplate} at the executor, so the persistence events, the validation and the caches of the
+ * synchronous template are kept. An operation holds a permit of the {@link ConcurrencyLimiter} while it runs,
+ * and, unlike the driver callbacks, a failure completes the {@link CompletionStage} exceptionally.
+ */
+final class ExecutorColumnTemplateAsync implements ColumnTemplateAsync {
+
+    private final ColumnTemplate template;
+
+    private final Executor executor;
+
+    private final ConcurrencyLimiter limiter;
+
+    private final long pageSize = Long.getLong(AbstractColumnTemplate.PAGE_SIZE_PROPERTY, 1000L);
+
+    ExecutorColumnTemplateAsync(ColumnTemplate template, Executor executor, ConcurrencyLimiter limiter) {
+        this.template = template;
+        this.executor = executor;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public <T> void insert(T entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        AsyncOperations.execute(executor, limiter, () -> template.insert(entity));
+    }
+
+    @Override
+    public <T> void insert(T entity, Duration ttl) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        AsyncOperations.execute(executor, limiter, () -> template.insert(entity, ttl));
+    }
+
+    @Override
+    public <T> void insert(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> template.insert(entity), callBack);
+    }
+
+    @Override
+    public <T> void insert(T entity, Duration ttl, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> template.insert(entity, ttl), callBack);
+    }
+
+    @Override
+    public <T> void update(T entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        AsyncOperations.execute(executor, limiter, () -> template.update(entity));
+    }
+
+    @Override
+    public <T> void update(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> template.update(entity), callBack);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(query, "query is required");
+        AsyncOperations.execute(executor, limiter, () -> delete(query, template));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query, Consumer<Void> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(query, "query is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> delete(query, template), callBack);
+    }
+
+    @Override
+    public <T> void select(ColumnQuery query, Consumer<List<T>> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
+        requireNonNull(query, "query is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> template.<T>select(query), callBack);
+    }
+
+    @Override
+    public <T, ID> void find(Class<T> entityClass, ID id, Consumer<Optional<T>> callBack) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(callBack, "callBack is required");
+        AsyncOperations.execute(executor, limiter, () -> template.find(entityClass, id), callBack);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return supply(() -> template.insert(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return supply(() -> template.insert(entity, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return supply(() -> template.update(entity));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return supply(() -> delete(query, template));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return supply(() -> template.select(query));
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResultAsync(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return supply(() -> template.singleResult(query));
+    }
+
+    @Override
+    public <T, ID> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, ID id) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return supply(() -> template.find(entityClass, id));
+    }
+
+    @Override
+    public <T> Publisher<T> publisher(ColumnQuery query) throws NullPointerException {
+        return publisher(query, pageSize);
+    }
+
+    @Override
+    public <T> Publisher<T> publisher(ColumnQuery query, long pageSize) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero");
+        }
+        return new PagedColumnPublisher<T, T>(query, pageSize, q -> supply(() -> template.select(q)), Function.identity());
+    }
+
+    @Override
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private static Void delete(ColumnDeleteQuery query, ColumnTemplate template) {
+        template.delete(query);
+        return null;
+    }
+
+    private <R> CompletableFuture<R> supply(Supplier<R> operation) {
+        return AsyncOperations.supply(executor, limiter, operation);
+    }
+}
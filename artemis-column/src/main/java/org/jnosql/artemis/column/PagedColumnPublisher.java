@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.reactive.Publisher;
+import org.jnosql.artemis.reactive.Subscriber;
+import org.jnosql.artemis.reactive.Subscription;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link Publisher} that reads the result of a {@link ColumnQuery} page by page asynchronously. A page is
+ * fetched just when the current one is consumed and there is demand, and each entity is converted just when it's
+ * sent to the subscriber, so at most one page is kept in memory to each subscription. Canceling the subscription
+ * stops fetching the next pages. It keeps the first result and the max results of the query,
+ * the query should define a sort to the pages be stable. Each subscription reads the query from the beginning.
+ *
+ * @param <E> the type read at each page
+ * @param <T> the entity type
+ */
+final class PagedColumnPublisher<E, T> implements Publisher<T> {
+
+    private final ColumnQuery query;
+
+    private final long pageSize;
+
+    private final Function<ColumnQuery, CompletionStage<List<E>>> select;
+
+    private final Function<E, T> converter;
+
+    PagedColumnPublisher(ColumnQuery query, long pageSize, Function<ColumnQuery, CompletionStage<List<E>>> select,
+                      Function<E, T> converter) {
+        this.query = query;
+        this.pageSize = pageSize;
+        this.select = select;
+        this.converter = converter;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new PagedSubscription(subscriber));
+    }
+
+    private final class PagedSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private final Queue<E> page = new ConcurrentLinkedQueue<>();
+
+        private long next = query.getFirstResult();
+
+        private long remaining = query.getMaxResults() > 0 ? query.getMaxResults() : -1;
+
+        private volatile boolean fetching;
+
+        private volatile boolean last;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        PagedSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The request must be greater than zero: " + n);
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            page.clear();
+        }
+
+        /**
+         * Sends the entities while there is demand, it's run by a single thread at a time, the other calls
+         * just signal it to run again.
+         */
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!cancelled) {
+                    if (error != null) {
+                        cancelled = true;
+                        subscriber.onError(error);
+                        break;
+                    }
+                    if (page.isEmpty() && !fetching && last) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        break;
+                    }
+                    if (demand.get() == 0) {
+                        break;
+                    }
+                    E entity = page.poll();
+                    if (entity == null) {
+                        if (fetching) {
+                            break;
+                        }
+                        fetch();
+                        continue;
+                    }
+                    T item;
+                    try {
+                        item = converter.apply(entity);
+                    } catch (RuntimeException exception) {
+                        error = exception;
+                        continue;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(item);
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void fetch() {
+            long limit = remaining < 0 ? pageSize : Math.min(pageSize, remaining);
+            if (limit == 0) {
+                last = true;
+                return;
+            }
+            fetching = true;
+            CompletionStage<List<E>> entities;
+            try {
+                entities = select.apply(new PagedColumnQuery(query, next, limit));
+            } catch (RuntimeException exception) {
+                error = exception;
+                fetching = false;
+                return;
+            }
+            entities.whenComplete((result, failure) -> {
+                if (failure == null) {
+                    next += result.size();
+                    if (remaining > 0) {
+                        remaining -= result.size();
+                    }
+                    last = result.size() < limit;
+                    if (!cancelled) {
+                        page.addAll(result);
+                    }
+                } else {
+                    error = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                }
+                fetching = false;
+                drain();
+            });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@link java.util.Spliterator} that reads the result of a {@link ColumnQuery} page by page, it fetches
+ * the next page with the first result and max results of the query just when the current page is consumed,
+ * and it converts each entity just when it's consumed. So at most one page is kept in memory.
+ * It keeps the first result and the max results of the query, the query should define a sort to the pages be stable.
+ *
+ * @param <T> the entity type
+ */
+final class PagedColumnSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final ColumnQuery query;
+
+    private final long pageSize;
+
+    private final Function<ColumnQuery, List<ColumnEntity>> select;
+
+    private final Function<ColumnEntity, T> converter;
+
+    private long next;
+
+    private long remaining;
+
+    private Iterator<ColumnEntity> page = Collections.emptyIterator();
+
+    private boolean last;
+
+    PagedColumnSpliterator(ColumnQuery query, long pageSize, Function<ColumnQuery, List<ColumnEntity>> select,
+                         Function<ColumnEntity, T> converter) {
+        super(Long.MAX_VALUE, ORDERED | NONNULL);
+        this.query = query;
+        this.pageSize = pageSize;
+        this.select = select;
+        this.converter = converter;
+        this.next = query.getFirstResult();
+        this.remaining = query.getMaxResults() > 0 ? query.getMaxResults() : -1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (!page.hasNext()) {
+            if (last) {
+                return false;
+            }
+            fetch();
+        }
+        action.accept(converter.apply(page.next()));
+        return true;
+    }
+
+    /**
+     * Stops reading, the next pages aren't fetched
+     */
+    void close() {
+        last = true;
+        page = Collections.emptyIterator();
+    }
+
+    private void fetch() {
+        long limit = remaining < 0 ? pageSize : Math.min(pageSize, remaining);
+        if (limit == 0) {
+            close();
+            return;
+        }
+        List<ColumnEntity> entities = select.apply(new PagedColumnQuery(query, next, limit));
+        next += entities.size();
+        if (remaining > 0) {
+            remaining -= entities.size();
+        }
+        last = entities.size() < limit;
+        page = entities.iterator();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link ColumnQuery} that reads just the columns of a projection, the other values are from the query.
+ */
+final class ProjectedColumnQuery implements ColumnQuery {
+
+    private final ColumnQuery query;
+
+    private final List<String> columns;
+
+    ProjectedColumnQuery(ColumnQuery query, List<String> columns) {
+        this.query = query;
+        this.columns = columns;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return query.getMaxResults();
+    }
+
+    @Override
+    public long getFirstResult() {
+        return query.getFirstResult();
+    }
+
+    @Override
+    public String getColumnFamily() {
+        return query.getColumnFamily();
+    }
+
+    @Override
+    public Optional<ColumnCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectedColumnQuery{" + "query=" + query + ", columns=" + columns + '}';
+    }
+}
@@ -16,6 +16,7 @@ package org.jnosql.artemis.column.query;
 
 
 import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.FieldRepresentation;
@@ -26,6 +27,7 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Objects.isNull;
@@ -50,7 +52,11 @@ public abstract class AbstractColumnRepositoryAsync<T, ID> implements Repository
     @Override
     public <S extends T> void save(S entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        if (isUpsert()) {
+            getTemplate().insert(entity);
+            return;
+        }
+        Object id = getIdField().read(entity);
 
         if (isNull(id)) {
             getTemplate().insert(entity);
@@ -71,6 +77,10 @@ public abstract class AbstractColumnRepositoryAsync<T, ID> implements Repository
     @Override
     public <S extends T> void save(Iterable<S> entities) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entities, "entities is required");
+        if (isUpsert()) {
+            getTemplate().insert(entities);
+            return;
+        }
         entities.forEach(this::save);
     }
 
@@ -105,6 +115,49 @@ public abstract class AbstractColumnRepositoryAsync<T, ID> implements Repository
         getTemplate().singleResult(query, callBack);
     }
 
+    @Override
+    public <S extends T> CompletionStage<S> saveAsync(S entity) throws NullPointerException {
+        requireNonNull(entity, "Entity is required");
+        if (isUpsert()) {
+            return getTemplate().insertAsync(entity);
+        }
+        Object id = getIdField().read(entity);
+        if (isNull(id)) {
+            return getTemplate().insertAsync(entity);
+        }
+        return existsByIdAsync((ID) id).thenCompose(exist -> exist ?
+                getTemplate().updateAsync(entity) : getTemplate().insertAsync(entity));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteByIdAsync(ID id) throws NullPointerException {
+        requireNonNull(id, "id is required");
+        return getTemplate().deleteAsync(delete().from(getClassRepresentation().getName())
+                .where(eq(Column.of(getIdField().getName(), id))).build());
+    }
+
+    @Override
+    public CompletionStage<Optional<T>> findByIdAsync(ID id) throws NullPointerException {
+        requireNonNull(id, "id is required");
+        return getTemplate().singleResultAsync(select().from(getClassRepresentation().getName())
+                .where(eq(Column.of(getIdField().getName(), id))).build());
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsByIdAsync(ID id) throws NullPointerException {
+        return findByIdAsync(id).thenApply(Optional::isPresent);
+    }
+
+    /**
+     * Defines if the save writes the entity without checking if it exists, by default it's true
+     * when the entity has the {@link Upsert} annotation.
+     *
+     * @return true when the save is an upsert
+     */
+    protected boolean isUpsert() {
+        return getClassRepresentation().getClassInstance().isAnnotationPresent(Upsert.class);
+    }
+
     private FieldRepresentation getIdField() {
         return getClassRepresentation().getId().orElseThrow(KEY_NOT_FOUND_EXCEPTION_SUPPLIER);
     }
@@ -24,6 +24,12 @@ import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
@@ -35,6 +41,10 @@ import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
  */
 public abstract class AbstractColumnRepositoryAsyncProxy<T> implements InvocationHandler {
 
+    private final Map<Method, ColumnRepositoryType> types = new ConcurrentHashMap<>();
+
+    private final Map<Method, ColumnQueryPlan> plans = new ConcurrentHashMap<>();
+
     protected abstract RepositoryAsync getRepository();
 
     protected abstract ClassRepresentation getClassRepresentation();
@@ -48,25 +58,24 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> implements Invocatio
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
-        String methodName = method.getName();
-        ColumnRepositoryType type = ColumnRepositoryType.of(method, args);
+        ColumnRepositoryType type = types.computeIfAbsent(method, ColumnRepositoryType::of);
 
         switch (type) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation());
-                return executeQuery(getCallBack(args), query);
+                ColumnQuery query = getPlan(method, type).toQuery(args);
+                return executeQuery(method, args, query);
             case FIND_ALL:
-                return executeQuery(getCallBack(args), select().from(getClassRepresentation().getName()).build());
+                return executeQuery(method, args, select().from(getClassRepresentation().getName()).build());
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation());
-                return executeDelete(getCallBack(args), deleteQuery);
+                ColumnDeleteQuery deleteQuery = getPlan(method, type).toDeleteQuery(args);
+                return executeDelete(method, args, deleteQuery);
             case QUERY:
                 ColumnQuery columnQuery = ColumnRepositoryType.getQuery(args).get();
-                return executeQuery(getCallBack(args), columnQuery);
+                return executeQuery(method, args, columnQuery);
             case QUERY_DELETE:
-                return executeDelete(args, ColumnRepositoryType.getDeleteQuery(args).get());
+                return executeDelete(method, args, ColumnRepositoryType.getDeleteQuery(args).get());
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             default:
@@ -74,6 +83,12 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> implements Invocatio
         }
     }
 
+    private ColumnQueryPlan getPlan(Method method, ColumnRepositoryType type) {
+        return plans.computeIfAbsent(method, m -> ColumnRepositoryType.FIND_BY.equals(type) ?
+                getQueryParser().plan(m.getName(), getClassRepresentation()) :
+                getDeleteParser().plan(m.getName(), getClassRepresentation()));
+    }
+
     private Object executeDelete(Object arg, ColumnDeleteQuery deleteQuery) {
         if (Consumer.class.isInstance(arg)) {
             getTemplate().delete(deleteQuery, Consumer.class.cast(arg));
@@ -83,6 +98,37 @@ public abstract class AbstractColumnRepositoryAsyncProxy<T> implements Invocatio
         return Void.class;
     }
 
+    private Object executeQuery(Method method, Object[] args, ColumnQuery query) {
+        if (isAsync(method)) {
+            if (isOptional(method)) {
+                return getTemplate().singleResultAsync(query).toCompletableFuture();
+            }
+            return getTemplate().selectAsync(query).toCompletableFuture();
+        }
+        return executeQuery(getCallBack(args), query);
+    }
+
+    private Object executeDelete(Method method, Object[] args, ColumnDeleteQuery query) {
+        if (isAsync(method)) {
+            return getTemplate().deleteAsync(query).toCompletableFuture();
+        }
+        return executeDelete(getCallBack(args), query);
+    }
+
+    private boolean isAsync(Method method) {
+        return CompletionStage.class.isAssignableFrom(method.getReturnType());
+    }
+
+    private boolean isOptional(Method method) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            return Optional.class.equals(argument instanceof ParameterizedType ?
+                    ((ParameterizedType) argument).getRawType() : argument);
+        }
+        return false;
+    }
+
     private Object getCallBack(Object[] args) {
         return args[args.length - 1];
     }
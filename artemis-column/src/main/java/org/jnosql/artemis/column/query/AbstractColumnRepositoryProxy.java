@@ -15,18 +15,30 @@
 package org.jnosql.artemis.column.query;
 
 
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.jnosql.artemis.column.query.ColumnRepositoryType.getDeleteQuery;
 import static org.jnosql.artemis.column.query.ColumnRepositoryType.getQuery;
 import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnObject;
+import static org.jnosql.artemis.column.query.ReturnTypeConverterUtil.returnProjection;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 
 /**
@@ -37,6 +49,12 @@ import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
  */
 public abstract class AbstractColumnRepositoryProxy<T, ID> implements InvocationHandler {
 
+    private final Map<Method, ColumnRepositoryType> types = new ConcurrentHashMap<>();
+
+    private final Map<Method, ColumnQueryPlan> plans = new ConcurrentHashMap<>();
+
+    private final Map<Method, Optional<Class<?>>> projections = new ConcurrentHashMap<>();
+
     protected abstract Repository getRepository();
 
     protected abstract ClassRepresentation getClassRepresentation();
@@ -49,21 +67,33 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> implements Invocation
 
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
-        String methodName = method.getName();
-        ColumnRepositoryType type = ColumnRepositoryType.of(method, args);
+        ColumnRepositoryType type = types.computeIfAbsent(method, ColumnRepositoryType::of);
         Class<?> typeClass = getClassRepresentation().getClassInstance();
 
         switch (type) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                ColumnQuery query = getQueryParser().parse(methodName, args, getClassRepresentation());
+                ColumnQuery query = getPlan(method, type).toQuery(args);
+                if (KeysetPage.class.equals(method.getReturnType())) {
+                    return toPage(query, args);
+                }
+                Optional<Class<?>> projection = getProjection(method);
+                if (projection.isPresent()) {
+                    return returnProjection(query, getTemplate(), projection.get(), method);
+                }
                 return returnObject(query, getTemplate(), typeClass, method);
+            case COUNT_BY:
+                long count = getTemplate().count(getPlan(method, type).toQuery(args));
+                return int.class.equals(method.getReturnType()) || Integer.class.equals(method.getReturnType()) ?
+                        (Object) Math.toIntExact(count) : (Object) count;
+            case EXISTS_BY:
+                return getTemplate().exists(getPlan(method, type).toQuery(args));
             case FIND_ALL:
                 return returnObject(select().from(getClassRepresentation().getName()).build(),
                         getTemplate(), typeClass, method);
             case DELETE_BY:
-                ColumnDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation());
+                ColumnDeleteQuery deleteQuery = getPlan(method, type).toDeleteQuery(args);
                 getTemplate().delete(deleteQuery);
                 return Void.class;
             case QUERY:
@@ -81,4 +111,52 @@ public abstract class AbstractColumnRepositoryProxy<T, ID> implements Invocation
         }
     }
 
+    private KeysetPage<Object> toPage(ColumnQuery query, Object[] args) {
+        KeysetPagination pagination = null;
+        for (Object arg : args == null ? new Object[0] : args) {
+            if (KeysetPagination.class.isInstance(arg)) {
+                pagination = KeysetPagination.class.cast(arg);
+            }
+        }
+        if (pagination == null) {
+            throw new DynamicQueryException("The method that returns KeysetPage needs a KeysetPagination parameter");
+        }
+        ClassRepresentation representation = getClassRepresentation();
+        FieldRepresentation key = representation.getFieldsGroupByName()
+                .get(representation.getColumnField(pagination.getKey()));
+        if (key == null) {
+            throw new DynamicQueryException("The key " + pagination.getKey() + " is not a field of "
+                    + representation.getClassInstance().getName());
+        }
+        List<Object> content = getTemplate().select(query);
+        Optional<FieldRepresentation> id = representation.getId().filter(i -> !i.equals(key));
+        if (id.isPresent()) {
+            return KeysetPage.of(content, pagination, key::read, id.get()::read);
+        }
+        return KeysetPage.of(content, pagination, key::read);
+    }
+
+    private Optional<Class<?>> getProjection(Method method) {
+        return projections.computeIfAbsent(method, m -> {
+            Class<?> type = m.getReturnType();
+            Type genericType = m.getGenericReturnType();
+            if (genericType instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+                if (arguments.length == 1 && arguments[0] instanceof Class) {
+                    type = (Class<?>) arguments[0];
+                }
+            }
+            if (!ProjectionRepresentation.isProjection(type, getClassRepresentation().getClassInstance())) {
+                return Optional.empty();
+            }
+            return Optional.of(type);
+        });
+    }
+
+    private ColumnQueryPlan getPlan(Method method, ColumnRepositoryType type) {
+        return plans.computeIfAbsent(method, m -> ColumnRepositoryType.DELETE_BY.equals(type) ?
+                getDeleteParser().plan(m.getName(), getClassRepresentation()) :
+                getQueryParser().plan(m.getName(), getClassRepresentation()));
+    }
+
 }
@@ -14,16 +14,8 @@
  */
 package org.jnosql.artemis.column.query;
 
-import org.jnosql.artemis.column.query.ColumnQueryParserUtil.ConditionResult;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
-import org.jnosql.diana.api.column.query.ColumnDeleteFrom;
-
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.and;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.or;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.toCondition;
-import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 
 /**
  * Class the returns a {@link ColumnDeleteQuery}
@@ -31,41 +23,20 @@ import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
  */
 public class ColumnQueryDeleteParser {
 
-    private static final String PREFIX = "deleteBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
-
 
     public ColumnDeleteQuery parse(String methodName, Object[] args, ClassRepresentation representation) {
-
-
-        ColumnCondition condition = null;
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split(TOKENIZER);
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-                ConditionResult result = and(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                ConditionResult result = or(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation);
-                index++;
-            }
-        }
-
-        ColumnDeleteFrom from = delete().from(representation.getName());
-        if (condition == null) {
-            return from.build();
-        } else {
-            return from.where(condition).build();
-        }
-
+        return plan(methodName, representation).toDeleteQuery(args);
     }
 
+    /**
+     * Parses the method once, so the proxies keep the plan and just bind the arguments at each call
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @return the query plan
+     */
+    ColumnQueryPlan plan(String methodName, ClassRepresentation representation) {
+        return ColumnQueryPlan.deleteBy(methodName, representation);
+    }
 
 }
@@ -14,21 +14,11 @@
  */
 package org.jnosql.artemis.column.query;
 
-import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Sort;
-import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnQuery;
-import org.jnosql.diana.api.column.query.ColumnFrom;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.logging.Logger;
-
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.and;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.or;
-import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.toCondition;
-import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Class the returns a {@link ColumnQuery}
@@ -36,83 +26,42 @@ import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
  */
 public class ColumnQueryParser {
 
-    private static final Logger LOGGER = Logger.getLogger(ColumnQueryParser.class.getName());
+    private final Converters converters;
 
-    private static final String PREFIX = "findBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+    public ColumnQueryParser() {
+        this.converters = null;
+    }
 
+    /**
+     * Creates a parser that converts the {@link org.jnosql.artemis.KeysetPagination} cursor with the
+     * {@link org.jnosql.artemis.AttributeConverter} of the key field
+     *
+     * @param converters the converters
+     * @throws NullPointerException when converters is null
+     */
+    public ColumnQueryParser(Converters converters) throws NullPointerException {
+        this.converters = requireNonNull(converters, "converters is required");
+    }
 
     public ColumnQuery parse(String methodName, Object[] args, ClassRepresentation representation) {
-
-
-        ColumnCondition condition = null;
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split(TOKENIZER);
-        String className = representation.getClassInstance().getName();
-        List<Sort> sorts = new ArrayList<>();
-        long limit = 0;
-        long start = 0;
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-
-                ColumnQueryParserUtil.ConditionResult result = and(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else if (token.startsWith(ColumnQueryParserUtil.ORDER_BY)) {
-                sort(sorts, token, representation);
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                ColumnQueryParserUtil.ConditionResult result = or(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation);
-                index++;
-            }
-        }
-
-        while (index < args.length) {
-            Object value = args[index];
-            if (Sort.class.isInstance(value)) {
-                sorts.add(Sort.class.cast(value));
-            } else if (Pagination.class.isInstance(value)) {
-                Pagination pagination = Pagination.class.cast(value);
-                limit = pagination.getMaxResults();
-                start = pagination.getFirstResult();
-            } else {
-                LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
-                        String.valueOf(value), methodName, className, index));
-            }
-            index++;
-        }
-
-        ColumnFrom from = select().from(representation.getName());
-        if (condition == null) {
-            sorts.forEach(from::orderBy);
-            return from.limit(limit).start(start).build();
-        } else {
-            from.where(condition);
-            sorts.forEach(from::orderBy);
-            return from.start(start).limit(limit).build();
-        }
+        return plan(methodName, representation).toQuery(args);
     }
 
-
-    private void sort(List<Sort> sorts, String token, ClassRepresentation representation) {
-        String field = token.replace(ColumnQueryParserUtil.ORDER_BY, ColumnQueryParserUtil.EMPTY);
-        if (field.contains("Desc")) {
-            sorts.add(Sort.of(getName(field.replace("Desc", ColumnQueryParserUtil.EMPTY),
-                    representation), Sort.SortType.DESC));
-        } else {
-            sorts.add(Sort.of(getName(field.replace("Asc", ColumnQueryParserUtil.EMPTY),
-                    representation), Sort.SortType.ASC));
+    /**
+     * Parses the method once, so the proxies keep the plan and just bind the arguments at each call.
+     * It parses the findBy, countBy and existsBy methods.
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @return the query plan
+     */
+    ColumnQueryPlan plan(String methodName, ClassRepresentation representation) {
+        if (methodName.startsWith("countBy")) {
+            return ColumnQueryPlan.countBy(methodName, representation, converters);
+        } else if (methodName.startsWith("existsBy")) {
+            return ColumnQueryPlan.existsBy(methodName, representation, converters);
         }
+        return ColumnQueryPlan.findBy(methodName, representation, converters);
     }
 
-    private String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
-
-    }
-
-}
\ No newline at end of file
+}
@@ -14,10 +14,6 @@
  */
 package org.jnosql.artemis.column.query;
 
-import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
-import org.jnosql.diana.api.column.ColumnCondition;
-
 /**
  * Utilitarian class to dynamic query from method on interface
  * {@link ColumnQueryDeleteParser} and {@link ColumnQueryParser}
@@ -33,81 +29,4 @@ final class ColumnQueryParserUtil {
     private ColumnQueryParserUtil() {
     }
 
-    static ColumnCondition toCondition(String token,
-                                       int index,
-                                       Object[] args,
-                                       String methodName,
-                                       ClassRepresentation representation) {
-
-        ColumnTokenProcessor processor = ColumnTokenProcessorType.of(token);
-        return processor.process(token, index, args, methodName, representation);
-
-    }
-
-
-    static ConditionResult or(Object[] args, int index,
-                              String token,
-                              String methodName,
-                              ClassRepresentation representation,
-                              ColumnCondition queryCondition) {
-        String field = token.replace(ColumnQueryParserUtil.OR, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition conditionResult = toCondition(field, index, args, methodName, representation);
-        ColumnCondition condition = null;
-
-        if (queryCondition == null) {
-            condition = conditionResult;
-        } else {
-            condition = queryCondition.or(conditionResult);
-        }
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return new ConditionResult(index + 2, condition);
-        } else {
-            return new ConditionResult(++index, condition);
-        }
-    }
-
-    static ConditionResult and(Object[] args,
-                               int index,
-                               String token,
-                               String methodName,
-                               ClassRepresentation representation,
-                               ColumnCondition queryCondition) {
-        String field = token.replace(ColumnQueryParserUtil.AND, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition conditionResult = toCondition(field, index, args, methodName, representation);
-
-        ColumnCondition condition = null;
-
-        if (queryCondition == null) {
-            condition = conditionResult;
-        } else {
-            condition = queryCondition.and(conditionResult);
-        }
-
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return new ConditionResult(index + 2, condition);
-        } else {
-            return new ConditionResult(++index, condition);
-        }
-    }
-
-
-    static class ConditionResult {
-
-        private final int index;
-
-        private final ColumnCondition condition;
-
-        public ConditionResult(int index, ColumnCondition condition) {
-            this.index = index;
-            this.condition = condition;
-        }
-
-        public int getIndex() {
-            return index;
-        }
-
-        public ColumnCondition getCondition() {
-            return condition;
-        }
-    }
 }
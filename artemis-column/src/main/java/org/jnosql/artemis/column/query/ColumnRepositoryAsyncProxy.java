@@ -15,7 +15,9 @@
 package org.jnosql.artemis.column.query;
 
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -36,20 +38,23 @@ class ColumnRepositoryAsyncProxy<T> extends AbstractColumnRepositoryAsyncProxy<T
 
     private final ClassRepresentation classRepresentation;
 
+    private final boolean upsert;
+
     private final ColumnQueryParser queryParser;
 
     private final ColumnQueryDeleteParser deleteParser;
 
 
     ColumnRepositoryAsyncProxy(ColumnTemplateAsync template, ClassRepresentations classRepresentations,
-                               Class<?> repositoryType, Reflections reflections) {
+                               Class<?> repositoryType, Reflections reflections, Converters converters) {
 
         this.template = template;
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
+        this.upsert = repositoryType.isAnnotationPresent(Upsert.class) || typeClass.isAnnotationPresent(Upsert.class);
         this.repository = new ColumnRepositoryAsync(template, reflections, classRepresentation);
-        this.queryParser = new ColumnQueryParser();
+        this.queryParser = new ColumnQueryParser(converters);
         this.deleteParser = new ColumnQueryDeleteParser();
     }
 
@@ -109,6 +114,9 @@ class ColumnRepositoryAsyncProxy<T> extends AbstractColumnRepositoryAsyncProxy<T
             return classRepresentation;
         }
 
-
+        @Override
+        protected boolean isUpsert() {
+            return upsert;
+        }
     }
 }
@@ -15,7 +15,9 @@
 package org.jnosql.artemis.column.query;
 
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -41,20 +43,23 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
 
     private final ClassRepresentation classRepresentation;
 
+    private final boolean upsert;
+
     private final ColumnQueryParser queryParser;
 
     private final ColumnQueryDeleteParser deleteParser;
 
 
     ColumnRepositoryProxy(ColumnTemplate template, ClassRepresentations classRepresentations, Class<?> repositoryType,
-                          Reflections reflections) {
+                          Reflections reflections, Converters converters) {
         this.template = template;
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
+        this.upsert = repositoryType.isAnnotationPresent(Upsert.class) || typeClass.isAnnotationPresent(Upsert.class);
         this.repository = new ColumnRepository(template, classRepresentation);
         this.reflections = reflections;
-        this.queryParser = new ColumnQueryParser();
+        this.queryParser = new ColumnQueryParser(converters);
         this.deleteParser = new ColumnQueryDeleteParser();
     }
 
@@ -110,5 +115,9 @@ class ColumnRepositoryProxy<T, ID> extends AbstractColumnRepositoryProxy {
             return reflections;
         }
 
+        @Override
+        protected boolean isUpsert() {
+            return upsert;
+        }
     }
 }
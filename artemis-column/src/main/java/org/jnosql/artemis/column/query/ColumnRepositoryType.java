@@ -19,15 +19,24 @@ import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 enum ColumnRepositoryType {
-    DEFAULT, FIND_BY, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, FIND_ALL, OBJECT_METHOD;
+    DEFAULT, FIND_BY, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, FIND_ALL, OBJECT_METHOD, COUNT_BY, EXISTS_BY;
 
 
     private static final Method[] METHODS = Object.class.getMethods();
 
-    static ColumnRepositoryType of(Method method, Object[] args) {
+    private static final Pattern FIND_BY_PREFIX = Pattern.compile("^find(?:(?:First|Top)\\d*)?By");
+
+    /**
+     * Defines the type from the method signature, so the proxies compute it once to each method
+     *
+     * @param method the method
+     * @return the type
+     */
+    static ColumnRepositoryType of(Method method) {
 
         if (Stream.of(METHODS).anyMatch(method::equals)) {
             return OBJECT_METHOD;
@@ -40,47 +49,56 @@ enum ColumnRepositoryType {
             case "delete":
             case "findById":
             case "existsById":
+            case "saveAsync":
+            case "deleteByIdAsync":
+            case "findByIdAsync":
+            case "existsByIdAsync":
                 return DEFAULT;
             case "findAll":
                 return FIND_ALL;
             default:
         }
 
-        if (isQuery(args)) {
+        if (hasParameter(method, ColumnQuery.class)) {
             return QUERY;
         }
 
-        if (isQueryDelete(args)) {
+        if (hasParameter(method, ColumnDeleteQuery.class)) {
             return QUERY_DELETE;
         }
 
-        if (methodName.startsWith("findBy")) {
+        if (FIND_BY_PREFIX.matcher(methodName).find()) {
             return FIND_BY;
         } else if (methodName.startsWith("deleteBy")) {
             return DELETE_BY;
+        } else if (methodName.startsWith("countBy")) {
+            return COUNT_BY;
+        } else if (methodName.startsWith("existsBy")) {
+            return EXISTS_BY;
         }
         return UNKNOWN;
     }
 
-    private static boolean isQuery(Object[] args) {
-        return getQuery(args).isPresent();
-    }
-
-    private static boolean isQueryDelete(Object[] args) {
-        return getDeleteQuery(args).isPresent();
+    private static boolean hasParameter(Method method, Class<?> type) {
+        return Stream.of(method.getParameterTypes()).anyMatch(type::isAssignableFrom);
     }
 
     static Optional<ColumnQuery> getQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(ColumnQuery.class::isInstance).map(ColumnQuery.class::cast)
-                .findFirst();
+        for (Object arg : args) {
+            if (ColumnQuery.class.isInstance(arg)) {
+                return Optional.of(ColumnQuery.class.cast(arg));
+            }
+        }
+        return Optional.empty();
     }
 
     static Optional<ColumnDeleteQuery> getDeleteQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(ColumnDeleteQuery.class::isInstance)
-                .map(ColumnDeleteQuery.class::cast)
-                .findFirst();
+        for (Object arg : args) {
+            if (ColumnDeleteQuery.class.isInstance(arg)) {
+                return Optional.of(ColumnDeleteQuery.class.cast(arg));
+            }
+        }
+        return Optional.empty();
     }
 
 }
@@ -14,70 +14,54 @@
  */
 package org.jnosql.artemis.column.query;
 
-import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
 
 import static org.jnosql.artemis.column.query.ColumnQueryParserUtil.EMPTY;
 
-enum ColumnTokenProcessorType implements ColumnTokenProcessor {
+enum ColumnTokenProcessorType {
 
     BETWEEN("Between", 2) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return ColumnCondition.between(Column.of(name, Arrays.asList(args[index], args[++index])));
+        ColumnCondition toCondition(String name, int index, Object[] args) {
+            return ColumnCondition.between(Column.of(name, Arrays.asList(args[index], args[index + 1])));
         }
     },
     LESS_THAN_EQUAL("LessThanEqual", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.lte(Column.of(name, args[index]));
         }
     },
     GREATER_THAN_EQUAL("GreaterThanEqual", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.gte(Column.of(name, args[index]));
         }
     },
     LESS_THAN("LessThan", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.lt(Column.of(name, args[index]));
         }
     },
     GREATER_THAN("GreaterThan", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.gt(Column.of(name, args[index]));
         }
     },
     LIKE("Like", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.like(Column.of(name, args[index]));
         }
     }, DEFAULT("", 1) {
         @Override
-        public ColumnCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation);
+        ColumnCondition toCondition(String name, int index, Object[] args) {
             return ColumnCondition.eq(Column.of(name, args[index]));
         }
     };
@@ -99,23 +83,36 @@ enum ColumnTokenProcessorType implements ColumnTokenProcessor {
         return fieldsRequired;
     }
 
-    static ColumnTokenProcessorType of(String token) {
-        return Stream.of(ColumnTokenProcessorType.values())
-                .filter(t -> token.contains(t.getType()))
-                .findFirst().orElse(DEFAULT);
-    }
+    /**
+     * Creates the condition to the column name from the arguments
+     *
+     * @param name  the column name
+     * @param index the position of the first argument to this condition
+     * @param args  the method arguments
+     * @return the condition
+     */
+    abstract ColumnCondition toCondition(String name, int index, Object[] args);
 
-    private static void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
+    /**
+     * Returns the column name from a token, e.g. NameLike returns the column of the field name
+     *
+     * @param token          the token
+     * @param representation the entity representation
+     * @return the column name
+     */
+    String getName(String token, ClassRepresentation representation) {
+        String field = token.replace(type, EMPTY);
+        return representation.getColumnField(String.valueOf(Character.toLowerCase(field.charAt(0)))
+                .concat(field.substring(1)));
     }
 
-    private static String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
+    static ColumnTokenProcessorType of(String token) {
+        for (ColumnTokenProcessorType processorType : values()) {
+            if (token.contains(processorType.getType())) {
+                return processorType;
+            }
+        }
+        return DEFAULT;
     }
 
 }
@@ -18,6 +18,7 @@ import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -54,10 +55,28 @@ public final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(template.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return template.select(query).stream();
+            return template.stream(query);
         }
 
         return template.select(query);
     }
 
+    public static Object returnProjection(ColumnQuery query, ColumnTemplate template, Class<?> projection, Method method) {
+        Class<?> returnType = method.getReturnType();
+
+        if (projection.equals(returnType)) {
+            return template.singleResult(query, projection).orElse(null);
+        } else if (Optional.class.equals(returnType)) {
+            return template.singleResult(query, projection);
+        } else if (Set.class.equals(returnType)) {
+            return new HashSet<>(template.select(query, projection));
+        } else if (Queue.class.equals(returnType)) {
+            return new ArrayDeque<>(template.select(query, projection));
+        } else if (Stream.class.equals(returnType)) {
+            return template.select(query, projection).stream();
+        }
+
+        return template.select(query, projection);
+    }
+
 }
@@ -35,9 +35,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.jnosql.artemis.DatabaseType.COLUMN;
 
 /**
@@ -102,6 +105,15 @@ public class ColumnFamilyProducerExtension implements Extension {
             afterBeanDiscovery.addBean(bean);
         });
 
+        Set<String> providersAsync = databasesAsync.stream().map(Database::provider).collect(toSet());
+        List<Database> databasesSync = databases.stream()
+                .filter(database -> !providersAsync.contains(database.provider()))
+                .collect(toList());
+        databasesSync.forEach(type -> {
+            LOGGER.info("Adding a ColumnTemplateAsync over the synchronous manager to the provider: " + type.provider());
+            afterBeanDiscovery.addBean(new ColumnTemplateAsyncBean(beanManager, type.provider(), true));
+        });
+
         crudTypes.forEach(type -> {
             afterBeanDiscovery.addBean(new RepositoryColumnBean(type, beanManager, ""));
             databases.forEach(database -> afterBeanDiscovery
@@ -112,6 +124,8 @@ public class ColumnFamilyProducerExtension implements Extension {
             afterBeanDiscovery.addBean(new RepositoryAsyncColumnBean(type, beanManager, ""));
             databasesAsync.forEach(database -> afterBeanDiscovery
                     .addBean(new RepositoryAsyncColumnBean(type, beanManager, database.provider())));
+            databasesSync.forEach(database -> afterBeanDiscovery
+                    .addBean(new RepositoryAsyncColumnBean(type, beanManager, database.provider())));
         });
 
 
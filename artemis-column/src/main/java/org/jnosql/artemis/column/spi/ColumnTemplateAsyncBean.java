@@ -17,8 +17,10 @@ package org.jnosql.artemis.column.spi;
 
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.column.ColumnTemplate;
 import org.jnosql.artemis.column.ColumnTemplateAsync;
 import org.jnosql.artemis.column.ColumnTemplateAsyncProducer;
+import org.jnosql.artemis.executor.AsyncExecutors;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -42,6 +44,8 @@ class ColumnTemplateAsyncBean implements Bean<ColumnTemplateAsync>, PassivationC
 
     private final Set<Annotation> qualifiers;
 
+    private final boolean synchronous;
+
     /**
      * Constructor
      *
@@ -49,10 +53,23 @@ class ColumnTemplateAsyncBean implements Bean<ColumnTemplateAsync>, PassivationC
      * @param provider    the provider name, that must be a
      */
     public ColumnTemplateAsyncBean(BeanManager beanManager, String provider) {
+        this(beanManager, provider, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     * @param synchronous when the provider just has a synchronous manager, so the template runs the operations of
+     *                    the {@link ColumnTemplate} at {@link AsyncExecutors#getDefault()}
+     */
+    public ColumnTemplateAsyncBean(BeanManager beanManager, String provider, boolean synchronous) {
         this.beanManager = beanManager;
         this.types = Collections.singleton(ColumnTemplateAsync.class);
         this.provider = provider;
         this.qualifiers = Collections.singleton(DatabaseQualifier.ofColumn(provider));
+        this.synchronous = synchronous;
     }
 
     @Override
@@ -74,6 +91,9 @@ class ColumnTemplateAsyncBean implements Bean<ColumnTemplateAsync>, PassivationC
     public ColumnTemplateAsync create(CreationalContext<ColumnTemplateAsync> creationalContext) {
 
         ColumnTemplateAsyncProducer producer = getInstance(ColumnTemplateAsyncProducer.class);
+        if (synchronous) {
+            return producer.get(getInstance(ColumnTemplate.class, provider), AsyncExecutors.getDefault());
+        }
         ColumnFamilyManagerAsync columnFamilyManager = getColumnFamilyManager();
         return producer.get(columnFamilyManager);
     }
@@ -50,6 +50,17 @@ public class MockProducer {
         return manager;
 
     }
+    @Produces
+    @Database(value = DatabaseType.COLUMN, provider = "columnSyncMock")
+    public ColumnFamilyManager getColumnFamilyManagerSyncMock() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(org.jnosql.diana.api.column.Column.of("name", "columnSyncMock"));
+        entity.add(org.jnosql.diana.api.column.Column.of("age", 10));
+        ColumnFamilyManager manager = mock(ColumnFamilyManager.class);
+        when(manager.insert(Mockito.any(ColumnEntity.class))).thenReturn(entity);
+        return manager;
+    }
+
     @Produces
     public ColumnFamilyManagerAsync getColumnFamilyManagerAsync() {
         return Mockito.mock(ColumnFamilyManagerAsync.class);
@@ -27,10 +27,13 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -64,6 +67,9 @@ public class DefaultColumnEventPersistManagerTest {
     @Mock
     private Event<ColumnDeleteQueryExecute> columnDeleteQueryExecute;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreColumn() {
@@ -153,6 +159,17 @@ public class DefaultColumnEventPersistManagerTest {
         assertEquals(query, captor.getValue().getQuery());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNoObserver() {
+        ColumnEntity entity = ColumnEntity.of("columnFamily");
+        subject.init();
+        subject.firePreColumn(entity);
+        subject.firePostColumn(entity);
+        subject.firePreQuery(select().from("person").build());
+        verify(documentEntityPrePersistEvent, never()).fire(any(ColumnEntityPrePersist.class));
+        verify(documentEntityPostPersistEvent, never()).fire(any(ColumnEntityPostPersist.class));
+        verify(columnQueryExecute, never()).fire(any(ColumnQueryExecute.class));
+    }
 
     class Jedi {
         private String name;
@@ -15,14 +15,32 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.limit.LimitExceededException;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reactive.Subscriber;
+import org.jnosql.artemis.reactive.Subscription;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.jnosql.diana.api.column.query.ColumnQueryBuilder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 @RunWith(CDIJUnitRunner.class)
 public class DefaultColumnTemplateAsyncProducerTest {
@@ -44,4 +62,108 @@ public class DefaultColumnTemplateAsyncProducerTest {
         assertNotNull(columnRepository);
     }
 
-}
\ No newline at end of file
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenLimiterIsNull() {
+        producer.get(Mockito.mock(ColumnFamilyManagerAsync.class), null);
+    }
+
+    @Test
+    public void shouldBoundOperationsInFlight() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        ColumnTemplateAsync template = producer.get(manager, limiter);
+        assertSame(limiter, template.getLimiter());
+
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        template.insert(person);
+        assertEquals(1, limiter.getInFlight());
+        try {
+            template.insert(person);
+            fail("the limiter should reject the second insert");
+        } catch (LimitExceededException exception) {
+            assertEquals(1L, limiter.getRejections());
+        }
+        CompletableFuture<Person> future = template.insertAsync(person).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(2L, limiter.getRejections());
+    }
+
+    @Test
+    public void shouldReleasePermitWhenDriverCallsBack() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<Void>) i.getArguments()[1]).accept(null);
+            return null;
+        }).when(manager).delete(Mockito.any(), Mockito.any(Consumer.class));
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        ColumnTemplateAsync template = producer.get(manager, limiter);
+
+        template.deleteAsync(ColumnQueryBuilder.delete().from("Person").build()).toCompletableFuture().join();
+        template.deleteAsync(ColumnQueryBuilder.delete().from("Person").build()).toCompletableFuture().join();
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0L, limiter.getRejections());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTemplateIsNull() {
+        producer.get((ColumnTemplate) null, Runnable::run);
+    }
+
+    @Test
+    public void shouldRunSynchronousTemplateAtExecutor() {
+        ColumnTemplate template = Mockito.mock(ColumnTemplate.class);
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        Mockito.when(template.insert(person)).thenReturn(person);
+        Mockito.when(template.update(person)).thenThrow(new IllegalStateException("update failed"));
+        ColumnTemplateAsync templateAsync = producer.get(template, Runnable::run);
+
+        assertSame(person, templateAsync.insertAsync(person).toCompletableFuture().join());
+        CompletableFuture<Person> update = templateAsync.updateAsync(person).toCompletableFuture();
+        assertTrue(update.isCompletedExceptionally());
+        try {
+            update.join();
+            fail("the update should fail");
+        } catch (CompletionException exception) {
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, templateAsync.getLimiter().getInFlight());
+
+        Consumer<Person> callBack = Mockito.mock(Consumer.class);
+        templateAsync.insert(person, callBack);
+        Mockito.verify(callBack).accept(person);
+    }
+
+    @Test
+    public void shouldSelectFromSynchronousTemplate() {
+        ColumnTemplate template = Mockito.mock(ColumnTemplate.class);
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        Mockito.when(template.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(person));
+        ColumnTemplateAsync templateAsync = producer.get(template, Runnable::run);
+
+        List<Person> people = templateAsync.<Person>selectAsync(ColumnQueryBuilder.select().from("Person").build())
+                .toCompletableFuture().join();
+        assertEquals(Collections.singletonList(person), people);
+
+        List<Person> published = new ArrayList<>();
+        templateAsync.<Person>publisher(ColumnQueryBuilder.select().from("Person").build(), 10).subscribe(new Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                published.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertEquals(Collections.singletonList(person), published);
+    }
+}
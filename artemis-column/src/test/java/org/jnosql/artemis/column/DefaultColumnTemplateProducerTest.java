@@ -15,12 +15,14 @@
 package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.time.Duration;
 
 import static org.junit.Assert.assertNotNull;
 
@@ -42,4 +44,16 @@ public class DefaultColumnTemplateProducerTest {
         ColumnTemplate columnTemplate = producer.get(manager);
         assertNotNull(columnTemplate);
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenQueryCacheIsNull() {
+        producer.get(Mockito.mock(ColumnFamilyManager.class), null);
+    }
+
+    @Test
+    public void shouldReturnWithQueryCache() {
+        ColumnFamilyManager manager = Mockito.mock(ColumnFamilyManager.class);
+        ColumnTemplate template = producer.get(manager, QueryCache.of(10, Duration.ZERO));
+        assertNotNull(template);
+    }
+}
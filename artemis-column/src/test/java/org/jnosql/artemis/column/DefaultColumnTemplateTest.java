@@ -16,9 +16,14 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.PersistenceContext;
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Magazine;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -33,13 +38,29 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @RunWith(CDIJUnitRunner.class)
@@ -66,6 +87,9 @@ public class DefaultColumnTemplateTest {
     @Inject
     private ClassRepresentations classRepresentations;
 
+    @Inject
+    private EntityCache cache;
+
     private ColumnFamilyManager managerMock;
 
     private DefaultColumnTemplate subject;
@@ -190,4 +214,612 @@ public class DefaultColumnTemplateTest {
         assertEquals(ColumnCondition.eq(Column.of("_id", "10")), condition);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldInsertIterableInBulk() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.insert(Mockito.any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+
+        verify(managerMock).insert(Mockito.any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePreEntity(Mockito.any(Person.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePreColumn(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePostColumn(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePostEntity(Mockito.any(Person.class));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldUpdateIterableInBatches() {
+        Mockito.when(managerMock.update(Mockito.any(Iterable.class)))
+                .thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        Iterable<Person> people = getTemplate(managerMock, 2).update(Arrays.asList(person, person, person));
+
+        verify(managerMock, Mockito.times(2)).update(Mockito.any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(Mockito.any(ColumnEntity.class));
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldInsertIterableOneByOneWhenThereIsNotBulk() {
+        SingleWriteManager manager = new SingleWriteManager();
+
+        List<Person> people = Arrays.asList(Person.builder().withId(1L).withName("Ada").build(),
+                Person.builder().withId(2L).withName("Grace").build(),
+                Person.builder().withId(3L).withName("Linus").build());
+        Iterable<Person> inserted = getTemplate(manager, 2).insert(people);
+
+        assertEquals(3, manager.inserts.get());
+        assertEquals(2, manager.maxActive.get());
+        assertFalse(manager.threads.contains(Thread.currentThread()));
+        assertEquals(Arrays.asList("Ada", "Grace", "Linus"), StreamSupport.stream(inserted.spliterator(), false)
+                .map(Person::getName).collect(Collectors.toList()));
+        verify(columnEventPersistManager, Mockito.times(3)).firePostEntity(Mockito.any(Person.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenInsertIterableIsNull() {
+        subject.insert((Iterable<Person>) null);
+    }
+
+    @Test
+    public void shouldFindByIds() {
+        subject.find(Person.class, Arrays.asList(1L, 2L, 3L));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        ColumnQuery query = queryCaptor.getValue();
+
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(ColumnCondition.in(Column.of("_id", Arrays.asList(1L, 2L, 3L))), query.getCondition().get());
+    }
+
+    @Test
+    public void shouldFindByIdsInChunks() {
+        getTemplate(managerMock, 2).find(Person.class, Arrays.asList(1L, 2L, 3L));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock, Mockito.times(2)).select(queryCaptor.capture());
+        List<ColumnQuery> queries = queryCaptor.getAllValues();
+
+        assertEquals(ColumnCondition.in(Column.of("_id", Arrays.asList(1L, 2L))), queries.get(0).getCondition().get());
+        assertEquals(ColumnCondition.eq(Column.of("_id", 3L)), queries.get(1).getCondition().get());
+    }
+
+    @Test(expected = IdNotFoundException.class)
+    public void shouldReturnErrorWhenThereIsNotIdInFindByIds() {
+        subject.find(Job.class, Arrays.asList(1L, 2L));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenFindByIdsHasNullId() {
+        subject.find(Person.class, Arrays.asList(1L, null));
+    }
+
+    @Test
+    public void shouldReadFromCacheWhenEntityIsCacheable() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        Magazine magazine = template.find(Magazine.class, 1L).get();
+        Magazine cached = template.find(Magazine.class, 1L).get();
+        assertNotSame(magazine, cached);
+        assertEquals(magazine.getId(), cached.getId());
+        assertEquals(magazine.getTitle(), cached.getTitle());
+        verify(managerMock).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldKeepCopyOfTheEntityAtTheCache() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        ColumnEntity entity = magazine(1L);
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(entity));
+
+        template.find(Magazine.class, 1L);
+        entity.remove("title");
+        entity.add(Column.of("title", "Changed"));
+
+        assertEquals("Java Magazine", template.find(Magazine.class, 1L).get().getTitle());
+    }
+
+    @Test
+    public void shouldNotReadFromCacheWhenIsDisabled() {
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        subject.find(Magazine.class, 1L);
+        subject.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheWhenUpdate() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        ColumnEntity entity = magazine(1L);
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(entity));
+        Mockito.when(managerMock.update(Mockito.any(ColumnEntity.class))).thenReturn(entity);
+
+        Magazine magazine = template.find(Magazine.class, 1L).get();
+        template.update(magazine);
+        template.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheWhenDelete() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        template.find(Magazine.class, 1L);
+        template.delete(ColumnQueryBuilder.delete().from("Magazine").build());
+        template.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldFindByIdsUsingCache() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)), Collections.singletonList(magazine(2L)));
+
+        template.find(Magazine.class, 1L);
+        List<Magazine> magazines = template.find(Magazine.class, Arrays.asList(1L, 2L));
+
+        assertEquals(Arrays.asList(1L, 2L), magazines.stream().map(Magazine::getId).collect(Collectors.toList()));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock, Mockito.times(2)).select(queryCaptor.capture());
+        ColumnQuery query = queryCaptor.getAllValues().get(1);
+        assertEquals("Magazine", query.getColumnFamily());
+        assertEquals(ColumnCondition.eq(Column.of("_id", 2L)), query.getCondition().get());
+        Magazine cached = template.find(Magazine.class, 2L).get();
+        assertNotSame(magazines.get(1), cached);
+        assertEquals(Long.valueOf(2L), cached.getId());
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldManageCopyOfTheCachedEntityInPersistenceContext() {
+        DefaultColumnTemplate template = getCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(magazine(1L)));
+
+        Magazine magazine;
+        try (PersistenceContext context = PersistenceContext.open()) {
+            magazine = template.find(Magazine.class, 1L).get();
+        }
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Magazine managed = template.find(Magazine.class, 1L).get();
+            assertNotSame(magazine, managed);
+            assertSame(managed, context.find(Magazine.class, 1L).get());
+        }
+        verify(managerMock).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldNotShareManagedEntitiesByTheQueryCache() {
+        DefaultColumnTemplate template = getQueryCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+
+        Person person;
+        try (PersistenceContext context = PersistenceContext.open()) {
+            person = template.<Person>select(query).get(0);
+        }
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person managed = template.<Person>select(query).get(0);
+            assertNotSame(person, managed);
+            assertSame(managed, context.find(Person.class, 19L).get());
+        }
+        verify(managerMock).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldCacheSelectResults() {
+        DefaultColumnTemplate template = getQueryCachedTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(person()));
+
+        List<Person> first = template.select(ColumnQueryBuilder.select().from("Person").where("name").eq("Name").build());
+        List<Person> second = template.select(ColumnQueryBuilder.select().from("Person").where("name").eq("Name").build());
+        template.select(ColumnQueryBuilder.select().from("Person").where("name").eq("Ada").build());
+
+        assertEquals(first.get(0).getName(), second.get(0).getName());
+        assertNotSame(first.get(0), second.get(0));
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldInvalidateSelectResultsWhenWritesOnTheSameName() {
+        DefaultColumnTemplate template = getQueryCachedTemplate();
+        ColumnEntity entity = person();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(entity));
+        Mockito.when(managerMock.insert(Mockito.any(ColumnEntity.class))).thenReturn(entity);
+
+        ColumnQuery query = ColumnQueryBuilder.select().from("Person").build();
+        template.select(query);
+        template.insert(this.person);
+        template.select(query);
+        template.delete(ColumnQueryBuilder.delete().from("Person").build());
+        template.select(query);
+        template.delete(ColumnQueryBuilder.delete().from("Movie").build());
+        template.select(query);
+
+        verify(managerMock, Mockito.times(3)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldReturnTheSameInstanceInPersistenceContext() {
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person first = subject.find(Person.class, 19L).get();
+            Person second = subject.find(Person.class, 19L).get();
+            List<Person> people = subject.select(ColumnQueryBuilder.select().from("Person").build());
+            assertSame(first, second);
+            assertSame(first, people.get(0));
+        }
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldManageTheInsertedEntityInPersistenceContext() {
+        Mockito.when(managerMock.insert(Mockito.any(ColumnEntity.class))).thenReturn(managedPerson());
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person inserted = subject.insert(this.person);
+            assertSame(inserted, subject.find(Person.class, 19L).get());
+        }
+        verify(managerMock, Mockito.never()).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldClearPersistenceContextWhenDelete() {
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            subject.find(Person.class, 19L);
+            subject.delete(ColumnQueryBuilder.delete().from("Person").build());
+            subject.find(Person.class, 19L);
+        }
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldUpdateJustTheChangedValues() {
+        DefaultColumnTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withName("Ada").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        ColumnEntity entity = captor.getValue();
+        assertEquals(2, entity.size());
+        assertEquals("Ada", entity.find("name").get().get());
+        assertEquals(19L, entity.find("_id").get().get());
+    }
+
+    @Test
+    public void shouldUpdateTheChangedCollection() {
+        DefaultColumnTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432", "555")).withName("Name").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        ColumnEntity entity = captor.getValue();
+        assertEquals(2, entity.size());
+        assertTrue(entity.find("phones").isPresent());
+    }
+
+    @Test
+    public void shouldUpdateTheWholeEntityWhenValueIsRemoved() {
+        DefaultColumnTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.update(Mockito.any(ColumnEntity.class))).thenAnswer(i -> i.getArguments()[0]);
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        assertEquals(3, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldUpdateTheWholeEntityWhenDirtyTrackingIsDisabled() {
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+        Mockito.when(managerMock.update(Mockito.any(ColumnEntity.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            subject.find(Person.class, 19L);
+            subject.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withName("Ada").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        assertEquals(4, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldStreamPageByPage() {
+        List<ColumnEntity> entities = people(5);
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        Stream<Person> people = subject.stream(ColumnQueryBuilder.select().from("Person").build(), 2);
+        verify(managerMock, Mockito.never()).select(Mockito.any(ColumnQuery.class));
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), people.map(Person::getId).collect(Collectors.toList()));
+        List<ColumnQuery> queries = queryCaptor.getAllValues();
+        assertEquals(3, queries.size());
+        assertEquals(4L, queries.get(2).getFirstResult());
+        assertEquals(2L, queries.get(2).getMaxResults());
+    }
+
+    @Test
+    public void shouldStreamUntilTheMaxResults() {
+        List<ColumnEntity> entities = people(5);
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        Stream<Person> people = subject.stream(ColumnQueryBuilder.select().from("Person").start(1).limit(3).build(), 2);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), people.map(Person::getId).collect(Collectors.toList()));
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldStopReadingWhenStreamIsClosed() {
+        List<ColumnEntity> entities = people(5);
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        try (Stream<Person> people = subject.stream(ColumnQueryBuilder.select().from("Person").build(), 2)) {
+            Iterator<Person> iterator = people.iterator();
+            iterator.next();
+            people.close();
+            assertFalse(iterator.hasNext());
+        }
+        verify(managerMock, Mockito.times(1)).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenPageSizeIsNotPositive() {
+        subject.stream(ColumnQueryBuilder.select().from("Person").build(), 0);
+    }
+
+    private List<ColumnEntity> people(int size) {
+        List<ColumnEntity> entities = new ArrayList<>();
+        for (long id = 0; id < size; id++) {
+            ColumnEntity entity = ColumnEntity.of("Person");
+            entity.add(Column.of("_id", id));
+            entity.add(Column.of("name", "Name"));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private List<ColumnEntity> page(List<ColumnEntity> entities, Object argument) {
+        ColumnQuery query = (ColumnQuery) argument;
+        int first = (int) Math.min(query.getFirstResult(), entities.size());
+        int last = (int) Math.min(query.getFirstResult() + query.getMaxResults(), entities.size());
+        return entities.subList(first, last);
+    }
+
+    @Test
+    public void shouldLimitSingleResultToTwoEntities() {
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(managedPerson()));
+
+        Optional<Person> person = subject.singleResult(ColumnQueryBuilder.select().from("Person").build());
+        assertTrue(person.isPresent());
+        assertEquals(2L, queryCaptor.getValue().getMaxResults());
+    }
+
+    @Test
+    public void shouldKeepTheLowerLimitAtSingleResult() {
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(managedPerson()));
+
+        subject.singleResult(ColumnQueryBuilder.select().from("Person").limit(1).build());
+        assertEquals(1L, queryCaptor.getValue().getMaxResults());
+    }
+
+    @Test(expected = NonUniqueResultException.class)
+    public void shouldReturnErrorWhenSingleResultIsNotUnique() {
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(people(2));
+        subject.singleResult(ColumnQueryBuilder.select().from("Person").build());
+    }
+
+    @Test
+    public void shouldCountTheEntitiesWithoutConverting() {
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(people(3));
+
+        assertEquals(3L, subject.count(ColumnQueryBuilder.select().from("Person").build()));
+        assertEquals(Collections.singletonList("_id"), queryCaptor.getValue().getColumns());
+        verify(columnEventPersistManager).firePreQuery(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldUseTheNativeCount() {
+        ColumnCountManager manager = Mockito.mock(ColumnCountManager.class);
+        Mockito.when(manager.count(Mockito.any(ColumnQuery.class))).thenReturn(42L);
+        Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(manager);
+        DefaultColumnTemplate template = new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, classRepresentations);
+
+        assertEquals(42L, template.count(ColumnQueryBuilder.select().from("Person").build()));
+        verify(manager, Mockito.never()).select(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldCheckExistenceReadingJustOneEntity() {
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(people(1));
+
+        assertTrue(subject.exists(ColumnQueryBuilder.select().from("Person").build()));
+        assertEquals(1L, queryCaptor.getValue().getMaxResults());
+
+        Mockito.when(managerMock.select(Mockito.any(ColumnQuery.class))).thenReturn(Collections.emptyList());
+        assertFalse(subject.exists(ColumnQueryBuilder.select().from("Person").limit(10).build()));
+    }
+
+    @Test
+    public void shouldSelectProjection() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("name", "Ada"));
+        entity.add(Column.of("age", 20));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(entity));
+
+        List<PersonName> names = subject.select(ColumnQueryBuilder.select().from("Person").build(), PersonName.class);
+        assertEquals(1, names.size());
+        assertEquals("Ada", names.get(0).getName());
+        assertEquals(20, names.get(0).getAge());
+        List<String> columns = queryCaptor.getValue().getColumns();
+        assertEquals(2, columns.size());
+        assertTrue(columns.containsAll(Arrays.asList("name", "age")));
+        verify(columnEventPersistManager).firePreQuery(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldReturnSingleProjection() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.add(Column.of("name", "Ada"));
+        ArgumentCaptor<ColumnQuery> queryCaptor = ArgumentCaptor.forClass(ColumnQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(entity));
+
+        Optional<PersonName> name = subject.singleResult(ColumnQueryBuilder.select().from("Person").build(), PersonName.class);
+        assertEquals("Ada", name.get().getName());
+        assertEquals(2L, queryCaptor.getValue().getMaxResults());
+    }
+
+    private DefaultColumnTemplate getDirtyTrackingTemplate() {
+        Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, classRepresentations) {
+            @Override
+            protected boolean isDirtyTracking() {
+                return true;
+            }
+        };
+    }
+
+    private DefaultColumnTemplate getQueryCachedTemplate() {
+        Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        QueryCache queryCache = QueryCache.of(10, Duration.ZERO);
+        return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, classRepresentations) {
+            @Override
+            protected QueryCache getQueryCache() {
+                return queryCache;
+            }
+        };
+    }
+
+    private ColumnEntity managedPerson() {
+        ColumnEntity entity = person();
+        entity.add(Column.of("_id", 19L));
+        return entity;
+    }
+
+    private ColumnEntity person() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        return entity;
+    }
+
+    private DefaultColumnTemplate getCachedTemplate() {
+        cache.evictAll(Magazine.class);
+        Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, classRepresentations, cache);
+    }
+
+    private ColumnEntity magazine(long id) {
+        ColumnEntity entity = ColumnEntity.of("Magazine");
+        entity.add(Column.of("_id", id));
+        entity.add(Column.of("title", "Java Magazine"));
+        return entity;
+    }
+
+    private DefaultColumnTemplate getTemplate(ColumnFamilyManager manager, int batchSize) {
+        Instance<ColumnFamilyManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(manager);
+        return new DefaultColumnTemplate(converter, instance, new DefaultColumnWorkflow(columnEventPersistManager, converter),
+                columnEventPersistManager, classRepresentations) {
+            @Override
+            protected int getBatchSize() {
+                return batchSize;
+            }
+        };
+    }
+
+    @Vetoed
+    private static class SingleWriteManager implements ColumnFamilyManager {
+
+        private final AtomicInteger inserts = new AtomicInteger();
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        private final CountDownLatch overlap = new CountDownLatch(2);
+
+        @Override
+        public ColumnEntity insert(ColumnEntity entity) {
+            inserts.incrementAndGet();
+            threads.add(Thread.currentThread());
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            overlap.countDown();
+            try {
+                overlap.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return entity;
+        }
+
+        @Override
+        public ColumnEntity update(ColumnEntity entity) {
+            return entity;
+        }
+
+        @Override
+        public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+            return insert(entity);
+        }
+
+        @Override
+        public void delete(ColumnDeleteQuery query) {
+        }
+
+        @Override
+        public List<ColumnEntity> select(ColumnQuery query) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public interface PersonName {
+
+        String getName();
+
+        int getAge();
+    }
+}
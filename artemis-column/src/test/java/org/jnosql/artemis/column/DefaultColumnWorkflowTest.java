@@ -22,9 +22,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,4 +82,25 @@ public class DefaultColumnWorkflowTest {
         verify(converter).toColumn(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowBatchWorkflow() {
+        UnaryOperator<List<ColumnEntity>> action = t -> t;
+        List<String> entities = subject.batchFlow(Arrays.asList("entity", "entity2"), action);
+
+        assertEquals(2, entities.size());
+        verify(columnEventPersistManager, times(2)).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePreColumnEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePostColumnEntity(any(String.class));
+        verify(converter, times(2)).toColumn(any(Object.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenBatchHasNullEntity() {
+        UnaryOperator<List<ColumnEntity>> action = t -> t;
+        subject.batchFlow(Arrays.asList("entity", null), action);
+    }
+
+}
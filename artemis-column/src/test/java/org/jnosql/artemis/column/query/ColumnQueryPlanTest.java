@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.column.query;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(CDIJUnitRunner.class)
+public class ColumnQueryPlanTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Inject
+    private Converters converters;
+
+    private ClassRepresentation classRepresentation;
+
+    @Before
+    public void setUp() {
+        classRepresentation = classRepresentations.get(Person.class);
+    }
+
+    @Test
+    public void shouldReuseThePlanToDifferentArguments() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByName", classRepresentation, converters);
+
+        ColumnQuery query = plan.toQuery(new Object[]{"Ada"});
+        ColumnQuery query2 = plan.toQuery(new Object[]{"Poliana"});
+
+        assertEquals(Column.of("name", "Ada"), query.getCondition().get().getColumn());
+        assertEquals(Column.of("name", "Poliana"), query2.getCondition().get().getColumn());
+    }
+
+    @Test
+    public void shouldBindArgumentsAfterBetween() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByAgeBetweenAndName", classRepresentation, converters);
+        ColumnQuery query = plan.toQuery(new Object[]{10, 20, "Ada"});
+
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals(Condition.AND, condition.getCondition());
+        List<ColumnCondition> conditions = condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(Condition.BETWEEN, conditions.get(0).getCondition());
+        assertEquals(Column.of("age", Arrays.asList(10, 20)), conditions.get(0).getColumn());
+        assertEquals(Condition.EQUALS, conditions.get(1).getCondition());
+        assertEquals(Column.of("name", "Ada"), conditions.get(1).getColumn());
+    }
+
+    @Test
+    public void shouldKeepTheSortsOfThePlan() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByNameOrderByAge", classRepresentation, converters);
+        ColumnQuery query = plan.toQuery(new Object[]{"Ada", Sort.of("name", Sort.SortType.DESC)});
+        ColumnQuery query2 = plan.toQuery(new Object[]{"Ada"});
+
+        assertEquals(Arrays.asList(Sort.of("age", Sort.SortType.ASC), Sort.of("name", Sort.SortType.DESC)),
+                query.getSorts());
+        assertEquals(Arrays.asList(Sort.of("age", Sort.SortType.ASC)), query2.getSorts());
+    }
+
+    @Test
+    public void shouldCreateDeleteQuery() {
+        ColumnQueryPlan plan = ColumnQueryPlan.deleteBy("deleteByName", classRepresentation);
+        ColumnDeleteQuery query = plan.toDeleteQuery(new Object[]{"Ada"});
+        assertEquals("Person", query.getColumnFamily());
+        assertEquals(Column.of("name", "Ada"), query.getCondition().get().getColumn());
+    }
+
+    @Test
+    public void shouldCreateQueryWithoutCondition() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findBy", classRepresentation, converters);
+        assertFalse(plan.toQuery(null).getCondition().isPresent());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenArgumentIsMissing() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByAgeBetween", classRepresentation, converters);
+        plan.toQuery(new Object[]{10});
+    }
+
+    @Test
+    public void shouldBreakTheKeysetTieWithTheId() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByAge", classRepresentation, converters);
+        KeysetPagination pagination = KeysetPagination.of("name", Sort.SortType.DESC, 10).next("Ada", 5L);
+        ColumnQuery query = plan.toQuery(new Object[]{20, pagination});
+
+        assertEquals(Arrays.asList(Sort.of("name", Sort.SortType.DESC), Sort.of("_id", Sort.SortType.DESC)),
+                query.getSorts());
+        List<ColumnCondition> conditions = query.getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(Condition.EQUALS, conditions.get(0).getCondition());
+        ColumnCondition keyset = conditions.get(1);
+        assertEquals(Condition.OR, keyset.getCondition());
+        List<ColumnCondition> after = keyset.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(Condition.LESSER_THAN, after.get(0).getCondition());
+        assertEquals(Column.of("name", "Ada"), after.get(0).getColumn());
+        List<ColumnCondition> tie = after.get(1).getColumn().get(new TypeReference<List<ColumnCondition>>() {
+        });
+        assertEquals(Condition.EQUALS, tie.get(0).getCondition());
+        assertEquals(Column.of("name", "Ada"), tie.get(0).getColumn());
+        assertEquals(Condition.LESSER_THAN, tie.get(1).getCondition());
+        assertEquals(Column.of("_id", 5L), tie.get(1).getColumn());
+    }
+
+    @Test
+    public void shouldConvertTheKeysetCursor() {
+        ColumnQueryPlan plan = ColumnQueryPlan.findBy("findByName", classRepresentations.get(Worker.class), converters);
+        Money money = new Money("USD", BigDecimal.TEN);
+        ColumnQuery query = plan.toQuery(new Object[]{"Ada", KeysetPagination.of("salary", 10).next(money)});
+
+        assertEquals(Sort.of("money", Sort.SortType.ASC), query.getSorts().get(0));
+        List<ColumnCondition> conditions = query.getCondition().get().getColumn()
+                .get(new TypeReference<List<ColumnCondition>>() {
+                });
+        assertEquals(Condition.GREATER_THAN, conditions.get(1).getCondition());
+        assertEquals(Column.of("money", money.toString()), conditions.get(1).getColumn());
+    }
+}
@@ -47,6 +47,10 @@ public class ColumnRepositoryExtensionTest {
     @Database(value = DatabaseType.COLUMN, provider = "columnRepositoryMock")
     private PersonRepositoryAsync repositoryMockAsync;
 
+    @Inject
+    @Database(value = DatabaseType.COLUMN, provider = "columnSyncMock")
+    private PersonRepositoryAsync repositorySyncAsync;
+
     @Test
     public void shouldIniciateAsync() {
         assertNotNull(repositoryAsync);
@@ -72,4 +76,10 @@ public class ColumnRepositoryExtensionTest {
         Person person = repositoryMock.save(Person.builder().build());
         assertEquals("columnRepositoryMock", person.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSaveAsyncWhenThereIsJustSynchronousManager() {
+        Person person = repositorySyncAsync.saveAsync(Person.builder().build()).toCompletableFuture().join();
+        assertEquals("columnSyncMock", person.getName());
+    }
+}
@@ -45,6 +45,10 @@ public class ColumnFamilyProducerExtensionTest {
     @Inject
     private ColumnTemplateAsync managerAsync;
 
+    @Inject
+    @Database(value = DatabaseType.COLUMN, provider = "columnSyncMock")
+    private ColumnTemplateAsync managerSyncAsync;
+
     @Test
     public void shouldInstance() {
         Assert.assertNotNull(manager);
@@ -65,4 +69,10 @@ public class ColumnFamilyProducerExtensionTest {
         managerAsync.insert(Person.builder().build());
         managerMockAsync.insert(Person.builder().build());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSaveAsyncWhenThereIsJustSynchronousManager() {
+        Person person = managerSyncAsync.insertAsync(Person.builder().build()).toCompletableFuture().join();
+        assertEquals("columnSyncMock", person.getName());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.configuration;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.ConfigurationUnit;
+import org.jnosql.artemis.cache.QueryCache;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(CDIJUnitRunner.class)
+public class QueryCacheProducerTest {
+
+    @Inject
+    @ConfigurationUnit(fileName = "query-cache.json", name = "name")
+    private QueryCache queryCache;
+
+    @Inject
+    @ConfigurationUnit(fileName = "query-cache.json", name = "name")
+    private QueryCache sameUnitQueryCache;
+
+    @Inject
+    @ConfigurationUnit(fileName = "query-cache.json", name = "name-2")
+    private QueryCache disabledQueryCache;
+
+    @Test
+    public void shouldCreateFromConfigurationUnit() {
+        assertNotSame(QueryCache.disabled(), queryCache);
+        assertSame(queryCache, sameUnitQueryCache);
+    }
+
+    @Test
+    public void shouldReturnDisabledWhenThereIsNotSize() {
+        assertSame(QueryCache.disabled(), disabledQueryCache);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defines that the entity is kept at the second-level cache, so the find by id from the templates and
+ * the repositories read it from memory instead of the database. The cache is invalidated by the insert,
+ * update and delete from the template. The cache is bounded by {@link Cacheable#maxSize()}, once it's
+ * full a new entity only replaces the least recently used one when it's requested more often. The cached
+ * instance is shared by the finds, so it should be treated as read-only.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * @return the maximum number of entities in the cache
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return the time an entity lives in the cache since it was put, a value lesser or equals than zero
+     * means it does not expire
+     */
+    long ttl() default 0;
+
+    /**
+     * @return the {@link Cacheable#ttl()} unit
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+class DefaultKeysetPage<T> implements KeysetPage<T> {
+
+    private final List<T> content;
+
+    private final KeysetPagination pagination;
+
+    private final Optional<KeysetPagination> next;
+
+    DefaultKeysetPage(List<T> content, KeysetPagination pagination, Function<? super T, ?> keyReader,
+                      Function<? super T, ?> idReader) {
+        requireNonNull(content, "content is required");
+        this.pagination = requireNonNull(pagination, "pagination is required");
+        requireNonNull(keyReader, "keyReader is required");
+        this.content = Collections.unmodifiableList(content);
+        if (content.isEmpty() || content.size() < pagination.getMaxResults()) {
+            this.next = Optional.empty();
+        } else {
+            T last = content.get(content.size() - 1);
+            Object lastKey = keyReader.apply(last);
+            Object lastId = idReader == null ? null : idReader.apply(last);
+            if (lastKey == null) {
+                this.next = Optional.empty();
+            } else {
+                this.next = Optional.of(lastId == null ? pagination.next(lastKey) : pagination.next(lastKey, lastId));
+            }
+        }
+    }
+
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public KeysetPagination getPagination() {
+        return pagination;
+    }
+
+    @Override
+    public Optional<KeysetPagination> next() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultKeysetPage{");
+        sb.append("content=").append(content);
+        sb.append(", pagination=").append(pagination);
+        sb.append(", next=").append(next);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.diana.api.Sort;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+class DefaultKeysetPagination implements KeysetPagination {
+
+    private final String key;
+
+    private final Sort.SortType type;
+
+    private final Object lastKey;
+
+    private final Object lastId;
+
+    private final long maxResults;
+
+    DefaultKeysetPagination(String key, Sort.SortType type, Object lastKey, Object lastId, long maxResults) {
+        this.key = requireNonNull(key, "key is required");
+        this.type = requireNonNull(type, "type is required");
+        if (maxResults <= 0) {
+            throw new IllegalArgumentException("maxResults must be greater than zero");
+        }
+        this.lastKey = lastKey;
+        this.lastId = lastId;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public Sort.SortType getType() {
+        return type;
+    }
+
+    @Override
+    public Optional<Object> getLastKey() {
+        return Optional.ofNullable(lastKey);
+    }
+
+    @Override
+    public Optional<Object> getLastId() {
+        return Optional.ofNullable(lastId);
+    }
+
+    @Override
+    public long getMaxResults() {
+        return maxResults;
+    }
+
+    @Override
+    public KeysetPagination next(Object lastKey) {
+        requireNonNull(lastKey, "lastKey is required");
+        return new DefaultKeysetPagination(key, type, lastKey, null, maxResults);
+    }
+
+    @Override
+    public KeysetPagination next(Object lastKey, Object lastId) {
+        requireNonNull(lastKey, "lastKey is required");
+        requireNonNull(lastId, "lastId is required");
+        return new DefaultKeysetPagination(key, type, lastKey, lastId, maxResults);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetPagination)) {
+            return false;
+        }
+        KeysetPagination that = (KeysetPagination) o;
+        return maxResults == that.getMaxResults() &&
+                key.equals(that.getKey()) &&
+                type == that.getType() &&
+                Objects.equals(getLastKey(), that.getLastKey()) &&
+                Objects.equals(getLastId(), that.getLastId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, type, lastKey, lastId, maxResults);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultKeysetPagination{");
+        sb.append("key='").append(key).append('\'');
+        sb.append(", type=").append(type);
+        sb.append(", lastKey=").append(lastKey);
+        sb.append(", lastId=").append(lastId);
+        sb.append(", maxResults=").append(maxResults);
+        sb.append('}');
+        return sb.toString();
+    }
+}
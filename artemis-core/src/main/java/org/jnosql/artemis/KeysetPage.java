@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A page read with {@link KeysetPagination}, it carries the pagination to the next page.
+ *
+ * @param <T> the entity type
+ */
+public interface KeysetPage<T> {
+
+    /**
+     * Returns the entities of the page
+     *
+     * @return the entities
+     */
+    List<T> getContent();
+
+    /**
+     * Returns the pagination used to read this page
+     *
+     * @return the pagination
+     */
+    KeysetPagination getPagination();
+
+    /**
+     * Returns the pagination to the next page, after the key of the last entity of this page
+     *
+     * @return the next pagination or {@link Optional#empty()} when this page is not full, so it's the last one
+     */
+    Optional<KeysetPagination> next();
+
+    /**
+     * Creates a page
+     *
+     * @param content    the entities
+     * @param pagination the pagination used to read the entities
+     * @param keyReader  the function that reads the key of an entity
+     * @param <T>        the entity type
+     * @return the page instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    static <T> KeysetPage<T> of(List<T> content, KeysetPagination pagination, Function<? super T, ?> keyReader)
+            throws NullPointerException {
+        return new DefaultKeysetPage<>(content, pagination, keyReader, null);
+    }
+
+    /**
+     * Creates a page whose next pagination keeps the id of the last entity as tie-breaker
+     *
+     * @param content    the entities
+     * @param pagination the pagination used to read the entities
+     * @param keyReader  the function that reads the key of an entity
+     * @param idReader   the function that reads the id of an entity
+     * @param <T>        the entity type
+     * @return the page instance
+     * @throws NullPointerException when there is a null parameter
+     * @see KeysetPagination#next(Object, Object)
+     */
+    static <T> KeysetPage<T> of(List<T> content, KeysetPagination pagination, Function<? super T, ?> keyReader,
+                                Function<? super T, ?> idReader) throws NullPointerException {
+        Objects.requireNonNull(idReader, "idReader is required");
+        return new DefaultKeysetPage<>(content, pagination, keyReader, idReader);
+    }
+}
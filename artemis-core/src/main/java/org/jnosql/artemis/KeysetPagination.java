@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.diana.api.Sort;
+
+import java.util.Optional;
+
+/**
+ * The keyset pagination, instead of skipping the first results it reads the entities whose key comes after
+ * the last key seen. Each page is a query with a condition on the key and a limit, so reading a deep page
+ * costs the same as reading the first one. When the key is not the id, the id is the second sort and
+ * the cursor keeps the last id too, so the entities that share the last key are not skipped.
+ * A repository method takes it as parameter and returns a {@link KeysetPage}.
+ */
+public interface KeysetPagination {
+
+    /**
+     * Returns the java field name of the key, the query is sorted by it
+     *
+     * @return the key field name
+     */
+    String getKey();
+
+    /**
+     * Returns the sort of the key
+     *
+     * @return the sort type
+     */
+    Sort.SortType getType();
+
+    /**
+     * Returns the last key seen, the page has the entities after it
+     *
+     * @return the last key or {@link Optional#empty()} to the first page
+     */
+    Optional<Object> getLastKey();
+
+    /**
+     * Returns the id of the last entity seen, the tie-breaker when the key is not the id
+     *
+     * @return the last id or {@link Optional#empty()} when there is no tie-breaker
+     */
+    Optional<Object> getLastId();
+
+    /**
+     * Returns the max number of entities at the page
+     *
+     * @return the limit to be used in a query
+     */
+    long getMaxResults();
+
+    /**
+     * Returns the pagination to the page after the key
+     *
+     * @param lastKey the last key seen
+     * @return the next pagination
+     * @throws NullPointerException when lastKey is null
+     */
+    KeysetPagination next(Object lastKey) throws NullPointerException;
+
+    /**
+     * Returns the pagination to the page after the key and the id, the id breaks the tie between the
+     * entities that share the key
+     *
+     * @param lastKey the last key seen
+     * @param lastId  the id of the last entity seen
+     * @return the next pagination
+     * @throws NullPointerException when there is a null parameter
+     */
+    KeysetPagination next(Object lastKey, Object lastId) throws NullPointerException;
+
+    /**
+     * Creates the pagination to the first page sorted ascending by the key
+     *
+     * @param key        the java field name of the key
+     * @param maxResults the max number of entities at each page
+     * @return the pagination instance
+     * @throws NullPointerException     when key is null
+     * @throws IllegalArgumentException when maxResults is not positive
+     */
+    static KeysetPagination of(String key, long maxResults) throws NullPointerException, IllegalArgumentException {
+        return of(key, Sort.SortType.ASC, maxResults);
+    }
+
+    /**
+     * Creates the pagination to the first page
+     *
+     * @param key        the java field name of the key
+     * @param type       the sort of the key
+     * @param maxResults the max number of entities at each page
+     * @return the pagination instance
+     * @throws NullPointerException     when either key or type is null
+     * @throws IllegalArgumentException when maxResults is not positive
+     */
+    static KeysetPagination of(String key, Sort.SortType type, long maxResults)
+            throws NullPointerException, IllegalArgumentException {
+        return new DefaultKeysetPagination(key, type, null, null, maxResults);
+    }
+}
@@ -18,6 +18,7 @@ package org.jnosql.artemis;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -92,5 +93,43 @@ public interface RepositoryAsync<T, ID> {
      * @throws NullPointerException when id is null
      */
     void existsById(ID id, Consumer<Boolean> callBack) throws NullPointerException;
-}
 
+    /**
+     * Saves an entity asynchronously, the stage is completed with the entity saved or exceptionally
+     * when the save fails
+     *
+     * @param entity entity to be saved
+     * @param <S>    the entity type
+     * @return the stage of the save
+     * @throws NullPointerException when entity is null
+     */
+    <S extends T> CompletionStage<S> saveAsync(S entity) throws NullPointerException;
+
+    /**
+     * Deletes the entity with the given id asynchronously, the stage is completed when the database
+     * confirms the delete or exceptionally when the delete fails
+     *
+     * @param id the id
+     * @return the stage of the delete
+     * @throws NullPointerException when id is null
+     */
+    CompletionStage<Void> deleteByIdAsync(ID id) throws NullPointerException;
+
+    /**
+     * Finds an entity given the id asynchronously
+     *
+     * @param id the id
+     * @return the stage of the entity found or {@link Optional#empty()}
+     * @throws NullPointerException when id is null
+     */
+    CompletionStage<Optional<T>> findByIdAsync(ID id) throws NullPointerException;
+
+    /**
+     * Returns asynchronously whether an entity with the given id exists.
+     *
+     * @param id the id
+     * @return the stage of the existence check
+     * @throws NullPointerException when id is null
+     */
+    CompletionStage<Boolean> existsByIdAsync(ID id) throws NullPointerException;
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the counters of an entity cache
+ */
+public final class CacheStatistics {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final int size;
+
+    CacheStatistics(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of lookups that found the entity
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups that did not find the entity
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entities removed either because the cache was full or they had expired
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of entities at the cache
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the ratio of hits by the lookups, zero when there is no lookup
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        if (requests == 0L) {
+            return 0D;
+        }
+        return (double) hits / requests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CacheStatistics)) {
+            return false;
+        }
+        CacheStatistics that = (CacheStatistics) o;
+        return hits == that.hits &&
+                misses == that.misses &&
+                evictions == that.evictions &&
+                size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, evictions, size);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CacheStatistics{");
+        sb.append("hits=").append(hits);
+        sb.append(", misses=").append(misses);
+        sb.append(", evictions=").append(evictions);
+        sb.append(", size=").append(size);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link EntityCache}, it keeps a {@link FrequencyCache} to each entity class
+ * with {@link org.jnosql.artemis.Cacheable}, created at the first use. The id is compared by its text, so a long and an int id
+ * with the same value are the same key. Each entity class has a write generation, as {@link DefaultQueryCache} does
+ * to each name: an evict increments it before removing the values, and a put checks it again after keeping
+ * the value, so a value loaded before a write never outlives that write.
+ */
+@ApplicationScoped
+class DefaultEntityCache implements EntityCache {
+
+    private final Map<Class<?>, Optional<FrequencyCache>> caches = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Override
+    public boolean isCacheable(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getCache(entityClass).isPresent();
+    }
+
+    @Override
+    public Optional<Object> get(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return getCache(entityClass).map(c -> c.get(key(id)));
+    }
+
+    @Override
+    public long getGeneration(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getGenerationCounter(entityClass).get();
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Object id, Object value, long generation) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(value, "value is required");
+        Optional<FrequencyCache> cache = getCache(entityClass);
+        if (!cache.isPresent()) {
+            return;
+        }
+        AtomicLong current = getGenerationCounter(entityClass);
+        if (current.get() != generation) {
+            return;
+        }
+        Object key = key(id);
+        cache.get().put(key, value);
+        if (current.get() != generation) {
+            cache.get().remove(key);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        Optional<FrequencyCache> cache = getCache(entityClass);
+        if (cache.isPresent()) {
+            getGenerationCounter(entityClass).incrementAndGet();
+            cache.get().remove(key(id));
+        }
+    }
+
+    @Override
+    public void evictAll(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        Optional<FrequencyCache> cache = getCache(entityClass);
+        if (cache.isPresent()) {
+            getGenerationCounter(entityClass).incrementAndGet();
+            cache.get().clear();
+        }
+    }
+
+    @Override
+    public void evictAll(String entityName) {
+        requireNonNull(entityName, "entityName is required");
+        for (Map.Entry<Class<?>, Optional<FrequencyCache>> entry : caches.entrySet()) {
+            if (entry.getValue().isPresent()
+                    && classRepresentations.get(entry.getKey()).getName().equalsIgnoreCase(entityName)) {
+                getGenerationCounter(entry.getKey()).incrementAndGet();
+                entry.getValue().get().clear();
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return getCache(entityClass).map(FrequencyCache::getStatistics)
+                .orElseGet(() -> DisabledEntityCache.INSTANCE.getStatistics(entityClass));
+    }
+
+    private Optional<FrequencyCache> getCache(Class<?> entityClass) {
+        return caches.computeIfAbsent(entityClass, this::createCache);
+    }
+
+    private AtomicLong getGenerationCounter(Class<?> entityClass) {
+        return generations.computeIfAbsent(entityClass, k -> new AtomicLong());
+    }
+
+    private Optional<FrequencyCache> createCache(Class<?> entityClass) {
+        ClassRepresentation representation = classRepresentations.get(entityClass);
+        return representation.getCacheable()
+                .map(c -> new FrequencyCache(c.maxSize(), c.ttl(), c.unit()));
+    }
+
+    private static Object key(Object id) {
+        return id.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultEntityCache{");
+        sb.append("caches=").append(caches.keySet());
+        sb.append('}');
+        return sb.toString();
+    }
+}
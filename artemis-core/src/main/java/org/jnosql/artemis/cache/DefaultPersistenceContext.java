@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link PersistenceContext}, it keeps a map to each entity class and compares
+ * the id by its text, as {@link DefaultEntityCache} does.
+ */
+final class DefaultPersistenceContext implements PersistenceContext {
+
+    private static final ThreadLocal<DefaultPersistenceContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, Map<String, Object>> entities = new HashMap<>();
+
+    private final Map<Class<?>, Map<String, Object>> snapshots = new HashMap<>();
+
+    private volatile boolean closed;
+
+    private DefaultPersistenceContext() {
+    }
+
+    static PersistenceContext open() {
+        if (bound() != null) {
+            throw new IllegalStateException("There is a persistence context open at this thread");
+        }
+        DefaultPersistenceContext context = new DefaultPersistenceContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static Optional<PersistenceContext> current() {
+        return Optional.ofNullable(bound());
+    }
+
+    /**
+     * A context closed from another thread, e.g. the CDI request context destroyed out of the thread that
+     * started it, is unbound here, by its own thread.
+     */
+    private static DefaultPersistenceContext bound() {
+        DefaultPersistenceContext context = CURRENT.get();
+        if (context != null && context.closed) {
+            CURRENT.remove();
+            return null;
+        }
+        return context;
+    }
+
+    @Override
+    public <T> Optional<T> find(Class<T> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        Map<String, Object> instances = entities.get(entityClass);
+        if (instances == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityClass.cast(instances.get(id.toString())));
+    }
+
+    @Override
+    public <T> T manage(Class<T> entityClass, Object id, T entity) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(entity, "entity is required");
+        Object managed = entities.computeIfAbsent(entityClass, k -> new HashMap<>())
+                .putIfAbsent(id.toString(), entity);
+        return managed == null ? entity : entityClass.cast(managed);
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Object id, Object entity) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(entity, "entity is required");
+        entities.computeIfAbsent(entityClass, k -> new HashMap<>()).put(id.toString(), entity);
+    }
+
+    @Override
+    public void snapshot(Class<?> entityClass, Object id, Object snapshot) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(snapshot, "snapshot is required");
+        snapshots.computeIfAbsent(entityClass, k -> new HashMap<>()).put(id.toString(), snapshot);
+    }
+
+    @Override
+    public Optional<Object> getSnapshot(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        Map<String, Object> values = snapshots.get(entityClass);
+        if (values == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(values.get(id.toString()));
+    }
+
+    @Override
+    public void remove(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        String key = id.toString();
+        Optional.ofNullable(entities.get(entityClass)).ifPresent(m -> m.remove(key));
+        Optional.ofNullable(snapshots.get(entityClass)).ifPresent(m -> m.remove(key));
+    }
+
+    @Override
+    public void removeKey(Object key) {
+        requireNonNull(key, "key is required");
+        String text = key.toString();
+        entities.values().forEach(m -> m.remove(text));
+        snapshots.values().forEach(m -> m.remove(text));
+    }
+
+    @Override
+    public void clear(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        entities.remove(entityClass);
+        snapshots.remove(entityClass);
+    }
+
+    @Override
+    public void clear() {
+        entities.clear();
+        snapshots.clear();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (CURRENT.get() == this) {
+            clear();
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultPersistenceContext{" + "entities=" + entities.keySet() + '}';
+    }
+}
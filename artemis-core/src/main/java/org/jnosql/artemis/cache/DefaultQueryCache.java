@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link QueryCache}. Each name has a generation that a write increments,
+ * a result is only valid to the generation it was loaded, so the invalidation does not need to look for
+ * the results of the name, the stale ones leave the {@link FrequencyCache} as the least recently used.
+ */
+final class DefaultQueryCache implements QueryCache {
+
+    private final FrequencyCache cache;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    DefaultQueryCache(int maxSize, Duration ttl) {
+        this.cache = new FrequencyCache(maxSize, ttl.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> List<T> get(String name, Object key, Supplier<List<T>> loader) {
+        requireNonNull(name, "name is required");
+        requireNonNull(key, "key is required");
+        requireNonNull(loader, "loader is required");
+
+        AtomicLong generation = generations.computeIfAbsent(name, n -> new AtomicLong());
+        long current = generation.get();
+        QueryKey queryKey = new QueryKey(name, key);
+        Result result = (Result) cache.get(queryKey);
+        if (result != null && result.generation == current) {
+            hits.increment();
+            return new ArrayList<>((List<T>) result.entities);
+        }
+        misses.increment();
+        List<T> entities = loader.get();
+        if (generation.get() == current) {
+            cache.put(queryKey, new Result(current, Collections.unmodifiableList(new ArrayList<>(entities))));
+        }
+        return entities;
+    }
+
+    @Override
+    public void evict(String name) {
+        requireNonNull(name, "name is required");
+        generations.computeIfAbsent(name, n -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        CacheStatistics statistics = cache.getStatistics();
+        return new CacheStatistics(hits.sum(), misses.sum(), statistics.getEvictions(), statistics.getSize());
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultQueryCache{" + getStatistics() + '}';
+    }
+
+    private static final class QueryKey {
+
+        private final String name;
+
+        private final Object key;
+
+        private QueryKey(String name, Object key) {
+            this.name = name;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey that = (QueryKey) o;
+            return name.equals(that.name) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, key);
+        }
+    }
+
+    private static final class Result {
+
+        private final long generation;
+
+        private final List<?> entities;
+
+        private Result(long generation, List<?> entities) {
+            this.generation = generation;
+            this.entities = entities;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+enum DisabledEntityCache implements EntityCache {
+
+    INSTANCE;
+
+    private static final CacheStatistics EMPTY = new CacheStatistics(0L, 0L, 0L, 0);
+
+    @Override
+    public boolean isCacheable(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return false;
+    }
+
+    @Override
+    public Optional<Object> get(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return Optional.empty();
+    }
+
+    @Override
+    public long getGeneration(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return 0L;
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Object id, Object value, long generation) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(value, "value is required");
+    }
+
+    @Override
+    public void evict(Class<?> entityClass, Object id) {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+    }
+
+    @Override
+    public void evictAll(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+    }
+
+    @Override
+    public void evictAll(String entityName) {
+        requireNonNull(entityName, "entityName is required");
+    }
+
+    @Override
+    public CacheStatistics getStatistics(Class<?> entityClass) {
+        requireNonNull(entityClass, "entityClass is required");
+        return EMPTY;
+    }
+}
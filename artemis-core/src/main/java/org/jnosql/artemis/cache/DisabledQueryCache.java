@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+enum DisabledQueryCache implements QueryCache {
+
+    INSTANCE;
+
+    private static final CacheStatistics EMPTY = new CacheStatistics(0L, 0L, 0L, 0);
+
+    @Override
+    public <T> List<T> get(String name, Object key, Supplier<List<T>> loader) {
+        requireNonNull(name, "name is required");
+        requireNonNull(key, "key is required");
+        requireNonNull(loader, "loader is required");
+        return loader.get();
+    }
+
+    @Override
+    public void evict(String name) {
+        requireNonNull(name, "name is required");
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return EMPTY;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.Optional;
+
+/**
+ * The second-level cache of the entities, keyed by the entity class and the id. Only the entities annotated
+ * with {@link org.jnosql.artemis.Cacheable} are kept, to the other ones every operation is a no-op.
+ * The templates keep the entity as the database returns it, a {@code ColumnEntity} or a {@code DocumentEntity},
+ * and map a new instance at each hit, so the callers never share an instance.
+ * A value is put with the write generation read before loading it, when a write on the entity class happens
+ * meanwhile the value is not kept, otherwise a stale value could be put back after the write evicted it.
+ */
+public interface EntityCache {
+
+    /**
+     * Checks if the entity class is kept at the cache
+     *
+     * @param entityClass the entity class
+     * @return true if the entity has {@link org.jnosql.artemis.Cacheable}
+     * @throws NullPointerException when entityClass is null
+     */
+    boolean isCacheable(Class<?> entityClass) throws NullPointerException;
+
+    /**
+     * Returns the value of the entity from the cache
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @return the value or {@link Optional#empty()} when it's not cached or it has expired
+     * @throws NullPointerException when either entityClass or id is null
+     */
+    Optional<Object> get(Class<?> entityClass, Object id) throws NullPointerException;
+
+    /**
+     * Returns the write generation of the entity class, each evict increments it. It must be read before
+     * loading the value given to {@link EntityCache#put(Class, Object, Object, long)}.
+     *
+     * @param entityClass the entity class
+     * @return the write generation
+     * @throws NullPointerException when entityClass is null
+     */
+    long getGeneration(Class<?> entityClass) throws NullPointerException;
+
+    /**
+     * Puts the value of the entity at the cache, it's ignored when there was a write on the entity class
+     * after the generation was read. It might be rejected when the cache is full and the entity is requested
+     * less often than the one it would replace
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @param value       the value of the entity
+     * @param generation  the write generation read before loading the value
+     * @throws NullPointerException when there is a null parameter
+     */
+    void put(Class<?> entityClass, Object id, Object value, long generation) throws NullPointerException;
+
+    /**
+     * Removes the entity from the cache
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @throws NullPointerException when either entityClass or id is null
+     */
+    void evict(Class<?> entityClass, Object id) throws NullPointerException;
+
+    /**
+     * Removes all the entities from the entity class
+     *
+     * @param entityClass the entity class
+     * @throws NullPointerException when entityClass is null
+     */
+    void evictAll(Class<?> entityClass) throws NullPointerException;
+
+    /**
+     * Removes all the entities with the entity name, {@link org.jnosql.artemis.Entity#value()}
+     *
+     * @param entityName the entity name
+     * @throws NullPointerException when entityName is null
+     */
+    void evictAll(String entityName) throws NullPointerException;
+
+    /**
+     * Returns the statistics of the entity class cache
+     *
+     * @param entityClass the entity class
+     * @return the {@link CacheStatistics}, when the entity is not cacheable all the values are zero
+     * @throws NullPointerException when entityClass is null
+     */
+    CacheStatistics getStatistics(Class<?> entityClass) throws NullPointerException;
+
+    /**
+     * Returns a {@link EntityCache} that does not keep any entity
+     *
+     * @return a disabled {@link EntityCache}
+     */
+    static EntityCache disabled() {
+        return DisabledEntityCache.INSTANCE;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A size-bounded cache of a single entity class. The entries are kept in the least recently used order,
+ * when the cache is full a new entry only replaces the least recently used one when the {@link FrequencySketch}
+ * says it's requested more often, so a scan of entities read once does not flush the popular ones.
+ * An entry expires after the time to live since it was put.
+ */
+final class FrequencyCache {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final LongSupplier clock;
+
+    private final FrequencySketch sketch;
+
+    private final Map<Object, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    FrequencyCache(int maxSize, long ttl, TimeUnit unit) {
+        this(maxSize, ttl, unit, System::nanoTime);
+    }
+
+    FrequencyCache(int maxSize, long ttl, TimeUnit unit, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The cache max size must be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.ttl = ttl > 0 ? unit.toNanos(ttl) : 0L;
+        this.clock = clock;
+        this.sketch = new FrequencySketch(maxSize);
+        this.entries = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    synchronized Object get(Object key) {
+        sketch.increment(key);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    synchronized void put(Object key, Object value) {
+        Entry entry = new Entry(value, expiration());
+        if (entries.containsKey(key) || entries.size() < maxSize) {
+            entries.put(key, entry);
+            return;
+        }
+        Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+        Map.Entry<Object, Entry> victim = iterator.next();
+        if (isExpired(victim.getValue()) || sketch.frequency(key) > sketch.frequency(victim.getKey())) {
+            iterator.remove();
+            evictions.increment();
+            entries.put(key, entry);
+        }
+    }
+
+    synchronized void remove(Object key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private long expiration() {
+        return ttl == 0L ? 0L : clock.getAsLong() + ttl;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return entry.expiration != 0L && clock.getAsLong() - entry.expiration >= 0L;
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long expiration;
+
+        private Entry(Object value, long expiration) {
+            this.value = value;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import java.util.Optional;
+
+/**
+ * The unit of work identity map, while it's open at the thread the templates return the same instance to
+ * the same entity class and id, so repeated reads neither go to the database nor map the entity again.
+ * The writes from the templates update it. It's opened either explicitly:
+ * <pre>
+ * try (PersistenceContext context = PersistenceContext.open()) {
+ *     ...
+ * }
+ * </pre>
+ * or at each CDI request when the system property {@link PersistenceContext#REQUEST_PROPERTY} is true.
+ * It's not thread-safe, it belongs to a single thread.
+ */
+public interface PersistenceContext extends AutoCloseable {
+
+    /**
+     * The system property that opens a {@link PersistenceContext} at each CDI request context, the default is false.
+     */
+    String REQUEST_PROPERTY = "org.jnosql.artemis.persistence.context.request";
+
+    /**
+     * Returns the managed instance
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @param <T>         the entity type
+     * @return the instance or {@link Optional#empty()} when it's not managed
+     * @throws NullPointerException when either entityClass or id is null
+     */
+    <T> Optional<T> find(Class<T> entityClass, Object id) throws NullPointerException;
+
+    /**
+     * Returns the managed instance, when there is none the entity becomes the managed one
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @param entity      the entity
+     * @param <T>         the entity type
+     * @return the managed instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    <T> T manage(Class<T> entityClass, Object id, T entity) throws NullPointerException;
+
+    /**
+     * Defines the entity as the managed instance, replacing the previous one
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @param entity      the entity
+     * @throws NullPointerException when there is a null parameter
+     */
+    void put(Class<?> entityClass, Object id, Object entity) throws NullPointerException;
+
+    /**
+     * Keeps the snapshot of the values loaded to the managed instance, the templates compare it
+     * to send only the changed values at the update.
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @param snapshot    the snapshot
+     * @throws NullPointerException when there is a null parameter
+     */
+    void snapshot(Class<?> entityClass, Object id, Object snapshot) throws NullPointerException;
+
+    /**
+     * Returns the snapshot of the values loaded to the managed instance
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @return the snapshot or {@link Optional#empty()} when there is none
+     * @throws NullPointerException when either entityClass or id is null
+     */
+    Optional<Object> getSnapshot(Class<?> entityClass, Object id) throws NullPointerException;
+
+    /**
+     * Removes the instance and the snapshot of the entity class and id
+     *
+     * @param entityClass the entity class
+     * @param id          the id
+     * @throws NullPointerException when either entityClass or id is null
+     */
+    void remove(Class<?> entityClass, Object id) throws NullPointerException;
+
+    /**
+     * Removes the instances and the snapshots of the key from all the entity classes. It's to the key-value
+     * templates, where a key identifies a single value whatever the class that reads it.
+     *
+     * @param key the key
+     * @throws NullPointerException when key is null
+     */
+    void removeKey(Object key) throws NullPointerException;
+
+    /**
+     * Removes all the instances and snapshots of the entity class
+     *
+     * @param entityClass the entity class
+     * @throws NullPointerException when entityClass is null
+     */
+    void clear(Class<?> entityClass) throws NullPointerException;
+
+    /**
+     * Removes all the instances and snapshots
+     */
+    void clear();
+
+    /**
+     * Closes the context and unbinds it from the thread
+     */
+    @Override
+    void close();
+
+    /**
+     * Opens a {@link PersistenceContext} and binds it to the current thread
+     *
+     * @return the new {@link PersistenceContext}
+     * @throws IllegalStateException when there is a {@link PersistenceContext} open at the thread
+     */
+    static PersistenceContext open() throws IllegalStateException {
+        return DefaultPersistenceContext.open();
+    }
+
+    /**
+     * Returns the {@link PersistenceContext} open at the current thread
+     *
+     * @return the {@link PersistenceContext} or {@link Optional#empty()} when there is none
+     */
+    static Optional<PersistenceContext> current() {
+        return DefaultPersistenceContext.current();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import org.jnosql.diana.api.Settings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The cache of the query results, keyed by the column family or document collection name and the query.
+ * A write on a name invalidates all the results from it. The templates keep the entities as the database
+ * returns them and map new instances on every hit, so the cached results are never handed to the caller.
+ */
+public interface QueryCache {
+
+    /**
+     * The setting of the {@link org.jnosql.artemis.ConfigurationUnit} with the maximum number of query
+     * results kept at the cache, when it's absent or lesser or equals than zero the cache is disabled.
+     */
+    String SIZE_PROPERTY = "org.jnosql.artemis.query.cache.size";
+
+    /**
+     * The setting of the {@link org.jnosql.artemis.ConfigurationUnit} with the seconds that a query result lives
+     * at the cache, when it's absent or lesser or equals than zero the result does not expire.
+     */
+    String TTL_PROPERTY = "org.jnosql.artemis.query.cache.ttl";
+
+    /**
+     * Returns the query result from the cache, otherwise loads it and keeps it at the cache
+     *
+     * @param name   the column family or the document collection name
+     * @param key    the query key, it must implement equals and hashCode
+     * @param loader the query execution
+     * @param <T>    the entity type
+     * @return the query result
+     * @throws NullPointerException when there is a null parameter
+     */
+    <T> List<T> get(String name, Object key, Supplier<List<T>> loader) throws NullPointerException;
+
+    /**
+     * Invalidates all the query results from the name
+     *
+     * @param name the column family or the document collection name
+     * @throws NullPointerException when name is null
+     */
+    void evict(String name) throws NullPointerException;
+
+    /**
+     * @return the statistics of the cache
+     */
+    CacheStatistics getStatistics();
+
+    /**
+     * Creates a {@link QueryCache}
+     *
+     * @param maxSize the maximum number of query results
+     * @param ttl     the time a query result lives at the cache, {@link Duration#ZERO} means it does not expire
+     * @return a new {@link QueryCache}
+     * @throws NullPointerException     when ttl is null
+     * @throws IllegalArgumentException when maxSize is lesser or equals than zero
+     */
+    static QueryCache of(int maxSize, Duration ttl) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(ttl, "ttl is required");
+        return new DefaultQueryCache(maxSize, ttl);
+    }
+
+    /**
+     * Creates a {@link QueryCache} from the {@link QueryCache#SIZE_PROPERTY} and {@link QueryCache#TTL_PROPERTY}
+     * settings
+     *
+     * @param settings the settings
+     * @return a new {@link QueryCache} or the disabled one when there is no size
+     * @throws NullPointerException  when settings is null
+     * @throws NumberFormatException when a setting is not a number
+     */
+    static QueryCache of(Settings settings) throws NullPointerException, NumberFormatException {
+        requireNonNull(settings, "settings is required");
+        Object size = settings.get(SIZE_PROPERTY);
+        Object ttl = settings.get(TTL_PROPERTY);
+        int maxSize = size == null ? 0 : Integer.parseInt(size.toString());
+        long seconds = ttl == null ? 0L : Long.parseLong(ttl.toString());
+        if (maxSize <= 0) {
+            return disabled();
+        }
+        return of(maxSize, Duration.ofSeconds(Math.max(0L, seconds)));
+    }
+
+    /**
+     * Returns a {@link QueryCache} that always runs the query
+     *
+     * @return a disabled {@link QueryCache}
+     */
+    static QueryCache disabled() {
+        return DisabledQueryCache.INSTANCE;
+    }
+}
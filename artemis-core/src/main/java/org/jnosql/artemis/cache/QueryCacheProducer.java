@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import org.jnosql.artemis.ConfigurationReader;
+import org.jnosql.artemis.ConfigurationSettingsUnit;
+import org.jnosql.artemis.ConfigurationUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The class that creates the {@link QueryCache} from the {@link ConfigurationUnit} settings,
+ * {@link QueryCache#SIZE_PROPERTY} and {@link QueryCache#TTL_PROPERTY}. The injections of the same unit
+ * share the same {@link QueryCache}.
+ */
+@ApplicationScoped
+class QueryCacheProducer {
+
+    private final Map<String, QueryCache> caches = new ConcurrentHashMap<>();
+
+    @Inject
+    private Instance<ConfigurationReader> configurationReader;
+
+    @ConfigurationUnit
+    @Produces
+    public QueryCache getQueryCache(InjectionPoint injectionPoint) {
+        ConfigurationUnit annotation = injectionPoint.getAnnotated().getAnnotation(ConfigurationUnit.class);
+        return caches.computeIfAbsent(annotation.fileName() + ':' + annotation.name(), k -> {
+            ConfigurationSettingsUnit unit = configurationReader.get().read(annotation);
+            return QueryCache.of(unit.getSettings());
+        });
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+/**
+ * Opens a {@link PersistenceContext} when the CDI request context starts and closes it when the request ends,
+ * only when the system property {@link PersistenceContext#REQUEST_PROPERTY} is true. The context is kept by the
+ * request scoped {@link RequestPersistenceContextHolder}, so the request end closes only the context it opened,
+ * never one that the application opened at the thread.
+ */
+@ApplicationScoped
+class RequestPersistenceContext {
+
+    @Inject
+    private RequestPersistenceContextHolder holder;
+
+    void open(@Observes @Initialized(RequestScoped.class) Object event) {
+        if (Boolean.getBoolean(PersistenceContext.REQUEST_PROPERTY)) {
+            holder.open();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.RequestScoped;
+
+/**
+ * Keeps the {@link PersistenceContext} opened to a CDI request and closes that instance when the request
+ * context is destroyed, even when it happens out of the thread that started the request.
+ */
+@RequestScoped
+class RequestPersistenceContextHolder {
+
+    private PersistenceContext context;
+
+    void open() {
+        if (context == null && !PersistenceContext.current().isPresent()) {
+            context = PersistenceContext.open();
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.executor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Factory of the executors that run the synchronous operations of the asynchronous templates. When the runtime
+ * supports virtual threads, it creates a virtual-thread-per-task executor, otherwise a bounded pool of daemon
+ * platform threads, whose size is the {@link AsyncExecutors#THREADS_PROPERTY} and queue size is the
+ * {@link AsyncExecutors#QUEUE_PROPERTY}. When the queue of the pool is full, the pool rejects the task with
+ * {@link java.util.concurrent.RejectedExecutionException}: running it at the caller would block the caller on the
+ * database, which is what an asynchronous template must not do. The templates complete the
+ * {@link java.util.concurrent.CompletionStage} exceptionally, or throw it at the methods that return nothing, so a
+ * burst fails fast; the {@link org.jnosql.artemis.limit.ConcurrencyLimiter} with a max wait is the way to hold it.
+ */
+public final class AsyncExecutors {
+
+    /**
+     * The system property to the number of threads of the bounded pool, by default four times the processors.
+     */
+    public static final String THREADS_PROPERTY = "org.jnosql.artemis.async.threads";
+
+    /**
+     * The system property to the queue size of the bounded pool, by default 1024.
+     */
+    public static final String QUEUE_PROPERTY = "org.jnosql.artemis.async.queue";
+
+    /**
+     * The system property to the number of threads of the callback pool, by default the processors.
+     */
+    public static final String CALLBACK_THREADS_PROPERTY = "org.jnosql.artemis.async.callback.threads";
+
+    /**
+     * The system property to the queue size of the callback pool, by default 8192.
+     */
+    public static final String CALLBACK_QUEUE_PROPERTY = "org.jnosql.artemis.async.callback.queue";
+
+    /**
+     * The system property to the number of threads of the batch pool, by default four times the processors.
+     */
+    public static final String BATCH_THREADS_PROPERTY = "org.jnosql.artemis.batch.threads";
+
+    /**
+     * The system property to the queue size of the batch pool, by default 1024.
+     */
+    public static final String BATCH_QUEUE_PROPERTY = "org.jnosql.artemis.batch.queue";
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncExecutors.class.getName());
+
+    private static final int DEFAULT_QUEUE = 1024;
+
+    private static final int DEFAULT_CALLBACK_QUEUE = 8192;
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Returns the executor shared by the asynchronous templates, it's created at the first call with
+     * {@link AsyncExecutors#newExecutor()} and its threads never block the JVM shutdown.
+     *
+     * @return the shared executor
+     */
+    public static ExecutorService getDefault() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Returns the executor shared by the asynchronous templates to convert the entities and run the user callbacks
+     * when the driver calls back. It's created at the first call with {@link AsyncExecutors#newCallbackExecutor()}
+     * and it's apart from {@link AsyncExecutors#getDefault()}, so the conversion does not wait behind the blocking
+     * database calls.
+     *
+     * @return the shared callback executor
+     */
+    public static ExecutorService getCallbackDefault() {
+        return CallbackExecutor.INSTANCE;
+    }
+
+    /**
+     * Creates a pool of daemon platform threads to the callbacks, whose size is the
+     * {@link AsyncExecutors#CALLBACK_THREADS_PROPERTY} and queue size is the
+     * {@link AsyncExecutors#CALLBACK_QUEUE_PROPERTY}. The conversion uses the processor, so there are no
+     * virtual threads; when the queue is full the task is rejected, it never runs at the driver thread.
+     *
+     * @return a new executor
+     */
+    public static ExecutorService newCallbackExecutor() {
+        int threads = Integer.getInteger(CALLBACK_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        int queue = Integer.getInteger(CALLBACK_QUEUE_PROPERTY, DEFAULT_CALLBACK_QUEUE);
+        return newBoundedExecutor(threads, queue, "jnosql-artemis-callback-");
+    }
+
+    /**
+     * Returns the executor shared by the synchronous templates to send the writes of a batch one by one, in parallel,
+     * when the manager has no bulk operation. It's created at the first call with
+     * {@link AsyncExecutors#newBatchExecutor()} and it's apart from {@link AsyncExecutors#getDefault()}, so a batch
+     * written from an asynchronous operation does not wait for the threads it holds.
+     *
+     * @return the shared batch executor
+     */
+    public static ExecutorService getBatchDefault() {
+        return BatchExecutor.INSTANCE;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the runtime supports it, otherwise a bounded pool of daemon
+     * platform threads, whose size is the {@link AsyncExecutors#BATCH_THREADS_PROPERTY} and queue size is the
+     * {@link AsyncExecutors#BATCH_QUEUE_PROPERTY}.
+     *
+     * @return a new executor
+     */
+    public static ExecutorService newBatchExecutor() {
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        int threads = Integer.getInteger(BATCH_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() * 4);
+        int queue = Integer.getInteger(BATCH_QUEUE_PROPERTY, DEFAULT_QUEUE);
+        return newBoundedExecutor(threads, queue, "jnosql-artemis-batch-");
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the runtime supports it, otherwise a bounded pool.
+     *
+     * @return a new executor
+     */
+    public static ExecutorService newExecutor() {
+        ExecutorService virtualThreads = newVirtualThreadExecutor();
+        if (virtualThreads != null) {
+            return virtualThreads;
+        }
+        int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() * 4);
+        int queue = Integer.getInteger(QUEUE_PROPERTY, DEFAULT_QUEUE);
+        return newBoundedExecutor(threads, queue);
+    }
+
+    /**
+     * Creates a pool of daemon platform threads with a bounded queue, when the queue is full the task is rejected
+     * with {@link java.util.concurrent.RejectedExecutionException}.
+     *
+     * @param threads   the number of threads
+     * @param queueSize the queue size
+     * @return a new executor
+     * @throws IllegalArgumentException when threads or queueSize is not positive
+     */
+    public static ExecutorService newBoundedExecutor(int threads, int queueSize) throws IllegalArgumentException {
+        return newBoundedExecutor(threads, queueSize, "jnosql-artemis-async-");
+    }
+
+    /**
+     * Checks if the runtime creates virtual threads
+     *
+     * @return true when {@link AsyncExecutors#newExecutor()} returns a virtual-thread-per-task executor
+     */
+    public static boolean isVirtualThreadSupported() {
+        ExecutorService executor = newVirtualThreadExecutor();
+        if (executor == null) {
+            return false;
+        }
+        executor.shutdown();
+        return true;
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        } catch (InvocationTargetException exception) {
+            LOGGER.log(Level.FINE, "The virtual threads are not enabled at this runtime", exception.getCause());
+            return null;
+        }
+    }
+
+    private static ExecutorService newBoundedExecutor(int threads, int queueSize, String prefix) {
+        if (threads <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException("The threads and queueSize must be greater than zero");
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new DaemonThreadFactory(prefix), new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class DefaultExecutor {
+
+        private static final ExecutorService INSTANCE = newExecutor();
+    }
+
+    private static final class BatchExecutor {
+
+        private static final ExecutorService INSTANCE = newBatchExecutor();
+    }
+
+    private static final class CallbackExecutor {
+
+        private static final ExecutorService INSTANCE = newCallbackExecutor();
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final String prefix;
+
+        private DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.executor;
+
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.limit.LimitExceededException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the synchronous operations of the asynchronous templates at an executor. Each operation holds a permit of the
+ * {@link ConcurrencyLimiter} while it runs, the permit is released whatever the operation throws, and the failure,
+ * {@link Error} included, completes the {@link CompletableFuture} exceptionally.
+ */
+public final class AsyncOperations {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncOperations.class.getName());
+
+    private AsyncOperations() {
+    }
+
+    /**
+     * Runs the operation at the executor
+     *
+     * @param executor  the executor
+     * @param limiter   the limiter
+     * @param operation the operation
+     * @param <R>       the result type
+     * @return the result of the operation
+     * @throws NullPointerException       when there is a null parameter
+     * @throws LimitExceededException     when the limiter rejects the operation
+     * @throws RejectedExecutionException when the executor rejects the operation
+     */
+    public static <R> CompletableFuture<R> submit(Executor executor, ConcurrencyLimiter limiter, Supplier<R> operation)
+            throws NullPointerException, LimitExceededException, RejectedExecutionException {
+        requireNonNull(executor, "executor is required");
+        requireNonNull(limiter, "limiter is required");
+        requireNonNull(operation, "operation is required");
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(operation.get());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                } finally {
+                    permit.release();
+                }
+            });
+        } catch (RuntimeException exception) {
+            permit.release();
+            throw exception;
+        }
+        return future;
+    }
+
+    /**
+     * Runs the operation at the executor, when either the limiter or the executor rejects it the result completes
+     * exceptionally.
+     *
+     * @param executor  the executor
+     * @param limiter   the limiter
+     * @param operation the operation
+     * @param <R>       the result type
+     * @return the result of the operation
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static <R> CompletableFuture<R> supply(Executor executor, ConcurrencyLimiter limiter, Supplier<R> operation)
+            throws NullPointerException {
+        requireNonNull(executor, "executor is required");
+        requireNonNull(limiter, "limiter is required");
+        requireNonNull(operation, "operation is required");
+        try {
+            return submit(executor, limiter, operation);
+        } catch (RuntimeException exception) {
+            CompletableFuture<R> future = new CompletableFuture<>();
+            future.completeExceptionally(exception);
+            return future;
+        }
+    }
+
+    /**
+     * Runs the operation at the executor, there is nobody to receive a failure, so it's logged.
+     *
+     * @param executor  the executor
+     * @param limiter   the limiter
+     * @param operation the operation
+     * @throws NullPointerException       when there is a null parameter
+     * @throws LimitExceededException     when the limiter rejects the operation
+     * @throws RejectedExecutionException when the executor rejects the operation
+     */
+    public static void execute(Executor executor, ConcurrencyLimiter limiter, Supplier<?> operation)
+            throws NullPointerException, LimitExceededException, RejectedExecutionException {
+        logFailure(submit(executor, limiter, operation));
+    }
+
+    /**
+     * Runs the operation at the executor and gives the result to the callback, there is nobody to receive a failure,
+     * so the failures of the operation and of the callback are logged.
+     *
+     * @param executor  the executor
+     * @param limiter   the limiter
+     * @param operation the operation
+     * @param callBack  the callback
+     * @param <R>       the result type
+     * @throws NullPointerException       when there is a null parameter
+     * @throws LimitExceededException     when the limiter rejects the operation
+     * @throws RejectedExecutionException when the executor rejects the operation
+     */
+    public static <R> void execute(Executor executor, ConcurrencyLimiter limiter, Supplier<R> operation,
+                                   Consumer<R> callBack) throws NullPointerException, LimitExceededException,
+            RejectedExecutionException {
+        requireNonNull(callBack, "callBack is required");
+        logFailure(submit(executor, limiter, operation).thenAccept(callBack));
+    }
+
+    /**
+     * Logs the failure of the stage, to the fire-and-forget operations that have nobody to receive it
+     *
+     * @param stage the stage
+     * @throws NullPointerException when stage is null
+     */
+    public static void logFailure(CompletionStage<?> stage) throws NullPointerException {
+        requireNonNull(stage, "stage is required");
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                LOGGER.log(Level.WARNING, "The asynchronous operation failed", throwable);
+            }
+        });
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.limit;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounds the number of asynchronous operations in flight. Each operation acquires a {@link Permit} before it's sent
+ * to the driver and releases it when the driver calls back. When the limit is reached, the operation waits up to the
+ * max wait for a permit and then it's rejected with {@link LimitExceededException}.
+ * <p>The adaptive limiter changes the limit from the observed latency (AIMD) once at each window of limit operations:
+ * the limit grows by one when the window was saturated and its average latency is lower than twice the min latency,
+ * otherwise it's reduced by ten percent. The min latency grows ten percent each window, so the limit recovers when
+ * the database latency rises for good.</p>
+ * <p>The permit is released when the driver calls back, and a driver that does not call back on failure would keep it
+ * held; the max wait does not help, because the waiting operations would be rejected forever. So each permit has a
+ * lease, when it expires the permit is released as a slow operation and a later release does nothing.</p>
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * The system property to the max operations in flight of the async templates, zero or absent means unlimited.
+     */
+    String LIMIT_PROPERTY = "org.jnosql.artemis.async.limit";
+
+    /**
+     * The system property to the max wait, in milliseconds, for a permit, by default zero: it rejects at once.
+     */
+    String WAIT_PROPERTY = "org.jnosql.artemis.async.limit.wait";
+
+    /**
+     * The system property that enables the adaptive limit, the {@link ConcurrencyLimiter#LIMIT_PROPERTY}
+     * is the max limit.
+     */
+    String ADAPTIVE_PROPERTY = "org.jnosql.artemis.async.limit.adaptive";
+
+    /**
+     * The system property to the lease, in milliseconds, of a permit, by default {@link ConcurrencyLimiter#DEFAULT_LEASE},
+     * zero means the permit never expires.
+     */
+    String LEASE_PROPERTY = "org.jnosql.artemis.async.limit.lease";
+
+    /**
+     * The default lease of a permit
+     */
+    Duration DEFAULT_LEASE = Duration.ofMinutes(1);
+
+    /**
+     * Acquires a permit to an operation, it waits up to max wait when the limit is reached.
+     *
+     * @return the permit that must be released when the operation finishes
+     * @throws LimitExceededException when there is no permit within the max wait or the thread is interrupted
+     */
+    Permit acquire() throws LimitExceededException;
+
+    /**
+     * Returns the current limit of operations in flight
+     *
+     * @return the current limit, {@link Integer#MAX_VALUE} when it's unlimited
+     */
+    int getLimit();
+
+    /**
+     * Returns the number of operations in flight
+     *
+     * @return the number of permits not released
+     */
+    int getInFlight();
+
+    /**
+     * Returns the number of operations waiting for a permit
+     *
+     * @return the queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Returns the number of operations rejected
+     *
+     * @return the rejections since the limiter was created
+     */
+    long getRejections();
+
+    /**
+     * The permit of an operation in flight
+     */
+    interface Permit {
+
+        /**
+         * Releases the permit, the next calls do nothing.
+         */
+        void release();
+    }
+
+    /**
+     * Creates a limiter that never rejects an operation, it keeps just the operations in flight.
+     *
+     * @return an unlimited limiter
+     */
+    static ConcurrencyLimiter unlimited() {
+        return new UnlimitedConcurrencyLimiter();
+    }
+
+    /**
+     * Creates a limiter with a fixed limit and the {@link ConcurrencyLimiter#DEFAULT_LEASE}.
+     *
+     * @param limit   the max operations in flight
+     * @param maxWait the max wait for a permit, zero rejects at once
+     * @return a fixed limiter
+     * @throws NullPointerException     when maxWait is null
+     * @throws IllegalArgumentException when limit is not positive or maxWait is negative
+     */
+    static ConcurrencyLimiter fixed(int limit, Duration maxWait) throws NullPointerException, IllegalArgumentException {
+        return fixed(limit, maxWait, DEFAULT_LEASE);
+    }
+
+    /**
+     * Creates a limiter with a fixed limit.
+     *
+     * @param limit   the max operations in flight
+     * @param maxWait the max wait for a permit, zero rejects at once
+     * @param lease   the time a permit is held before it's released, zero means it never expires
+     * @return a fixed limiter
+     * @throws NullPointerException     when either maxWait or lease is null
+     * @throws IllegalArgumentException when limit is not positive or either maxWait or lease is negative
+     */
+    static ConcurrencyLimiter fixed(int limit, Duration maxWait, Duration lease) throws NullPointerException,
+            IllegalArgumentException {
+        return adaptive(limit, limit, limit, maxWait, lease);
+    }
+
+    /**
+     * Creates a limiter whose limit adapts to the observed latency between the min and max limits, with the
+     * {@link ConcurrencyLimiter#DEFAULT_LEASE}.
+     *
+     * @param initialLimit the initial limit
+     * @param minLimit     the min limit
+     * @param maxLimit     the max limit
+     * @param maxWait      the max wait for a permit, zero rejects at once
+     * @return an adaptive limiter
+     * @throws NullPointerException     when maxWait is null
+     * @throws IllegalArgumentException when minLimit is not positive, the initial limit is not between the min and
+     *                                  max limits or maxWait is negative
+     */
+    static ConcurrencyLimiter adaptive(int initialLimit, int minLimit, int maxLimit, Duration maxWait)
+            throws NullPointerException, IllegalArgumentException {
+        return adaptive(initialLimit, minLimit, maxLimit, maxWait, DEFAULT_LEASE);
+    }
+
+    /**
+     * Creates a limiter whose limit adapts to the observed latency between the min and max limits.
+     *
+     * @param initialLimit the initial limit
+     * @param minLimit     the min limit
+     * @param maxLimit     the max limit
+     * @param maxWait      the max wait for a permit, zero rejects at once
+     * @param lease        the time a permit is held before it's released, zero means it never expires
+     * @return an adaptive limiter
+     * @throws NullPointerException     when either maxWait or lease is null
+     * @throws IllegalArgumentException when minLimit is not positive, the initial limit is not between the min and
+     *                                  max limits or either maxWait or lease is negative
+     */
+    static ConcurrencyLimiter adaptive(int initialLimit, int minLimit, int maxLimit, Duration maxWait, Duration lease)
+            throws NullPointerException, IllegalArgumentException {
+        requireNonNull(maxWait, "maxWait is required");
+        requireNonNull(lease, "lease is required");
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("The limits must be positive and minLimit <= initialLimit <= maxLimit");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("The maxWait cannot be negative");
+        }
+        if (lease.isNegative()) {
+            throw new IllegalArgumentException("The lease cannot be negative");
+        }
+        return new DefaultConcurrencyLimiter(initialLimit, minLimit, maxLimit, maxWait.toNanos(), lease.toNanos());
+    }
+
+    /**
+     * Creates a limiter from the system properties {@link ConcurrencyLimiter#LIMIT_PROPERTY},
+     * {@link ConcurrencyLimiter#WAIT_PROPERTY}, {@link ConcurrencyLimiter#ADAPTIVE_PROPERTY} and
+     * {@link ConcurrencyLimiter#LEASE_PROPERTY}.
+     *
+     * @return the limiter configured, unlimited when there is no limit
+     */
+    static ConcurrencyLimiter fromSystemProperties() {
+        int limit = Integer.getInteger(LIMIT_PROPERTY, 0);
+        if (limit <= 0) {
+            return unlimited();
+        }
+        Duration maxWait = Duration.ofMillis(Math.max(0L, Long.getLong(WAIT_PROPERTY, 0L)));
+        Duration lease = Duration.ofMillis(Math.max(0L, Long.getLong(LEASE_PROPERTY, DEFAULT_LEASE.toMillis())));
+        if (Boolean.getBoolean(ADAPTIVE_PROPERTY)) {
+            return adaptive(limit, 1, limit, maxWait, lease);
+        }
+        return fixed(limit, maxWait, lease);
+    }
+}
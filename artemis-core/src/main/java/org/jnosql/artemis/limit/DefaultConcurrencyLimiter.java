@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.limit;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * The default implementation of {@link ConcurrencyLimiter}, when the min and max limits are equal the limit is fixed,
+ * otherwise it adapts to the latency of the operations. The adaptive limit decides once at each window of limit
+ * samples: it compares the window average latency to the min latency, which grows ten percent each window, so a
+ * min latency from the past is forgotten when the database becomes slower for good and the limit recovers.
+ * The permits not released within the lease are released at the next acquire, as a slow sample.
+ */
+final class DefaultConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    private static final double MIN_LATENCY_DECAY = 1.1;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private final AtomicLong rejections = new AtomicLong();
+
+    private final Set<DefaultPermit> leased = new LinkedHashSet<>();
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long maxWait;
+
+    private final long lease;
+
+    private final LongSupplier clock;
+
+    private volatile double limit;
+
+    private volatile int inFlight;
+
+    private volatile int waiting;
+
+    private long expirations;
+
+    private double minLatency = Double.MAX_VALUE;
+
+    private long windowMinLatency = Long.MAX_VALUE;
+
+    private long windowLatency;
+
+    private int windowSamples;
+
+    private boolean windowSaturated;
+
+    DefaultConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long maxWait, long lease) {
+        this(initialLimit, minLimit, maxLimit, maxWait, lease, System::nanoTime);
+    }
+
+    DefaultConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long maxWait, long lease, LongSupplier clock) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxWait = maxWait;
+        this.lease = lease;
+        this.clock = clock;
+    }
+
+    @Override
+    public Permit acquire() throws LimitExceededException {
+        lock.lock();
+        try {
+            if (inFlight >= getLimit()) {
+                await();
+            }
+            inFlight++;
+            DefaultPermit permit = new DefaultPermit(clock.getAsLong());
+            if (lease > 0L) {
+                leased.add(permit);
+            }
+            return permit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return waiting;
+    }
+
+    @Override
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    private void await() {
+        long nanos = maxWait;
+        waiting++;
+        try {
+            expire();
+            while (inFlight >= getLimit()) {
+                if (nanos <= 0L) {
+                    throw reject();
+                }
+                long wait = Math.min(nanos, nextExpiration());
+                nanos -= wait - available.awaitNanos(wait);
+                expire();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        } finally {
+            waiting--;
+        }
+    }
+
+    private LimitExceededException reject() {
+        rejections.incrementAndGet();
+        return new LimitExceededException("The limit of " + getLimit() + " operations in flight was reached within "
+                + TimeUnit.NANOSECONDS.toMillis(maxWait) + " ms");
+    }
+
+    private void expire() {
+        if (leased.isEmpty()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        Iterator<DefaultPermit> iterator = leased.iterator();
+        while (iterator.hasNext()) {
+            DefaultPermit permit = iterator.next();
+            if (now - permit.start < lease) {
+                return;
+            }
+            iterator.remove();
+            if (permit.released.compareAndSet(false, true)) {
+                expirations++;
+                finish(now - permit.start);
+            }
+        }
+    }
+
+    private long nextExpiration() {
+        if (leased.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        DefaultPermit oldest = leased.iterator().next();
+        return Math.max(1L, oldest.start + lease - clock.getAsLong());
+    }
+
+    private void release(DefaultPermit permit, long latency) {
+        lock.lock();
+        try {
+            leased.remove(permit);
+            finish(latency);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finish(long latency) {
+        if (minLimit != maxLimit) {
+            adapt(latency);
+        }
+        inFlight--;
+        available.signalAll();
+    }
+
+    private void adapt(long latency) {
+        windowMinLatency = Math.min(windowMinLatency, latency);
+        windowLatency += latency;
+        windowSamples++;
+        windowSaturated |= inFlight >= getLimit();
+        if (windowSamples < getLimit()) {
+            return;
+        }
+        minLatency = Math.min(windowMinLatency, minLatency * MIN_LATENCY_DECAY);
+        double average = (double) windowLatency / windowSamples;
+        if (average > minLatency * LATENCY_TOLERANCE) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (windowSaturated) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        windowMinLatency = Long.MAX_VALUE;
+        windowLatency = 0L;
+        windowSamples = 0;
+        windowSaturated = false;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultConcurrencyLimiter{" +
+                "limit=" + limit +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", maxWait=" + maxWait +
+                ", lease=" + lease +
+                ", inFlight=" + inFlight +
+                ", waiting=" + waiting +
+                ", rejections=" + rejections +
+                ", expirations=" + expirations +
+                '}';
+    }
+
+    private final class DefaultPermit implements Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private final long start;
+
+        private DefaultPermit(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                DefaultConcurrencyLimiter.this.release(this, clock.getAsLong() - start);
+            }
+        }
+    }
+}
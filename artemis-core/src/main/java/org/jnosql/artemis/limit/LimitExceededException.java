@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.limit;
+
+import org.jnosql.artemis.ArtemisException;
+
+/**
+ * Exception thrown when a {@link ConcurrencyLimiter} rejects an operation because the limit of operations in flight
+ * was reached and the operation could not wait for a permit.
+ */
+public class LimitExceededException extends ArtemisException {
+
+    /**
+     * Constructs a new runtime exception with the specified detail message.
+     *
+     * @param message the message
+     */
+    public LimitExceededException(String message) {
+        super(message);
+    }
+}
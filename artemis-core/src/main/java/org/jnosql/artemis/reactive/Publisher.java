@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reactive;
+
+/**
+ * A provider of a potentially unbounded number of elements, it publishes them according to the demand
+ * received from its {@link Subscriber}.
+ *
+ * @param <T> the element type
+ */
+@FunctionalInterface
+public interface Publisher<T> {
+
+    /**
+     * Requests the publisher to start streaming data, each call starts a new {@link Subscription}
+     * and calls {@link Subscriber#onSubscribe(Subscription)}.
+     *
+     * @param subscriber the subscriber
+     * @throws NullPointerException when subscriber is null
+     */
+    void subscribe(Subscriber<? super T> subscriber) throws NullPointerException;
+}
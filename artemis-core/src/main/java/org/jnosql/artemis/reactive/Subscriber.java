@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reactive;
+
+/**
+ * The receiver of the elements of a {@link Publisher}, it won't receive any element until it calls
+ * {@link Subscription#request(long)}.
+ *
+ * @param <T> the element type
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Invoked once after {@link Publisher#subscribe(Subscriber)}
+     *
+     * @param subscription the subscription to request elements and to cancel
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * An element sent in response to {@link Subscription#request(long)}
+     *
+     * @param item the element
+     */
+    void onNext(T item);
+
+    /**
+     * A failure, no other method is invoked after it
+     *
+     * @param throwable the failure
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * The successful end, no other method is invoked after it
+     */
+    void onComplete();
+}
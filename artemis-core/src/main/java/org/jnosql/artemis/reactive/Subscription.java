@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reactive;
+
+/**
+ * The link between a {@link Publisher} and a {@link Subscriber}, it's used by the subscriber
+ * to signal the demand and to cancel it.
+ */
+public interface Subscription {
+
+    /**
+     * Adds n elements to the demand, a value lesser or equals than zero signals
+     * {@link Subscriber#onError(Throwable)} with {@link IllegalArgumentException}
+     *
+     * @param n the number of elements
+     */
+    void request(long n);
+
+    /**
+     * Stops sending elements, the elements already requested might still be sent
+     */
+    void cancel();
+}
@@ -29,7 +29,7 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     protected final FieldType type;
 
-    protected final Field field;
+    protected final Class<?> declaringClass;
 
     protected final String name;
 
@@ -37,12 +37,37 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     protected final Optional<Class<? extends AttributeConverter>> converter;
 
+    private transient volatile Field field;
+
+    private transient FieldReader reader;
+
+    private transient FieldWriter writer;
+
     AbstractFieldRepresentation(FieldType type, Field field, String name, Class<? extends AttributeConverter> converter) {
-        this.type = type;
+        this(type, field, name, converter, null, null);
+    }
+
+    AbstractFieldRepresentation(FieldType type, Field field, String name, Class<? extends AttributeConverter> converter,
+                                FieldReader reader, FieldWriter writer) {
+        this(type, field.getDeclaringClass(), field.getName(), name, converter,
+                reader == null ? FieldAccessors.reader(field) : reader,
+                writer == null ? FieldAccessors.writer(field) : writer);
         this.field = field;
+    }
+
+    /**
+     * Creates the representation from the generated metadata, the {@link Field} is only looked up when it's
+     * required, e.g. {@link FieldRepresentation#getNativeField()} or a field without the generated accessors.
+     */
+    AbstractFieldRepresentation(FieldType type, Class<?> declaringClass, String fieldName, String name,
+                                Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
+        this.type = type;
+        this.declaringClass = declaringClass;
+        this.fieldName = fieldName;
         this.name = name;
-        this.fieldName = field.getName();
         this.converter = Optional.ofNullable(converter);
+        this.reader = reader;
+        this.writer = writer;
     }
 
     @Override
@@ -52,6 +77,14 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     @Override
     public Field getNativeField() {
+        if (field == null) {
+            try {
+                field = declaringClass.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException exception) {
+                throw new ClassInformationNotFoundException("The generated metadata does not match the class "
+                        + declaringClass.getName() + ", field not found: " + fieldName);
+            }
+        }
         return field;
     }
 
@@ -71,12 +104,27 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
         return converter;
     }
 
+    @Override
+    public Object read(Object bean) {
+        if (reader == null) {
+            reader = FieldAccessors.reader(getNativeField());
+        }
+        return reader.read(bean);
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        if (writer == null) {
+            writer = FieldAccessors.writer(getNativeField());
+        }
+        writer.write(bean, value);
+    }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("AbstractFieldRepresentation{");
         sb.append("type=").append(type);
-        sb.append(", field=").append(field);
+        sb.append(", declaringClass=").append(declaringClass);
         sb.append(", name='").append(name).append('\'');
         sb.append(", fieldName='").append(fieldName).append('\'');
         sb.append(", converter=").append(converter);
@@ -85,6 +133,6 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
     }
 
     public Object getValue(Value value) {
-        return value.get(field.getType());
+        return value.get(getNativeField().getType());
     }
 }
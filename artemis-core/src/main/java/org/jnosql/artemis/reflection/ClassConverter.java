@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.Cacheable;
 import org.jnosql.artemis.Convert;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -21,6 +22,7 @@ import javax.inject.Inject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
@@ -41,6 +43,10 @@ class ClassConverter {
     }
 
     public ClassRepresentation create(Class entityClass) {
+        Optional<EntityMetadata> metadata = EntityMetadataLoader.get(entityClass);
+        if (metadata.isPresent()) {
+            return create(metadata.get());
+        }
         Constructor constructor = reflections.makeAccessible(entityClass);
         String entityName = reflections.getEntityName(entityClass);
         List<FieldRepresentation> fields = reflections.getFields(entityClass)
@@ -51,9 +57,49 @@ class ClassConverter {
                 .withFields(fields)
                 .withFieldsName(fieldsName)
                 .withConstructor(constructor)
+                .withCacheable((Cacheable) entityClass.getAnnotation(Cacheable.class))
+                .build();
+    }
+
+
+    /**
+     * Creates the {@link ClassRepresentation} only from the generated metadata, the constructor and the
+     * {@link Field} are looked up lazily, when the class has no generated instantiator or accessor.
+     */
+    ClassRepresentation create(EntityMetadata metadata) {
+        Class<?> entityClass = metadata.getClassInstance();
+        List<FieldRepresentation> fields = metadata.getFields()
+                .stream().map(this::to).collect(toList());
+        List<String> fieldsName = fields.stream().map(FieldRepresentation::getName).collect(toList());
+        return DefaultClassRepresentation.builder().withName(metadata.getName())
+                .withClassInstance(entityClass)
+                .withFields(fields)
+                .withFieldsName(fieldsName)
+                .withConstructor(() -> reflections.makeAccessible(entityClass))
+                .withInstanceSupplier(metadata.getInstanceSupplier().orElse(null))
+                .withCacheable(metadata.getCacheable().orElse(null))
                 .build();
     }
 
+    private FieldRepresentation to(FieldMetadata metadata) {
+        FieldRepresentationBuilder builder = FieldRepresentation.builder().withName(metadata.getName())
+                .withDeclaringClass(metadata.getDeclaringClass()).withFieldName(metadata.getFieldName())
+                .withType(metadata.getType()).withId(metadata.isId())
+                .withReader(metadata.getReader().orElse(null))
+                .withWriter(metadata.getWriter().orElse(null));
+        metadata.getConverter().ifPresent(builder::withConverter);
+        switch (metadata.getType()) {
+            case COLLECTION:
+            case MAP:
+                return builder.buildGeneric();
+            case EMBEDDED:
+                return builder.withEntityName(metadata.getEntityName().orElseThrow(() ->
+                        new ClassInformationNotFoundException("The generated metadata has no entity name to the field "
+                                + metadata.getFieldName()))).buildEmedded();
+            default:
+                return builder.buildDefault();
+        }
+    }
 
     private FieldRepresentation to(Field field) {
         FieldType fieldType = FieldType.of(field);
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.Cacheable;
+
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.util.List;
@@ -47,10 +49,20 @@ public interface ClassRepresentation extends Serializable {
     List<FieldRepresentation> getFields();
 
     /**
-     * @return The constructor
+     * @return The constructor, when the class is created from the {@link EntityMetadata} it's looked up at the
+     * first call
      */
     Constructor getConstructor();
 
+    /**
+     * Creates a new instance of the class, using the generated instantiator when there is one
+     * otherwise the {@link ClassRepresentation#getConstructor()}
+     *
+     * @param <T> the instance type
+     * @return a new instance
+     */
+    <T> T newInstance();
+
 
     /**
      * Gets the native column name from the Java field name
@@ -70,6 +82,15 @@ public interface ClassRepresentation extends Serializable {
      */
     Map<String, FieldRepresentation> getFieldsGroupByName();
 
+    /**
+     * Returns the position at {@link ClassRepresentation#getFields()} of the field from its name
+     *
+     * @param name the field name, {@link FieldRepresentation#getName()}
+     * @return the field position or -1 when there is not field with this name
+     * @throws NullPointerException when name is null
+     */
+    int getFieldIndex(String name) throws NullPointerException;
+
 
     /**
      * Returns the field that has {@link org.jnosql.artemis.Id} annotation
@@ -77,4 +98,12 @@ public interface ClassRepresentation extends Serializable {
      * @return the field with ID annotation
      */
     Optional<FieldRepresentation> getId();
+
+
+    /**
+     * Returns the {@link Cacheable} from the entity, when the entity is kept at the second-level cache
+     *
+     * @return the {@link Cacheable} or {@link Optional#empty()} when the entity is not cacheable
+     */
+    Optional<Cacheable> getCacheable();
 }
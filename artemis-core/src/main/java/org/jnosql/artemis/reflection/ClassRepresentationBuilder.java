@@ -14,9 +14,12 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.Cacheable;
+
 import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 class ClassRepresentationBuilder {
 
@@ -26,10 +29,14 @@ class ClassRepresentationBuilder {
 
     private Class<?> classInstance;
 
-    private Constructor constructor;
+    private Supplier<Constructor> constructor;
 
     private List<FieldRepresentation> fields = Collections.emptyList();
 
+    private Supplier<Object> instanceSupplier;
+
+    private Cacheable cacheable;
+
     public ClassRepresentationBuilder withName(String name) {
         this.name = name;
         return this;
@@ -51,11 +58,27 @@ class ClassRepresentationBuilder {
     }
 
     public ClassRepresentationBuilder withConstructor(Constructor constructor) {
+        this.constructor = () -> constructor;
+        return this;
+    }
+
+    public ClassRepresentationBuilder withConstructor(Supplier<Constructor> constructor) {
         this.constructor = constructor;
         return this;
     }
 
+    public ClassRepresentationBuilder withInstanceSupplier(Supplier<Object> instanceSupplier) {
+        this.instanceSupplier = instanceSupplier;
+        return this;
+    }
+
+    public ClassRepresentationBuilder withCacheable(Cacheable cacheable) {
+        this.cacheable = cacheable;
+        return this;
+    }
+
     public ClassRepresentation build() {
-        return new DefaultClassRepresentation(name, fieldsName, classInstance, fields, constructor);
+        return new DefaultClassRepresentation(name, fieldsName, classInstance, fields, constructor, instanceSupplier,
+                cacheable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.Cacheable;
+
+import java.lang.annotation.Annotation;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link Cacheable} settings written by the generated {@link EntityMetadata}
+ */
+final class DefaultCacheable implements Cacheable {
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final TimeUnit unit;
+
+    DefaultCacheable(int maxSize, long ttl, TimeUnit unit) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.unit = requireNonNull(unit, "unit is required");
+    }
+
+    @Override
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long ttl() {
+        return ttl;
+    }
+
+    @Override
+    public TimeUnit unit() {
+        return unit;
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return Cacheable.class;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cacheable)) {
+            return false;
+        }
+        Cacheable that = (Cacheable) o;
+        return maxSize == that.maxSize() &&
+                ttl == that.ttl() &&
+                unit == that.unit();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSize, ttl, unit);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCacheable{");
+        sb.append("maxSize=").append(maxSize);
+        sb.append(", ttl=").append(ttl);
+        sb.append(", unit=").append(unit);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -14,14 +14,19 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.jnosql.artemis.Cacheable;
 
 import java.lang.reflect.Constructor;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.collectingAndThen;
@@ -38,26 +43,52 @@ class DefaultClassRepresentation implements ClassRepresentation {
 
     private final List<FieldRepresentation> fields;
 
-    private final Constructor constructor;
+    private final transient Supplier<Constructor> constructorSupplier;
+
+    private transient volatile Constructor constructor;
 
     private final Map<String, String> javaFieldGroupedByColumn;
 
     private final Map<String, FieldRepresentation> fieldsGroupedByName;
 
+    private final Map<String, Integer> fieldsIndexByName;
+
     private final Optional<FieldRepresentation> id;
 
+    private final transient Supplier<Object> instanceSupplier;
+
+    private final Optional<Cacheable> cacheable;
+
     DefaultClassRepresentation(String name, List<String> fieldsName, Class<?> classInstance,
                                List<FieldRepresentation> fields, Constructor constructor) {
+        this(name, fieldsName, classInstance, fields, () -> constructor, null, null);
+    }
+
+    /**
+     * The constructor is only looked up when it's required, so when the class has the generated instantiator
+     * it's never read.
+     */
+    DefaultClassRepresentation(String name, List<String> fieldsName, Class<?> classInstance,
+                               List<FieldRepresentation> fields, Supplier<Constructor> constructorSupplier,
+                               Supplier<Object> instanceSupplier, Cacheable cacheable) {
         this.name = name;
         this.fieldsName = fieldsName;
         this.classInstance = classInstance;
         this.fields = fields;
-        this.constructor = constructor;
+        this.constructorSupplier = constructorSupplier;
+        this.instanceSupplier = instanceSupplier;
+        this.cacheable = Optional.ofNullable(cacheable);
 
         this.fieldsGroupedByName = fields.stream()
                 .collect(collectingAndThen(toMap(FieldRepresentation::getName,
                         Function.identity()), Collections::unmodifiableMap));
 
+        Map<String, Integer> fieldsIndex = new HashMap<>();
+        for (int index = 0; index < fields.size(); index++) {
+            fieldsIndex.put(fields.get(index).getName(), index);
+        }
+        this.fieldsIndexByName = Collections.unmodifiableMap(fieldsIndex);
+
         this.javaFieldGroupedByColumn = fields.stream()
                 .collect(collectingAndThen(toMap(FieldRepresentation::getFieldName,
                         FieldRepresentation::getName), Collections::unmodifiableMap));
@@ -86,10 +117,26 @@ class DefaultClassRepresentation implements ClassRepresentation {
 
     @Override
     public Constructor getConstructor() {
+        if (constructor == null && constructorSupplier != null) {
+            constructor = constructorSupplier.get();
+        }
         return constructor;
     }
 
 
+    @Override
+    public <T> T newInstance() {
+        if (instanceSupplier != null) {
+            return (T) instanceSupplier.get();
+        }
+        try {
+            return (T) getConstructor().newInstance();
+        } catch (Exception exception) {
+            Logger.getLogger(Reflections.class.getName()).log(Level.SEVERE, null, exception);
+            return null;
+        }
+    }
+
     @Override
     public String getColumnField(String javaField) throws NullPointerException {
         requireNonNull(javaField, "javaField is required");
@@ -102,11 +149,22 @@ class DefaultClassRepresentation implements ClassRepresentation {
         return fieldsGroupedByName;
     }
 
+    @Override
+    public int getFieldIndex(String name) throws NullPointerException {
+        requireNonNull(name, "name is required");
+        return fieldsIndexByName.getOrDefault(name, -1);
+    }
+
     @Override
     public Optional<FieldRepresentation> getId() {
         return id;
     }
 
+    @Override
+    public Optional<Cacheable> getCacheable() {
+        return cacheable;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
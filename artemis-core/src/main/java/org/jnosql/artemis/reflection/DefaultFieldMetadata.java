@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.util.Optional;
+
+class DefaultFieldMetadata implements FieldMetadata {
+
+    private final Class<?> declaringClass;
+
+    private final String fieldName;
+
+    private final String name;
+
+    private final FieldType type;
+
+    private final boolean id;
+
+    private final Optional<Class<? extends AttributeConverter>> converter;
+
+    private final Optional<String> entityName;
+
+    private final Optional<FieldReader> reader;
+
+    private final Optional<FieldWriter> writer;
+
+    DefaultFieldMetadata(Class<?> declaringClass, String fieldName, String name, FieldType type, boolean id,
+                         Class<? extends AttributeConverter> converter, String entityName,
+                         FieldReader reader, FieldWriter writer) {
+        this.declaringClass = declaringClass;
+        this.fieldName = fieldName;
+        this.name = name;
+        this.type = type;
+        this.id = id;
+        this.converter = Optional.ofNullable(converter);
+        this.entityName = Optional.ofNullable(entityName);
+        this.reader = Optional.ofNullable(reader);
+        this.writer = Optional.ofNullable(writer);
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public FieldType getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isId() {
+        return id;
+    }
+
+    @Override
+    public Optional<Class<? extends AttributeConverter>> getConverter() {
+        return converter;
+    }
+
+    @Override
+    public Optional<String> getEntityName() {
+        return entityName;
+    }
+
+    @Override
+    public Optional<FieldReader> getReader() {
+        return reader;
+    }
+
+    @Override
+    public Optional<FieldWriter> getWriter() {
+        return writer;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultFieldMetadata{");
+        sb.append("declaringClass=").append(declaringClass);
+        sb.append(", fieldName='").append(fieldName).append('\'');
+        sb.append(", name='").append(name).append('\'');
+        sb.append(", type=").append(type);
+        sb.append(", id=").append(id);
+        sb.append(", converter=").append(converter);
+        sb.append(", entityName=").append(entityName);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -29,7 +29,19 @@ public class DefaultFieldRepresentation extends AbstractFieldRepresentation {
     private final boolean id;
 
     DefaultFieldRepresentation(FieldType type, Field field, String name, Class<? extends AttributeConverter> converter, boolean id) {
-        super(type, field, name, converter);
+        this(type, field, name, converter, id, null, null);
+    }
+
+    DefaultFieldRepresentation(FieldType type, Field field, String name, Class<? extends AttributeConverter> converter,
+                               boolean id, FieldReader reader, FieldWriter writer) {
+        super(type, field, name, converter, reader, writer);
+        this.id = id;
+    }
+
+    DefaultFieldRepresentation(FieldType type, Class<?> declaringClass, String fieldName, String name,
+                               Class<? extends AttributeConverter> converter, boolean id,
+                               FieldReader reader, FieldWriter writer) {
+        super(type, declaringClass, fieldName, name, converter, reader, writer);
         this.id = id;
     }
 
@@ -48,14 +60,15 @@ public class DefaultFieldRepresentation extends AbstractFieldRepresentation {
         }
         AbstractFieldRepresentation that = (AbstractFieldRepresentation) o;
         return type == that.type &&
-                Objects.equals(field, that.field) &&
+                Objects.equals(declaringClass, that.declaringClass) &&
+                Objects.equals(fieldName, that.fieldName) &&
                 Objects.equals(name, that.name);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, field, name);
+        return Objects.hash(type, declaringClass, fieldName, name);
     }
 
     @Override
@@ -63,7 +76,7 @@ public class DefaultFieldRepresentation extends AbstractFieldRepresentation {
         final StringBuilder sb = new StringBuilder("DefaultFieldRepresentation{");
         sb.append("id=").append(id);
         sb.append(", type=").append(type);
-        sb.append(", field=").append(field);
+        sb.append(", declaringClass=").append(declaringClass);
         sb.append(", name='").append(name).append('\'');
         sb.append(", fieldName='").append(fieldName).append('\'');
         sb.append(", converter=").append(converter);
@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.diana.api.Value;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The default implementation of {@link ProjectionRepresentation}, an interface becomes a {@link Proxy} backed by
+ * the values and a class is created from the no arg constructor and has its fields written.
+ */
+final class DefaultProjectionRepresentation implements ProjectionRepresentation {
+
+    private final Class<?> projection;
+
+    private final ClassRepresentation representation;
+
+    private final List<Property> properties;
+
+    private final List<FieldRepresentation> fields;
+
+    private final List<String> columns;
+
+    private final Constructor<?> constructor;
+
+    private DefaultProjectionRepresentation(Class<?> projection, ClassRepresentation representation,
+                                            List<Property> properties, Constructor<?> constructor) {
+        this.projection = projection;
+        this.representation = representation;
+        this.properties = properties;
+        this.fields = unmodifiableList(properties.stream().map(p -> p.field).distinct().collect(toList()));
+        this.columns = unmodifiableList(fields.stream().map(FieldRepresentation::getName).collect(toList()));
+        this.constructor = constructor;
+    }
+
+    @Override
+    public Class<?> getProjectionInstance() {
+        return projection;
+    }
+
+    @Override
+    public ClassRepresentation getClassRepresentation() {
+        return representation;
+    }
+
+    @Override
+    public List<FieldRepresentation> getFields() {
+        return fields;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T newInstance(Map<String, Object> values) {
+        requireNonNull(values, "values is required");
+        if (constructor == null) {
+            Map<Method, Object> result = new HashMap<>();
+            for (Property property : properties) {
+                result.put((Method) property.member, property.read(values));
+            }
+            return (T) Proxy.newProxyInstance(projection.getClassLoader(), new Class[]{projection},
+                    new ProjectionHandler(projection, result));
+        }
+        try {
+            Object instance = constructor.newInstance();
+            for (Property property : properties) {
+                Object value = property.read(values);
+                if (value != null) {
+                    ((Field) property.member).set(instance, value);
+                }
+            }
+            return (T) instance;
+        } catch (ReflectiveOperationException exception) {
+            throw new ConstructorException(projection);
+        }
+    }
+
+    static ProjectionRepresentation of(Class<?> projection, ClassRepresentation representation) {
+        List<Property> properties = new ArrayList<>();
+        if (projection.isInterface()) {
+            for (Method method : projection.getMethods()) {
+                if (method.getParameterCount() == 0 && !method.isDefault() && !Modifier.isStatic(method.getModifiers())) {
+                    properties.add(new Property(method, method.getReturnType(),
+                            getField(projection, getPropertyName(method), representation)));
+                }
+            }
+            return new DefaultProjectionRepresentation(projection, representation,
+                    unmodifiableList(properties), null);
+        }
+        for (Field field : projection.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+                    && !field.isSynthetic()) {
+                field.setAccessible(true);
+                properties.add(new Property(field, field.getType(),
+                        getField(projection, field.getName(), representation)));
+            }
+        }
+        try {
+            Constructor<?> constructor = projection.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return new DefaultProjectionRepresentation(projection, representation,
+                    unmodifiableList(properties), constructor);
+        } catch (NoSuchMethodException exception) {
+            throw new ConstructorException(projection);
+        }
+    }
+
+    private static String getPropertyName(Method method) {
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (boolean.class.equals(method.getReturnType()) || Boolean.class.equals(method.getReturnType()))) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        return name;
+    }
+
+    private static FieldRepresentation getField(Class<?> projection, String property, ClassRepresentation representation) {
+        FieldRepresentation field = representation.getFieldsGroupByName().get(representation.getColumnField(property));
+        if (field == null) {
+            throw new DynamicQueryException(String.format("The property %s of the projection %s is not a field of %s",
+                    property, projection.getName(), representation.getClassInstance().getName()));
+        }
+        if (FieldType.EMBEDDED.equals(field.getType()) || (field instanceof GenericFieldRepresentation
+                && GenericFieldRepresentation.class.cast(field).isEmbeddable())) {
+            throw new DynamicQueryException(String.format("The property %s of the projection %s is an embedded field, "
+                    + "it is not supported at projections", property, projection.getName()));
+        }
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultProjectionRepresentation{" + "projection=" + projection.getName() +
+                ", entity=" + representation.getName() +
+                ", columns=" + columns +
+                '}';
+    }
+
+    private static final class Property {
+
+        private final AccessibleObject member;
+
+        private final Class<?> type;
+
+        private final FieldRepresentation field;
+
+        Property(AccessibleObject member, Class<?> type, FieldRepresentation field) {
+            this.member = member;
+            this.type = type;
+            this.field = field;
+        }
+
+        Object read(Map<String, Object> values) {
+            Object value = values.get(field.getName());
+            if (value == null) {
+                return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+            }
+            if (wrap(type).isInstance(value)) {
+                return value;
+            }
+            return Value.of(value).get(type);
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            }
+            return Array.get(Array.newInstance(type, 1), 0).getClass();
+        }
+    }
+
+    private static final class ProjectionHandler implements InvocationHandler {
+
+        private final Class<?> projection;
+
+        private final Map<Method, Object> values;
+
+        ProjectionHandler(Class<?> projection, Map<Method, Object> values) {
+            this.projection = projection;
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (values.containsKey(method)) {
+                return values.get(method);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0] || (args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                            && Proxy.getInvocationHandler(args[0]) instanceof ProjectionHandler
+                            && Objects.equals(values, ((ProjectionHandler) Proxy.getInvocationHandler(args[0])).values));
+                case "hashCode":
+                    return values.hashCode();
+                case "toString":
+                    return projection.getSimpleName() + values.entrySet().stream()
+                            .map(e -> e.getKey().getName() + '=' + e.getValue()).collect(toList());
+                default:
+                    throw new UnsupportedOperationException("The method " + method.getName()
+                            + " is not a property of the projection " + projection.getName());
+            }
+        }
+    }
+}
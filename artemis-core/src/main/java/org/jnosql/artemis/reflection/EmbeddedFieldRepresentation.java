@@ -23,7 +23,18 @@ public final class EmbeddedFieldRepresentation extends AbstractFieldRepresentati
     private final String entityName;
 
     public EmbeddedFieldRepresentation(FieldType type, Field field, String name, String entityName) {
-        super(type, field, name, null);
+        this(type, field, name, entityName, null, null);
+    }
+
+    EmbeddedFieldRepresentation(FieldType type, Field field, String name, String entityName,
+                                FieldReader reader, FieldWriter writer) {
+        super(type, field, name, null, reader, writer);
+        this.entityName = entityName;
+    }
+
+    EmbeddedFieldRepresentation(FieldType type, Class<?> declaringClass, String fieldName, String name,
+                                String entityName, FieldReader reader, FieldWriter writer) {
+        super(type, declaringClass, fieldName, name, null, reader, writer);
         this.entityName = entityName;
     }
 
@@ -46,14 +57,15 @@ public final class EmbeddedFieldRepresentation extends AbstractFieldRepresentati
         }
         EmbeddedFieldRepresentation that = (EmbeddedFieldRepresentation) o;
         return type == that.type &&
-                Objects.equals(field, that.field) &&
+                Objects.equals(declaringClass, that.declaringClass) &&
+                Objects.equals(fieldName, that.fieldName) &&
                 Objects.equals(entityName, that.entityName) &&
                 Objects.equals(name, that.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, field, name, entityName);
+        return Objects.hash(type, declaringClass, fieldName, name, entityName);
     }
 
     @Override
@@ -61,7 +73,7 @@ public final class EmbeddedFieldRepresentation extends AbstractFieldRepresentati
         final StringBuilder sb = new StringBuilder("EmbeddedFieldRepresentation{");
         sb.append("entityName='").append(entityName).append('\'');
         sb.append(", type=").append(type);
-        sb.append(", field=").append(field);
+        sb.append(", declaringClass=").append(declaringClass);
         sb.append(", name='").append(name).append('\'');
         sb.append(", fieldName='").append(fieldName).append('\'');
         sb.append(", converter=").append(converter);
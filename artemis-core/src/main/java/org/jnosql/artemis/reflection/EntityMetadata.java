@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.Cacheable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The class metadata generated at compile time to an {@link org.jnosql.artemis.Entity} or
+ * {@link org.jnosql.artemis.Embeddable} class. When there is an implementation registered as service,
+ * at META-INF/services/org.jnosql.artemis.reflection.EntityMetadata, the {@link ClassRepresentation}
+ * is created from it instead of reading the class fields and annotations with reflection.
+ */
+public interface EntityMetadata {
+
+    /**
+     * @return The class
+     */
+    Class<?> getClassInstance();
+
+    /**
+     * @return the Entity name
+     */
+    String getName();
+
+    /**
+     * @return the fields in the same order that {@link Reflections#getFields(Class)} returns
+     */
+    List<FieldMetadata> getFields();
+
+    /**
+     * Returns the instantiator when the no-arg constructor is visible to the generated class
+     *
+     * @return the instantiator or {@link Optional#empty()}
+     */
+    Optional<Supplier<Object>> getInstanceSupplier();
+
+    /**
+     * Returns the {@link Cacheable} settings when the class is annotated with it
+     *
+     * @return the {@link Cacheable} or {@link Optional#empty()}
+     */
+    Optional<Cacheable> getCacheable();
+
+    /**
+     * Creates the {@link Cacheable} settings, used by the generated class instead of reading the annotation
+     *
+     * @param maxSize the {@link Cacheable#maxSize()}
+     * @param ttl     the {@link Cacheable#ttl()}
+     * @param unit    the {@link Cacheable#unit()}
+     * @return a {@link Cacheable} instance
+     * @throws NullPointerException when unit is null
+     */
+    static Cacheable cacheable(int maxSize, long ttl, TimeUnit unit) throws NullPointerException {
+        return new DefaultCacheable(maxSize, ttl, unit);
+    }
+}
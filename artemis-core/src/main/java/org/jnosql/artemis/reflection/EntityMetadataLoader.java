@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@link EntityMetadata} generated at compile time, registered with the {@link ServiceLoader}
+ */
+final class EntityMetadataLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityMetadataLoader.class.getName());
+
+    private EntityMetadataLoader() {
+    }
+
+    static Optional<EntityMetadata> get(Class<?> entityClass) {
+        return Optional.ofNullable(Holder.METADATA.get(entityClass));
+    }
+
+    private static class Holder {
+
+        private static final Map<Class<?>, EntityMetadata> METADATA = load();
+
+        private static Map<Class<?>, EntityMetadata> load() {
+            Map<Class<?>, EntityMetadata> metadata = new HashMap<>();
+            try {
+                for (EntityMetadata entityMetadata : ServiceLoader.load(EntityMetadata.class)) {
+                    metadata.put(entityMetadata.getClassInstance(), entityMetadata);
+                }
+            } catch (Exception | ServiceConfigurationError exception) {
+                LOGGER.log(Level.WARNING, "Error loading the generated entity metadata, it will use reflection", exception);
+            }
+            return Collections.unmodifiableMap(metadata);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates the {@link FieldReader} and {@link FieldWriter} from a {@link Field}. The accessors are
+ * {@link MethodHandle} with the erased signature, so the access check happens once at creation time
+ * instead of at each {@link Field#get(Object)} and {@link Field#set(Object, Object)} call.
+ * When the handle cannot be created it falls back to the plain reflection.
+ */
+final class FieldAccessors {
+
+    private static final Logger LOGGER = Logger.getLogger(FieldAccessors.class.getName());
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private FieldAccessors() {
+    }
+
+    static FieldReader reader(Field field) {
+        requireNonNull(field, "field is required");
+        makeAccessible(field);
+        try {
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(READER_TYPE);
+            return new MethodHandleReader(getter);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to read the field " + field, exception);
+            return new ReflectionReader(field);
+        }
+    }
+
+    static FieldWriter writer(Field field) {
+        requireNonNull(field, "field is required");
+        makeAccessible(field);
+        if (Modifier.isFinal(field.getModifiers())) {
+            return new ReflectionWriter(field);
+        }
+        try {
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field).asType(WRITER_TYPE);
+            return new MethodHandleWriter(setter);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to write the field " + field, exception);
+            return new ReflectionWriter(field);
+        }
+    }
+
+    private static void makeAccessible(Field field) {
+        if ((!Modifier.isPublic(field.getModifiers()) || !Modifier
+                .isPublic(field.getDeclaringClass().getModifiers()))
+                && !field.isAccessible()) {
+            field.setAccessible(true);
+        }
+    }
+
+    private static final class MethodHandleReader implements FieldReader {
+
+        private final MethodHandle getter;
+
+        private MethodHandleReader(MethodHandle getter) {
+            this.getter = getter;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            try {
+                return getter.invokeExact(bean);
+            } catch (Throwable throwable) {
+                LOGGER.log(Level.SEVERE, null, throwable);
+                return null;
+            }
+        }
+    }
+
+    private static final class MethodHandleWriter implements FieldWriter {
+
+        private final MethodHandle setter;
+
+        private MethodHandleWriter(MethodHandle setter) {
+            this.setter = setter;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                setter.invokeExact(bean, value);
+            } catch (Throwable throwable) {
+                LOGGER.log(Level.SEVERE, null, throwable);
+            }
+        }
+    }
+
+    private static final class ReflectionReader implements FieldReader {
+
+        private final Field field;
+
+        private ReflectionReader(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object read(Object bean) {
+            try {
+                return field.get(bean);
+            } catch (Exception exception) {
+                LOGGER.log(Level.SEVERE, null, exception);
+                return null;
+            }
+        }
+    }
+
+    private static final class ReflectionWriter implements FieldWriter {
+
+        private final Field field;
+
+        private ReflectionWriter(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public void write(Object bean, Object value) {
+            try {
+                field.set(bean, value);
+            } catch (Exception exception) {
+                LOGGER.log(Level.SEVERE, null, exception);
+            }
+        }
+    }
+}
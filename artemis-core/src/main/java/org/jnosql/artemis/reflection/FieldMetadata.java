@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.AttributeConverter;
+
+import java.util.Optional;
+
+/**
+ * The field metadata generated at compile time, the field information in {@link EntityMetadata}
+ */
+public interface FieldMetadata {
+
+    /**
+     * @return the class that declares the field
+     */
+    Class<?> getDeclaringClass();
+
+    /**
+     * @return the Java field name
+     */
+    String getFieldName();
+
+    /**
+     * Returns the name of the field that can be either the field name
+     * or {@link org.jnosql.artemis.Column#value()}
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * @return the kind of the field, the same that {@link FieldType#of(java.lang.reflect.Field)} returns
+     */
+    FieldType getType();
+
+    /**
+     * @return true is the field is annotated with {@link org.jnosql.artemis.Id}
+     */
+    boolean isId();
+
+    /**
+     * @return the {@link org.jnosql.artemis.Convert#value()} if present
+     */
+    Optional<Class<? extends AttributeConverter>> getConverter();
+
+    /**
+     * @return the entity name of the field type when the field is embedded
+     */
+    Optional<String> getEntityName();
+
+    /**
+     * @return the reflection-free getter when the field or its getter is visible to the generated class
+     */
+    Optional<FieldReader> getReader();
+
+    /**
+     * @return the reflection-free setter when the field or its setter is visible to the generated class
+     */
+    Optional<FieldWriter> getWriter();
+
+    /**
+     * Creates a {@link FieldMetadataBuilder}
+     *
+     * @return a new builder instance
+     */
+    static FieldMetadataBuilder builder() {
+        return new FieldMetadataBuilder();
+    }
+}
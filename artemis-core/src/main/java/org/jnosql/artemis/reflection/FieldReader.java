@@ -12,16 +12,19 @@
  *
  *   Otavio Santana
  */
-package org.jnosql.artemis.document.query;
+package org.jnosql.artemis.reflection;
 
-import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.document.DocumentCondition;
-
-interface DocumentTokenProcessor {
+/**
+ * A getter built once to a {@link java.lang.reflect.Field}, it reads the field value from an entity instance.
+ */
+@FunctionalInterface
+public interface FieldReader {
 
-    DocumentCondition process(String token,
-                                  int index,
-                                  Object[] args,
-                                  String methodName,
-                                  ClassRepresentation representation);
+    /**
+     * Reads the field value from the instance
+     *
+     * @param bean the entity instance
+     * @return the field value
+     */
+    Object read(Object bean);
 }
@@ -82,6 +82,22 @@ public interface FieldRepresentation extends Serializable {
      */
     <T extends AttributeConverter> Optional<Class<? extends AttributeConverter>> getConverter();
 
+    /**
+     * Reads the field value from the entity instance using the accessor created with this representation
+     *
+     * @param bean the entity instance
+     * @return the field value
+     */
+    Object read(Object bean);
+
+    /**
+     * Writes the value at the field of the entity instance using the accessor created with this representation
+     *
+     * @param bean  the entity instance
+     * @param value the value
+     */
+    void write(Object bean, Object value);
+
     /**
      * Creates the FieldRepresentationBuilder
      *
@@ -25,6 +25,10 @@ class FieldRepresentationBuilder {
 
     private Field field;
 
+    private Class<?> declaringClass;
+
+    private String fieldName;
+
     private String name;
 
     private String entityName;
@@ -35,6 +39,10 @@ class FieldRepresentationBuilder {
 
     private boolean id;
 
+    private FieldReader reader;
+
+    private FieldWriter writer;
+
     public FieldRepresentationBuilder withType(FieldType type) {
         this.type = type;
         return this;
@@ -45,6 +53,16 @@ class FieldRepresentationBuilder {
         return this;
     }
 
+    public FieldRepresentationBuilder withDeclaringClass(Class<?> declaringClass) {
+        this.declaringClass = declaringClass;
+        return this;
+    }
+
+    public FieldRepresentationBuilder withFieldName(String fieldName) {
+        this.fieldName = fieldName;
+        return this;
+    }
+
     public FieldRepresentationBuilder withName(String name) {
         this.name = name;
         return this;
@@ -70,16 +88,35 @@ class FieldRepresentationBuilder {
         return this;
     }
 
+    public FieldRepresentationBuilder withReader(FieldReader reader) {
+        this.reader = reader;
+        return this;
+    }
+
+    public FieldRepresentationBuilder withWriter(FieldWriter writer) {
+        this.writer = writer;
+        return this;
+    }
+
     public DefaultFieldRepresentation buildDefault() {
-        return new DefaultFieldRepresentation(type, field, name, converter, id);
+        if (field == null) {
+            return new DefaultFieldRepresentation(type, declaringClass, fieldName, name, converter, id, reader, writer);
+        }
+        return new DefaultFieldRepresentation(type, field, name, converter, id, reader, writer);
     }
 
     public GenericFieldRepresentation buildGeneric() {
-        return new GenericFieldRepresentation(type, field, name, typeSupplier, converter);
+        if (field == null) {
+            return new GenericFieldRepresentation(type, declaringClass, fieldName, name, converter, reader, writer);
+        }
+        return new GenericFieldRepresentation(type, field, name, typeSupplier, converter, reader, writer);
     }
 
     public EmbeddedFieldRepresentation buildEmedded() {
-        return new EmbeddedFieldRepresentation(type, field, name, entityName);
+        if (field == null) {
+            return new EmbeddedFieldRepresentation(type, declaringClass, fieldName, name, entityName, reader, writer);
+        }
+        return new EmbeddedFieldRepresentation(type, field, name, entityName, reader, writer);
     }
 
 }
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+/**
+ * A setter built once to a {@link java.lang.reflect.Field}, it writes a value to an entity instance.
+ */
+@FunctionalInterface
+public interface FieldWriter {
+
+    /**
+     * Writes the value at the field of the instance
+     *
+     * @param bean  the entity instance
+     * @param value the value
+     */
+    void write(Object bean, Object value);
+}
@@ -40,10 +40,21 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
     private final TypeSupplier<?> typeSupplier;
 
     GenericFieldRepresentation(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier, Class<? extends AttributeConverter> converter) {
-        super(type, field, name, converter);
+        this(type, field, name, typeSupplier, converter, null, null);
+    }
+
+    GenericFieldRepresentation(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier,
+                               Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
+        super(type, field, name, converter, reader, writer);
         this.typeSupplier = typeSupplier;
     }
 
+    GenericFieldRepresentation(FieldType type, Class<?> declaringClass, String fieldName, String name,
+                               Class<? extends AttributeConverter> converter, FieldReader reader, FieldWriter writer) {
+        super(type, declaringClass, fieldName, name, converter, reader, writer);
+        this.typeSupplier = () -> getNativeField().getGenericType();
+    }
+
     @Override
     public Object getValue(Value value) {
         return value.get(typeSupplier);
@@ -64,14 +75,15 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
         }
         GenericFieldRepresentation that = (GenericFieldRepresentation) o;
         return type == that.type &&
-                Objects.equals(field, that.field) &&
+                Objects.equals(declaringClass, that.declaringClass) &&
+                Objects.equals(fieldName, that.fieldName) &&
                 Objects.equals(typeSupplier, that.typeSupplier) &&
                 Objects.equals(name, that.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, field, name, typeSupplier);
+        return Objects.hash(type, declaringClass, fieldName, name, typeSupplier);
     }
 
     public boolean isEmbeddable() {
@@ -106,7 +118,7 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
         final StringBuilder sb = new StringBuilder("GenericFieldRepresentation{");
         sb.append("typeSupplier=").append(typeSupplier);
         sb.append(", type=").append(type);
-        sb.append(", field=").append(field);
+        sb.append(", declaringClass=").append(declaringClass);
         sb.append(", name='").append(name).append('\'');
         sb.append(", fieldName='").append(fieldName).append('\'');
         sb.append(", converter=").append(converter);
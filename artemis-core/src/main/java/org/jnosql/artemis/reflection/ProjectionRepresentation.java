@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Projection;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class represents the information of a projection of an entity, either an interface with getters or a class
+ * annotated with {@link Projection}. The properties of the projection are matched to the entity fields by the
+ * java field name.
+ */
+public interface ProjectionRepresentation {
+
+    /**
+     * @return the projection class
+     */
+    Class<?> getProjectionInstance();
+
+    /**
+     * @return the representation of the projected entity
+     */
+    ClassRepresentation getClassRepresentation();
+
+    /**
+     * @return the entity fields read by the projection
+     */
+    List<FieldRepresentation> getFields();
+
+    /**
+     * @return the column names read by the projection
+     */
+    List<String> getColumns();
+
+    /**
+     * Creates a projection instance
+     *
+     * @param values the values of the entity fields grouped by the column name
+     * @param <T>    the projection type
+     * @return a projection instance
+     * @throws NullPointerException when values is null
+     * @throws ConstructorException when the projection class does not have a no arg constructor
+     */
+    <T> T newInstance(Map<String, Object> values) throws NullPointerException, ConstructorException;
+
+    /**
+     * Checks whether the type is a projection of the entity, either a class annotated with {@link Projection} or an
+     * interface that is not from the JDK. The entity class itself and the types it extends or implements are
+     * not projections, so a method that returns an interface of the entity keeps returning the entity.
+     *
+     * @param type        the type
+     * @param entityClass the entity class
+     * @return true when the type is a projection
+     * @throws NullPointerException when either type or entityClass is null
+     */
+    static boolean isProjection(Class<?> type, Class<?> entityClass) throws NullPointerException {
+        requireNonNull(type, "type is required");
+        requireNonNull(entityClass, "entityClass is required");
+        if (type.isAssignableFrom(entityClass)) {
+            return false;
+        }
+        return type.isAnnotationPresent(Projection.class)
+                || (type.isInterface() && !type.getName().startsWith("java."));
+    }
+
+    /**
+     * Creates a {@link ProjectionRepresentation}
+     *
+     * @param projection     the projection class
+     * @param representation the entity representation
+     * @return a {@link ProjectionRepresentation} instance
+     * @throws NullPointerException   when either projection or representation is null
+     * @throws DynamicQueryException when a property of the projection is not a field of the entity or is an
+     *                                embedded field
+     */
+    static ProjectionRepresentation of(Class<?> projection, ClassRepresentation representation)
+            throws NullPointerException, DynamicQueryException {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(representation, "representation is required");
+        return DefaultProjectionRepresentation.of(projection, representation);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.BeanManager;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utilitarian class to check, at the startup, if an event has observers, so the event managers
+ * might skip the event creation and the {@link javax.enterprise.event.Event#fire(Object)} call
+ * when nobody listens to it.
+ */
+public final class EventObservers {
+
+    private EventObservers() {
+    }
+
+    /**
+     * Checks if there is at least one observer method to an event fired from an injected
+     * {@link javax.enterprise.event.Event}, the observers are resolved from the runtime type of the sample.
+     * When there is no {@link BeanManager} it returns true, so the event is always fired.
+     *
+     * @param beanManager the bean manager, might be null
+     * @param sample      an event instance of the type to be checked
+     * @return true if there is an observer to the event or the observers are unknown
+     * @throws NullPointerException when sample is null
+     */
+    public static boolean hasObserver(BeanManager beanManager, Object sample) throws NullPointerException {
+        requireNonNull(sample, "sample is required");
+        if (beanManager == null) {
+            return true;
+        }
+        return !beanManager.resolveObserverMethods(sample, Default.Literal.INSTANCE).isEmpty();
+    }
+}
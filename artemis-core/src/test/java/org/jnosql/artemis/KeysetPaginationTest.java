@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.diana.api.Sort;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class KeysetPaginationTest {
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenKeyIsNull() {
+        KeysetPagination.of(null, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenMaxResultsIsNotPositive() {
+        KeysetPagination.of("id", 0);
+    }
+
+    @Test
+    public void shouldCreateTheFirstPage() {
+        KeysetPagination pagination = KeysetPagination.of("id", 10);
+        assertEquals("id", pagination.getKey());
+        assertEquals(Sort.SortType.ASC, pagination.getType());
+        assertEquals(10L, pagination.getMaxResults());
+        assertFalse(pagination.getLastKey().isPresent());
+    }
+
+    @Test
+    public void shouldCreateTheNextPage() {
+        KeysetPagination pagination = KeysetPagination.of("id", Sort.SortType.DESC, 10).next(20L);
+        assertEquals(Optional.of(20L), pagination.getLastKey());
+        assertEquals(Sort.SortType.DESC, pagination.getType());
+        assertEquals(KeysetPagination.of("id", Sort.SortType.DESC, 10).next(20L), pagination);
+    }
+
+    @Test
+    public void shouldReturnTheNextPaginationWhenPageIsFull() {
+        KeysetPagination pagination = KeysetPagination.of("id", 2);
+        KeysetPage<Long> page = KeysetPage.of(Arrays.asList(1L, 2L), pagination, Function.identity());
+        assertEquals(pagination.next(2L), page.next().get());
+        assertEquals(Arrays.asList(1L, 2L), page.getContent());
+    }
+
+    @Test
+    public void shouldNotReturnTheNextPaginationWhenPageIsNotFull() {
+        KeysetPagination pagination = KeysetPagination.of("id", 2);
+        assertFalse(KeysetPage.of(Collections.singletonList(1L), pagination, Function.identity()).next().isPresent());
+        assertFalse(KeysetPage.of(Collections.<Long>emptyList(), pagination, Function.identity()).next().isPresent());
+    }
+
+    @Test
+    public void shouldKeepTheLastIdAsTieBreaker() {
+        KeysetPagination pagination = KeysetPagination.of("name", 2);
+        KeysetPage<Long> page = KeysetPage.of(Arrays.asList(1L, 2L), pagination, l -> "name" + l, l -> l);
+        KeysetPagination next = page.next().get();
+        assertEquals(Optional.of("name2"), next.getLastKey());
+        assertEquals(Optional.of(2L), next.getLastId());
+        assertEquals(pagination.next("name2", 2L), next);
+        assertFalse(pagination.next("name2").getLastId().isPresent());
+    }
+}
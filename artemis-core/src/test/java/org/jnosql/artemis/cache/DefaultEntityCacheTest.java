@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.model.Magazine;
+import org.jnosql.artemis.model.Person;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class DefaultEntityCacheTest {
+
+    @Inject
+    private EntityCache cache;
+
+    @Before
+    public void setUp() {
+        cache.evictAll(Magazine.class);
+    }
+
+    @Test
+    public void shouldBeCacheableWhenEntityHasAnnotation() {
+        assertTrue(cache.isCacheable(Magazine.class));
+        assertFalse(cache.isCacheable(Person.class));
+    }
+
+    @Test
+    public void shouldPutAndGet() {
+        Magazine magazine = new Magazine(1L, "Java Magazine");
+        cache.put(Magazine.class, 1L, magazine, cache.getGeneration(Magazine.class));
+        assertEquals(Optional.of(magazine), cache.get(Magazine.class, 1L));
+        assertEquals(Optional.of(magazine), cache.get(Magazine.class, 1));
+    }
+
+    @Test
+    public void shouldIgnoreEntityWithoutAnnotation() {
+        Person person = Person.builder().withId(1L).build();
+        cache.put(Person.class, 1L, person, cache.getGeneration(Person.class));
+        assertFalse(cache.get(Person.class, 1L).isPresent());
+        assertEquals(new CacheStatistics(0L, 0L, 0L, 0), cache.getStatistics(Person.class));
+    }
+
+    @Test
+    public void shouldEvict() {
+        cache.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"), cache.getGeneration(Magazine.class));
+        cache.put(Magazine.class, 2L, new Magazine(2L, "Oracle Magazine"), cache.getGeneration(Magazine.class));
+        cache.evict(Magazine.class, 1L);
+        assertFalse(cache.get(Magazine.class, 1L).isPresent());
+        assertTrue(cache.get(Magazine.class, 2L).isPresent());
+    }
+
+    @Test
+    public void shouldEvictAllByName() {
+        cache.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"), cache.getGeneration(Magazine.class));
+        cache.evictAll("Magazine");
+        assertFalse(cache.get(Magazine.class, 1L).isPresent());
+        assertEquals(0, cache.getStatistics(Magazine.class).getSize());
+    }
+
+    @Test
+    public void shouldNotPutWhenThereWasWriteAfterTheLoad() {
+        long generation = cache.getGeneration(Magazine.class);
+        cache.evict(Magazine.class, 1L);
+        cache.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"), generation);
+        assertFalse(cache.get(Magazine.class, 1L).isPresent());
+
+        cache.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"), cache.getGeneration(Magazine.class));
+        assertTrue(cache.get(Magazine.class, 1L).isPresent());
+    }
+
+    @Test
+    public void shouldIncrementGenerationWhenEvictAll() {
+        long generation = cache.getGeneration(Magazine.class);
+        cache.evictAll("Magazine");
+        assertTrue(cache.getGeneration(Magazine.class) > generation);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenIdIsNull() {
+        cache.get(Magazine.class, null);
+    }
+
+    @Test
+    public void shouldNotKeepEntityWhenIsDisabled() {
+        EntityCache disabled = EntityCache.disabled();
+        disabled.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"), 0L);
+        assertFalse(disabled.isCacheable(Magazine.class));
+        assertFalse(disabled.get(Magazine.class, 1L).isPresent());
+    }
+}
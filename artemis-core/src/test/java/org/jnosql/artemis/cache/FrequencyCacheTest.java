@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FrequencyCacheTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenMaxSizeIsNotPositive() {
+        new FrequencyCache(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        FrequencyCache cache = new FrequencyCache(10, 0, TimeUnit.SECONDS);
+        assertNull(cache.get("ada"));
+        cache.put("ada", "Ada");
+        assertEquals("Ada", cache.get("ada"));
+        assertEquals("Ada", cache.get("ada"));
+
+        assertEquals(new CacheStatistics(2L, 1L, 0L, 1), cache.getStatistics());
+    }
+
+    @Test
+    public void shouldKeepFrequentEntryWhenFull() {
+        FrequencyCache cache = new FrequencyCache(2, 0, TimeUnit.SECONDS);
+        for (int index = 0; index < 5; index++) {
+            cache.get("ada");
+            cache.get("poliana");
+        }
+        cache.put("ada", "Ada");
+        cache.put("poliana", "Poliana");
+
+        cache.get("otavio");
+        cache.put("otavio", "Otavio");
+
+        assertNull(cache.get("otavio"));
+        assertEquals("Ada", cache.get("ada"));
+        assertEquals("Poliana", cache.get("poliana"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldReplaceLeastRecentlyUsedWhenCandidateIsMoreFrequent() {
+        FrequencyCache cache = new FrequencyCache(2, 0, TimeUnit.SECONDS);
+        cache.put("ada", "Ada");
+        cache.put("poliana", "Poliana");
+        cache.get("poliana");
+        for (int index = 0; index < 5; index++) {
+            cache.get("otavio");
+        }
+        cache.put("otavio", "Otavio");
+
+        assertNull(cache.get("ada"));
+        assertEquals("Otavio", cache.get("otavio"));
+        assertEquals("Poliana", cache.get("poliana"));
+        assertEquals(1L, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void shouldExpireEntry() {
+        AtomicLong clock = new AtomicLong();
+        FrequencyCache cache = new FrequencyCache(10, 1, TimeUnit.SECONDS, clock::get);
+        cache.put("ada", "Ada");
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("Ada", cache.get("ada"));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.get("ada"));
+        assertEquals(new CacheStatistics(1L, 1L, 1L, 0), cache.getStatistics());
+    }
+
+    @Test
+    public void shouldRemoveAndClear() {
+        FrequencyCache cache = new FrequencyCache(10, 0, TimeUnit.SECONDS);
+        cache.put("ada", "Ada");
+        cache.put("poliana", "Poliana");
+        cache.remove("ada");
+        assertNull(cache.get("ada"));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
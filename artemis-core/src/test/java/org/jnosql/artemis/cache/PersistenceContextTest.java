@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.model.Magazine;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.enterprise.context.control.RequestContextController;
+import javax.inject.Inject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class PersistenceContextTest {
+
+    @Inject
+    private RequestContextController requestContextController;
+
+    @After
+    public void tearDown() {
+        PersistenceContext.current().ifPresent(PersistenceContext::close);
+        System.clearProperty(PersistenceContext.REQUEST_PROPERTY);
+    }
+
+    @Test
+    public void shouldBindToTheThread() {
+        assertFalse(PersistenceContext.current().isPresent());
+        try (PersistenceContext context = PersistenceContext.open()) {
+            assertSame(context, PersistenceContext.current().get());
+        }
+        assertFalse(PersistenceContext.current().isPresent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnErrorWhenIsAlreadyOpen() {
+        PersistenceContext.open();
+        PersistenceContext.open();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenIdIsNull() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.find(Magazine.class, null);
+        }
+    }
+
+    @Test
+    public void shouldReturnTheManagedInstance() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Magazine magazine = new Magazine(1L, "Java Magazine");
+            assertSame(magazine, context.manage(Magazine.class, 1L, magazine));
+            assertSame(magazine, context.manage(Magazine.class, "1", new Magazine(1L, "Java Magazine")));
+            assertSame(magazine, context.find(Magazine.class, 1L).get());
+            assertFalse(context.find(Magazine.class, 2L).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldReplaceTheManagedInstance() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"));
+            Magazine magazine = new Magazine(1L, "NoSQL Magazine");
+            context.put(Magazine.class, 1L, magazine);
+            assertSame(magazine, context.find(Magazine.class, 1L).get());
+        }
+    }
+
+    @Test
+    public void shouldRemove() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"));
+            context.put(Magazine.class, 2L, new Magazine(2L, "NoSQL Magazine"));
+            context.remove(Magazine.class, 1L);
+            assertFalse(context.find(Magazine.class, 1L).isPresent());
+            assertTrue(context.find(Magazine.class, 2L).isPresent());
+            context.clear(Magazine.class);
+            assertFalse(context.find(Magazine.class, 2L).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldRemoveOnlyFromTheEntityClass() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"));
+            context.put(String.class, 1L, "Java Magazine");
+            context.remove(String.class, 1L);
+            assertTrue(context.find(Magazine.class, 1L).isPresent());
+            assertFalse(context.find(String.class, 1L).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldRemoveKeyFromAllEntityClasses() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.put(Magazine.class, 1L, new Magazine(1L, "Java Magazine"));
+            context.put(String.class, 1L, "Java Magazine");
+            context.removeKey(1L);
+            assertFalse(context.find(Magazine.class, 1L).isPresent());
+            assertFalse(context.find(String.class, 1L).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldKeepTheSnapshot() {
+        try (PersistenceContext context = PersistenceContext.open()) {
+            context.snapshot(Magazine.class, 1L, "snapshot");
+            assertEquals("snapshot", context.getSnapshot(Magazine.class, "1").get());
+            context.remove(Magazine.class, 1L);
+            assertFalse(context.getSnapshot(Magazine.class, 1L).isPresent());
+            context.snapshot(Magazine.class, 2L, "snapshot");
+            context.clear(Magazine.class);
+            assertFalse(context.getSnapshot(Magazine.class, 2L).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldOpenAtRequestContextWhenIsEnabled() {
+        System.setProperty(PersistenceContext.REQUEST_PROPERTY, "true");
+        requestContextController.activate();
+        try {
+            assertTrue(PersistenceContext.current().isPresent());
+        } finally {
+            requestContextController.deactivate();
+        }
+        assertFalse(PersistenceContext.current().isPresent());
+    }
+
+    @Test
+    public void shouldNotOpenAtRequestContextWhenIsDisabled() {
+        requestContextController.activate();
+        try {
+            assertFalse(PersistenceContext.current().isPresent());
+        } finally {
+            requestContextController.deactivate();
+        }
+        assertFalse(PersistenceContext.current().isPresent());
+    }
+
+    @Test
+    public void shouldNotCloseTheContextOpenedByTheApplicationAtRequestEnd() {
+        System.setProperty(PersistenceContext.REQUEST_PROPERTY, "true");
+        PersistenceContext context = PersistenceContext.open();
+        requestContextController.activate();
+        try {
+            assertSame(context, PersistenceContext.current().get());
+        } finally {
+            requestContextController.deactivate();
+        }
+        assertSame(context, PersistenceContext.current().get());
+    }
+
+    @Test
+    public void shouldUnbindTheContextClosedByAnotherThread() throws InterruptedException {
+        PersistenceContext context = PersistenceContext.open();
+        Thread thread = new Thread(context::close);
+        thread.start();
+        thread.join();
+        assertFalse(PersistenceContext.current().isPresent());
+        try (PersistenceContext newContext = PersistenceContext.open()) {
+            assertSame(newContext, PersistenceContext.current().get());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cache;
+
+import org.jnosql.diana.api.Settings;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class QueryCacheTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenSizeIsNotPositive() {
+        QueryCache.of(0, Duration.ZERO);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenLoaderIsNull() {
+        QueryCache.of(10, Duration.ZERO).get("Person", "key", null);
+    }
+
+    @Test
+    public void shouldLoadOnce() {
+        QueryCache cache = QueryCache.of(10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> first = cache.get("Person", Arrays.asList("name", "Ada"), () -> load(loads, "Ada"));
+        List<String> second = cache.get("Person", Arrays.asList("name", "Ada"), () -> load(loads, "Ada"));
+
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertEquals(new CacheStatistics(1L, 1L, 0L, 1), cache.getStatistics());
+    }
+
+    @Test
+    public void shouldInvalidateByName() {
+        QueryCache cache = QueryCache.of(10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        cache.get("Movie", "matrix", () -> load(loads, "Matrix"));
+        cache.evict("Person");
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        cache.get("Movie", "matrix", () -> load(loads, "Matrix"));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldNotKeepResultLoadedWhileNameWasWritten() {
+        QueryCache cache = QueryCache.of(10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("Person", "ada", () -> {
+            cache.evict("Person");
+            return load(loads, "Ada");
+        });
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldReturnCopyOfResult() {
+        QueryCache cache = QueryCache.of(10, Duration.ZERO);
+        List<String> first = cache.get("Person", "ada", () -> load(new AtomicInteger(), "Ada"));
+        List<String> second = cache.get("Person", "ada", () -> load(new AtomicInteger(), "Ada"));
+        List<String> third = cache.get("Person", "ada", () -> load(new AtomicInteger(), "Ada"));
+        second.clear();
+        assertNotSame(first, third);
+        assertEquals(Collections.singletonList("Ada"), third);
+    }
+
+    @Test
+    public void shouldCreateFromSettings() {
+        Map<String, Object> values = new HashMap<>();
+        assertSame(QueryCache.disabled(), QueryCache.of(Settings.of(values)));
+
+        values.put(QueryCache.SIZE_PROPERTY, "100");
+        values.put(QueryCache.TTL_PROPERTY, 60);
+        QueryCache cache = QueryCache.of(Settings.of(values));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldAlwaysLoadWhenIsDisabled() {
+        QueryCache cache = QueryCache.disabled();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        cache.get("Person", "ada", () -> load(loads, "Ada"));
+        assertEquals(2, loads.get());
+    }
+
+    private List<String> load(AtomicInteger loads, String value) {
+        loads.incrementAndGet();
+        return Collections.singletonList(value);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.executor;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncExecutorsTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenThreadsIsNotPositive() {
+        AsyncExecutors.newBoundedExecutor(0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenQueueIsNotPositive() {
+        AsyncExecutors.newBoundedExecutor(1, 0);
+    }
+
+    @Test
+    public void shouldReturnBoundedExecutorWhenThereIsNoVirtualThread() throws Exception {
+        ExecutorService executor = AsyncExecutors.newExecutor();
+        try {
+            assertEquals(!AsyncExecutors.isVirtualThreadSupported(), executor instanceof ThreadPoolExecutor);
+            Thread caller = Thread.currentThread();
+            Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(10, TimeUnit.SECONDS);
+            assertNotEquals(caller, thread);
+            assertTrue(thread.isDaemon());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() {
+        ExecutorService executor = AsyncExecutors.newBoundedExecutor(1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+            });
+            executor.execute(() -> {
+            });
+            fail("the executor should reject when the queue is full");
+        } catch (RejectedExecutionException exception) {
+            assertEquals(1, ((ThreadPoolExecutor) executor).getQueue().size());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldShareDefaultExecutor() {
+        assertSame(AsyncExecutors.getDefault(), AsyncExecutors.getDefault());
+    }
+
+    @Test
+    public void shouldUseDedicatedCallbackExecutor() throws Exception {
+        ExecutorService executor = AsyncExecutors.getCallbackDefault();
+        assertSame(executor, AsyncExecutors.getCallbackDefault());
+        assertNotSame(AsyncExecutors.getDefault(), executor);
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).get(10, TimeUnit.SECONDS);
+        assertTrue(thread.getName().startsWith("jnosql-artemis-callback-"));
+        assertTrue(thread.isDaemon());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.executor;
+
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.limit.LimitExceededException;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncOperationsTest {
+
+    private final Executor executor = Runnable::run;
+
+    @Test
+    public void shouldCompleteWithTheResult() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        CompletableFuture<String> future = AsyncOperations.submit(executor, limiter, () -> "Ada");
+        assertEquals("Ada", future.get(10, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldReleasePermitWhenOperationThrowsError() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        CompletableFuture<String> future = AsyncOperations.submit(executor, limiter, () -> {
+            throw new AssertionError("error");
+        });
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("the future should complete exceptionally");
+        } catch (ExecutionException exception) {
+            assertTrue(exception.getCause() instanceof AssertionError);
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenExecutorRejects() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        CompletableFuture<String> future = AsyncOperations.supply(runnable -> {
+            throw new RejectedExecutionException("full");
+        }, limiter, () -> "Ada");
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenLimiterRejects() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        limiter.acquire();
+        CompletableFuture<String> future = AsyncOperations.supply(executor, limiter, () -> "Ada");
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1L, limiter.getRejections());
+    }
+
+    @Test(expected = LimitExceededException.class)
+    public void shouldThrowWhenLimiterRejects() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        limiter.acquire();
+        AsyncOperations.execute(executor, limiter, () -> "Ada");
+    }
+
+    @Test
+    public void shouldNotCallBackWhenOperationFails() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        AtomicBoolean called = new AtomicBoolean();
+        AsyncOperations.execute(executor, limiter, () -> {
+            throw new IllegalStateException("failure");
+        }, result -> called.set(true));
+        assertFalse(called.get());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
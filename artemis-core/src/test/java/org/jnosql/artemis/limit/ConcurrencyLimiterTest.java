@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.limit;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenLimitIsNotPositive() {
+        ConcurrencyLimiter.fixed(0, Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenInitialLimitIsGreaterThanMax() {
+        ConcurrencyLimiter.adaptive(10, 1, 5, Duration.ZERO);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenMaxWaitIsNull() {
+        ConcurrencyLimiter.fixed(1, null);
+    }
+
+    @Test
+    public void shouldRejectWhenLimitIsReached() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(2, Duration.ZERO);
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        limiter.acquire();
+        assertEquals(2, limiter.getInFlight());
+        try {
+            limiter.acquire();
+            fail("the limiter should reject the third operation");
+        } catch (LimitExceededException exception) {
+            assertEquals(1L, limiter.getRejections());
+        }
+        permit.release();
+        permit.release();
+        assertEquals(1, limiter.getInFlight());
+        limiter.acquire();
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldWaitForPermit() throws Exception {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ofSeconds(10));
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        CompletableFuture<ConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(limiter::acquire);
+        while (limiter.getQueueDepth() == 0) {
+            Thread.sleep(1L);
+        }
+        assertEquals(1, limiter.getQueueDepth());
+        permit.release();
+        waiting.get(10, TimeUnit.SECONDS);
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(0L, limiter.getRejections());
+    }
+
+    @Test
+    public void shouldRejectWhenMaxWaitExpires() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ofMillis(10));
+        limiter.acquire();
+        try {
+            limiter.acquire();
+            fail("the limiter should reject after the max wait");
+        } catch (LimitExceededException exception) {
+            assertEquals(1L, limiter.getRejections());
+            assertEquals(0, limiter.getQueueDepth());
+        }
+    }
+
+    @Test
+    public void shouldDecreaseLimitOnceAtWindowWhenLatencyGrows() {
+        AtomicLong clock = new AtomicLong();
+        ConcurrencyLimiter limiter = new DefaultConcurrencyLimiter(10, 2, 20, 0L, 0L, clock::get);
+        round(limiter, clock, MILLISECOND);
+        assertEquals(11, limiter.getLimit());
+        round(limiter, clock, 20 * MILLISECOND);
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldRecoverLimitWhenLatencyGrowsForGood() {
+        AtomicLong clock = new AtomicLong();
+        ConcurrencyLimiter limiter = new DefaultConcurrencyLimiter(20, 1, 20, 0L, 0L, clock::get);
+        for (int index = 0; index < 5; index++) {
+            round(limiter, clock, MILLISECOND);
+        }
+        int lowest = limiter.getLimit();
+        for (int index = 0; index < 100; index++) {
+            round(limiter, clock, 10 * MILLISECOND);
+            lowest = Math.min(lowest, limiter.getLimit());
+        }
+        assertTrue(lowest < 20);
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    public void shouldReleaseThePermitWhenLeaseExpires() {
+        AtomicLong clock = new AtomicLong();
+        ConcurrencyLimiter limiter = new DefaultConcurrencyLimiter(1, 1, 1, 0L, 10 * MILLISECOND, clock::get);
+        ConcurrencyLimiter.Permit lost = limiter.acquire();
+        try {
+            limiter.acquire();
+            fail("the limiter should reject while the lease is valid");
+        } catch (LimitExceededException exception) {
+            assertEquals(1L, limiter.getRejections());
+        }
+        clock.addAndGet(10 * MILLISECOND);
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        assertEquals(1, limiter.getInFlight());
+        lost.release();
+        assertEquals(1, limiter.getInFlight());
+        permit.release();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenLeaseIsNegative() {
+        ConcurrencyLimiter.fixed(1, Duration.ZERO, Duration.ofMillis(-1L));
+    }
+
+    @Test
+    public void shouldKeepAdaptiveLimitWithinBounds() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.adaptive(2, 1, 3, Duration.ZERO);
+        for (int index = 0; index < 100; index++) {
+            limiter.acquire().release();
+            assertTrue(limiter.getLimit() >= 1 && limiter.getLimit() <= 3);
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void shouldReturnUnlimitedWhenThereIsNoProperty() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fromSystemProperties();
+        assertEquals(Integer.MAX_VALUE, limiter.getLimit());
+        ConcurrencyLimiter.Permit permit = limiter.acquire();
+        assertEquals(1, limiter.getInFlight());
+        permit.release();
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void round(ConcurrencyLimiter limiter, AtomicLong clock, long latency) {
+        List<ConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        int limit = limiter.getLimit();
+        for (int index = 0; index < limit; index++) {
+            permits.add(limiter.acquire());
+        }
+        clock.addAndGet(latency);
+        permits.forEach(ConcurrencyLimiter.Permit::release);
+    }
+}
@@ -15,8 +15,13 @@
 package org.jnosql.artemis.reflection;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Animal;
+import org.jnosql.artemis.model.Magazine;
 import org.jnosql.artemis.model.Director;
 import org.jnosql.artemis.model.Machine;
 import org.jnosql.artemis.model.Person;
@@ -26,12 +31,19 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import javax.inject.Inject;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
 import static org.jnosql.artemis.reflection.FieldType.DEFAULT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -74,6 +86,26 @@ public class ClassConverterTest {
 
     }
 
+    @Test
+    public void shouldReturnCacheable() {
+        ClassRepresentation classRepresentation = classConverter.create(Magazine.class);
+        Cacheable cacheable = classRepresentation.getCacheable().get();
+        assertEquals(2, cacheable.maxSize());
+        assertEquals(10L, cacheable.ttl());
+        assertEquals(TimeUnit.MINUTES, cacheable.unit());
+        assertFalse(classConverter.create(Person.class).getCacheable().isPresent());
+    }
+
+    @Test
+    public void shouldReturnFieldIndexByName() {
+        ClassRepresentation classRepresentation = classConverter.create(Actor.class);
+        List<FieldRepresentation> fields = classRepresentation.getFields();
+        for (int index = 0; index < fields.size(); index++) {
+            assertEquals(index, classRepresentation.getFieldIndex(fields.get(index).getName()));
+        }
+        assertEquals(-1, classRepresentation.getFieldIndex("not_found"));
+    }
+
     @Test
     public void shouldReturnFalseWhenThereIsNotKey(){
         ClassRepresentation classRepresentation = classConverter.create(Worker.class);
@@ -107,4 +139,87 @@ public class ClassConverterTest {
         assertEquals(1, fields.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldCreateClassRepresentationFromMetadata() {
+        AtomicInteger instances = new AtomicInteger();
+        ClassRepresentation classRepresentation = classConverter.create(new BookMetadata(instances));
+
+        assertEquals("Book", classRepresentation.getName());
+        assertEquals(Book.class, classRepresentation.getClassInstance());
+        assertThat(classRepresentation.getFieldsName(), containsInAnyOrder("_id", "title", "tags"));
+        assertEquals("_id", classRepresentation.getId().get().getName());
+
+        Book book = classRepresentation.newInstance();
+        assertEquals(1, instances.get());
+        classRepresentation.getFieldsGroupByName().get("title").write(book, "Effective Java");
+        classRepresentation.getFieldsGroupByName().get("_id").write(book, 10L);
+        assertEquals("Effective Java", book.title);
+        assertEquals(Long.valueOf(10L), classRepresentation.getFieldsGroupByName().get("_id").read(book));
+
+        Cacheable cacheable = classRepresentation.getCacheable().get();
+        assertEquals(5, cacheable.maxSize());
+        assertEquals(TimeUnit.HOURS, cacheable.unit());
+        assertEquals(COLLECTION, classRepresentation.getFieldsGroupByName().get("tags").getType());
+        assertEquals("tags", classRepresentation.getFieldsGroupByName().get("tags").getNativeField().getName());
+    }
+
+    @Entity
+    public static class Book {
+
+        @Id
+        Long id;
+
+        @Column
+        String title;
+
+        @Column
+        List<String> tags;
+    }
+
+    private static class BookMetadata implements EntityMetadata {
+
+        private final AtomicInteger instances;
+
+        private BookMetadata(AtomicInteger instances) {
+            this.instances = instances;
+        }
+
+        @Override
+        public Class<?> getClassInstance() {
+            return Book.class;
+        }
+
+        @Override
+        public String getName() {
+            return "Book";
+        }
+
+        @Override
+        public List<FieldMetadata> getFields() {
+            return Arrays.asList(FieldMetadata.builder().withDeclaringClass(Book.class)
+                            .withFieldName("id").withName("_id").withId(true)
+                            .withReader(bean -> ((Book) bean).id)
+                            .withWriter((bean, value) -> ((Book) bean).id = (Long) value).build(),
+                    FieldMetadata.builder().withDeclaringClass(Book.class)
+                            .withFieldName("title").withName("title")
+                            .withReader(bean -> ((Book) bean).title)
+                            .withWriter((bean, value) -> ((Book) bean).title = (String) value).build(),
+                    FieldMetadata.builder().withDeclaringClass(Book.class)
+                            .withFieldName("tags").withName("tags").withType(COLLECTION).build());
+        }
+
+        @Override
+        public Optional<Supplier<Object>> getInstanceSupplier() {
+            return Optional.of(() -> {
+                instances.incrementAndGet();
+                return new Book();
+            });
+        }
+
+        @Override
+        public Optional<Cacheable> getCacheable() {
+            return Optional.of(EntityMetadata.cacheable(5, 1L, TimeUnit.HOURS));
+        }
+    }
+
+}
@@ -89,6 +89,31 @@ public class FieldRepresentationTest {
         assertEquals(EMBEDDED, field.getType());
     }
 
+    @Test
+    public void shouldWriteAndReadField() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        List<FieldRepresentation> fields = classRepresentation.getFields();
+        FieldRepresentation field = fields.stream()
+                .filter(f -> "string".equals(f.getFieldName())).findFirst().get();
+
+        ForClass instance = new ForClass();
+        field.write(instance, "value");
+        assertEquals("value", instance.string);
+        assertEquals("value", field.read(instance));
+    }
+
+    @Test
+    public void shouldWriteAndReadEmbeddedField() {
+        ClassRepresentation classRepresentation = classConverter.create(ForClass.class);
+        FieldRepresentation field = classRepresentation.getFields().stream()
+                .filter(f -> "barClass".equals(f.getFieldName())).findFirst().get();
+
+        ForClass instance = new ForClass();
+        BarClass barClass = new BarClass();
+        field.write(instance, barClass);
+        assertEquals(barClass, field.read(instance));
+    }
+
 
     public static class ForClass {
 
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Projection;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class ProjectionRepresentationTest {
+
+    @Inject
+    private ClassConverter classConverter;
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenProjectionIsNull() {
+        ProjectionRepresentation.of(null, classConverter.create(Person.class));
+    }
+
+    @Test
+    public void shouldCheckProjection() {
+        assertTrue(ProjectionRepresentation.isProjection(PersonName.class, Person.class));
+        assertTrue(ProjectionRepresentation.isProjection(PersonSummary.class, Person.class));
+        assertFalse(ProjectionRepresentation.isProjection(Person.class, Person.class));
+        assertFalse(ProjectionRepresentation.isProjection(List.class, Person.class));
+    }
+
+    @Test
+    public void shouldNotBeProjectionWhenTheEntityImplementsTheInterface() {
+        assertFalse(ProjectionRepresentation.isProjection(Named.class, NamedEntity.class));
+        assertTrue(ProjectionRepresentation.isProjection(PersonName.class, NamedEntity.class));
+    }
+
+    @Test
+    public void shouldCreateInterfaceProjection() {
+        ProjectionRepresentation projection = ProjectionRepresentation.of(PersonName.class, classConverter.create(Person.class));
+        assertEquals(PersonName.class, projection.getProjectionInstance());
+        assertThat(projection.getColumns(), containsInAnyOrder("_id", "name", "age"));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("_id", 10L);
+        values.put("name", "Ada");
+        values.put("age", 20);
+        PersonName name = projection.newInstance(values);
+        assertEquals(10L, name.getId());
+        assertEquals("Ada", name.getName());
+        assertEquals(20L, name.getAge());
+        assertEquals(name, projection.newInstance(values));
+        assertEquals(name.hashCode(), projection.<PersonName>newInstance(values).hashCode());
+    }
+
+    @Test
+    public void shouldReturnDefaultValueWhenColumnIsMissing() {
+        ProjectionRepresentation projection = ProjectionRepresentation.of(PersonName.class, classConverter.create(Person.class));
+        PersonName name = projection.newInstance(Collections.emptyMap());
+        assertNull(name.getName());
+        assertEquals(0L, name.getAge());
+    }
+
+    @Test
+    public void shouldCreateClassProjection() {
+        ProjectionRepresentation projection = ProjectionRepresentation.of(PersonSummary.class, classConverter.create(Person.class));
+        assertThat(projection.getColumns(), containsInAnyOrder("name", "phones"));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "Ada");
+        values.put("phones", Arrays.asList("123", "456"));
+        PersonSummary summary = projection.newInstance(values);
+        assertEquals("Ada", summary.name);
+        assertEquals(Arrays.asList("123", "456"), summary.phones);
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenPropertyIsNotAField() {
+        ProjectionRepresentation.of(PersonNickname.class, classConverter.create(Person.class));
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenPropertyIsEmbedded() {
+        ProjectionRepresentation.of(WorkerJob.class, classConverter.create(Worker.class));
+    }
+
+    @Test(expected = ConstructorException.class)
+    public void shouldReturnErrorWhenClassDoesNotHaveNoArgConstructor() {
+        ProjectionRepresentation.of(PersonAge.class, classConverter.create(Person.class));
+    }
+
+    public interface PersonName {
+
+        long getId();
+
+        String getName();
+
+        long getAge();
+    }
+
+    public interface PersonNickname {
+
+        String getNickname();
+    }
+
+    public interface WorkerJob {
+
+        Object getJob();
+    }
+
+    @Projection
+    public static class PersonSummary {
+
+        private String name;
+
+        private List<String> phones;
+    }
+
+    @Projection
+    public static class PersonAge {
+
+        private final int age;
+
+        public PersonAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public interface Named {
+
+        String getName();
+    }
+
+    public static class NamedEntity implements Named {
+
+        private String name;
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.util;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.EntityPostPersit;
+import org.jnosql.artemis.EntityPrePersist;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class EventObserversTest {
+
+    @Inject
+    private BeanManager beanManager;
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenSampleIsNull() {
+        EventObservers.hasObserver(beanManager, null);
+    }
+
+    @Test
+    public void shouldReturnTrueWhenThereIsObserver() {
+        assertTrue(EventObservers.hasObserver(beanManager, EntityPrePersist.of("value")));
+    }
+
+    @Test
+    public void shouldReturnFalseWhenThereIsNotObserver() {
+        assertFalse(EventObservers.hasObserver(beanManager, EntityPostPersit.of("value")));
+    }
+
+    @Test
+    public void shouldReturnTrueWhenBeanManagerIsNull() {
+        assertTrue(EventObservers.hasObserver(null, EntityPostPersit.of("value")));
+    }
+
+    @ApplicationScoped
+    static class PrePersistObserver {
+
+        void observe(@Observes EntityPrePersist event) {
+        }
+    }
+}
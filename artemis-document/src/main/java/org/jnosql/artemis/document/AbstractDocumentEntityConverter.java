@@ -21,6 +21,7 @@ import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
 import org.jnosql.artemis.reflection.FieldValue;
 import org.jnosql.artemis.reflection.GenericFieldRepresentation;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
@@ -29,13 +30,14 @@ import org.jnosql.diana.api.document.DocumentEntity;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
 import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
@@ -46,6 +48,15 @@ import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
  */
 public abstract class AbstractDocumentEntityConverter  implements DocumentEntityConverter {
 
+    /**
+     * The system property that disables the compiled converters, when false all conversions use the interpreter
+     */
+    public static final String COMPILED_PROPERTY = "org.jnosql.artemis.converter.compiled";
+
+    private static final Logger LOGGER = Logger.getLogger(AbstractDocumentEntityConverter.class.getName());
+
+    private static final boolean COMPILED = Boolean.parseBoolean(System.getProperty(COMPILED_PROPERTY, "true"));
+
     protected abstract ClassRepresentations getClassRepresentations();
 
     protected abstract Reflections getReflections();
@@ -54,11 +65,26 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
 
     private final DocumentFieldConverterFactory converterFactory = new DocumentFieldConverterFactory();
 
+    private final Map<Class<?>, Optional<CompiledDocumentConverter>> compiledConverters = new ConcurrentHashMap<>();
+
+    /**
+     * Defines whether the conversion uses a converter compiled to each entity class,
+     * by default it is enabled unless the {@link AbstractDocumentEntityConverter#COMPILED_PROPERTY} is false.
+     *
+     * @return true when the compiled converters are enabled
+     */
+    protected boolean isCompiled() {
+        return COMPILED;
+    }
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
         ClassRepresentation representation = getClassRepresentations().get(entityInstance.getClass());
+        Optional<CompiledDocumentConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toDocument(entityInstance);
+        }
         DocumentEntity entity = DocumentEntity.of(representation.getName());
         representation.getFields().stream()
                 .map(f -> to(f, entityInstance))
@@ -79,7 +105,11 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
 
     protected  <T> T toEntity(Class<T> entityClass, List<Document> documents) {
         ClassRepresentation representation = getClassRepresentations().get(entityClass);
-        T instance = getReflections().newInstance(representation.getConstructor());
+        Optional<CompiledDocumentConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toEntity(documents);
+        }
+        T instance = representation.newInstance();
         return convertEntity(documents, representation, instance);
     }
 
@@ -89,36 +119,65 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
     public <T> T toEntity(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
         ClassRepresentation representation = getClassRepresentations().findByName(entity.getName());
-        T instance = getReflections().newInstance(representation.getConstructor());
+        Optional<CompiledDocumentConverter> compiled = getCompiled(representation);
+        if (compiled.isPresent()) {
+            return compiled.get().toEntity(entity.getDocuments());
+        }
+        T instance = representation.newInstance();
         return convertEntity(entity.getDocuments(), representation, instance);
     }
 
-    private <T> T convertEntity(List<Document> documents, ClassRepresentation representation, T instance) {
-        Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-
-        List<String> names = documents.stream().map(Document::getName).sorted().collect(Collectors.toList());
-        Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
+    private Optional<CompiledDocumentConverter> getCompiled(ClassRepresentation representation) {
+        if (!isCompiled()) {
+            return Optional.empty();
+        }
+        return compiledConverters.computeIfAbsent(representation.getClassInstance(), k -> compile(representation));
+    }
 
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, documents, fieldsGroupByName));
+    private Optional<CompiledDocumentConverter> compile(ClassRepresentation representation) {
+        try {
+            return Optional.of(CompiledDocumentConverter.of(representation, this));
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "It cannot compile the converter to the class "
+                    + representation.getClassInstance().getName() + ", it will use the interpreter", exception);
+            return Optional.empty();
+        }
+    }
 
+    private <T> T convertEntity(List<Document> documents, ClassRepresentation representation, T instance) {
+        List<FieldRepresentation> fields = representation.getFields();
+        boolean[] converted = new boolean[fields.size()];
+        for (Document document : documents) {
+            int index = representation.getFieldIndex(document.getName());
+            if (index >= 0 && !converted[index]) {
+                converted[index] = true;
+                FieldRepresentation field = fields.get(index);
+                converterFactory.get(field).convert(instance, documents, Optional.of(document), field);
+            }
+        }
+        for (int index = 0; index < converted.length; index++) {
+            FieldRepresentation field = fields.get(index);
+            if (!converted[index] && EMBEDDED.equals(field.getType())) {
+                converterFactory.get(field).convert(instance, documents, Optional.empty(), field);
+            }
+        }
         return instance;
     }
 
-    protected <T> Consumer<String> feedObject(T instance, List<Document> documents, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return k -> {
-            Optional<Document> document = documents.stream().filter(c -> c.getName().equals(k)).findFirst();
 
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            DocumentFieldConverter fieldConverter = converterFactory.get(field);
-            fieldConverter.convert(instance, documents, document, field);
-        };
+    @Override
+    public <T> T toProjection(ProjectionRepresentation projection, DocumentEntity entity) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(entity, "entity is required");
+        Map<String, Object> values = new HashMap<>();
+        for (FieldRepresentation field : projection.getFields()) {
+            entity.find(field.getName()).ifPresent(c -> values.put(field.getName(), getValue(field, c.getValue())));
+        }
+        return projection.newInstance(values);
     }
 
-
     private DocumentFieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = getReflections().getValue(entityInstance, field.getNativeField());
+        Object value = field.read(entityInstance);
         return DocumentFieldValue.of(value, field);
     }
 
@@ -128,6 +187,16 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
         <T> void convert(T instance, List<Document> documents, Optional<Document> document, FieldRepresentation field);
     }
 
+    private Object getValue(FieldRepresentation field, Value value) {
+        Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
+        if (converter.isPresent()) {
+            AttributeConverter attributeConverter = getConverters().get(converter.get());
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
+            return field.getValue(Value.of(attributeConverted));
+        }
+        return field.getValue(value);
+    }
+
     private class DocumentFieldConverterFactory {
 
         private final EmbeddedFieldConverter embeddedFieldConverter = new EmbeddedFieldConverter();
@@ -164,14 +233,14 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
                     for (Object key : map.keySet()) {
                         embeddedDocument.add(Document.of(key.toString(), map.get(key)));
                     }
-                    getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), embeddedDocument));
+                    field.write(instance, toEntity(field.getNativeField().getType(), embeddedDocument));
                 } else {
-                    getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), sudDocument.get(new TypeReference<List<Document>>() {
+                    field.write(instance, toEntity(field.getNativeField().getType(), sudDocument.get(new TypeReference<List<Document>>() {
                     })));
                 }
 
             } else {
-                getReflections().setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), documents));
+                field.write(instance, toEntity(field.getNativeField().getType(), documents));
             }
         }
     }
@@ -182,14 +251,7 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
         public <T> void convert(T instance, List<Document> documents, Optional<Document> document,
                                 FieldRepresentation field) {
             Value value = document.get().getValue();
-            Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
-            if (converter.isPresent()) {
-                AttributeConverter attributeConverter = getConverters().get(converter.get());
-                Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-                getReflections().setValue(instance, field.getNativeField(), field.getValue(Value.of(attributeConverted)));
-            } else {
-                getReflections().setValue(instance, field.getNativeField(), field.getValue(value));
-            }
+            field.write(instance, getValue(field, value));
         }
     }
 
@@ -210,7 +272,7 @@ public abstract class AbstractDocumentEntityConverter  implements DocumentEntity
                     Object element = AbstractDocumentEntityConverter.this.toEntity(genericField.getElementType(), documentList);
                     collection.add(element);
                 }
-                getReflections().setValue(instance, field.getNativeField(), collection);
+                field.write(instance, collection);
             };
         }
     }
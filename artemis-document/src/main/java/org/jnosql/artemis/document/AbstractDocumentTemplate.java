@@ -16,22 +16,41 @@ package org.jnosql.artemis.document;
 
 
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.PersistenceContext;
+import org.jnosql.artemis.cache.QueryCache;
+import org.jnosql.artemis.reflection.ClassInformationNotFoundException;
+import org.jnosql.artemis.executor.AsyncExecutors;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.NonUniqueResultException;
+import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -41,6 +60,32 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
+    /**
+     * The system property to define how many entities are sent to the database at each bulk operation
+     * on {@link DocumentTemplate#insert(Iterable)} and {@link DocumentTemplate#update(Iterable)}, the default is 1000.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "org.jnosql.artemis.batch.size";
+
+    private static final int BATCH_SIZE = Integer.getInteger(BATCH_SIZE_PROPERTY, 1000);
+
+    /**
+     * The system property to define the number of entities at each page read by {@link DocumentTemplate#stream(DocumentQuery)},
+     * the default is 1000.
+     */
+    public static final String PAGE_SIZE_PROPERTY = "org.jnosql.artemis.stream.page.size";
+
+    private static final long PAGE_SIZE = Long.getLong(PAGE_SIZE_PROPERTY, 1000L);
+
+    /**
+     * The system property that enables the dirty tracking, the default is false. While a {@link PersistenceContext}
+     * is open, the values loaded to each managed entity are kept and {@link DocumentTemplate#update(Object)} sends
+     * just the id and the changed values. Enable it only to databases whose update merges the values
+     * instead of replacing the whole entity.
+     */
+    public static final String DIRTY_TRACKING_PROPERTY = "org.jnosql.artemis.dirty.tracking";
+
+    private static final boolean DIRTY_TRACKING = Boolean.getBoolean(DIRTY_TRACKING_PROPERTY);
+
 
     protected abstract DocumentEntityConverter getConverter();
 
@@ -52,14 +97,23 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
 
     protected abstract ClassRepresentations getClassRepresentations();
 
-    private final UnaryOperator<DocumentEntity> insert = e -> getManager().insert(e);
+    private final Map<String, Map<Class<?>, ProjectionRepresentation>> projections = new ConcurrentHashMap<>();
 
-    private final UnaryOperator<DocumentEntity> update = e -> getManager().update(e);
+    private final UnaryOperator<DocumentEntity> insert = e -> track(getManager().insert(e));
+
+    private final UnaryOperator<DocumentEntity> update = e -> {
+        DocumentEntity changes = changes(e);
+        if (changes == e) {
+            return track(getManager().update(e));
+        }
+        getManager().update(changes);
+        return track(e);
+    };
 
     @Override
     public <T> T insert(T entity) throws NullPointerException {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, insert);
+        return afterWrite(getWorkflow().flow(entity, insert));
     }
 
 
@@ -67,8 +121,8 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     public <T> T insert(T entity, Duration ttl) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        UnaryOperator<DocumentEntity> insert = e -> getManager().insert(e, ttl);
-        return getWorkflow().flow(entity, insert);
+        UnaryOperator<DocumentEntity> insert = e -> track(getManager().insert(e, ttl));
+        return afterWrite(getWorkflow().flow(entity, insert));
     }
 
 
@@ -76,25 +130,105 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
     @Override
     public <T> T update(T entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return getWorkflow().flow(entity, update);
+        return afterWrite(getWorkflow().flow(entity, update));
+    }
+
+
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        UnaryOperator<List<DocumentEntity>> action = DocumentManagerOperations.of(getManager()).isBulkInsert() ?
+                es -> toList(getManager().insert(es)) : es -> each(es, e -> getManager().insert(e));
+        return afterWriteAll(batch(entities, action));
     }
 
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        UnaryOperator<List<DocumentEntity>> action = DocumentManagerOperations.of(getManager()).isBulkInsertTTL() ?
+                es -> toList(getManager().insert(es, ttl)) : es -> each(es, e -> getManager().insert(e, ttl));
+        return afterWriteAll(batch(entities, action));
+    }
 
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        UnaryOperator<List<DocumentEntity>> send = DocumentManagerOperations.of(getManager()).isBulkUpdate() ?
+                es -> toList(getManager().update(es)) : es -> each(es, e -> getManager().update(e));
+        UnaryOperator<List<DocumentEntity>> action = es -> update(es, send);
+        return afterWriteAll(batch(entities, action));
+    }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
         getPersistManager().firePreDeleteQuery(query);
         getManager().delete(query);
+        getCache().evictAll(query.getDocumentCollection());
+        getQueryCache().evict(query.getDocumentCollection());
+        PersistenceContext.current().ifPresent(c -> clear(c, query.getDocumentCollection()));
     }
 
     @Override
     public <T> List<T> select(DocumentQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
+        Function<DocumentEntity, T> function = toEntity();
+        return selectEntities(query).stream().map(function).collect(Collectors.toList());
+    }
+
+    @Override
+    public long count(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        DocumentCollectionManager manager = getManager();
+        if (manager instanceof DocumentCountManager) {
+            return ((DocumentCountManager) manager).count(query);
+        }
+        return manager.select(idQuery(query)).size();
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        getPersistManager().firePreQuery(query);
+        return !getManager().select(new PagedDocumentQuery(query, query.getFirstResult(), 1)).isEmpty();
+    }
+
+    @Override
+    public <T> List<T> select(DocumentQuery query, Class<T> projection) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        requireNonNull(projection, "projection is required");
+        String name = query.getDocumentCollection();
+        ProjectionRepresentation representation = projections.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(projection, p -> ProjectionRepresentation.of(p, getClassRepresentations().findByName(name)));
+        DocumentQuery projected = new ProjectedDocumentQuery(query, representation.getColumns());
+        getPersistManager().firePreQuery(projected);
+        List<DocumentEntity> entities = getManager().select(projected);
+        List<T> result = new ArrayList<>(entities.size());
+        for (DocumentEntity entity : entities) {
+            result.add(getConverter().toProjection(representation, entity));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) throws NullPointerException {
+        return stream(query, getPageSize());
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query, long pageSize) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero");
+        }
         getPersistManager().firePreQuery(query);
-        List<DocumentEntity> entities = getManager().select(query);
-        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        DocumentCollectionManager manager = getManager();
+        PagedDocumentSpliterator<T> spliterator = new PagedDocumentSpliterator<>(query, pageSize, manager::select,
+                e -> getConverter().toEntity(e));
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
     }
 
     @Override
@@ -105,9 +239,355 @@ public abstract class AbstractDocumentTemplate implements DocumentTemplate {
         FieldRepresentation idField = classRepresentation.getId()
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
+        Optional<T> managed = PersistenceContext.current().flatMap(c -> c.find(entityClass, id));
+        if (managed.isPresent()) {
+            return managed;
+        }
+
         DocumentQuery query = DocumentQueryBuilder.select().from(classRepresentation.getName())
                 .where(idField.getName()).eq(id).build();
 
-        return singleResult(query);
+        EntityCache cache = getCache();
+        if (!cache.isCacheable(entityClass)) {
+            return singleResult(query);
+        }
+        Function<DocumentEntity, T> function = toEntity();
+        Optional<Object> cached = cache.get(entityClass, id);
+        if (cached.isPresent()) {
+            return cached.map(DocumentEntity.class::cast).map(function);
+        }
+        long generation = cache.getGeneration(entityClass);
+        Optional<DocumentEntity> entity = singleEntity(query);
+        entity.ifPresent(e -> cache.put(entityClass, id, e.copy(), generation));
+        return entity.map(function);
+    }
+
+    @Override
+    public <T, ID> List<T> find(Class<T> entityClass, Iterable<ID> ids) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(ids, "ids is required");
+        ClassRepresentation classRepresentation = getClassRepresentations().get(entityClass);
+        FieldRepresentation idField = classRepresentation.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
+
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        EntityCache cache = getCache();
+        boolean cacheable = cache.isCacheable(entityClass);
+        Function<DocumentEntity, T> function = toEntity();
+        int batchSize = Math.max(1, getBatchSize());
+        List<T> entities = new ArrayList<>();
+        List<ID> chunk = new ArrayList<>();
+        for (ID id : ids) {
+            requireNonNull(id, "id is required");
+            Optional<T> managed = context.flatMap(c -> c.find(entityClass, id));
+            if (managed.isPresent()) {
+                entities.add(managed.get());
+                continue;
+            }
+            Optional<Object> cached = cacheable ? cache.get(entityClass, id) : Optional.empty();
+            if (cached.isPresent()) {
+                entities.add(function.apply((DocumentEntity) cached.get()));
+                continue;
+            }
+            chunk.add(id);
+            if (chunk.size() == batchSize) {
+                entities.addAll(find(entityClass, classRepresentation.getName(), idField, chunk));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            entities.addAll(find(entityClass, classRepresentation.getName(), idField, chunk));
+        }
+        return entities;
+    }
+
+    /**
+     * The number of entities sent to the database at each bulk operation and the number of ids
+     * at each IN query of {@link AbstractDocumentTemplate#find(Class, Iterable)},
+     * by default it is the {@link AbstractDocumentTemplate#BATCH_SIZE_PROPERTY} value or 1000.
+     *
+     * @return the batch size
+     */
+    protected int getBatchSize() {
+        return BATCH_SIZE;
+    }
+
+    /**
+     * The number of entities at each page read by {@link AbstractDocumentTemplate#stream(DocumentQuery)},
+     * by default it is the {@link AbstractDocumentTemplate#PAGE_SIZE_PROPERTY} value or 1000.
+     *
+     * @return the page size
+     */
+    protected long getPageSize() {
+        return PAGE_SIZE;
+    }
+
+    /**
+     * Whether the updates send just the changed values of the entities managed by the {@link PersistenceContext},
+     * by default it is the {@link AbstractDocumentTemplate#DIRTY_TRACKING_PROPERTY} value.
+     *
+     * @return true when the dirty tracking is enabled
+     */
+    protected boolean isDirtyTracking() {
+        return DIRTY_TRACKING;
+    }
+
+    /**
+     * The executor that sends the writes of a batch one by one when the manager has no bulk operation,
+     * by default it's {@link AsyncExecutors#getBatchDefault()}.
+     *
+     * @return the batch executor
+     */
+    protected Executor getBatchExecutor() {
+        return AsyncExecutors.getBatchDefault();
+    }
+
+    /**
+     * The second-level cache used by the find by id to the entities with {@link org.jnosql.artemis.Cacheable},
+     * it's invalidated by the insert, update and delete. By default it's disabled.
+     *
+     * @return the {@link EntityCache}
+     */
+    protected EntityCache getCache() {
+        return EntityCache.disabled();
+    }
+
+    /**
+     * The cache of the {@link AbstractDocumentTemplate#select(DocumentQuery)} results, it's invalidated by the insert,
+     * update and delete on the same name. By default it's disabled.
+     *
+     * @return the {@link QueryCache}
+     */
+    protected QueryCache getQueryCache() {
+        return QueryCache.disabled();
+    }
+
+    private <T> T afterWrite(T entity) {
+        if (entity == null) {
+            return null;
+        }
+        Class<?> entityClass = entity.getClass();
+        ClassRepresentation classRepresentation = getClassRepresentations().get(entityClass);
+        getQueryCache().evict(classRepresentation.getName());
+        EntityCache cache = getCache();
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (context.isPresent() || cache.isCacheable(entityClass)) {
+            Object id = classRepresentation.getId().map(f -> f.read(entity)).orElse(null);
+            if (id != null) {
+                cache.evict(entityClass, id);
+                context.ifPresent(c -> c.put(entityClass, id, entity));
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Converts the entities, when there is a {@link PersistenceContext} the managed instances are returned
+     * instead of mapping them again.
+     */
+    private <T> Function<DocumentEntity, T> toEntity() {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (!context.isPresent()) {
+            return e -> getConverter().toEntity(e);
+        }
+        PersistenceContext persistenceContext = context.get();
+        return e -> {
+            ClassRepresentation classRepresentation = getClassRepresentations().findByName(e.getName());
+            Class<T> entityClass = (Class<T>) classRepresentation.getClassInstance();
+            Optional<Object> id = classRepresentation.getId()
+                    .flatMap(f -> e.find(f.getName()))
+                    .map(Document::get);
+            if (!id.isPresent()) {
+                return getConverter().toEntity(e);
+            }
+            Optional<T> managed = persistenceContext.find(entityClass, id.get());
+            if (managed.isPresent()) {
+                return managed.get();
+            }
+            T entity = persistenceContext.manage(entityClass, id.get(), getConverter().toEntity(e));
+            if (isDirtyTracking()) {
+                persistenceContext.snapshot(entityClass, id.get(), DocumentSnapshot.of(e, classRepresentation.getFieldsName()));
+            }
+            return entity;
+        };
+    }
+
+    private List<DocumentEntity> update(List<DocumentEntity> entities, UnaryOperator<List<DocumentEntity>> send) {
+        if (!isDirtyTracking() || !PersistenceContext.current().isPresent()) {
+            return send.apply(entities);
+        }
+        send.apply(entities.stream().map(this::changes).collect(Collectors.toList()));
+        entities.forEach(this::track);
+        return entities;
+    }
+
+    private DocumentEntity changes(DocumentEntity entity) {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (!isDirtyTracking() || !context.isPresent()) {
+            return entity;
+        }
+        ClassRepresentation classRepresentation = getClassRepresentations().findByName(entity.getName());
+        Optional<Document> id = classRepresentation.getId().flatMap(f -> entity.find(f.getName()));
+        return id.flatMap(i -> context.get().getSnapshot(classRepresentation.getClassInstance(), i.get())
+                .map(snapshot -> DocumentSnapshot.changes(entity, i, (Map<String, Object>) snapshot)))
+                .orElse(entity);
+    }
+
+    private DocumentEntity track(DocumentEntity entity) {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (entity == null || !isDirtyTracking() || !context.isPresent()) {
+            return entity;
+        }
+        ClassRepresentation classRepresentation = getClassRepresentations().findByName(entity.getName());
+        classRepresentation.getId()
+                .flatMap(f -> entity.find(f.getName()))
+                .ifPresent(id -> context.get().snapshot(classRepresentation.getClassInstance(), id.get(),
+                        DocumentSnapshot.of(entity, classRepresentation.getFieldsName())));
+        return entity;
+    }
+
+    private void clear(PersistenceContext context, String name) {
+        try {
+            context.clear(getClassRepresentations().findByName(name).getClassInstance());
+        } catch (ClassInformationNotFoundException exception) {
+            context.clear();
+        }
+    }
+
+    /**
+     * The query that reads just the id, the count without a native one does not load the whole entities.
+     */
+    private DocumentQuery idQuery(DocumentQuery query) {
+        try {
+            return getClassRepresentations().findByName(query.getDocumentCollection()).getId()
+                    .<DocumentQuery>map(id -> new ProjectedDocumentQuery(query, Collections.singletonList(id.getName())))
+                    .orElse(query);
+        } catch (ClassInformationNotFoundException exception) {
+            return query;
+        }
+    }
+
+    private static Object key(DocumentQuery query) {
+        return Arrays.asList(query.getDocumentCollection(), query.getCondition().orElse(null), query.getSorts(),
+                query.getFirstResult(), query.getMaxResults(), query.getDocuments());
+    }
+
+    private <T> List<T> afterWriteAll(List<T> entities) {
+        entities.forEach(this::afterWrite);
+        return entities;
+    }
+
+    /**
+     * Finds the entities of the ids with an IN query, the cacheable ones are kept at the {@link EntityCache}
+     * as the database returns them.
+     */
+    private <T, ID> List<T> find(Class<T> entityClass, String name, FieldRepresentation idField, List<ID> ids) {
+        String idName = idField.getName();
+        DocumentQuery query = ids.size() == 1 ? DocumentQueryBuilder.select().from(name).where(idName).eq(ids.get(0)).build()
+                : DocumentQueryBuilder.select().from(name).where(idName).in(ids).build();
+        EntityCache cache = getCache();
+        if (!cache.isCacheable(entityClass)) {
+            return select(query);
+        }
+        long generation = cache.getGeneration(entityClass);
+        Function<DocumentEntity, T> function = toEntity();
+        List<T> entities = new ArrayList<>();
+        for (DocumentEntity entity : selectEntities(query)) {
+            entity.find(idName).map(Document::get).ifPresent(id -> cache.put(entityClass, id, entity.copy(), generation));
+            entities.add(function.apply(entity));
+        }
+        return entities;
+    }
+
+    /**
+     * Runs the query through the {@link QueryCache}, it keeps the entities as the database returns them,
+     * so each caller maps its own instances.
+     */
+    private List<DocumentEntity> selectEntities(DocumentQuery query) {
+        getPersistManager().firePreQuery(query);
+        return getQueryCache().get(query.getDocumentCollection(), key(query), () -> getManager().select(query));
+    }
+
+    private Optional<DocumentEntity> singleEntity(DocumentQuery query) {
+        long maxResults = query.getMaxResults();
+        DocumentQuery limited = maxResults > 0 && maxResults <= 2 ? query
+                : new PagedDocumentQuery(query, query.getFirstResult(), 2);
+        List<DocumentEntity> entities = selectEntities(limited);
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() == 1) {
+            return Optional.of(entities.get(0));
+        }
+        throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+    }
+
+    private <T> List<T> batch(Iterable<T> entities, UnaryOperator<List<DocumentEntity>> action) {
+        int batchSize = Math.max(1, getBatchSize());
+        List<T> result = new ArrayList<>();
+        List<T> chunk = new ArrayList<>();
+        for (T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                result.addAll(getWorkflow().batchFlow(chunk, action));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result.addAll(getWorkflow().batchFlow(chunk, action));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the entities one by one at the {@link AbstractDocumentTemplate#getBatchExecutor()} when the manager does not
+     * implement the bulk operation, it waits for all the writes and returns them in the input order. A write that the
+     * executor rejects runs at the caller thread.
+     */
+    private List<DocumentEntity> each(List<DocumentEntity> entities, UnaryOperator<DocumentEntity> action) {
+        Executor executor = getBatchExecutor();
+        List<CompletableFuture<DocumentEntity>> futures = new ArrayList<>(entities.size());
+        for (DocumentEntity entity : entities) {
+            CompletableFuture<DocumentEntity> future = new CompletableFuture<>();
+            Runnable write = () -> {
+                try {
+                    future.complete(action.apply(entity));
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            };
+            try {
+                executor.execute(write);
+            } catch (RejectedExecutionException exception) {
+                write.run();
+            }
+            futures.add(future);
+        }
+        List<DocumentEntity> result = new ArrayList<>(entities.size());
+        Throwable failure = null;
+        for (CompletableFuture<DocumentEntity> future : futures) {
+            try {
+                result.add(future.join());
+            } catch (CompletionException exception) {
+                failure = failure == null ? exception.getCause() : failure;
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+        return result;
+    }
+
+    private static List<DocumentEntity> toList(Iterable<DocumentEntity> entities) {
+        if (entities instanceof List) {
+            return (List<DocumentEntity>) entities;
+        }
+        return StreamSupport.stream(entities.spliterator(), false).collect(Collectors.toList());
     }
 }
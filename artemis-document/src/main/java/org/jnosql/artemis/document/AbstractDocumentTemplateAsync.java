@@ -16,10 +16,15 @@ package org.jnosql.artemis.document;
 
 
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.executor.AsyncExecutors;
+import org.jnosql.artemis.executor.AsyncOperations;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.reactive.Publisher;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
+import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
@@ -27,9 +32,16 @@ import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -37,6 +49,10 @@ import static java.util.stream.Collectors.toList;
 /**
  * This class provides a skeletal implementation of the {@link DocumentTemplateAsync} interface,
  * to minimize the effort required to implement this interface.
+ * <p>The driver calls back at its own threads, usually I/O ones, so the
+ * conversion of the entities and the user callbacks run at the {@link AbstractDocumentTemplateAsync#getCallbackExecutor()}
+ * to keep those threads free, and a result larger than {@link AbstractDocumentTemplateAsync#getParallelThreshold()} is
+ * converted in parallel chunks at that executor.</p>
  */
 public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateAsync {
 
@@ -45,8 +61,20 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
 
     protected abstract DocumentCollectionManagerAsync getManager();
 
+    /**
+     * The system property to the size from which a result is converted in parallel chunks of this size,
+     * by default 1000.
+     */
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "org.jnosql.artemis.async.parallel.threshold";
+
+    private static final long PAGE_SIZE = Long.getLong(AbstractDocumentTemplate.PAGE_SIZE_PROPERTY, 1000L);
+
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, 1000);
+
     protected abstract ClassRepresentations getClassRepresentations();
 
+    private final ConcurrencyLimiter limiter = ConcurrencyLimiter.fromSystemProperties();
+
     @Override
     public <T> void insert(T entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         insert(entity, t -> {
@@ -64,7 +92,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toDocument(entity), dianaCallBack);
+        AsyncOperations.logFailure(submit(c -> getManager().insert(getConverter().toDocument(entity), c), dianaCallBack));
     }
 
     @Override
@@ -73,7 +101,7 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callBack, "callBack is required");
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().insert(getConverter().toDocument(entity), ttl, dianaCallBack);
+        AsyncOperations.logFailure(submit(c -> getManager().insert(getConverter().toDocument(entity), ttl, c), dianaCallBack));
     }
 
     @Override
@@ -88,20 +116,20 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
         Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().update(getConverter().toDocument(entity), dianaCallBack);
+        AsyncOperations.logFailure(submit(c -> getManager().update(getConverter().toDocument(entity), c), dianaCallBack));
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
-        requireNonNull(query, "query is required");
-        getManager().delete(query);
+        delete(query, v -> {
+        });
     }
 
     @Override
     public void delete(DocumentDeleteQuery query, Consumer<Void> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
-        getManager().delete(query);
+        AsyncOperations.logFailure(submit(c -> getManager().delete(query, c), callBack));
     }
 
     @Override
@@ -109,12 +137,8 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
 
-        Consumer<List<DocumentEntity>> dianaCallBack = d -> callBack.accept(
-                d.stream()
-                        .map(getConverter()::toEntity)
-                        .map(o -> (T) o)
-                        .collect(toList()));
-        getManager().select(query, dianaCallBack);
+        Consumer<List<DocumentEntity>> dianaCallBack = d -> AsyncOperations.logFailure(this.<T>toEntitiesAsync(d).thenAccept(callBack));
+        AsyncOperations.logFailure(submit(c -> getManager().select(query, c), dianaCallBack));
     }
 
 
@@ -126,13 +150,243 @@ public abstract class AbstractDocumentTemplateAsync implements DocumentTemplateA
         requireNonNull(id, "id is required");
         requireNonNull(callBack, "callBack is required");
 
+        singleResult(getIdQuery(entityClass, id), callBack);
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(future, () -> failWith(future, submit(c -> getManager().insert(getConverter().toDocument(entity), c), complete(future, toEntity(entity)))));
+        return future;
+    }
+
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(future, () -> failWith(future, submit(c -> getManager().insert(getConverter().toDocument(entity), ttl, c), complete(future, toEntity(entity)))));
+        return future;
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(future, () -> failWith(future, submit(c -> getManager().update(getConverter().toDocument(entity), c), complete(future, toEntity(entity)))));
+        return future;
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        execute(future, () -> failWith(future, this.<Void>submit(c -> getManager().delete(query, c), complete(future, v -> null))));
+        return future;
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> selectAsync(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        execute(future, () -> failWith(future, this.<List<DocumentEntity>>submit(c -> getManager().select(query, c),
+                d -> completeWith(future, toEntitiesAsync(d)))));
+        return future;
+    }
+
+    @Override
+    public <T> CompletionStage<Optional<T>> singleResultAsync(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        long maxResults = query.getMaxResults();
+        DocumentQuery limited = maxResults > 0 && maxResults <= 2 ? query
+                : new PagedDocumentQuery(query, query.getFirstResult(), 2);
+        return this.<T>selectAsync(limited).thenApply(entities -> {
+            if (entities.isEmpty()) {
+                return Optional.empty();
+            }
+            if (entities.size() == 1) {
+                return Optional.of(entities.get(0));
+            }
+            throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+        });
+    }
+
+    @Override
+    public <T, ID> CompletionStage<Optional<T>> findAsync(Class<T> entityClass, ID id) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(id, "id is required");
+        return singleResultAsync(getIdQuery(entityClass, id));
+    }
+
+    @Override
+    public <T> Publisher<T> publisher(DocumentQuery query) throws NullPointerException {
+        return publisher(query, getPageSize());
+    }
+
+    @Override
+    public <T> Publisher<T> publisher(DocumentQuery query, long pageSize) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero");
+        }
+        DocumentCollectionManagerAsync manager = getManager();
+        Function<DocumentQuery, CompletionStage<List<DocumentEntity>>> select = q -> {
+            CompletableFuture<List<DocumentEntity>> future = new CompletableFuture<>();
+            execute(future, () -> failWith(future, this.<List<DocumentEntity>>submit(c -> manager.select(q, c), future::complete)));
+            return future;
+        };
+        return new PagedDocumentPublisher<>(query, pageSize, select, e -> getConverter().<T>toEntity(e));
+    }
+
+    /**
+     * The number of entities at each page of {@link DocumentTemplateAsync#publisher(DocumentQuery)},
+     * by default it is the {@link AbstractDocumentTemplate#PAGE_SIZE_PROPERTY} value or 1000.
+     *
+     * @return the page size
+     */
+    protected long getPageSize() {
+        return PAGE_SIZE;
+    }
+
+    /**
+     * The executor that runs the conversion of the entities and the user callbacks when the driver calls back,
+     * by default it's {@link AsyncExecutors#getCallbackDefault()}, so the driver threads are kept free. A task it
+     * rejects is never run at the driver thread: the result completes exceptionally, or the failure is logged when
+     * there is just a callback.
+     *
+     * @return the callback executor
+     */
+    protected Executor getCallbackExecutor() {
+        return AsyncExecutors.getCallbackDefault();
+    }
+
+    /**
+     * The size from which a result is converted in parallel chunks of this size at the
+     * {@link AbstractDocumentTemplateAsync#getCallbackExecutor()}, by default it is the
+     * {@link AbstractDocumentTemplateAsync#PARALLEL_THRESHOLD_PROPERTY} value or 1000.
+     *
+     * @return the parallel threshold
+     */
+    protected int getParallelThreshold() {
+        return PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * The limiter of the operations in flight of this template, by default it's configured from the
+     * {@link ConcurrencyLimiter#LIMIT_PROPERTY} system properties.
+     *
+     * @return the limiter
+     */
+    @Override
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Sends the operation to the driver, the callback runs at the callback executor and the returned stage
+     * completes when it has run, or exceptionally when either it fails or the callback executor rejects it.
+     */
+    private <R> CompletableFuture<Void> submit(Consumer<Consumer<R>> operation, Consumer<R> callBack) {
+        ConcurrencyLimiter.Permit permit = getLimiter().acquire();
+        Executor executor = getCallbackExecutor();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            operation.accept(r -> {
+                permit.release();
+                dispatch(executor, done, () -> {
+                    callBack.accept(r);
+                    done.complete(null);
+                });
+            });
+        } catch (RuntimeException exception) {
+            permit.release();
+            throw exception;
+        }
+        return done;
+    }
+
+    private <T> Function<DocumentEntity, T> toEntity(T entity) {
+        return e -> (T) getConverter().toEntity(entity.getClass(), e);
+    }
+
+    private <T> List<T> toEntities(List<DocumentEntity> entities) {
+        return entities.stream()
+                .map(getConverter()::toEntity)
+                .map(o -> (T) o)
+                .collect(toList());
+    }
+
+    private <T> CompletableFuture<List<T>> toEntitiesAsync(List<DocumentEntity> entities) {
+        int threshold = Math.max(1, getParallelThreshold());
+        if (entities.size() <= threshold) {
+            CompletableFuture<List<T>> future = new CompletableFuture<>();
+            execute(future, () -> future.complete(toEntities(entities)));
+            return future;
+        }
+        Executor executor = getCallbackExecutor();
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+        for (int start = 0; start < entities.size(); start += threshold) {
+            List<DocumentEntity> chunk = entities.subList(start, Math.min(entities.size(), start + threshold));
+            CompletableFuture<List<T>> future = new CompletableFuture<>();
+            dispatch(executor, future, () -> future.complete(toEntities(chunk)));
+            chunks.add(future);
+        }
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[chunks.size()]))
+                .thenApply(v -> chunks.stream().flatMap(c -> c.join().stream()).collect(toList()));
+    }
+
+    private static void dispatch(Executor executor, CompletableFuture<?> future, Runnable task) {
+        try {
+            executor.execute(() -> execute(future, task));
+        } catch (RejectedExecutionException exception) {
+            future.completeExceptionally(exception);
+        }
+    }
+
+    private static void failWith(CompletableFuture<?> future, CompletionStage<?> stage) {
+        stage.whenComplete((result, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            }
+        });
+    }
+
+    private static <T> void completeWith(CompletableFuture<T> future, CompletionStage<T> stage) {
+        stage.whenComplete((result, failure) -> {
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure);
+            }
+        });
+    }
+
+    private static void execute(CompletableFuture<?> future, Runnable operation) {
+        try {
+            operation.run();
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    private static <T, R> Consumer<R> complete(CompletableFuture<T> future, Function<R, T> mapper) {
+        return r -> {
+            try {
+                future.complete(mapper.apply(r));
+            } catch (RuntimeException exception) {
+                future.completeExceptionally(exception);
+            }
+        };
+    }
+
+    private <T, ID> DocumentQuery getIdQuery(Class<T> entityClass, ID id) {
         ClassRepresentation classRepresentation = getClassRepresentations().get(entityClass);
         FieldRepresentation idField = classRepresentation.getId()
                 .orElseThrow(() -> IdNotFoundException.newInstance(entityClass));
 
-        DocumentQuery query = DocumentQueryBuilder.select().from(classRepresentation.getName())
+        return DocumentQueryBuilder.select().from(classRepresentation.getName())
                 .where(idField.getName()).eq(id).build();
-
-        singleResult(query, callBack);
     }
 }
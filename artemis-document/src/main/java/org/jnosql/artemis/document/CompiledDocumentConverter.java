@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.GenericFieldRepresentation;
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.jnosql.artemis.reflection.FieldType.COLLECTION;
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+
+/**
+ * The converter compiled to a single entity class. All the decisions that the
+ * {@link AbstractDocumentEntityConverter} interpreter takes to each field at each conversion, the field kind,
+ * the {@link AttributeConverter} lookup and the embeddable check, are taken once when this instance is created.
+ * The conversion just runs the prebuilt encoders and decoders.
+ */
+final class CompiledDocumentConverter {
+
+    private final ClassRepresentation representation;
+
+    private final DocumentEncoder[] encoders;
+
+    private final DocumentDecoder[] decoders;
+
+    private final int[] embedded;
+
+    private CompiledDocumentConverter(ClassRepresentation representation, DocumentEncoder[] encoders,
+                                    DocumentDecoder[] decoders, int[] embedded) {
+        this.representation = representation;
+        this.encoders = encoders;
+        this.decoders = decoders;
+        this.embedded = embedded;
+    }
+
+    DocumentEntity toDocument(Object instance) {
+        DocumentEntity entity = DocumentEntity.of(representation.getName());
+        for (DocumentEncoder encoder : encoders) {
+            Document document = encoder.encode(instance);
+            if (document != null) {
+                entity.add(document);
+            }
+        }
+        return entity;
+    }
+
+    <T> T toEntity(List<Document> documents) {
+        T instance = representation.newInstance();
+        boolean[] decoded = new boolean[decoders.length];
+        for (Document document : documents) {
+            int position = representation.getFieldIndex(document.getName());
+            if (position >= 0 && !decoded[position]) {
+                decoded[position] = true;
+                decoders[position].decode(instance, document, documents);
+            }
+        }
+        for (int position : embedded) {
+            if (!decoded[position]) {
+                decoders[position].decode(instance, null, documents);
+            }
+        }
+        return instance;
+    }
+
+    static CompiledDocumentConverter of(ClassRepresentation representation, AbstractDocumentEntityConverter converter) {
+        List<FieldRepresentation> fields = representation.getFields();
+        DocumentEncoder[] encoders = new DocumentEncoder[fields.size()];
+        DocumentDecoder[] decoders = new DocumentDecoder[fields.size()];
+        List<Integer> embedded = new ArrayList<>();
+        for (int index = 0; index < fields.size(); index++) {
+            FieldRepresentation field = fields.get(index);
+            if (EMBEDDED.equals(field.getType())) {
+                encoders[index] = embeddedEncoder(field, converter);
+                decoders[index] = embeddedDecoder(field, converter);
+                embedded.add(index);
+            } else if (COLLECTION.equals(field.getType()) && GenericFieldRepresentation.class.cast(field).isEmbeddable()) {
+                encoders[index] = collectionEncoder(field, converter);
+                decoders[index] = collectionDecoder(GenericFieldRepresentation.class.cast(field), converter);
+            } else if (field.getConverter().isPresent()) {
+                AttributeConverter attributeConverter = converter.getConverters().get(field.getConverter().get());
+                encoders[index] = attributeEncoder(field, attributeConverter);
+                decoders[index] = attributeDecoder(field, attributeConverter);
+            } else {
+                encoders[index] = defaultEncoder(field);
+                decoders[index] = defaultDecoder(field);
+            }
+        }
+        return new CompiledDocumentConverter(representation, encoders, decoders,
+                embedded.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static DocumentEncoder defaultEncoder(FieldRepresentation field) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Document.of(name, value);
+        };
+    }
+
+    private static DocumentEncoder attributeEncoder(FieldRepresentation field, AttributeConverter attributeConverter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Document.of(name, attributeConverter.convertToDatabaseColumn(value));
+        };
+    }
+
+    private static DocumentEncoder embeddedEncoder(FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            return value == null ? null : Document.of(name, converter.toDocument(value).getDocuments());
+        };
+    }
+
+    private static DocumentEncoder collectionEncoder(FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        String name = field.getName();
+        return instance -> {
+            Object value = field.read(instance);
+            if (value == null) {
+                return null;
+            }
+            List<List<Document>> documents = new ArrayList<>();
+            for (Object element : Iterable.class.cast(value)) {
+                documents.add(converter.toDocument(element).getDocuments());
+            }
+            return Document.of(name, documents);
+        };
+    }
+
+    private static DocumentDecoder defaultDecoder(FieldRepresentation field) {
+        return (instance, document, documents) -> field.write(instance, field.getValue(document.getValue()));
+    }
+
+    private static DocumentDecoder attributeDecoder(FieldRepresentation field, AttributeConverter attributeConverter) {
+        return (instance, document, documents) -> {
+            Object attributeConverted = attributeConverter.convertToEntityAttribute(document.getValue().get());
+            field.write(instance, field.getValue(Value.of(attributeConverted)));
+        };
+    }
+
+    private static DocumentDecoder embeddedDecoder(FieldRepresentation field, AbstractDocumentEntityConverter converter) {
+        Class<?> type = field.getNativeField().getType();
+        return (instance, document, documents) -> {
+            if (document == null) {
+                field.write(instance, converter.toEntity(type, documents));
+                return;
+            }
+            Object value = document.get();
+            if (Map.class.isInstance(value)) {
+                Map<?, ?> map = Map.class.cast(value);
+                List<Document> embeddedDocuments = new ArrayList<>(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    embeddedDocuments.add(Document.of(entry.getKey().toString(), entry.getValue()));
+                }
+                field.write(instance, converter.toEntity(type, embeddedDocuments));
+            } else {
+                field.write(instance, converter.toEntity(type, document.get(new TypeReference<List<Document>>() {
+                })));
+            }
+        };
+    }
+
+    private static DocumentDecoder collectionDecoder(GenericFieldRepresentation field,
+                                                   AbstractDocumentEntityConverter converter) {
+        Class<?> elementType = field.getElementType();
+        return (instance, document, documents) -> {
+            Collection collection = field.getCollectionInstance();
+            List<List<Document>> embeddable = (List<List<Document>>) document.get();
+            for (List<Document> documentList : embeddable) {
+                collection.add(converter.toEntity(elementType, documentList));
+            }
+            field.write(instance, collection);
+        };
+    }
+
+    @FunctionalInterface
+    private interface DocumentEncoder {
+
+        Document encode(Object instance);
+    }
+
+    @FunctionalInterface
+    private interface DocumentDecoder {
+
+        void decode(Object instance, Document document, List<Document> documents);
+    }
+}
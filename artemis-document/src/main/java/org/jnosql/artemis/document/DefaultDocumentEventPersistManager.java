@@ -21,10 +21,16 @@ import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObservers.hasObserver;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+
 /**
  * The default implementation of {@link DocumentEventPersistManager}
  */
@@ -55,43 +61,96 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     @Inject
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Inject
+    private BeanManager beanManager;
+
+    /*
+     * The observers are resolved once, when there is no container every event is fired.
+     */
+    private boolean hasDocumentEntityPrePersistObserver = true;
+
+    private boolean hasDocumentEntityPostPersistObserver = true;
+
+    private boolean hasEntityPrePersistObserver = true;
+
+    private boolean hasEntityPostPersitObserver = true;
+
+    private boolean hasEntityDocumentPrePersistObserver = true;
+
+    private boolean hasEntityDocumentPostPersistObserver = true;
+
+    private boolean hasDocumentQueryExecuteObserver = true;
+
+    private boolean hasDocumentDeleteQueryExecuteObserver = true;
+
+    @PostConstruct
+    public void init() {
+        DocumentEntity sample = DocumentEntity.of("sample");
+        DocumentQuery query = select().from(sample.getName()).build();
+        DocumentDeleteQuery deleteQuery = delete().from(sample.getName()).build();
+        hasDocumentEntityPrePersistObserver = hasObserver(beanManager, DocumentEntityPrePersist.of(sample));
+        hasDocumentEntityPostPersistObserver = hasObserver(beanManager, DocumentEntityPostPersist.of(sample));
+        hasEntityPrePersistObserver = hasObserver(beanManager, EntityPrePersist.of(sample));
+        hasEntityPostPersitObserver = hasObserver(beanManager, EntityPostPersit.of(sample));
+        hasEntityDocumentPrePersistObserver = hasObserver(beanManager, EntityDocumentPrePersist.of(sample));
+        hasEntityDocumentPostPersistObserver = hasObserver(beanManager, EntityDocumentPostPersist.of(sample));
+        hasDocumentQueryExecuteObserver = hasObserver(beanManager, DocumentQueryExecute.of(query));
+        hasDocumentDeleteQueryExecuteObserver = hasObserver(beanManager, DocumentDeleteQueryExecute.of(deleteQuery));
+    }
+
     @Override
     public void firePreDocument(DocumentEntity entity) {
-        documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        if (hasDocumentEntityPrePersistObserver) {
+            documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostDocument(DocumentEntity entity) {
-        documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        if (hasDocumentEntityPostPersistObserver) {
+            documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (hasEntityPrePersistObserver) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (hasEntityPostPersitObserver) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreDocumentEntity(T entity) {
-        entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        if (hasEntityDocumentPrePersistObserver) {
+            entityDocumentPrePersist.fire(EntityDocumentPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostDocumentEntity(T entity) {
-        entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        if (hasEntityDocumentPostPersistObserver) {
+            entityDocumentPostPersist.fire(EntityDocumentPostPersist.of(entity));
+        }
     }
 
     @Override
     public void firePreQuery(DocumentQuery query) {
-        documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        if (hasDocumentQueryExecuteObserver) {
+            documentQueryExecute.fire(DocumentQueryExecute.of(query));
+        }
     }
 
     @Override
     public void firePreDeleteQuery(DocumentDeleteQuery query) {
-        documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        if (hasDocumentDeleteQueryExecuteObserver) {
+            documentDeleteQueryExecute.fire(DocumentDeleteQueryExecute.of(query));
+        }
     }
 }
@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.cache.EntityCache;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 
@@ -37,16 +38,25 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
 
     private ClassRepresentations classRepresentations;
 
+    private EntityCache cache;
+
 
     @Inject
     DefaultDocumentTemplate(DocumentEntityConverter converter, Instance<DocumentCollectionManager> manager,
                             DocumentWorkflow workflow, DocumentEventPersistManager persistManager,
-                            ClassRepresentations classRepresentations) {
+                            ClassRepresentations classRepresentations, EntityCache cache) {
         this.converter = converter;
         this.manager = manager;
         this.workflow = workflow;
         this.persistManager = persistManager;
         this.classRepresentations = classRepresentations;
+        this.cache = cache;
+    }
+
+    DefaultDocumentTemplate(DocumentEntityConverter converter, Instance<DocumentCollectionManager> manager,
+                            DocumentWorkflow workflow, DocumentEventPersistManager persistManager,
+                            ClassRepresentations classRepresentations) {
+        this(converter, manager, workflow, persistManager, classRepresentations, EntityCache.disabled());
     }
 
     DefaultDocumentTemplate() {
@@ -76,4 +86,9 @@ class DefaultDocumentTemplate extends AbstractDocumentTemplate {
     protected ClassRepresentations getClassRepresentations() {
         return classRepresentations;
     }
+
+    @Override
+    protected EntityCache getCache() {
+        return cache;
+    }
 }
@@ -15,6 +15,8 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.executor.AsyncExecutors;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
@@ -22,6 +24,7 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link DocumentTemplateAsyncProducer}
@@ -39,7 +42,30 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
     @Override
     public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager) throws NullPointerException {
         Objects.requireNonNull(collectionManager, "collectionManager is required");
-        return new ProducerAbstractDocumentTemplateAsync(converter, collectionManager, classRepresentations);
+        return get(collectionManager, ConcurrencyLimiter.fromSystemProperties());
+    }
+
+    @Override
+    public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager, ConcurrencyLimiter limiter) throws NullPointerException {
+        Objects.requireNonNull(collectionManager, "collectionManager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return get(collectionManager, limiter, AsyncExecutors.getCallbackDefault());
+    }
+
+    @Override
+    public DocumentTemplateAsync get(DocumentCollectionManagerAsync collectionManager, ConcurrencyLimiter limiter, Executor callbackExecutor)
+            throws NullPointerException {
+        Objects.requireNonNull(collectionManager, "collectionManager is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        return new ProducerAbstractDocumentTemplateAsync(converter, collectionManager, classRepresentations, limiter, callbackExecutor);
+    }
+
+    @Override
+    public DocumentTemplateAsync get(DocumentTemplate template, Executor executor) throws NullPointerException {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new ExecutorDocumentTemplateAsync(template, executor, ConcurrencyLimiter.fromSystemProperties());
     }
 
     @Vetoed
@@ -51,12 +77,19 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
 
         private ClassRepresentations classRepresentations;
 
+        private ConcurrencyLimiter limiter;
+
+        private Executor callbackExecutor;
+
         ProducerAbstractDocumentTemplateAsync(DocumentEntityConverter converter,
                                               DocumentCollectionManagerAsync manager,
-                                              ClassRepresentations classRepresentations) {
+                                              ClassRepresentations classRepresentations, ConcurrencyLimiter limiter,
+                                              Executor callbackExecutor) {
             this.converter = converter;
             this.manager = manager;
             this.classRepresentations = classRepresentations;
+            this.limiter = limiter;
+            this.callbackExecutor = callbackExecutor;
         }
 
         ProducerAbstractDocumentTemplateAsync() {
@@ -76,5 +109,15 @@ class DefaultDocumentTemplateAsyncProducer implements DocumentTemplateAsyncProdu
         protected ClassRepresentations getClassRepresentations() {
             return classRepresentations;
         }
+
+        @Override
+        public ConcurrencyLimiter getLimiter() {
+            return limiter;
+        }
+
+        @Override
+        protected Executor getCallbackExecutor() {
+            return callbackExecutor;
+        }
     }
 }
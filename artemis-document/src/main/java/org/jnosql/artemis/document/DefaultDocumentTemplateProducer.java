@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 
@@ -47,7 +48,15 @@ class DefaultDocumentTemplateProducer implements DocumentTemplateProducer {
     public DocumentTemplate get(DocumentCollectionManager collectionManager) throws NullPointerException {
         Objects.requireNonNull(collectionManager, "collectionManager is required");
         return new ProducerDocumentTemplate(converter, collectionManager, workflow,
-                persistManager, classRepresentations);
+                persistManager, classRepresentations, QueryCache.disabled());
+    }
+
+    @Override
+    public DocumentTemplate get(DocumentCollectionManager collectionManager, QueryCache queryCache) throws NullPointerException {
+        Objects.requireNonNull(collectionManager, "collectionManager is required");
+        Objects.requireNonNull(queryCache, "queryCache is required");
+        return new ProducerDocumentTemplate(converter, collectionManager, workflow,
+                persistManager, classRepresentations, queryCache);
     }
 
     @Vetoed
@@ -62,15 +71,19 @@ class DefaultDocumentTemplateProducer implements DocumentTemplateProducer {
         private DocumentEventPersistManager persistManager;
 
         private ClassRepresentations classRepresentations;
+
+        private QueryCache queryCache;
+
         ProducerDocumentTemplate(DocumentEntityConverter converter, DocumentCollectionManager manager,
                                  DocumentWorkflow workflow,
                                  DocumentEventPersistManager persistManager,
-                                 ClassRepresentations classRepresentations) {
+                                 ClassRepresentations classRepresentations, QueryCache queryCache) {
             this.converter = converter;
             this.manager = manager;
             this.workflow = workflow;
             this.persistManager = persistManager;
             this.classRepresentations = classRepresentations;
+            this.queryCache = queryCache;
         }
 
         ProducerDocumentTemplate() {
@@ -100,5 +113,10 @@ class DefaultDocumentTemplateProducer implements DocumentTemplateProducer {
         protected ClassRepresentations getClassRepresentations() {
             return classRepresentations;
         }
+
+        @Override
+        protected QueryCache getQueryCache() {
+            return queryCache;
+        }
     }
 }
@@ -18,6 +18,8 @@ package org.jnosql.artemis.document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -49,6 +51,34 @@ class DefaultDocumentWorkflow implements DocumentWorkflow {
 
     }
 
+    @Override
+    public <T> List<T> batchFlow(List<T> entities, UnaryOperator<List<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+
+        List<DocumentEntity> documents = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            columnEventPersistManager.firePreEntity(entity);
+            columnEventPersistManager.firePreDocumentEntity(entity);
+            DocumentEntity document = converter.toDocument(entity);
+            columnEventPersistManager.firePreDocument(document);
+            documents.add(document);
+        }
+
+        List<DocumentEntity> results = action.apply(documents);
+        List<T> saved = new ArrayList<>(results.size());
+        for (int index = 0; index < results.size(); index++) {
+            DocumentEntity document = results.get(index);
+            columnEventPersistManager.firePostDocument(document);
+            T entity = converter.toEntity((Class<T>) entities.get(index).getClass(), document);
+            columnEventPersistManager.firePostEntity(entity);
+            columnEventPersistManager.firePostDocumentEntity(entity);
+            saved.add(entity);
+        }
+        return saved;
+    }
+
     private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
         UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
 
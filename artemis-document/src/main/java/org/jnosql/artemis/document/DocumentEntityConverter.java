@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
 import org.jnosql.diana.api.document.DocumentEntity;
 
 /**
@@ -51,4 +52,15 @@ public interface DocumentEntityConverter {
      * @throws NullPointerException when entity is null
      */
     <T> T toEntity(DocumentEntity entity) throws NullPointerException;
+
+    /**
+     * Converts a {@link DocumentEntity} to a projection, just the columns of the projection are read
+     *
+     * @param projection the projection representation
+     * @param entity     the {@link DocumentEntity} to be converted
+     * @param <T>        the projection type
+     * @return the projection instance from {@link DocumentEntity}
+     * @throws NullPointerException when either projection or entity are null
+     */
+    <T> T toProjection(ProjectionRepresentation projection, DocumentEntity entity) throws NullPointerException;
 }
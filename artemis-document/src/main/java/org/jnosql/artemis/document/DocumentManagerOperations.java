@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.diana.api.document.DocumentCollectionManager;
+
+import java.time.Duration;
+
+/**
+ * The operations that a {@link DocumentCollectionManager} class implements itself instead of inheriting the default methods,
+ * they are looked up once to each manager class.
+ */
+final class DocumentManagerOperations {
+
+    private static final ClassValue<DocumentManagerOperations> OPERATIONS = new ClassValue<DocumentManagerOperations>() {
+        @Override
+        protected DocumentManagerOperations computeValue(Class<?> type) {
+            return new DocumentManagerOperations(type);
+        }
+    };
+
+    private final boolean bulkInsert;
+
+    private final boolean bulkInsertTTL;
+
+    private final boolean bulkUpdate;
+
+    private DocumentManagerOperations(Class<?> type) {
+        this.bulkInsert = isImplemented(type, "insert", Iterable.class);
+        this.bulkInsertTTL = isImplemented(type, "insert", Iterable.class, Duration.class);
+        this.bulkUpdate = isImplemented(type, "update", Iterable.class);
+    }
+
+    static DocumentManagerOperations of(DocumentCollectionManager manager) {
+        return OPERATIONS.get(manager.getClass());
+    }
+
+    boolean isBulkInsert() {
+        return bulkInsert;
+    }
+
+    boolean isBulkInsertTTL() {
+        return bulkInsertTTL;
+    }
+
+    boolean isBulkUpdate() {
+        return bulkUpdate;
+    }
+
+    private static boolean isImplemented(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return !type.getMethod(name, parameterTypes).isDefault();
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+}
@@ -15,8 +15,11 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
+import java.util.concurrent.Executor;
+
 
 /**
  * The producer of {@link DocumentTemplateAsync}
@@ -34,4 +37,38 @@ public interface DocumentTemplateAsyncProducer<T extends DocumentTemplateAsync>
      */
     T get(DocumentCollectionManagerAsync collectionManager) throws NullPointerException;
 
+    /**
+     * creates a {@link DocumentTemplateAsync} whose operations in flight are bounded by the limiter
+     *
+     * @param collectionManager the collectionManager
+     * @param limiter           the limiter of the operations in flight
+     * @return a new instance
+     * @throws NullPointerException when collectionManager or limiter is null
+     */
+    T get(DocumentCollectionManagerAsync collectionManager, ConcurrencyLimiter limiter) throws NullPointerException;
+
+    /**
+     * creates a {@link DocumentTemplateAsync} whose operations in flight are bounded by the limiter and whose entity
+     * conversion and callbacks run at the callback executor instead of the driver threads
+     *
+     * @param collectionManager the collectionManager
+     * @param limiter           the limiter of the operations in flight
+     * @param callbackExecutor  the executor of the entity conversion and the callbacks
+     * @return a new instance
+     * @throws NullPointerException when collectionManager, limiter or callbackExecutor is null
+     */
+    T get(DocumentCollectionManagerAsync collectionManager, ConcurrencyLimiter limiter, Executor callbackExecutor) throws NullPointerException;
+
+    /**
+     * creates a {@link DocumentTemplateAsync} to a unit that just has a synchronous manager, each operation of the
+     * template runs at the executor
+     *
+     * @param template the synchronous template
+     * @param executor the executor that runs the operations
+     * @return a new instance
+     * @throws NullPointerException when template or executor is null
+     * @see org.jnosql.artemis.executor.AsyncExecutors
+     */
+    DocumentTemplateAsync get(DocumentTemplate template, Executor executor) throws NullPointerException;
+
 }
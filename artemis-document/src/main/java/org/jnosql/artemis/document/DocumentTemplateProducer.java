@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 
 
@@ -34,4 +35,14 @@ public interface DocumentTemplateProducer<T extends DocumentTemplate> {
      */
     T get(DocumentCollectionManager collectionManager) throws NullPointerException;
 
+    /**
+     * creates a {@link DocumentTemplate} that keeps the select results at the {@link QueryCache}
+     *
+     * @param collectionManager the collectionManager
+     * @param queryCache        the query cache
+     * @return a new instance
+     * @throws NullPointerException when either collectionManager or queryCache is null
+     */
+    T get(DocumentCollectionManager collectionManager, QueryCache queryCache) throws NullPointerException;
+
 }
@@ -17,7 +17,12 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
 
 /**
  * This implementation defines the workflow to insert an Entity on {@link DocumentTemplate}.
@@ -44,4 +49,26 @@ public interface DocumentWorkflow {
      * DocumentTemplate#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action) throws NullPointerException;
+
+    /**
+     * Executes the workflow to a batch of entities, the events are fired to each entity, but the action
+     * receives all the converted entities at once, so it might do a single bulk operation on the database.
+     * By default it's just run the {@link DocumentWorkflow#flow(Object, UnaryOperator)} for each entity,
+     * the implementations might replace to a more appropriate one.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database, it returns the entities at the same order
+     * @param <T>      the entity type
+     * @return after the workflow the entities response at the same order
+     * @throws NullPointerException when either entities or action is null
+     */
+    default <T> List<T> batchFlow(List<T> entities, UnaryOperator<List<DocumentEntity>> action)
+            throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        return entities.stream()
+                .map(entity -> flow(entity, e -> action.apply(singletonList(e)).get(0)))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -15,26 +15,27 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.FieldRepresentation;
 import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
-import org.jnosql.diana.api.document.DocumentQuery;
-import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Set;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
+import static java.util.stream.Collectors.toSet;
 import static org.jnosql.artemis.IdNotFoundException.KEY_NOT_FOUND_EXCEPTION_SUPPLIER;
 import static org.jnosql.diana.api.document.DocumentCondition.eq;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
@@ -53,7 +54,10 @@ public abstract class AbstractDocumentRepository<T, ID> implements Repository<T,
     @Override
     public <S extends T> S save(S entity) throws NullPointerException {
         Objects.requireNonNull(entity, "Entity is required");
-        Object id = getReflections().getValue(entity, getIdField().getNativeField());
+        if (isUpsert()) {
+            return getTemplate().insert(entity);
+        }
+        Object id = getIdField().read(entity);
         if (nonNull(id) && existsById((ID) id)) {
             return getTemplate().update(entity);
         } else {
@@ -64,7 +68,35 @@ public abstract class AbstractDocumentRepository<T, ID> implements Repository<T,
     @Override
     public <S extends T> Iterable<S> save(Iterable<S> entities) throws NullPointerException {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false).map(this::save).collect(toList());
+        if (isUpsert()) {
+            return getTemplate().insert(entities);
+        }
+
+        FieldRepresentation idField = getIdField();
+        List<S> values = StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> requireNonNull(e, "Entity is required"))
+                .collect(toList());
+        List<Object> ids = values.stream().map(idField::read).filter(Objects::nonNull).collect(toList());
+        Set<Object> existingIds = ids.isEmpty() ? Collections.emptySet() :
+                getTemplate().find(getClassRepresentation().getClassInstance(), ids).stream()
+                        .map(idField::read).collect(toSet());
+
+        List<S> inserts = new ArrayList<>();
+        List<S> updates = new ArrayList<>();
+        for (S value : values) {
+            if (existingIds.contains(idField.read(value))) {
+                updates.add(value);
+            } else {
+                inserts.add(value);
+            }
+        }
+        Iterator<S> inserted = inserts.isEmpty() ? inserts.iterator() : getTemplate().insert(inserts).iterator();
+        Iterator<S> updated = updates.isEmpty() ? updates.iterator() : getTemplate().update(updates).iterator();
+        List<S> saved = new ArrayList<>(values.size());
+        for (S value : values) {
+            saved.add(existingIds.contains(idField.read(value)) ? updated.next() : inserted.next());
+        }
+        return saved;
     }
 
 
@@ -87,31 +119,27 @@ public abstract class AbstractDocumentRepository<T, ID> implements Repository<T,
     @Override
     public Optional<T> findById(ID id) throws NullPointerException {
         requireNonNull(id, "id is required");
-
-        String documentName = this.getIdField().getName();
-        DocumentQuery query = DocumentQueryBuilder.select()
-                .from(getClassRepresentation().getName())
-                .where((eq(Document.of(documentName, id))))
-                .build();
-        return getTemplate().singleResult(query);
+        return getTemplate().find((Class<T>) getClassRepresentation().getClassInstance(), id);
     }
 
     @Override
     public Iterable<T> findById(Iterable<ID> ids) throws NullPointerException {
         requireNonNull(ids, "ids is required");
-        return (Iterable) stream(ids.spliterator(), false)
-                .flatMap(optionalToStream()).collect(Collectors.toList());
+        return getTemplate().find((Class<T>) getClassRepresentation().getClassInstance(), ids);
     }
 
-    private FieldRepresentation getIdField() {
-        return getClassRepresentation().getId().orElseThrow(KEY_NOT_FOUND_EXCEPTION_SUPPLIER);
+    /**
+     * Defines if the save writes the entity without checking if it exists, by default it's true
+     * when the entity has the {@link Upsert} annotation.
+     *
+     * @return true when the save is an upsert
+     */
+    protected boolean isUpsert() {
+        return getClassRepresentation().getClassInstance().isAnnotationPresent(Upsert.class);
     }
 
-    private Function optionalToStream() {
-        return id -> {
-            Optional entity = this.findById((ID) id);
-            return entity.isPresent() ? Stream.of(entity.get()) : Stream.empty();
-        };
+    private FieldRepresentation getIdField() {
+        return getClassRepresentation().getId().orElseThrow(KEY_NOT_FOUND_EXCEPTION_SUPPLIER);
     }
 
     @Override
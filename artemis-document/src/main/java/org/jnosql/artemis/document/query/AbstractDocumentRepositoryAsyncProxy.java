@@ -24,6 +24,12 @@ import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static org.jnosql.artemis.document.query.DocumentRepositoryType.getDeleteQuery;
@@ -37,6 +43,9 @@ import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
  */
 public abstract class AbstractDocumentRepositoryAsyncProxy<T> implements InvocationHandler {
 
+    private final Map<Method, DocumentRepositoryType> types = new ConcurrentHashMap<>();
+
+    private final Map<Method, DocumentQueryPlan> plans = new ConcurrentHashMap<>();
 
     protected abstract RepositoryAsync getRepository();
 
@@ -51,26 +60,24 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> implements Invocat
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
 
-
-        String methodName = method.getName();
-        DocumentRepositoryType type = DocumentRepositoryType.of(method, args);
+        DocumentRepositoryType type = types.computeIfAbsent(method, DocumentRepositoryType::of);
 
         switch (type) {
             case DEFAULT:
                 return method.invoke(getRepository(), args);
             case FIND_BY:
-                DocumentQuery query = getQueryParser().parse(methodName, args, getClassRepresentation());
-                return executeQuery(getCallBack(args), query);
+                DocumentQuery query = getPlan(method, type).toQuery(args);
+                return executeQuery(method, args, query);
             case FIND_ALL:
-                return executeQuery(getCallBack(args), select().from(getClassRepresentation().getName()).build());
+                return executeQuery(method, args, select().from(getClassRepresentation().getName()).build());
             case DELETE_BY:
-                DocumentDeleteQuery deleteQuery = getDeleteParser().parse(methodName, args, getClassRepresentation());
-                return executeDelete(args, deleteQuery);
+                DocumentDeleteQuery deleteQuery = getPlan(method, type).toDeleteQuery(args);
+                return executeDelete(method, args, deleteQuery);
             case QUERY:
                 DocumentQuery documentQuery = getQuery(args).get();
-                return executeQuery(getCallBack(args), documentQuery);
+                return executeQuery(method, args, documentQuery);
             case QUERY_DELETE:
-                return executeDelete(args, getDeleteQuery(args).get());
+                return executeDelete(method, args, getDeleteQuery(args).get());
             case OBJECT_METHOD:
                 return method.invoke(this, args);
             default:
@@ -79,6 +86,12 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> implements Invocat
 
     }
 
+    private DocumentQueryPlan getPlan(Method method, DocumentRepositoryType type) {
+        return plans.computeIfAbsent(method, m -> DocumentRepositoryType.FIND_BY.equals(type) ?
+                getQueryParser().plan(m.getName(), getClassRepresentation()) :
+                getDeleteParser().plan(m.getName(), getClassRepresentation()));
+    }
+
     private Object executeDelete(Object[] args, DocumentDeleteQuery query1) {
         Object callBack = getCallBack(args);
         if (Consumer.class.isInstance(callBack)) {
@@ -89,6 +102,37 @@ public abstract class AbstractDocumentRepositoryAsyncProxy<T> implements Invocat
         return Void.class;
     }
 
+    private Object executeQuery(Method method, Object[] args, DocumentQuery query) {
+        if (isAsync(method)) {
+            if (isOptional(method)) {
+                return getTemplate().singleResultAsync(query).toCompletableFuture();
+            }
+            return getTemplate().selectAsync(query).toCompletableFuture();
+        }
+        return executeQuery(getCallBack(args), query);
+    }
+
+    private Object executeDelete(Method method, Object[] args, DocumentDeleteQuery query) {
+        if (isAsync(method)) {
+            return getTemplate().deleteAsync(query).toCompletableFuture();
+        }
+        return executeDelete(args, query);
+    }
+
+    private boolean isAsync(Method method) {
+        return CompletionStage.class.isAssignableFrom(method.getReturnType());
+    }
+
+    private boolean isOptional(Method method) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            return Optional.class.equals(argument instanceof ParameterizedType ?
+                    ((ParameterizedType) argument).getRawType() : argument);
+        }
+        return false;
+    }
+
     private Object getCallBack(Object[] args) {
         return args[args.length - 1];
     }
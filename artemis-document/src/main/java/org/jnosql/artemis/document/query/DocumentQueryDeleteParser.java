@@ -14,16 +14,8 @@
  */
 package org.jnosql.artemis.document.query;
 
-import org.jnosql.artemis.document.query.DocumentQueryParserUtil.ConditionResult;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
-import org.jnosql.diana.api.document.query.DocumentDeleteFrom;
-
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.and;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.or;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.toCondition;
-import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 
 /**
  * Class the returns a {@link DocumentDeleteQuery}
@@ -31,36 +23,20 @@ import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
  */
 public class DocumentQueryDeleteParser {
 
-    private static final String PREFIX = "deleteBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
-
 
     public DocumentDeleteQuery parse(String methodName, Object[] args, ClassRepresentation representation) {
-        String[] tokens = methodName.replace(PREFIX, DocumentQueryParserUtil.EMPTY).split(TOKENIZER);
-
-        DocumentCondition condition = null;
+        return plan(methodName, representation).toDeleteQuery(args);
+    }
 
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(DocumentQueryParserUtil.AND)) {
-                ConditionResult result = and(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                ConditionResult result = or(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                condition = toCondition(token, index, args, methodName, representation);
-                index++;
-            }
-        }
-        DocumentDeleteFrom from = delete().from(representation.getName());
-        if (condition == null) {
-            return from.build();
-        } else {
-            return from.where(condition).build();
-        }
+    /**
+     * Parses the method once, so the proxies keep the plan and just bind the arguments at each call
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @return the query plan
+     */
+    DocumentQueryPlan plan(String methodName, ClassRepresentation representation) {
+        return DocumentQueryPlan.deleteBy(methodName, representation);
     }
 
 }
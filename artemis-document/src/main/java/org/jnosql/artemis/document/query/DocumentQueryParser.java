@@ -14,26 +14,11 @@
  */
 package org.jnosql.artemis.document.query;
 
-import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Sort;
-import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentQuery;
-import org.jnosql.diana.api.document.query.DocumentFrom;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.logging.Logger;
-
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.AND;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.ORDER_BY;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.and;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.or;
-import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.toCondition;
-import static org.jnosql.diana.api.Sort.SortType.ASC;
-import static org.jnosql.diana.api.Sort.SortType.DESC;
-import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Class the returns a {@link org.jnosql.diana.api.document.DocumentQuery}
@@ -41,85 +26,42 @@ import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
  */
 public class DocumentQueryParser {
 
-    private static final Logger LOGGER = Logger.getLogger(DocumentQueryParser.class.getName());
+    private final Converters converters;
 
-    private static final String PREFIX = "findBy";
-    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+    public DocumentQueryParser() {
+        this.converters = null;
+    }
 
+    /**
+     * Creates a parser that converts the {@link org.jnosql.artemis.KeysetPagination} cursor with the
+     * {@link org.jnosql.artemis.AttributeConverter} of the key field
+     *
+     * @param converters the converters
+     * @throws NullPointerException when converters is null
+     */
+    public DocumentQueryParser(Converters converters) throws NullPointerException {
+        this.converters = requireNonNull(converters, "converters is required");
+    }
 
     public DocumentQuery parse(String methodName, Object[] args, ClassRepresentation representation) {
-
-
-        String[] tokens = methodName.replace(PREFIX, EMPTY).split(TOKENIZER);
-        String className = representation.getClassInstance().getName();
-        DocumentCondition condition = null;
-        List<Sort> sorts = new ArrayList<>();
-        long limit = 0;
-        long start = 0;
-
-
-        int index = 0;
-        for (String token : tokens) {
-
-            if (token.startsWith(AND)) {
-                DocumentQueryParserUtil.ConditionResult result = and(args, index, token, methodName, representation, condition);
-                condition = result.getCondition();
-                index = result.getIndex();
-            } else {
-                if (token.startsWith(ORDER_BY)) {
-                    sort(sorts, token, representation);
-                } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                    DocumentQueryParserUtil.ConditionResult result = or(args, index, token, methodName, representation, condition);
-                    condition = result.getCondition();
-                    index = result.getIndex();
-                } else {
-                    condition = toCondition(token, index, args, methodName, representation);
-                    index++;
-                }
-            }
-        }
-
-        while (index < args.length) {
-            Object value = args[index];
-            if (Sort.class.isInstance(value)) {
-                sorts.add(Sort.class.cast(value));
-            } else if (Pagination.class.isInstance(value)) {
-                Pagination pagination = Pagination.class.cast(value);
-                limit = pagination.getMaxResults();
-                start = pagination.getFirstResult();
-            } else {
-                LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
-                        String.valueOf(value), methodName, className, index));
-            }
-            index++;
-        }
-
-        DocumentFrom from = select().from(representation.getName());
-        if (condition == null) {
-            sorts.forEach(from::orderBy);
-            return from.limit(limit).start(start).build();
-        } else {
-            from.where(condition);
-            sorts.forEach(from::orderBy);
-            return from.start(start).limit(limit).build();
-        }
+        return plan(methodName, representation).toQuery(args);
     }
 
-
-    private void sort(List<Sort> sorts, String token, ClassRepresentation representation) {
-        String field = token.replace(ORDER_BY, EMPTY);
-        if (field.contains("Desc")) {
-            sorts.add(Sort.of(getName(field.replace("Desc", EMPTY), representation)
-                    , DESC));
-        } else {
-            sorts.add(Sort.of(getName(field.replace("Asc", EMPTY), representation)
-                    , ASC));
+    /**
+     * Parses the method once, so the proxies keep the plan and just bind the arguments at each call.
+     * It parses the findBy, countBy and existsBy methods.
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @return the query plan
+     */
+    DocumentQueryPlan plan(String methodName, ClassRepresentation representation) {
+        if (methodName.startsWith("countBy")) {
+            return DocumentQueryPlan.countBy(methodName, representation, converters);
+        } else if (methodName.startsWith("existsBy")) {
+            return DocumentQueryPlan.existsBy(methodName, representation, converters);
         }
-    }
-
-    private String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
+        return DocumentQueryPlan.findBy(methodName, representation, converters);
     }
 
 }
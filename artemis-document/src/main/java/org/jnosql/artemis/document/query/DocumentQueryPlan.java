@@ -0,0 +1,343 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.AttributeConverter;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.document.query.DocumentDeleteFrom;
+import org.jnosql.diana.api.document.query.DocumentFrom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.AND;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.OR;
+import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.ORDER_BY;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
+import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
+
+/**
+ * The query of a findBy, findFirstBy, findTopNBy, countBy, existsBy or deleteBy method parsed once. The tokens, the condition types, the document names and
+ * the sorts are resolved when the plan is created, so each call just binds the arguments to the conditions.
+ * This instance is immutable.
+ */
+final class DocumentQueryPlan {
+
+    private static final Logger LOGGER = Logger.getLogger(DocumentQueryPlan.class.getName());
+
+    private static final String TOKENIZER = "(?=And|OrderBy|Or)";
+
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    private static final Pattern FIND_PREFIX = Pattern.compile("^find(?:(?:First|Top)(\\d*))?By");
+
+    private final String methodName;
+
+    private final String className;
+
+    private final String entityName;
+
+    private final ClassRepresentation representation;
+
+    private final List<ConditionStep> steps;
+
+    private final List<Sort> sorts;
+
+    private final int argsRequired;
+
+    private final long maxResults;
+
+    private final Converters converters;
+
+    private DocumentQueryPlan(String methodName, ClassRepresentation representation, Converters converters,
+                            List<ConditionStep> steps, List<Sort> sorts, int argsRequired, long maxResults) {
+        this.methodName = methodName;
+        this.className = representation.getClassInstance().getName();
+        this.entityName = representation.getName();
+        this.representation = representation;
+        this.steps = steps;
+        this.sorts = sorts;
+        this.argsRequired = argsRequired;
+        this.maxResults = maxResults;
+        this.converters = converters;
+    }
+
+    /**
+     * Creates the {@link DocumentQuery} to the arguments, the arguments after the conditions might be
+     * {@link Sort}, {@link Pagination} or {@link KeysetPagination}. The {@link KeysetPagination} becomes
+     * the first sort and a condition to the entities after the last key, when the key is not the id the id is
+     * the second sort and breaks the tie between the entities that share the last key
+     *
+     * @param args the method arguments
+     * @return the query
+     * @throws DynamicQueryException when there is a missed argument to the conditions
+     */
+    DocumentQuery toQuery(Object[] args) throws DynamicQueryException {
+        Object[] values = getValues(args);
+        DocumentCondition condition = toCondition(values);
+        List<Sort> querySorts = sorts;
+        long limit = 0;
+        long start = 0;
+        for (int index = argsRequired; index < values.length; index++) {
+            Object value = values[index];
+            if (Sort.class.isInstance(value)) {
+                if (querySorts == sorts) {
+                    querySorts = new ArrayList<>(sorts);
+                }
+                querySorts.add(Sort.class.cast(value));
+            } else if (Pagination.class.isInstance(value)) {
+                Pagination pagination = Pagination.class.cast(value);
+                limit = pagination.getMaxResults();
+                start = pagination.getFirstResult();
+            } else if (KeysetPagination.class.isInstance(value)) {
+                KeysetPagination pagination = KeysetPagination.class.cast(value);
+                String key = representation.getColumnField(pagination.getKey());
+                Optional<FieldRepresentation> id = representation.getId().filter(i -> !i.getName().equals(key));
+                if (querySorts == sorts) {
+                    querySorts = new ArrayList<>(sorts);
+                }
+                querySorts.add(0, Sort.of(key, pagination.getType()));
+                if (id.isPresent()) {
+                    querySorts.add(1, Sort.of(id.get().getName(), pagination.getType()));
+                }
+                limit = pagination.getMaxResults();
+                start = 0;
+                if (pagination.getLastKey().isPresent()) {
+                    DocumentCondition keyCondition = toKeysetCondition(pagination, key, id);
+                    condition = condition == null ? keyCondition : condition.and(keyCondition);
+                }
+            } else {
+                LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
+                        String.valueOf(value), methodName, className, index));
+            }
+        }
+
+        DocumentFrom from = select().from(entityName);
+        if (condition != null) {
+            from.where(condition);
+        }
+        querySorts.forEach(from::orderBy);
+        if (maxResults > 0) {
+            limit = limit == 0 ? maxResults : Math.min(limit, maxResults);
+        }
+        return from.start(start).limit(limit).build();
+    }
+
+    /**
+     * Creates the {@link DocumentDeleteQuery} to the arguments
+     *
+     * @param args the method arguments
+     * @return the delete query
+     * @throws DynamicQueryException when there is a missed argument to the conditions
+     */
+    DocumentDeleteQuery toDeleteQuery(Object[] args) throws DynamicQueryException {
+        DocumentCondition condition = toCondition(getValues(args));
+        DocumentDeleteFrom from = delete().from(entityName);
+        if (condition == null) {
+            return from.build();
+        }
+        return from.where(condition).build();
+    }
+
+    /**
+     * The entities after the last key, or after the last id among the entities with the last key:
+     * key &gt; lastKey OR (key = lastKey AND id &gt; lastId), the comparisons are inverted to the descending sort.
+     */
+    private DocumentCondition toKeysetCondition(KeysetPagination pagination, String key, Optional<FieldRepresentation> id) {
+        boolean ascending = Sort.SortType.ASC.equals(pagination.getType());
+        Document lastKey = Document.of(key, toDatabase(key, pagination.getLastKey().get()));
+        DocumentCondition afterKey = ascending ? DocumentCondition.gt(lastKey) : DocumentCondition.lt(lastKey);
+        if (!id.isPresent() || !pagination.getLastId().isPresent()) {
+            return afterKey;
+        }
+        String idName = id.get().getName();
+        Document lastId = Document.of(idName, toDatabase(idName, pagination.getLastId().get()));
+        DocumentCondition afterId = ascending ? DocumentCondition.gt(lastId) : DocumentCondition.lt(lastId);
+        return afterKey.or(DocumentCondition.eq(lastKey).and(afterId));
+    }
+
+    /**
+     * The cursor holds the Java field value, so it's converted with the field {@link AttributeConverter}
+     * to be compared with the stored value.
+     */
+    private Object toDatabase(String name, Object value) {
+        FieldRepresentation field = representation.getFieldsGroupByName().get(name);
+        if (converters == null || field == null || !field.getConverter().isPresent()) {
+            return value;
+        }
+        AttributeConverter attributeConverter = converters.get(field.getConverter().get());
+        return attributeConverter.convertToDatabaseColumn(value);
+    }
+
+    private Object[] getValues(Object[] args) {
+        Object[] values = args == null ? EMPTY_ARGS : args;
+        if (values.length < argsRequired) {
+            throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
+                    methodName));
+        }
+        return values;
+    }
+
+    private DocumentCondition toCondition(Object[] values) {
+        DocumentCondition condition = null;
+        for (ConditionStep step : steps) {
+            DocumentCondition stepCondition = step.toCondition(values);
+            if (condition == null) {
+                condition = stepCondition;
+            } else if (step.or) {
+                condition = condition.or(stepCondition);
+            } else {
+                condition = condition.and(stepCondition);
+            }
+        }
+        return condition;
+    }
+
+    /**
+     * Parses a findBy method, the OrderBy tokens become sorts. The findFirstBy and findTopBy methods
+     * have the limit 1 and findTopNBy and findFirstNBy the limit N.
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @param converters     the converters to the keyset cursor, null to use the cursor as it is
+     * @return the plan
+     */
+    static DocumentQueryPlan findBy(String methodName, ClassRepresentation representation, Converters converters) {
+        Matcher matcher = FIND_PREFIX.matcher(methodName);
+        if (!matcher.find()) {
+            return parse(methodName, "findBy", true, representation, converters, 0);
+        }
+        String limit = matcher.group(1);
+        long maxResults = limit == null ? 0 : limit.isEmpty() ? 1 : Long.parseLong(limit);
+        return parse(methodName, matcher.group(), true, representation, converters, maxResults);
+    }
+
+    /**
+     * Parses a countBy method
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @param converters     the converters to the keyset cursor, null to use the cursor as it is
+     * @return the plan
+     */
+    static DocumentQueryPlan countBy(String methodName, ClassRepresentation representation, Converters converters) {
+        return parse(methodName, "countBy", false, representation, converters, 0);
+    }
+
+    /**
+     * Parses an existsBy method, it has the limit 1
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @param converters     the converters to the keyset cursor, null to use the cursor as it is
+     * @return the plan
+     */
+    static DocumentQueryPlan existsBy(String methodName, ClassRepresentation representation, Converters converters) {
+        return parse(methodName, "existsBy", false, representation, converters, 1);
+    }
+
+    /**
+     * Parses a deleteBy method
+     *
+     * @param methodName     the method name
+     * @param representation the entity representation
+     * @return the plan
+     */
+    static DocumentQueryPlan deleteBy(String methodName, ClassRepresentation representation) {
+        return parse(methodName, "deleteBy", false, representation, null, 0);
+    }
+
+    private static DocumentQueryPlan parse(String methodName, String prefix, boolean sortable,
+                                         ClassRepresentation representation, Converters converters,
+                                         long maxResults) {
+
+        String[] tokens = methodName.replace(prefix, EMPTY).split(TOKENIZER);
+        List<ConditionStep> steps = new ArrayList<>();
+        List<Sort> sorts = new ArrayList<>();
+        int index = 0;
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            ConditionStep step;
+            if (token.startsWith(AND)) {
+                step = new ConditionStep(token.replace(AND, EMPTY), index, false, representation);
+            } else if (sortable && token.startsWith(ORDER_BY)) {
+                sorts.add(sort(token, representation));
+                continue;
+            } else if (token.startsWith(OR)) {
+                step = new ConditionStep(token.replace(OR, EMPTY), index, true, representation);
+            } else {
+                step = new ConditionStep(token, index, false, representation);
+            }
+            steps.add(step);
+            index += step.type.getFieldsRequired();
+        }
+        return new DocumentQueryPlan(methodName, representation, converters, Collections.unmodifiableList(steps),
+                Collections.unmodifiableList(sorts), index, maxResults);
+    }
+
+    private static Sort sort(String token, ClassRepresentation representation) {
+        String field = token.replace(ORDER_BY, EMPTY);
+        if (field.contains("Desc")) {
+            return Sort.of(getName(field.replace("Desc", EMPTY), representation), Sort.SortType.DESC);
+        }
+        return Sort.of(getName(field.replace("Asc", EMPTY), representation), Sort.SortType.ASC);
+    }
+
+    private static String getName(String token, ClassRepresentation representation) {
+        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
+                .concat(token.substring(1)));
+    }
+
+    private static final class ConditionStep {
+
+        private final DocumentTokenProcessorType type;
+
+        private final String name;
+
+        private final int index;
+
+        private final boolean or;
+
+        ConditionStep(String token, int index, boolean or, ClassRepresentation representation) {
+            this.type = DocumentTokenProcessorType.of(token);
+            this.name = type.getName(token, representation);
+            this.index = index;
+            this.or = or;
+        }
+
+        DocumentCondition toCondition(Object[] args) {
+            return type.toCondition(name, index, args);
+        }
+    }
+
+}
@@ -15,7 +15,9 @@
 package org.jnosql.artemis.document.query;
 
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -37,19 +39,22 @@ class DocumentRepositoryAsyncProxy<T> extends AbstractDocumentRepositoryAsyncPro
 
     private final ClassRepresentation classRepresentation;
 
+    private final boolean upsert;
+
     private final DocumentQueryParser queryParser;
 
     private final DocumentQueryDeleteParser deleteParser;
 
 
     DocumentRepositoryAsyncProxy(DocumentTemplateAsync template, ClassRepresentations classRepresentations,
-                                 Class<?> repositoryType, Reflections reflections) {
+                                 Class<?> repositoryType, Reflections reflections, Converters converters) {
         this.template = template;
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
+        this.upsert = repositoryType.isAnnotationPresent(Upsert.class) || typeClass.isAnnotationPresent(Upsert.class);
         this.repository = new DocumentRepositoryAsync(template, classRepresentation, reflections);
-        this.queryParser = new DocumentQueryParser();
+        this.queryParser = new DocumentQueryParser(converters);
         this.deleteParser = new DocumentQueryDeleteParser();
     }
 
@@ -110,5 +115,9 @@ class DocumentRepositoryAsyncProxy<T> extends AbstractDocumentRepositoryAsyncPro
             return classRepresentation;
         }
 
+        @Override
+        protected boolean isUpsert() {
+            return upsert;
+        }
     }
 }
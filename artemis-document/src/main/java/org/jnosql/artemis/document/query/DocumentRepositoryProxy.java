@@ -15,7 +15,9 @@
 package org.jnosql.artemis.document.query;
 
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -37,19 +39,22 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
 
     private final ClassRepresentation classRepresentation;
 
+    private final boolean upsert;
+
     private final DocumentQueryParser queryParser;
 
     private final DocumentQueryDeleteParser deleteQueryParser;
 
 
     DocumentRepositoryProxy(DocumentTemplate template, ClassRepresentations classRepresentations,
-                            Class<?> repositoryType, Reflections reflections) {
+                            Class<?> repositoryType, Reflections reflections, Converters converters) {
         this.template = template;
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
+        this.upsert = repositoryType.isAnnotationPresent(Upsert.class) || typeClass.isAnnotationPresent(Upsert.class);
         this.repository = new DocumentRepository(template, classRepresentation, reflections);
-        this.queryParser = new DocumentQueryParser();
+        this.queryParser = new DocumentQueryParser(converters);
         this.deleteQueryParser = new DocumentQueryDeleteParser();
     }
 
@@ -109,6 +114,9 @@ class DocumentRepositoryProxy<T> extends AbstractDocumentRepositoryProxy<T> {
             return reflections;
         }
 
-
+        @Override
+        protected boolean isUpsert() {
+            return upsert;
+        }
     }
 }
@@ -20,15 +20,24 @@ import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 enum DocumentRepositoryType {
 
-    DEFAULT, FIND_BY, FIND_ALL, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, OBJECT_METHOD;
+    DEFAULT, FIND_BY, FIND_ALL, DELETE_BY, QUERY, QUERY_DELETE, UNKNOWN, OBJECT_METHOD, COUNT_BY, EXISTS_BY;
 
     private static final Method[] METHODS = Object.class.getMethods();
 
-    static DocumentRepositoryType of(Method method, Object[] args) {
+    private static final Pattern FIND_BY_PREFIX = Pattern.compile("^find(?:(?:First|Top)\\d*)?By");
+
+    /**
+     * Defines the type from the method signature, so the proxies compute it once to each method
+     *
+     * @param method the method
+     * @return the type
+     */
+    static DocumentRepositoryType of(Method method) {
 
 
         if (Stream.of(METHODS).anyMatch(method::equals)) {
@@ -42,47 +51,56 @@ enum DocumentRepositoryType {
             case "delete":
             case "findById":
             case "existsById":
+            case "saveAsync":
+            case "deleteByIdAsync":
+            case "findByIdAsync":
+            case "existsByIdAsync":
                 return DEFAULT;
             case "findAll":
                 return FIND_ALL;
             default:
         }
 
-        if (isQuery(args)) {
+        if (hasParameter(method, DocumentQuery.class)) {
             return QUERY;
         }
 
-        if (isQueryDelete(args)) {
+        if (hasParameter(method, DocumentDeleteQuery.class)) {
             return QUERY_DELETE;
         }
 
-        if (methodName.startsWith("findBy")) {
+        if (FIND_BY_PREFIX.matcher(methodName).find()) {
             return FIND_BY;
         } else if (methodName.startsWith("deleteBy")) {
             return DELETE_BY;
+        } else if (methodName.startsWith("countBy")) {
+            return COUNT_BY;
+        } else if (methodName.startsWith("existsBy")) {
+            return EXISTS_BY;
         }
         return UNKNOWN;
     }
 
-    private static boolean isQuery(Object[] args) {
-        return getQuery(args).isPresent();
-    }
-
-    private static boolean isQueryDelete(Object[] args) {
-        return getDeleteQuery(args).isPresent();
+    private static boolean hasParameter(Method method, Class<?> type) {
+        return Stream.of(method.getParameterTypes()).anyMatch(type::isAssignableFrom);
     }
 
     static Optional<DocumentQuery> getQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(DocumentQuery.class::isInstance).map(DocumentQuery.class::cast)
-                .findFirst();
+        for (Object arg : args) {
+            if (DocumentQuery.class.isInstance(arg)) {
+                return Optional.of(DocumentQuery.class.cast(arg));
+            }
+        }
+        return Optional.empty();
     }
 
     static Optional<DocumentDeleteQuery> getDeleteQuery(Object[] args) {
-        return Stream.of(args)
-                .filter(DocumentDeleteQuery.class::isInstance)
-                .map(DocumentDeleteQuery.class::cast)
-                .findFirst();
+        for (Object arg : args) {
+            if (DocumentDeleteQuery.class.isInstance(arg)) {
+                return Optional.of(DocumentDeleteQuery.class.cast(arg));
+            }
+        }
+        return Optional.empty();
     }
 
 }
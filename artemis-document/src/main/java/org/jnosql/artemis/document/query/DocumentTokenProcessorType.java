@@ -14,76 +14,58 @@
  */
 package org.jnosql.artemis.document.query;
 
-import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCondition;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
 
 import static org.jnosql.artemis.document.query.DocumentQueryParserUtil.EMPTY;
 
-enum DocumentTokenProcessorType implements DocumentTokenProcessor {
+enum DocumentTokenProcessorType {
 
     BETWEEN("Between", 2) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return DocumentCondition.between(Document.of(name, Arrays.asList(args[index], args[++index])));
+        DocumentCondition toCondition(String name, int index, Object[] args) {
+            return DocumentCondition.between(Document.of(name, Arrays.asList(args[index], args[index + 1])));
         }
     },
     LESS_THAN_EQUAL("LessThanEqual", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.lte(Document.of(name, args[index]));
         }
     },
     GREATER_THAN_EQUAL("GreaterThanEqual", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.gte(Document.of(name, args[index]));
         }
     },
     LESS_THAN("LessThan", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.lt(Document.of(name, args[index]));
         }
     },
     GREATER_THAN("GreaterThan", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.gt(Document.of(name, args[index]));
         }
     },
     LIKE("Like", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation).replace(this.getType(), EMPTY);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.like(Document.of(name, args[index]));
         }
-    },
-    DEFAULT("", 1) {
+    }, DEFAULT("", 1) {
         @Override
-        public DocumentCondition process(String token, int index, Object[] args, String methodName, ClassRepresentation representation) {
-            checkContents(index, args.length, this.getFieldsRequired(), methodName);
-            String name = getName(token, representation);
+        DocumentCondition toCondition(String name, int index, Object[] args) {
             return DocumentCondition.eq(Document.of(name, args[index]));
         }
     };
 
-
     private final String type;
 
     private final int fieldsRequired;
@@ -101,23 +83,36 @@ enum DocumentTokenProcessorType implements DocumentTokenProcessor {
         return fieldsRequired;
     }
 
-    private static void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
-    }
+    /**
+     * Creates the condition to the document name from the arguments
+     *
+     * @param name  the document name
+     * @param index the position of the first argument to this condition
+     * @param args  the method arguments
+     * @return the condition
+     */
+    abstract DocumentCondition toCondition(String name, int index, Object[] args);
 
-
-    private static String getName(String token, ClassRepresentation representation) {
-        return representation.getColumnField(String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1)));
+    /**
+     * Returns the document name from a token, e.g. NameLike returns the document of the field name
+     *
+     * @param token          the token
+     * @param representation the entity representation
+     * @return the document name
+     */
+    String getName(String token, ClassRepresentation representation) {
+        String field = token.replace(type, EMPTY);
+        return representation.getColumnField(String.valueOf(Character.toLowerCase(field.charAt(0)))
+                .concat(field.substring(1)));
     }
 
     static DocumentTokenProcessorType of(String token) {
-        return Stream.of(DocumentTokenProcessorType.values())
-                .filter(t -> token.contains(t.getType()))
-                .findFirst().orElse(DEFAULT);
+        for (DocumentTokenProcessorType processorType : values()) {
+            if (token.contains(processorType.getType())) {
+                return processorType;
+            }
+        }
+        return DEFAULT;
     }
+
 }
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.document.DocumentTemplate;
@@ -91,9 +92,10 @@ public class RepositoryDocumentBean implements Bean<Repository>, PassivationCapa
                 getInstance(DocumentTemplate.class, provider);
 
         Reflections reflections = getInstance(Reflections.class);
+        Converters converters = getInstance(Converters.class);
 
         DocumentRepositoryProxy handler = new DocumentRepositoryProxy(repository,
-                classRepresentations, type, reflections);
+                classRepresentations, type, reflections, converters);
         return (Repository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
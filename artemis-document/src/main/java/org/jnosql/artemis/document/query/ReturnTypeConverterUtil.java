@@ -18,6 +18,7 @@ import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -54,10 +55,28 @@ final class ReturnTypeConverterUtil {
         } else if (Queue.class.equals(returnType)) {
             return new PriorityQueue<>(repository.select(query));
         } else if (Stream.class.equals(returnType)) {
-            return repository.select(query).stream();
+            return repository.stream(query);
         }
 
         return repository.select(query);
     }
 
+    static Object returnProjection(DocumentQuery query, DocumentTemplate repository, Class<?> projection, Method method) {
+        Class<?> returnType = method.getReturnType();
+
+        if (projection.equals(returnType)) {
+            return repository.singleResult(query, projection).orElse(null);
+        } else if (Optional.class.equals(returnType)) {
+            return repository.singleResult(query, projection);
+        } else if (Set.class.equals(returnType)) {
+            return new HashSet<>(repository.select(query, projection));
+        } else if (Queue.class.equals(returnType)) {
+            return new ArrayDeque<>(repository.select(query, projection));
+        } else if (Stream.class.equals(returnType)) {
+            return repository.select(query, projection).stream();
+        }
+
+        return repository.select(query, projection);
+    }
+
 }
@@ -35,9 +35,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.jnosql.artemis.DatabaseType.DOCUMENT;
 
 /**
@@ -107,6 +110,15 @@ public class DocumentCollectionProducerExtension implements Extension {
             afterBeanDiscovery.addBean(bean);
         });
 
+        Set<String> providersAsync = databasesAsync.stream().map(Database::provider).collect(toSet());
+        List<Database> databasesSync = databases.stream()
+                .filter(database -> !providersAsync.contains(database.provider()))
+                .collect(toList());
+        databasesSync.forEach(type -> {
+            LOGGER.info("Adding a DocumentTemplateAsync over the synchronous manager to the provider: " + type.provider());
+            afterBeanDiscovery.addBean(new DocumentTemplateAsyncBean(beanManager, type.provider(), true));
+        });
+
         crudTypes.forEach(type -> {
             afterBeanDiscovery.addBean(new RepositoryDocumentBean(type, beanManager, ""));
             databases.forEach(database -> {
@@ -121,6 +133,8 @@ public class DocumentCollectionProducerExtension implements Extension {
                 final DocumentRepositoryAsyncBean bean = new DocumentRepositoryAsyncBean(type, beanManager, database.provider());
                 afterBeanDiscovery.addBean(bean);
             });
+            databasesSync.forEach(database -> afterBeanDiscovery
+                    .addBean(new DocumentRepositoryAsyncBean(type, beanManager, database.provider())));
         });
 
     }
@@ -17,8 +17,10 @@ package org.jnosql.artemis.document.spi;
 
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.document.DocumentTemplateAsyncProducer;
+import org.jnosql.artemis.executor.AsyncExecutors;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -42,6 +44,8 @@ class DocumentTemplateAsyncBean implements Bean<DocumentTemplateAsync>, Passivat
 
     private final Set<Annotation> qualifiers;
 
+    private final boolean synchronous;
+
     /**
      * Constructor
      *
@@ -49,10 +53,23 @@ class DocumentTemplateAsyncBean implements Bean<DocumentTemplateAsync>, Passivat
      * @param provider    the provider name, that must be a
      */
     public DocumentTemplateAsyncBean(BeanManager beanManager, String provider) {
+        this(beanManager, provider, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param beanManager the beanManager
+     * @param provider    the provider name, that must be a
+     * @param synchronous when the provider just has a synchronous manager, so the template runs the operations of
+     *                    the {@link DocumentTemplate} at {@link AsyncExecutors#getDefault()}
+     */
+    public DocumentTemplateAsyncBean(BeanManager beanManager, String provider, boolean synchronous) {
         this.beanManager = beanManager;
         this.types = Collections.singleton(DocumentTemplateAsync.class);
         this.provider = provider;
         this.qualifiers = Collections.singleton(DatabaseQualifier.ofDocument(provider));
+        this.synchronous = synchronous;
     }
 
     @Override
@@ -74,6 +91,9 @@ class DocumentTemplateAsyncBean implements Bean<DocumentTemplateAsync>, Passivat
     public DocumentTemplateAsync create(CreationalContext<DocumentTemplateAsync> creationalContext) {
 
         DocumentTemplateAsyncProducer producer = getInstance(DocumentTemplateAsyncProducer.class);
+        if (synchronous) {
+            return producer.get(getInstance(DocumentTemplate.class, provider), AsyncExecutors.getDefault());
+        }
         DocumentCollectionManagerAsync manager = getManager();
         return producer.get(manager);
     }
@@ -93,7 +113,7 @@ class DocumentTemplateAsyncBean implements Bean<DocumentTemplateAsync>, Passivat
     }
 
     private <T> T getInstance(Class<T> clazz, String name) {
-        Bean bean = beanManager.getBeans(clazz, DatabaseQualifier.ofColumn(name)).iterator().next();
+        Bean bean = beanManager.getBeans(clazz, DatabaseQualifier.ofDocument(name)).iterator().next();
         CreationalContext ctx = beanManager.createCreationalContext(bean);
         return (T) beanManager.getReference(bean, clazz, ctx);
     }
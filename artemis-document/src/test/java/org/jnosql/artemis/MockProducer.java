@@ -22,7 +22,6 @@ import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentEntity;
-import org.jnosql.diana.api.document.DocumentQuery;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Produces;
@@ -66,12 +65,23 @@ public class MockProducer {
         when(documentTemplate.insert(Mockito.any(Person.class))).thenReturn(Person.builder()
                 .withName("documentRepositoryMock").build());
 
-        when(documentTemplate.singleResult(any(DocumentQuery.class))).thenReturn(Optional.empty());
+        when(documentTemplate.find(Mockito.eq(Person.class), any(Long.class))).thenReturn(Optional.empty());
 
         return documentTemplate;
     }
 
 
+    @Produces
+    @Database(value = DatabaseType.DOCUMENT, provider = "documentSyncMock")
+    public DocumentCollectionManager getDocumentCollectionManagerSyncMock() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "documentSyncMock"));
+        entity.add(Document.of("age", 10));
+        DocumentCollectionManager manager = mock(DocumentCollectionManager.class);
+        when(manager.insert(Mockito.any(DocumentEntity.class))).thenReturn(entity);
+        return manager;
+    }
+
     @Produces
     public DocumentCollectionManagerAsync getDocumentCollectionManagerAsync() {
         return Mockito.mock(DocumentCollectionManagerAsync.class);
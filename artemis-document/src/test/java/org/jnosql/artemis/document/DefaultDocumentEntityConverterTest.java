@@ -16,6 +16,7 @@ package org.jnosql.artemis.document;
 
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.AppointmentBook;
 import org.jnosql.artemis.model.Contact;
@@ -27,6 +28,8 @@ import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.Worker;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.ProjectionRepresentation;
+import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.TypeReference;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.document.Document;
@@ -64,6 +67,12 @@ public class DefaultDocumentEntityConverterTest {
     @Inject
     private ClassRepresentations classRepresentations;
 
+    @Inject
+    private Reflections reflections;
+
+    @Inject
+    private Converters converters;
+
     private Document[] documents;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -312,6 +321,99 @@ public class DefaultDocumentEntityConverterTest {
 
     }
 
+    @Test
+    public void shouldConvertSameWayThanInterpreter() {
+        InterpreterConverter interpreter = new InterpreterConverter();
+        Movie movie = new Movie("Matrix", 2012, singleton("Actor"));
+        Director director = Director.builderDiretor().withAge(12)
+                .withId(12)
+                .withName("Otavio")
+                .withPhones(asList("234", "2342")).withMovie(movie).build();
+
+        DocumentEntity compiled = converter.toDocument(director);
+        DocumentEntity interpreted = interpreter.toDocument(director);
+        assertEquals(interpreted.getName(), compiled.getName());
+        assertThat(compiled.getDocuments(), containsInAnyOrder(interpreted.getDocuments().toArray()));
+
+        Director director1 = converter.toEntity(interpreted);
+        Director director2 = interpreter.toEntity(compiled);
+        assertEquals(director2.getMovie(), director1.getMovie());
+        assertEquals(director2.getName(), director1.getName());
+        assertEquals(director2.getAge(), director1.getAge());
+        assertEquals(director2.getId(), director1.getId());
+        assertEquals(director2.getPhones(), director1.getPhones());
+    }
+
+    @Test
+    public void shouldUseFirstValueWhenHasDuplicatedDocument() {
+        InterpreterConverter interpreter = new InterpreterConverter();
+        List<Document> values = new ArrayList<>(asList(documents));
+        values.add(Document.of("name", "Poliana"));
+
+        Actor actor = converter.toEntity(Actor.class, values);
+        Actor actor2 = interpreter.toEntity(Actor.class, values);
+        assertEquals("Otavio", actor.getName());
+        assertEquals(actor2.getName(), actor.getName());
+    }
+
+    @Test
+    public void shouldConvertToProjection() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+        ProjectionRepresentation projection = ProjectionRepresentation.of(ActorName.class, classRepresentations.get(Actor.class));
+
+        ActorName name = converter.toProjection(projection, entity);
+        assertEquals("Otavio", name.getName());
+        assertEquals(asList("234", "2342"), name.getPhones());
+    }
+
+    @Test
+    public void shouldConvertToProjectionWhenHasConverter() {
+        Worker worker = new Worker();
+        worker.setName("Bob");
+        worker.setSalary(new Money("BRL", BigDecimal.TEN));
+        DocumentEntity entity = converter.toDocument(worker);
+        ProjectionRepresentation projection = ProjectionRepresentation.of(WorkerSalary.class, classRepresentations.get(Worker.class));
+
+        WorkerSalary salary = converter.toProjection(projection, entity);
+        assertEquals(worker.getSalary(), salary.getSalary());
+    }
+
+    public interface ActorName {
+
+        String getName();
+
+        List<String> getPhones();
+    }
+
+    public interface WorkerSalary {
+
+        Money getSalary();
+    }
+
+    private class InterpreterConverter extends AbstractDocumentEntityConverter {
+
+        @Override
+        protected boolean isCompiled() {
+            return false;
+        }
+
+        @Override
+        protected ClassRepresentations getClassRepresentations() {
+            return classRepresentations;
+        }
+
+        @Override
+        protected Reflections getReflections() {
+            return reflections;
+        }
+
+        @Override
+        protected Converters getConverters() {
+            return converters;
+        }
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
@@ -27,10 +27,13 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,6 +66,9 @@ public class DefaultDocumentEventPersistManagerTest {
     @Mock
     private Event<DocumentDeleteQueryExecute> documentDeleteQueryExecute;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreColumn() {
@@ -151,6 +157,17 @@ public class DefaultDocumentEventPersistManagerTest {
         assertEquals(query, captor.getValue().getQuery());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNoObserver() {
+        DocumentEntity entity = DocumentEntity.of("collection");
+        subject.init();
+        subject.firePreDocument(entity);
+        subject.firePostDocument(entity);
+        subject.firePreQuery(select().from("collection").build());
+        verify(documentEntityPrePersistEvent, never()).fire(any(DocumentEntityPrePersist.class));
+        verify(documentEntityPostPersistEvent, never()).fire(any(DocumentEntityPostPersist.class));
+        verify(documentQueryExecute, never()).fire(any(DocumentQueryExecute.class));
+    }
 
     class Jedi {
         private String name;
@@ -15,14 +15,32 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.limit.LimitExceededException;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reactive.Subscriber;
+import org.jnosql.artemis.reactive.Subscription;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.jnosql.diana.api.document.query.DocumentQueryBuilder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 
 @RunWith(CDIJUnitRunner.class)
@@ -43,4 +61,109 @@ public class DefaultDocumentTemplateAsyncProducerTest {
         DocumentTemplateAsync documentRepository = producer.get(manager);
         assertNotNull(documentRepository);
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenLimiterIsNull() {
+        producer.get(Mockito.mock(DocumentCollectionManagerAsync.class), null);
+    }
+
+    @Test
+    public void shouldBoundOperationsInFlight() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        DocumentTemplateAsync template = producer.get(manager, limiter);
+        assertSame(limiter, template.getLimiter());
+
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        template.insert(person);
+        assertEquals(1, limiter.getInFlight());
+        try {
+            template.insert(person);
+            fail("the limiter should reject the second insert");
+        } catch (LimitExceededException exception) {
+            assertEquals(1L, limiter.getRejections());
+        }
+        CompletableFuture<Person> future = template.insertAsync(person).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(2L, limiter.getRejections());
+    }
+
+    @Test
+    public void shouldReleasePermitWhenDriverCallsBack() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<Void>) i.getArguments()[1]).accept(null);
+            return null;
+        }).when(manager).delete(Mockito.any(), Mockito.any(Consumer.class));
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        DocumentTemplateAsync template = producer.get(manager, limiter);
+
+        template.deleteAsync(DocumentQueryBuilder.delete().from("Person").build()).toCompletableFuture().join();
+        template.deleteAsync(DocumentQueryBuilder.delete().from("Person").build()).toCompletableFuture().join();
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0L, limiter.getRejections());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTemplateIsNull() {
+        producer.get((DocumentTemplate) null, Runnable::run);
+    }
+
+    @Test
+    public void shouldRunSynchronousTemplateAtExecutor() {
+        DocumentTemplate template = Mockito.mock(DocumentTemplate.class);
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        Mockito.when(template.insert(person)).thenReturn(person);
+        Mockito.when(template.update(person)).thenThrow(new IllegalStateException("update failed"));
+        DocumentTemplateAsync templateAsync = producer.get(template, Runnable::run);
+
+        assertSame(person, templateAsync.insertAsync(person).toCompletableFuture().join());
+        CompletableFuture<Person> update = templateAsync.updateAsync(person).toCompletableFuture();
+        assertTrue(update.isCompletedExceptionally());
+        try {
+            update.join();
+            fail("the update should fail");
+        } catch (CompletionException exception) {
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, templateAsync.getLimiter().getInFlight());
+
+        Consumer<Person> callBack = Mockito.mock(Consumer.class);
+        templateAsync.insert(person, callBack);
+        Mockito.verify(callBack).accept(person);
+    }
+
+    @Test
+    public void shouldSelectFromSynchronousTemplate() {
+        DocumentTemplate template = Mockito.mock(DocumentTemplate.class);
+        Person person = Person.builder().withId(10L).withName("Ada").build();
+        Mockito.when(template.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(person));
+        DocumentTemplateAsync templateAsync = producer.get(template, Runnable::run);
+
+        List<Person> people = templateAsync.<Person>selectAsync(DocumentQueryBuilder.select().from("Person").build())
+                .toCompletableFuture().join();
+        assertEquals(Collections.singletonList(person), people);
+
+        List<Person> published = new ArrayList<>();
+        templateAsync.<Person>publisher(DocumentQueryBuilder.select().from("Person").build(), 10).subscribe(new Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Person item) {
+                published.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertEquals(Collections.singletonList(person), published);
+    }
+}
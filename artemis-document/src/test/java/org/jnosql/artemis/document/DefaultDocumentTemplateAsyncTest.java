@@ -16,7 +16,10 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reactive.Subscriber;
+import org.jnosql.artemis.reactive.Subscription;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
@@ -32,14 +35,26 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +87,10 @@ public class DefaultDocumentTemplateAsyncTest {
 
     private DefaultDocumentTemplateAsync subject;
 
+    private Executor callbackExecutor;
+
+    private int parallelThreshold;
+
     private ArgumentCaptor<DocumentEntity> captor;
 
     @SuppressWarnings("unchecked")
@@ -82,7 +101,19 @@ public class DefaultDocumentTemplateAsyncTest {
         captor = ArgumentCaptor.forClass(DocumentEntity.class);
         Instance<DocumentCollectionManagerAsync> instance = Mockito.mock(Instance.class);
         when(instance.get()).thenReturn(managerMock);
-        this.subject = new DefaultDocumentTemplateAsync(converter, instance, classRepresentations);
+        this.callbackExecutor = Runnable::run;
+        this.parallelThreshold = 1000;
+        this.subject = new DefaultDocumentTemplateAsync(converter, instance, classRepresentations) {
+            @Override
+            protected Executor getCallbackExecutor() {
+                return callbackExecutor;
+            }
+
+            @Override
+            protected int getParallelThreshold() {
+                return parallelThreshold;
+            }
+        };
     }
 
     @Test
@@ -134,7 +165,7 @@ public class DefaultDocumentTemplateAsyncTest {
 
         DocumentDeleteQuery query = delete().from("delete").build();
         subject.delete(query);
-        verify(managerMock).delete(query);
+        verify(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
     }
 
     @Test
@@ -147,4 +178,266 @@ public class DefaultDocumentTemplateAsyncTest {
         subject.select(query, callback);
         verify(managerMock).select(Mockito.eq(query), Mockito.any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldInsertAsync() {
+        Mockito.doAnswer(i -> {
+            ((Consumer<DocumentEntity>) i.getArguments()[1]).accept((DocumentEntity) i.getArguments()[0]);
+            return null;
+        }).when(managerMock).insert(Mockito.any(DocumentEntity.class), Mockito.any(Consumer.class));
+
+        Person inserted = subject.insertAsync(this.person).toCompletableFuture().join();
+        assertEquals(person.getName(), inserted.getName());
+        assertEquals(person.getPhones(), inserted.getPhones());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenInsertFails() {
+        Mockito.doThrow(new ExecuteAsyncQueryException("error")).when(managerMock)
+                .insert(Mockito.any(DocumentEntity.class), Mockito.any(Consumer.class));
+
+        CompletableFuture<Person> future = subject.insertAsync(this.person).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldUpdateAsync() {
+        Mockito.doAnswer(i -> {
+            ((Consumer<DocumentEntity>) i.getArguments()[1]).accept((DocumentEntity) i.getArguments()[0]);
+            return null;
+        }).when(managerMock).update(Mockito.any(DocumentEntity.class), Mockito.any(Consumer.class));
+
+        Person updated = subject.updateAsync(this.person).toCompletableFuture().join();
+        assertEquals(person.getName(), updated.getName());
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        DocumentDeleteQuery query = DocumentQueryBuilder.delete().from("delete").build();
+        Mockito.doAnswer(i -> {
+            ((Consumer<Void>) i.getArguments()[1]).accept(null);
+            return null;
+        }).when(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
+
+        CompletableFuture<Void> future = subject.deleteAsync(query).toCompletableFuture();
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldCallTheDeleteCallBack() {
+        DocumentDeleteQuery query = DocumentQueryBuilder.delete().from("delete").build();
+        Consumer<Void> callBack = Mockito.mock(Consumer.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<Void>) i.getArguments()[1]).accept(null);
+            return null;
+        }).when(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
+        subject.delete(query, callBack);
+        verify(callBack).accept(null);
+    }
+
+    @Test
+    public void shouldSelectAsync() {
+        DocumentEntity entity = DocumentEntity.of("Person", Arrays.asList(Document.of("_id", 19L), Document.of("name", "Name")));
+        Mockito.doAnswer(i -> {
+            ((Consumer<List<DocumentEntity>>) i.getArguments()[1]).accept(Arrays.asList(entity, entity));
+            return null;
+        }).when(managerMock).select(Mockito.any(DocumentQuery.class), Mockito.any(Consumer.class));
+
+        List<Person> people = subject.<Person>selectAsync(DocumentQueryBuilder.select().from("Person").build())
+                .toCompletableFuture().join();
+        assertEquals(2, people.size());
+        assertEquals("Name", people.get(0).getName());
+
+        CompletableFuture<Optional<Person>> single = subject.<Person>singleResultAsync(DocumentQueryBuilder.select().from("Person").build())
+                .toCompletableFuture();
+        assertTrue(single.isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldFindAsync() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<List<DocumentEntity>>) i.getArguments()[1]).accept(Collections.emptyList());
+            return null;
+        }).when(managerMock).select(queryCaptor.capture(), Mockito.any(Consumer.class));
+
+        Optional<Person> person = subject.findAsync(Person.class, 19L).toCompletableFuture().join();
+        assertFalse(person.isPresent());
+        assertEquals(2L, queryCaptor.getValue().getMaxResults());
+    }
+
+    @Test
+    public void shouldRunCallBackAtCallbackExecutor() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        callbackExecutor = tasks::add;
+        DocumentDeleteQuery query = DocumentQueryBuilder.delete().from("delete").build();
+        Consumer<Void> callBack = Mockito.mock(Consumer.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<Void>) i.getArguments()[1]).accept(null);
+            return null;
+        }).when(managerMock).delete(Mockito.eq(query), Mockito.any(Consumer.class));
+
+        subject.delete(query, callBack);
+        verify(callBack, never()).accept(null);
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        verify(callBack).accept(null);
+    }
+
+    @Test
+    public void shouldNotRunAtDriverThreadWhenCallbackExecutorRejects() {
+        callbackExecutor = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        Consumer<Void> callBack = Mockito.mock(Consumer.class);
+        Mockito.doAnswer(i -> {
+            ((Consumer<Object>) i.getArguments()[1]).accept(Collections.emptyList());
+            return null;
+        }).when(managerMock).select(Mockito.any(DocumentQuery.class), Mockito.any(Consumer.class));
+
+        CompletableFuture<List<Person>> future = subject.<Person>selectAsync(DocumentQueryBuilder.select().from("Person").build()).toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        subject.select(DocumentQueryBuilder.select().from("Person").build(), l -> callBack.accept(null));
+        verify(callBack, never()).accept(null);
+    }
+
+    @Test
+    public void shouldConvertLargeResultInParallelChunks() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        callbackExecutor = tasks::add;
+        parallelThreshold = 2;
+        List<DocumentEntity> entities = LongStream.range(0, 5)
+                .mapToObj(id -> DocumentEntity.of("Person", Arrays.asList(Document.of("_id", id), Document.of("name", "Name" + id))))
+                .collect(Collectors.toList());
+        Mockito.doAnswer(i -> {
+            ((Consumer<List<DocumentEntity>>) i.getArguments()[1]).accept(entities);
+            return null;
+        }).when(managerMock).select(Mockito.any(DocumentQuery.class), Mockito.any(Consumer.class));
+
+        CompletableFuture<List<Person>> future = subject.<Person>selectAsync(DocumentQueryBuilder.select().from("Person").build()).toCompletableFuture();
+        int executed = 0;
+        while (!tasks.isEmpty()) {
+            assertFalse(future.isDone());
+            tasks.poll().run();
+            executed++;
+        }
+        assertEquals(4, executed);
+        List<Person> people = future.join();
+        assertEquals(Arrays.asList("Name0", "Name1", "Name2", "Name3", "Name4"),
+                people.stream().map(Person::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldPublishPagesOnDemand() {
+        List<DocumentQuery> queries = mockPages(5);
+        PersonSubscriber subscriber = new PersonSubscriber();
+        subject.<Person>publisher(DocumentQueryBuilder.select().from("Person").build(), 2).subscribe(subscriber);
+        assertTrue(queries.isEmpty());
+
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.people.size());
+        assertEquals(1, queries.size());
+
+        subscriber.subscription.request(3);
+        assertEquals(4, subscriber.people.size());
+        assertEquals(2, queries.size());
+        assertEquals(2L, queries.get(1).getFirstResult());
+        assertEquals(2L, queries.get(1).getMaxResults());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(5, subscriber.people.size());
+        assertEquals(3, queries.size());
+        assertTrue(subscriber.completed);
+        assertEquals("Name0", subscriber.people.get(0).getName());
+        assertEquals("Name4", subscriber.people.get(4).getName());
+    }
+
+    @Test
+    public void shouldStopPagingWhenCancelled() {
+        List<DocumentQuery> queries = mockPages(5);
+        PersonSubscriber subscriber = new PersonSubscriber();
+        subject.<Person>publisher(DocumentQueryBuilder.select().from("Person").build(), 2).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+        assertEquals(2, subscriber.people.size());
+        assertEquals(1, queries.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldPublishUntilMaxResults() {
+        List<DocumentQuery> queries = mockPages(10);
+        PersonSubscriber subscriber = new PersonSubscriber();
+        subject.<Person>publisher(DocumentQueryBuilder.select().from("Person").start(1).limit(3).build(), 2)
+                .subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(3, subscriber.people.size());
+        assertEquals("Name1", subscriber.people.get(0).getName());
+        assertEquals(2, queries.size());
+        assertEquals(1L, queries.get(1).getMaxResults());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldSignalErrorWhenRequestIsNotPositive() {
+        List<DocumentQuery> queries = mockPages(5);
+        PersonSubscriber subscriber = new PersonSubscriber();
+        subject.<Person>publisher(DocumentQueryBuilder.select().from("Person").build()).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(queries.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenPageSizeIsNotPositive() {
+        subject.publisher(DocumentQueryBuilder.select().from("Person").build(), 0);
+    }
+
+    private List<DocumentQuery> mockPages(int size) {
+        List<DocumentQuery> queries = new ArrayList<>();
+        Mockito.doAnswer(i -> {
+            DocumentQuery query = (DocumentQuery) i.getArguments()[0];
+            queries.add(query);
+            List<DocumentEntity> entities = LongStream.range(query.getFirstResult(), Math.min(size, query.getFirstResult() + query.getMaxResults()))
+                    .mapToObj(id -> DocumentEntity.of("Person", Arrays.asList(Document.of("_id", id), Document.of("name", "Name" + id))))
+                    .collect(Collectors.toList());
+            ((Consumer<List<DocumentEntity>>) i.getArguments()[1]).accept(entities);
+            return null;
+        }).when(managerMock).select(Mockito.any(DocumentQuery.class), Mockito.any(Consumer.class));
+        return queries;
+    }
+
+    private static class PersonSubscriber implements Subscriber<Person> {
+
+        private final List<Person> people = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Person person) {
+            people.add(person);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
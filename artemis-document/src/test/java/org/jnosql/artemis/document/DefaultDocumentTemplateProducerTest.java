@@ -15,12 +15,14 @@
 package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.time.Duration;
 
 import static org.junit.Assert.assertNotNull;
 
@@ -43,4 +45,16 @@ public class DefaultDocumentTemplateProducerTest {
         DocumentTemplate documentTemplate = producer.get(manager);
         assertNotNull(documentTemplate);
     }
-}
\ No newline at end of file
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenQueryCacheIsNull() {
+        producer.get(Mockito.mock(DocumentCollectionManager.class), null);
+    }
+
+    @Test
+    public void shouldReturnWithQueryCache() {
+        DocumentCollectionManager manager = Mockito.mock(DocumentCollectionManager.class);
+        DocumentTemplate template = producer.get(manager, QueryCache.of(10, Duration.ZERO));
+        assertNotNull(template);
+    }
+}
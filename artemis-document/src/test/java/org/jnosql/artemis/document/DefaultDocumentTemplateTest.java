@@ -16,9 +16,14 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.cache.EntityCache;
+import org.jnosql.artemis.cache.PersistenceContext;
+import org.jnosql.artemis.cache.QueryCache;
 import org.jnosql.artemis.model.Job;
+import org.jnosql.artemis.model.Magazine;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentCondition;
@@ -32,15 +37,31 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -70,6 +91,9 @@ public class DefaultDocumentTemplateTest {
     @Inject
     private ClassRepresentations classRepresentations;
 
+    @Inject
+    private EntityCache cache;
+
     private DocumentCollectionManager managerMock;
 
     private DefaultDocumentTemplate subject;
@@ -200,4 +224,611 @@ public class DefaultDocumentTemplateTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldInsertIterableInBulk() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        when(managerMock.insert(any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Iterable<Person> people = subject.insert(Arrays.asList(person, person));
+
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(DocumentEntity.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePreEntity(any(Person.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePostDocument(any(DocumentEntity.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePostEntity(any(Person.class));
+        assertEquals(2, StreamSupport.stream(people.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldUpdateIterableInBatches() {
+        when(managerMock.update(any(Iterable.class)))
+                .thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        Iterable<Person> people = getTemplate(managerMock, 2).update(Arrays.asList(person, person, person));
+
+        verify(managerMock, Mockito.times(2)).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(DocumentEntity.class));
+        assertEquals(3, StreamSupport.stream(people.spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldInsertIterableOneByOneWhenThereIsNotBulk() {
+        SingleWriteManager manager = new SingleWriteManager();
+
+        List<Person> people = Arrays.asList(Person.builder().withId(1L).withName("Ada").build(),
+                Person.builder().withId(2L).withName("Grace").build(),
+                Person.builder().withId(3L).withName("Linus").build());
+        Iterable<Person> inserted = getTemplate(manager, 2).insert(people);
+
+        assertEquals(3, manager.inserts.get());
+        assertEquals(2, manager.maxActive.get());
+        assertFalse(manager.threads.contains(Thread.currentThread()));
+        assertEquals(Arrays.asList("Ada", "Grace", "Linus"), StreamSupport.stream(inserted.spliterator(), false)
+                .map(Person::getName).collect(Collectors.toList()));
+        verify(documentEventPersistManager, Mockito.times(3)).firePostEntity(any(Person.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenInsertIterableIsNull() {
+        subject.insert((Iterable<Person>) null);
+    }
+
+    @Test
+    public void shouldFindByIds() {
+        subject.find(Person.class, Arrays.asList(1L, 2L, 3L));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).select(queryCaptor.capture());
+        DocumentQuery query = queryCaptor.getValue();
+
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(DocumentCondition.in(Document.of("_id", Arrays.asList(1L, 2L, 3L))), query.getCondition().get());
+    }
+
+    @Test
+    public void shouldFindByIdsInChunks() {
+        getTemplate(managerMock, 2).find(Person.class, Arrays.asList(1L, 2L, 3L));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, Mockito.times(2)).select(queryCaptor.capture());
+        List<DocumentQuery> queries = queryCaptor.getAllValues();
+
+        assertEquals(DocumentCondition.in(Document.of("_id", Arrays.asList(1L, 2L))), queries.get(0).getCondition().get());
+        assertEquals(DocumentCondition.eq(Document.of("_id", 3L)), queries.get(1).getCondition().get());
+    }
+
+    @Test(expected = IdNotFoundException.class)
+    public void shouldReturnErrorWhenThereIsNotIdInFindByIds() {
+        subject.find(Job.class, Arrays.asList(1L, 2L));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenFindByIdsHasNullId() {
+        subject.find(Person.class, Arrays.asList(1L, null));
+    }
+
+    @Test
+    public void shouldReadFromCacheWhenEntityIsCacheable() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        Magazine magazine = template.find(Magazine.class, 1L).get();
+        Magazine cached = template.find(Magazine.class, 1L).get();
+        assertNotSame(magazine, cached);
+        assertEquals(magazine.getId(), cached.getId());
+        assertEquals(magazine.getTitle(), cached.getTitle());
+        verify(managerMock).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldKeepCopyOfTheEntityAtTheCache() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        DocumentEntity entity = magazine(1L);
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(entity));
+
+        template.find(Magazine.class, 1L);
+        entity.remove("title");
+        entity.add(Document.of("title", "Changed"));
+
+        assertEquals("Java Magazine", template.find(Magazine.class, 1L).get().getTitle());
+    }
+
+    @Test
+    public void shouldNotReadFromCacheWhenIsDisabled() {
+        when(managerMock.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        subject.find(Magazine.class, 1L);
+        subject.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheWhenUpdate() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        DocumentEntity entity = magazine(1L);
+        when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(entity));
+        when(managerMock.update(Mockito.any(DocumentEntity.class))).thenReturn(entity);
+
+        Magazine magazine = template.find(Magazine.class, 1L).get();
+        template.update(magazine);
+        template.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldEvictCacheWhenDelete() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)));
+
+        template.find(Magazine.class, 1L);
+        template.delete(delete().from("Magazine").build());
+        template.find(Magazine.class, 1L);
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldFindByIdsUsingCache() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.singletonList(magazine(1L)), Collections.singletonList(magazine(2L)));
+
+        template.find(Magazine.class, 1L);
+        List<Magazine> magazines = template.find(Magazine.class, Arrays.asList(1L, 2L));
+
+        assertEquals(Arrays.asList(1L, 2L), magazines.stream().map(Magazine::getId).collect(Collectors.toList()));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock, Mockito.times(2)).select(queryCaptor.capture());
+        DocumentQuery query = queryCaptor.getAllValues().get(1);
+        assertEquals("Magazine", query.getDocumentCollection());
+        assertEquals(DocumentCondition.eq(Document.of("_id", 2L)), query.getCondition().get());
+        Magazine cached = template.find(Magazine.class, 2L).get();
+        assertNotSame(magazines.get(1), cached);
+        assertEquals(Long.valueOf(2L), cached.getId());
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldManageCopyOfTheCachedEntityInPersistenceContext() {
+        DefaultDocumentTemplate template = getCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(magazine(1L)));
+
+        Magazine magazine;
+        try (PersistenceContext context = PersistenceContext.open()) {
+            magazine = template.find(Magazine.class, 1L).get();
+        }
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Magazine managed = template.find(Magazine.class, 1L).get();
+            assertNotSame(magazine, managed);
+            assertSame(managed, context.find(Magazine.class, 1L).get());
+        }
+        verify(managerMock).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldNotShareManagedEntitiesByTheQueryCache() {
+        DefaultDocumentTemplate template = getQueryCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+        DocumentQuery query = select().from("Person").build();
+
+        Person person;
+        try (PersistenceContext context = PersistenceContext.open()) {
+            person = template.<Person>select(query).get(0);
+        }
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person managed = template.<Person>select(query).get(0);
+            assertNotSame(person, managed);
+            assertSame(managed, context.find(Person.class, 19L).get());
+        }
+        verify(managerMock).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldCacheSelectResults() {
+        DefaultDocumentTemplate template = getQueryCachedTemplate();
+        when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(person()));
+
+        List<Person> first = template.select(select().from("Person").where("name").eq("Name").build());
+        List<Person> second = template.select(select().from("Person").where("name").eq("Name").build());
+        template.select(select().from("Person").where("name").eq("Ada").build());
+
+        assertEquals(first.get(0).getName(), second.get(0).getName());
+        assertNotSame(first.get(0), second.get(0));
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldInvalidateSelectResultsWhenWritesOnTheSameName() {
+        DefaultDocumentTemplate template = getQueryCachedTemplate();
+        DocumentEntity entity = person();
+        when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(entity));
+        when(managerMock.insert(Mockito.any(DocumentEntity.class))).thenReturn(entity);
+
+        DocumentQuery query = select().from("Person").build();
+        template.select(query);
+        template.insert(this.person);
+        template.select(query);
+        template.delete(delete().from("Person").build());
+        template.select(query);
+        template.delete(delete().from("Movie").build());
+        template.select(query);
+
+        verify(managerMock, Mockito.times(3)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldReturnTheSameInstanceInPersistenceContext() {
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person first = subject.find(Person.class, 19L).get();
+            Person second = subject.find(Person.class, 19L).get();
+            List<Person> people = subject.select(select().from("Person").build());
+            assertSame(first, second);
+            assertSame(first, people.get(0));
+        }
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldManageTheInsertedEntityInPersistenceContext() {
+        Mockito.when(managerMock.insert(Mockito.any(DocumentEntity.class))).thenReturn(managedPerson());
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            Person inserted = subject.insert(this.person);
+            assertSame(inserted, subject.find(Person.class, 19L).get());
+        }
+        verify(managerMock, Mockito.never()).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldClearPersistenceContextWhenDelete() {
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            subject.find(Person.class, 19L);
+            subject.delete(delete().from("Person").build());
+            subject.find(Person.class, 19L);
+        }
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldUpdateJustTheChangedValues() {
+        DefaultDocumentTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withName("Ada").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        DocumentEntity entity = captor.getValue();
+        assertEquals(2, entity.size());
+        assertEquals("Ada", entity.find("name").get().get());
+        assertEquals(19L, entity.find("_id").get().get());
+    }
+
+    @Test
+    public void shouldUpdateTheChangedCollection() {
+        DefaultDocumentTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432", "555")).withName("Name").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        DocumentEntity entity = captor.getValue();
+        assertEquals(2, entity.size());
+        assertTrue(entity.find("phones").isPresent());
+    }
+
+    @Test
+    public void shouldUpdateTheWholeEntityWhenValueIsRemoved() {
+        DefaultDocumentTemplate template = getDirtyTrackingTemplate();
+        Mockito.when(managerMock.update(Mockito.any(DocumentEntity.class))).thenAnswer(i -> i.getArguments()[0]);
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            template.find(Person.class, 19L);
+            template.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        assertEquals(3, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldUpdateTheWholeEntityWhenDirtyTrackingIsDisabled() {
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(Collections.singletonList(managedPerson()));
+        Mockito.when(managerMock.update(Mockito.any(DocumentEntity.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            subject.find(Person.class, 19L);
+            subject.update(Person.builder().withAge().withPhones(Arrays.asList("234", "432")).withName("Ada").withId(19).build());
+        }
+        verify(managerMock).update(captor.capture());
+        assertEquals(4, captor.getValue().size());
+    }
+
+    @Test
+    public void shouldStreamPageByPage() {
+        List<DocumentEntity> entities = people(5);
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        Stream<Person> people = subject.stream(select().from("Person").build(), 2);
+        verify(managerMock, Mockito.never()).select(Mockito.any(DocumentQuery.class));
+
+        assertEquals(Arrays.asList(0L, 1L, 2L, 3L, 4L), people.map(Person::getId).collect(Collectors.toList()));
+        List<DocumentQuery> queries = queryCaptor.getAllValues();
+        assertEquals(3, queries.size());
+        assertEquals(4L, queries.get(2).getFirstResult());
+        assertEquals(2L, queries.get(2).getMaxResults());
+    }
+
+    @Test
+    public void shouldStreamUntilTheMaxResults() {
+        List<DocumentEntity> entities = people(5);
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        Stream<Person> people = subject.stream(select().from("Person").start(1).limit(3).build(), 2);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), people.map(Person::getId).collect(Collectors.toList()));
+        verify(managerMock, Mockito.times(2)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldStopReadingWhenStreamIsClosed() {
+        List<DocumentEntity> entities = people(5);
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenAnswer(i -> page(entities, i.getArguments()[0]));
+
+        try (Stream<Person> people = subject.stream(select().from("Person").build(), 2)) {
+            Iterator<Person> iterator = people.iterator();
+            iterator.next();
+            people.close();
+            assertFalse(iterator.hasNext());
+        }
+        verify(managerMock, Mockito.times(1)).select(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenPageSizeIsNotPositive() {
+        subject.stream(select().from("Person").build(), 0);
+    }
+
+    private List<DocumentEntity> people(int size) {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (long id = 0; id < size; id++) {
+            DocumentEntity entity = DocumentEntity.of("Person");
+            entity.add(Document.of("_id", id));
+            entity.add(Document.of("name", "Name"));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private List<DocumentEntity> page(List<DocumentEntity> entities, Object argument) {
+        DocumentQuery query = (DocumentQuery) argument;
+        int first = (int) Math.min(query.getFirstResult(), entities.size());
+        int last = (int) Math.min(query.getFirstResult() + query.getMaxResults(), entities.size());
+        return entities.subList(first, last);
+    }
+
+    @Test
+    public void shouldLimitSingleResultToTwoEntities() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(managedPerson()));
+
+        Optional<Person> person = subject.singleResult(select().from("Person").build());
+        assertTrue(person.isPresent());
+        assertEquals(2L, queryCaptor.getValue().getMaxResults());
+    }
+
+    @Test
+    public void shouldKeepTheLowerLimitAtSingleResult() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(managedPerson()));
+
+        subject.singleResult(select().from("Person").limit(1).build());
+        assertEquals(1L, queryCaptor.getValue().getMaxResults());
+    }
+
+    @Test(expected = NonUniqueResultException.class)
+    public void shouldReturnErrorWhenSingleResultIsNotUnique() {
+        Mockito.when(managerMock.select(Mockito.any(DocumentQuery.class))).thenReturn(people(2));
+        subject.singleResult(select().from("Person").build());
+    }
+
+    @Test
+    public void shouldCountTheEntitiesWithoutConverting() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(people(3));
+
+        assertEquals(3L, subject.count(select().from("Person").build()));
+        assertEquals(Collections.singletonList("_id"), queryCaptor.getValue().getDocuments());
+        verify(documentEventPersistManager).firePreQuery(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldUseTheNativeCount() {
+        DocumentCountManager manager = Mockito.mock(DocumentCountManager.class);
+        Mockito.when(manager.count(any(DocumentQuery.class))).thenReturn(42L);
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(manager);
+        DefaultDocumentTemplate template = new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, classRepresentations);
+
+        assertEquals(42L, template.count(select().from("Person").build()));
+        verify(manager, Mockito.never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldCheckExistenceReadingJustOneEntity() {
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(people(1));
+
+        assertTrue(subject.exists(select().from("Person").build()));
+        assertEquals(1L, queryCaptor.getValue().getMaxResults());
+
+        Mockito.when(managerMock.select(any(DocumentQuery.class))).thenReturn(Collections.emptyList());
+        assertFalse(subject.exists(select().from("Person").limit(10).build()));
+    }
+
+    @Test
+    public void shouldSelectProjection() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "Ada"));
+        entity.add(Document.of("age", 20));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(entity));
+
+        List<PersonName> names = subject.select(select().from("Person").build(), PersonName.class);
+        assertEquals(1, names.size());
+        assertEquals("Ada", names.get(0).getName());
+        assertEquals(20, names.get(0).getAge());
+        List<String> columns = queryCaptor.getValue().getDocuments();
+        assertEquals(2, columns.size());
+        assertTrue(columns.containsAll(Arrays.asList("name", "age")));
+        verify(documentEventPersistManager).firePreQuery(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldReturnSingleProjection() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.add(Document.of("name", "Ada"));
+        ArgumentCaptor<DocumentQuery> queryCaptor = ArgumentCaptor.forClass(DocumentQuery.class);
+        Mockito.when(managerMock.select(queryCaptor.capture())).thenReturn(Collections.singletonList(entity));
+
+        Optional<PersonName> name = subject.singleResult(select().from("Person").build(), PersonName.class);
+        assertEquals("Ada", name.get().getName());
+        assertEquals(2L, queryCaptor.getValue().getMaxResults());
+    }
+
+    private DefaultDocumentTemplate getDirtyTrackingTemplate() {
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, classRepresentations) {
+            @Override
+            protected boolean isDirtyTracking() {
+                return true;
+            }
+        };
+    }
+
+    private DefaultDocumentTemplate getQueryCachedTemplate() {
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        QueryCache queryCache = QueryCache.of(10, Duration.ZERO);
+        return new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, classRepresentations) {
+            @Override
+            protected QueryCache getQueryCache() {
+                return queryCache;
+            }
+        };
+    }
+
+    private DocumentEntity managedPerson() {
+        DocumentEntity entity = person();
+        entity.add(Document.of("_id", 19L));
+        return entity;
+    }
+
+    private DocumentEntity person() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        return entity;
+    }
+
+    private DefaultDocumentTemplate getCachedTemplate() {
+        cache.evictAll(Magazine.class);
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(managerMock);
+        return new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, classRepresentations, cache);
+    }
+
+    private DocumentEntity magazine(long id) {
+        DocumentEntity entity = DocumentEntity.of("Magazine");
+        entity.add(Document.of("_id", id));
+        entity.add(Document.of("title", "Java Magazine"));
+        return entity;
+    }
+
+    private DefaultDocumentTemplate getTemplate(DocumentCollectionManager manager, int batchSize) {
+        Instance<DocumentCollectionManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        return new DefaultDocumentTemplate(converter, instance, new DefaultDocumentWorkflow(documentEventPersistManager, converter),
+                documentEventPersistManager, classRepresentations) {
+            @Override
+            protected int getBatchSize() {
+                return batchSize;
+            }
+        };
+    }
+
+    @Vetoed
+    private static class SingleWriteManager implements DocumentCollectionManager {
+
+        private final AtomicInteger inserts = new AtomicInteger();
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        private final CountDownLatch overlap = new CountDownLatch(2);
+
+        @Override
+        public DocumentEntity insert(DocumentEntity entity) {
+            inserts.incrementAndGet();
+            threads.add(Thread.currentThread());
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            overlap.countDown();
+            try {
+                overlap.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return entity;
+        }
+
+        @Override
+        public DocumentEntity update(DocumentEntity entity) {
+            return entity;
+        }
+
+        @Override
+        public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+            return insert(entity);
+        }
+
+        @Override
+        public void delete(DocumentDeleteQuery query) {
+        }
+
+        @Override
+        public List<DocumentEntity> select(DocumentQuery query) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public interface PersonName {
+
+        String getName();
+
+        int getAge();
+    }
+}
@@ -22,9 +22,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,4 +80,25 @@ public class DefaultDocumentWorkflowTest {
         verify(converter).toDocument(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowBatchWorkflow() {
+        UnaryOperator<List<DocumentEntity>> action = t -> t;
+        List<String> entities = subject.batchFlow(Arrays.asList("entity", "entity2"), action);
+
+        assertEquals(2, entities.size());
+        verify(columnEventPersistManager, times(2)).firePreDocument(any(DocumentEntity.class));
+        verify(columnEventPersistManager, times(2)).firePostDocument(any(DocumentEntity.class));
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePostEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePreDocumentEntity(any(String.class));
+        verify(columnEventPersistManager, times(2)).firePostDocumentEntity(any(String.class));
+        verify(converter, times(2)).toDocument(any(Object.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenBatchHasNullEntity() {
+        UnaryOperator<List<DocumentEntity>> action = t -> t;
+        subject.batchFlow(Arrays.asList("entity", null), action);
+    }
+
+}
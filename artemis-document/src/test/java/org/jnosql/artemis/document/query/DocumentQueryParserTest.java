@@ -15,6 +15,7 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.model.Person;
@@ -230,6 +231,74 @@ public class DocumentQueryParserTest {
         assertEquals(pagination.getFirstResult(), query.getFirstResult());
     }
 
+    @Test
+    public void shouldFindFirstByName() {
+        DocumentQuery query = parser.parse("findFirstByName", new Object[]{"name"}, classRepresentation);
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(1L, query.getMaxResults());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+    }
+
+    @Test
+    public void shouldCountByName() {
+        DocumentQuery query = parser.parse("countByName", new Object[]{"name"}, classRepresentation);
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(0L, query.getMaxResults());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+    }
+
+    @Test
+    public void shouldExistsByName() {
+        DocumentQuery query = parser.parse("existsByName", new Object[]{"name"}, classRepresentation);
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(1L, query.getMaxResults());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+    }
+
+    @Test
+    public void shouldFindTopNByNameOrderByAge() {
+        DocumentQuery query = parser.parse("findTop10ByNameOrderByAge", new Object[]{"name"}, classRepresentation);
+        assertEquals(10L, query.getMaxResults());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+        assertEquals(Sort.of("age", Sort.SortType.ASC), query.getSorts().get(0));
+    }
+
+    @Test
+    public void shouldKeepTheLowerLimitBetweenTopNAndPagination() {
+        DocumentQuery query = parser.parse("findTop5ByName", new Object[]{"name", Pagination.of(0, 20)}, classRepresentation);
+        assertEquals(5L, query.getMaxResults());
+        query = parser.parse("findTop5ByName", new Object[]{"name", Pagination.of(0, 2)}, classRepresentation);
+        assertEquals(2L, query.getMaxResults());
+    }
+
+    @Test
+    public void shouldFindByNameWithKeysetPagination() {
+        KeysetPagination pagination = KeysetPagination.of("id", 10).next(5L);
+        DocumentQuery query = parser.parse("findByName", new Object[]{"name", pagination}, classRepresentation);
+
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(10L, query.getMaxResults());
+        assertEquals(0L, query.getFirstResult());
+        assertEquals(Sort.of("_id", Sort.SortType.ASC), query.getSorts().get(0));
+        DocumentCondition condition = query.getCondition().get();
+        assertEquals(Condition.AND, condition.getCondition());
+        List<DocumentCondition> conditions = condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(Condition.EQUALS, conditions.get(0).getCondition());
+        assertEquals(Condition.GREATER_THAN, conditions.get(1).getCondition());
+        assertEquals(Document.of("_id", 5L), conditions.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldFindByNameWithFirstKeysetPaginationDescending() {
+        KeysetPagination pagination = KeysetPagination.of("id", Sort.SortType.DESC, 10);
+        DocumentQuery query = parser.parse("findByNameOrderByAge", new Object[]{"name", pagination}, classRepresentation);
+
+        assertEquals(Arrays.asList(Sort.of("_id", Sort.SortType.DESC), Sort.of("age", Sort.SortType.ASC)), query.getSorts());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+        assertEquals(10L, query.getMaxResults());
+    }
+
     @Test
     public void shouldFindByNameWithPageSortArgument() {
         Pagination pagination = Pagination.of(2L, 10);
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.KeysetPagination;
+import org.jnosql.artemis.model.Money;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Worker;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.TypeReference;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(CDIJUnitRunner.class)
+public class DocumentQueryPlanTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Inject
+    private Converters converters;
+
+    private ClassRepresentation classRepresentation;
+
+    @Before
+    public void setUp() {
+        classRepresentation = classRepresentations.get(Person.class);
+    }
+
+    @Test
+    public void shouldReuseThePlanToDifferentArguments() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByName", classRepresentation, converters);
+
+        DocumentQuery query = plan.toQuery(new Object[]{"Ada"});
+        DocumentQuery query2 = plan.toQuery(new Object[]{"Poliana"});
+
+        assertEquals(Document.of("name", "Ada"), query.getCondition().get().getDocument());
+        assertEquals(Document.of("name", "Poliana"), query2.getCondition().get().getDocument());
+    }
+
+    @Test
+    public void shouldBindArgumentsAfterBetween() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByAgeBetweenAndName", classRepresentation, converters);
+        DocumentQuery query = plan.toQuery(new Object[]{10, 20, "Ada"});
+
+        DocumentCondition condition = query.getCondition().get();
+        assertEquals(Condition.AND, condition.getCondition());
+        List<DocumentCondition> conditions = condition.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(Condition.BETWEEN, conditions.get(0).getCondition());
+        assertEquals(Document.of("age", Arrays.asList(10, 20)), conditions.get(0).getDocument());
+        assertEquals(Condition.EQUALS, conditions.get(1).getCondition());
+        assertEquals(Document.of("name", "Ada"), conditions.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldKeepTheSortsOfThePlan() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByNameOrderByAge", classRepresentation, converters);
+        DocumentQuery query = plan.toQuery(new Object[]{"Ada", Sort.of("name", Sort.SortType.DESC)});
+        DocumentQuery query2 = plan.toQuery(new Object[]{"Ada"});
+
+        assertEquals(Arrays.asList(Sort.of("age", Sort.SortType.ASC), Sort.of("name", Sort.SortType.DESC)),
+                query.getSorts());
+        assertEquals(Arrays.asList(Sort.of("age", Sort.SortType.ASC)), query2.getSorts());
+    }
+
+    @Test
+    public void shouldCreateDeleteQuery() {
+        DocumentQueryPlan plan = DocumentQueryPlan.deleteBy("deleteByName", classRepresentation);
+        DocumentDeleteQuery query = plan.toDeleteQuery(new Object[]{"Ada"});
+        assertEquals("Person", query.getDocumentCollection());
+        assertEquals(Document.of("name", "Ada"), query.getCondition().get().getDocument());
+    }
+
+    @Test
+    public void shouldCreateQueryWithoutCondition() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findBy", classRepresentation, converters);
+        assertFalse(plan.toQuery(null).getCondition().isPresent());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenArgumentIsMissing() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByAgeBetween", classRepresentation, converters);
+        plan.toQuery(new Object[]{10});
+    }
+
+    @Test
+    public void shouldBreakTheKeysetTieWithTheId() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByAge", classRepresentation, converters);
+        KeysetPagination pagination = KeysetPagination.of("name", Sort.SortType.DESC, 10).next("Ada", 5L);
+        DocumentQuery query = plan.toQuery(new Object[]{20, pagination});
+
+        assertEquals(Arrays.asList(Sort.of("name", Sort.SortType.DESC), Sort.of("_id", Sort.SortType.DESC)),
+                query.getSorts());
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Condition.EQUALS, conditions.get(0).getCondition());
+        DocumentCondition keyset = conditions.get(1);
+        assertEquals(Condition.OR, keyset.getCondition());
+        List<DocumentCondition> after = keyset.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(Condition.LESSER_THAN, after.get(0).getCondition());
+        assertEquals(Document.of("name", "Ada"), after.get(0).getDocument());
+        List<DocumentCondition> tie = after.get(1).getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        });
+        assertEquals(Condition.EQUALS, tie.get(0).getCondition());
+        assertEquals(Document.of("name", "Ada"), tie.get(0).getDocument());
+        assertEquals(Condition.LESSER_THAN, tie.get(1).getCondition());
+        assertEquals(Document.of("_id", 5L), tie.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldConvertTheKeysetCursor() {
+        DocumentQueryPlan plan = DocumentQueryPlan.findBy("findByName", classRepresentations.get(Worker.class), converters);
+        Money money = new Money("USD", BigDecimal.TEN);
+        DocumentQuery query = plan.toQuery(new Object[]{"Ada", KeysetPagination.of("salary", 10).next(money)});
+
+        assertEquals(Sort.of("money", Sort.SortType.ASC), query.getSorts().get(0));
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Condition.GREATER_THAN, conditions.get(1).getCondition());
+        assertEquals(Document.of("money", money.toString()), conditions.get(1).getDocument());
+    }
+}
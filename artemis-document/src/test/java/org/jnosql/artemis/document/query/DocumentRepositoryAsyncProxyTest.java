@@ -14,9 +14,11 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.document.DocumentTemplateAsync;
 import org.jnosql.artemis.model.Person;
@@ -40,6 +42,8 @@ import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
@@ -48,8 +52,11 @@ import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.delete;
 import static org.jnosql.diana.api.document.query.DocumentQueryBuilder.select;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 @RunWith(CDIJUnitRunner.class)
@@ -63,6 +70,9 @@ public class DocumentRepositoryAsyncProxyTest {
     @Inject
     private Reflections reflections;
 
+    @Inject
+    private Converters converters;
+
     private PersonAsyncRepository personRepository;
 
 
@@ -71,7 +81,7 @@ public class DocumentRepositoryAsyncProxyTest {
         this.template = Mockito.mock(DocumentTemplateAsync.class);
 
         DocumentRepositoryAsyncProxy handler = new DocumentRepositoryAsyncProxy(template,
-                classRepresentations, PersonAsyncRepository.class, reflections);
+                classRepresentations, PersonAsyncRepository.class, reflections, converters);
 
 
         personRepository = (PersonAsyncRepository) Proxy.newProxyInstance(PersonAsyncRepository.class.getClassLoader(),
@@ -117,6 +127,23 @@ public class DocumentRepositoryAsyncProxyTest {
     }
 
 
+    @Test
+    public void shouldSaveWithoutCheckingWhenIsUpsert() {
+        DocumentRepositoryAsyncProxy handler = new DocumentRepositoryAsyncProxy(template,
+                classRepresentations, PersonUpsertAsyncRepository.class, reflections, converters);
+        PersonUpsertAsyncRepository repository = (PersonUpsertAsyncRepository) Proxy.newProxyInstance(
+                PersonUpsertAsyncRepository.class.getClassLoader(), new Class[]{PersonUpsertAsyncRepository.class},
+                handler);
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+
+        repository.save(person);
+        repository.save(singletonList(person));
+
+        verify(template).insert(person);
+        verify(template).insert(singletonList(person));
+        verify(template, never()).singleResult(Mockito.any(DocumentQuery.class), Mockito.any(Consumer.class));
+    }
+
     @Test
     public void shouldSaveWithTTl() {
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
@@ -339,8 +366,86 @@ public class DocumentRepositoryAsyncProxyTest {
 
 
 
+    @Upsert
+    interface PersonUpsertAsyncRepository extends RepositoryAsync<Person, Long> {
+    }
+
+    @Test
+    public void shouldSaveAsyncUsingInsertWhenThereIsNotData() {
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+        when(template.singleResultAsync(any(DocumentQuery.class))).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(template.insertAsync(person)).thenReturn(CompletableFuture.completedFuture(person));
+
+        Person saved = personRepository.saveAsync(person).toCompletableFuture().join();
+        assertEquals(person, saved);
+        verify(template, never()).updateAsync(any(Person.class));
+    }
+
+    @Test
+    public void shouldSaveAsyncUsingUpdateWhenThereIsData() {
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+        when(template.singleResultAsync(any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(Person.builder().build())));
+        when(template.updateAsync(person)).thenReturn(CompletableFuture.completedFuture(person));
+
+        Person saved = personRepository.saveAsync(person).toCompletableFuture().join();
+        assertEquals(person, saved);
+        verify(template, never()).insertAsync(any(Person.class));
+    }
+
+    @Test
+    public void shouldFindByIdAsync() {
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+        when(template.singleResultAsync(any(DocumentQuery.class))).thenReturn(CompletableFuture.completedFuture(Optional.of(person)));
+
+        assertEquals(Optional.of(person), personRepository.findByIdAsync(10L).toCompletableFuture().join());
+        assertTrue(personRepository.existsByIdAsync(10L).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldDeleteByIdAsync() {
+        when(template.deleteAsync(any(DocumentDeleteQuery.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        personRepository.deleteByIdAsync(10L).toCompletableFuture().join();
+        verify(template).deleteAsync(any(DocumentDeleteQuery.class));
+    }
+
+    @Test
+    public void shouldFindByAsync() {
+        Person person = Person.builder().withName("Ada").withAge(20).build();
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        when(template.selectAsync(captor.capture())).thenReturn(CompletableFuture.completedFuture(singletonList(person)));
+
+        List<Person> people = personRepository.findByAge(20).toCompletableFuture().join();
+        assertEquals(singletonList(person), people);
+        assertEquals(Condition.EQUALS, captor.getValue().getCondition().get().getCondition());
+    }
+
+    @Test
+    public void shouldFindSingleResultByAsync() {
+        Person person = Person.builder().withName("Ada").withAge(20).build();
+        when(template.singleResultAsync(any(DocumentQuery.class))).thenReturn(CompletableFuture.completedFuture(Optional.of(person)));
+
+        assertEquals(Optional.of(person), personRepository.findByPhones("123").join());
+    }
+
+    @Test
+    public void shouldDeleteByAsync() {
+        when(template.deleteAsync(any(DocumentDeleteQuery.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        personRepository.deleteByAge(20).toCompletableFuture().join();
+        verify(template).deleteAsync(any(DocumentDeleteQuery.class));
+        verify(template, never()).delete(any(DocumentDeleteQuery.class));
+    }
+
     interface PersonAsyncRepository extends RepositoryAsync<Person, Long> {
 
+        CompletionStage<List<Person>> findByAge(Integer age);
+
+        CompletableFuture<Optional<Person>> findByPhones(String phone);
+
+        CompletionStage<Void> deleteByAge(Integer age);
+
         void deleteByName(String name);
 
         void deleteByName(String name, Consumer<Void> callback);
@@ -49,6 +49,10 @@ public class DocumentRepositoryExtensionTest {
     @Database(value = DatabaseType.DOCUMENT, provider = "documentRepositoryMock")
     private PersonRepositoryAsync repositoryMockAsync;
 
+    @Inject
+    @Database(value = DatabaseType.DOCUMENT, provider = "documentSyncMock")
+    private PersonRepositoryAsync repositorySyncAsync;
+
     @Test
     public void shouldIniciateAsync() {
         assertNotNull(repositoryAsync);
@@ -75,4 +79,10 @@ public class DocumentRepositoryExtensionTest {
         Person person = repositoryMock.save(Person.builder().build());
         assertEquals("documentRepositoryMock", person.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSaveAsyncWhenThereIsJustSynchronousManager() {
+        Person person = repositorySyncAsync.saveAsync(Person.builder().build()).toCompletableFuture().join();
+        assertEquals("documentSyncMock", person.getName());
+    }
+}
@@ -16,7 +16,11 @@ package org.jnosql.artemis.document.query;
 
 import org.hamcrest.Matchers;
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.KeysetPage;
+import org.jnosql.artemis.KeysetPagination;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.Upsert;
 import org.jnosql.artemis.document.DocumentTemplate;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -37,12 +41,14 @@ import javax.inject.Inject;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -64,6 +70,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,6 +86,9 @@ public class DocumentRepositoryProxyTest {
     @Inject
     private Reflections reflections;
 
+    @Inject
+    private Converters converters;
+
     private PersonRepository personRepository;
 
 
@@ -87,7 +97,7 @@ public class DocumentRepositoryProxyTest {
         this.template = Mockito.mock(DocumentTemplate.class);
 
         DocumentRepositoryProxy handler = new DocumentRepositoryProxy(template,
-                classRepresentations, PersonRepository.class, reflections);
+                classRepresentations, PersonRepository.class, reflections, converters);
 
         when(template.insert(any(Person.class))).thenReturn(Person.builder().build());
         when(template.insert(any(Person.class), any(Duration.class))).thenReturn(Person.builder().build());
@@ -101,7 +111,7 @@ public class DocumentRepositoryProxyTest {
 
     @Test
     public void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.empty());
+        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
@@ -116,7 +126,7 @@ public class DocumentRepositoryProxyTest {
 
     @Test
     public void shouldSaveUsingUpdateWhenDataExists() {
-        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.of(Person.builder().build()));
+        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
@@ -134,22 +144,58 @@ public class DocumentRepositoryProxyTest {
 
     @Test
     public void shouldSaveIterable() {
+        when(template.find(Mockito.eq(Person.class), any(Iterable.class))).thenReturn(Collections.emptyList());
+        when(template.insert(any(Iterable.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
 
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
-
-        when(template.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.empty());
-
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
         Person person = Person.builder().withName("Ada")
                 .withId(10L)
                 .withPhones(singletonList("123123"))
                 .build();
+
         personRepository.save(singletonList(person));
         verify(template).insert(captor.capture());
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template, never()).update(any(Iterable.class));
+        assertEquals(singletonList(person), captor.getValue());
+    }
+
+    @Test
+    public void shouldSaveIterableSplittingInsertsAndUpdates() {
+        Person ada = Person.builder().withName("Ada").withId(10L).build();
+        Person poliana = Person.builder().withName("Poliana").withId(20L).build();
+        Person otavio = Person.builder().withName("Otavio").withId(30L).build();
+        when(template.find(Mockito.eq(Person.class), any(Iterable.class)))
+                .thenReturn(singletonList(Person.builder().withId(20L).build()));
+        when(template.insert(any(Iterable.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(template.update(any(Iterable.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+
+        Iterable<Person> people = personRepository.save(asList(ada, poliana, otavio));
+
+        ArgumentCaptor<Iterable> idsCaptor = ArgumentCaptor.forClass(Iterable.class);
+        verify(template).find(Mockito.eq(Person.class), idsCaptor.capture());
+        assertEquals(asList(10L, 20L, 30L), idsCaptor.getValue());
+        verify(template).insert(asList(ada, otavio));
+        verify(template).update(singletonList(poliana));
+        verify(template, never()).singleResult(any(DocumentQuery.class));
+        assertEquals(asList(ada, poliana, otavio), people);
+    }
+
+    @Test
+    public void shouldSaveWithoutCheckingWhenIsUpsert() {
+        DocumentRepositoryProxy handler = new DocumentRepositoryProxy(template,
+                classRepresentations, PersonUpsertRepository.class, reflections, converters);
+        PersonUpsertRepository repository = (PersonUpsertRepository) Proxy.newProxyInstance(
+                PersonUpsertRepository.class.getClassLoader(), new Class[]{PersonUpsertRepository.class}, handler);
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+
+        repository.save(person);
+        repository.save(singletonList(person));
+
+        verify(template).insert(person);
+        verify(template).insert(singletonList(person));
+        verify(template, never()).singleResult(any(DocumentQuery.class));
+        verify(template, never()).find(Mockito.eq(Person.class), any(Iterable.class));
+        verify(template, never()).update(any(Person.class));
     }
 
 
@@ -213,12 +259,12 @@ public class DocumentRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(template.select(Mockito.any(DocumentQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(template.stream(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameAndAgeOrderByName("name", 20);
         ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        verify(template).select(captor.capture());
+        verify(template).stream(captor.capture());
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
@@ -283,29 +329,22 @@ public class DocumentRepositoryProxyTest {
 
     @Test
     public void shouldFindById() {
-        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        personRepository.findById(10L);
-        verify(template).singleResult(captor.capture());
+        Person ada = Person.builder().withId(10L).withName("Ada").build();
+        when(template.find(Person.class, 10L)).thenReturn(Optional.of(ada));
 
-        DocumentQuery query = captor.getValue();
-
-        assertEquals("Person", query.getDocumentCollection());
-        assertEquals(DocumentCondition.eq(Document.of("_id", 10L)), query.getCondition().get());
+        assertEquals(Optional.of(ada), personRepository.findById(10L));
+        verify(template).find(Person.class, 10L);
+        verify(template, never()).singleResult(any(DocumentQuery.class));
     }
 
     @Test
     public void shouldFindByIds() {
-        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(Person.builder().build()));
-        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
-        personRepository.findById(singletonList(10L));
-        verify(template).singleResult(captor.capture());
-
-        DocumentQuery query = captor.getValue();
+        when(template.find(Mockito.eq(Person.class), any(Iterable.class))).thenReturn(singletonList(Person.builder().build()));
+        Iterable<Person> people = personRepository.findById(asList(1L, 2L, 3L));
 
-        assertEquals("Person", query.getDocumentCollection());
-        assertEquals(DocumentCondition.eq(Document.of("_id", 10L)), query.getCondition().get());
-        personRepository.findById(asList(1L, 2L, 3L));
-        verify(template, times(4)).singleResult(any(DocumentQuery.class));
+        verify(template).find(Person.class, asList(1L, 2L, 3L));
+        verify(template, never()).singleResult(any(DocumentQuery.class));
+        assertEquals(1, StreamSupport.stream(people.spliterator(), false).count());
     }
 
     @Test
@@ -338,12 +377,12 @@ public class DocumentRepositoryProxyTest {
 
     @Test
     public void shouldContainsById() {
-        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(Person.builder().build()));
+        when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
 
         assertTrue(personRepository.existsById(10L));
-        Mockito.verify(template).singleResult(any(DocumentQuery.class));
+        Mockito.verify(template).find(Person.class, 10L);
 
-        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.empty());
+        when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
         assertFalse(personRepository.existsById(10L));
 
     }
@@ -500,6 +539,98 @@ public class DocumentRepositoryProxyTest {
 
     }
 
+    @Upsert
+    interface PersonUpsertRepository extends Repository<Person, Long> {
+    }
+
+    @Test
+    public void shouldFindFirstBy() {
+        Person ada = Person.builder().withAge(20).withName("Ada").build();
+        when(template.singleResult(any(DocumentQuery.class))).thenReturn(Optional.of(ada));
+
+        Optional<Person> person = personRepository.findFirstByName("Ada");
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).singleResult(captor.capture());
+        assertEquals(Optional.of(ada), person);
+        assertEquals(1L, captor.getValue().getMaxResults());
+    }
+
+    @Test
+    public void shouldCountBy() {
+        when(template.count(any(DocumentQuery.class))).thenReturn(3L);
+
+        assertEquals(3L, personRepository.countByName("Ada"));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).count(captor.capture());
+        assertEquals(Condition.EQUALS, captor.getValue().getCondition().get().getCondition());
+        verify(template, never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldExistsBy() {
+        when(template.exists(any(DocumentQuery.class))).thenReturn(true);
+
+        assertTrue(personRepository.existsByName("Ada"));
+        verify(template).exists(any(DocumentQuery.class));
+        verify(template, never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldFindProjection() {
+        PersonName name = () -> "Ada";
+        when(template.select(any(DocumentQuery.class), Mockito.eq(PersonName.class))).thenReturn(singletonList(name));
+
+        List<PersonName> names = personRepository.findByAgeGreaterThanEqual(20);
+        assertEquals(singletonList(name), names);
+        verify(template, never()).select(any(DocumentQuery.class));
+    }
+
+    @Test
+    public void shouldFindSingleProjection() {
+        PersonName name = () -> "Ada";
+        when(template.singleResult(any(DocumentQuery.class), Mockito.eq(PersonName.class))).thenReturn(Optional.of(name));
+
+        Optional<PersonName> result = personRepository.findFirstByAge(20);
+        assertEquals(Optional.of(name), result);
+    }
+
+    @Test
+    public void shouldFindTopNBy() {
+        when(template.select(any(DocumentQuery.class))).thenReturn(singletonList(Person.builder().build()));
+
+        personRepository.findTop3ByAgeOrderByName(20);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(template).select(captor.capture());
+        assertEquals(3L, captor.getValue().getMaxResults());
+    }
+
+    @Test
+    public void shouldFindKeysetPage() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person poliana = Person.builder().withId(2L).withAge(20).withName("Poliana").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Arrays.asList(ada, poliana));
+
+        KeysetPage<Person> page = personRepository.findByAge(20, KeysetPagination.of("id", 2));
+        assertEquals(Arrays.asList(ada, poliana), page.getContent());
+        assertEquals(Optional.of(2L), page.next().get().getLastKey());
+
+        when(template.select(any(DocumentQuery.class))).thenReturn(singletonList(ada));
+        page = personRepository.findByAge(20, page.next().get());
+        assertFalse(page.next().isPresent());
+    }
+
+    @Test
+    public void shouldKeepTheLastIdAtKeysetPage() {
+        Person ada = Person.builder().withId(1L).withAge(20).withName("Ada").build();
+        Person poliana = Person.builder().withId(2L).withAge(20).withName("Poliana").build();
+        when(template.select(any(DocumentQuery.class))).thenReturn(Arrays.asList(ada, poliana));
+
+        KeysetPage<Person> page = personRepository.findByAge(20, KeysetPagination.of("name", 2));
+        KeysetPagination next = page.next().get();
+        assertEquals(Optional.of("Poliana"), next.getLastKey());
+        assertEquals(Optional.of(2L), next.getLastId());
+    }
+
     interface PersonRepository extends Repository<Person, Long> {
 
         List<Person> findAll();
@@ -531,5 +662,24 @@ public class DocumentRepositoryProxyTest {
         Person query(DocumentQuery query);
 
         void deleteQuery(DocumentDeleteQuery query);
+
+        KeysetPage<Person> findByAge(Integer age, KeysetPagination pagination);
+
+        Optional<Person> findFirstByName(String name);
+
+        List<Person> findTop3ByAgeOrderByName(Integer age);
+
+        long countByName(String name);
+
+        boolean existsByName(String name);
+
+        List<PersonName> findByAgeGreaterThanEqual(Integer age);
+
+        Optional<PersonName> findFirstByAge(Integer age);
+    }
+
+    public interface PersonName {
+
+        String getName();
     }
-}
\ No newline at end of file
+}
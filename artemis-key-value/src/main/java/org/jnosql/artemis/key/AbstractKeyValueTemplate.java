@@ -15,13 +15,17 @@
 package org.jnosql.artemis.key;
 
 
+import org.jnosql.artemis.cache.PersistenceContext;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -41,47 +45,93 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     @Override
     public <T> T put(T entity) throws NullPointerException {
+        AtomicReference<Object> key = new AtomicReference<>();
         UnaryOperator<KeyValueEntity<?>> putAction = k -> {
             getManager().put(k);
+            key.set(k.getKey());
             return k;
 
         };
-        return getFlow().flow(entity, putAction);
+        return manage(key, getFlow().flow(entity, putAction));
     }
 
     @Override
     public <T> T put(T entity, Duration ttl) throws NullPointerException, UnsupportedOperationException {
+        AtomicReference<Object> key = new AtomicReference<>();
         UnaryOperator<KeyValueEntity<?>> putAction = k -> {
             getManager().put(k, ttl);
+            key.set(k.getKey());
             return k;
 
         };
-        return getFlow().flow(entity, putAction);
+        return manage(key, getFlow().flow(entity, putAction));
     }
 
     @Override
     public <K, T> Optional<T> get(K key, Class<T> clazz) throws NullPointerException {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        Optional<T> managed = context.flatMap(c -> c.find(clazz, key));
+        if (managed.isPresent()) {
+            return managed;
+        }
         Optional<Value> value = getManager().get(key);
         return value.map(v -> getConverter().toEntity(clazz, v))
-                .filter(Objects::nonNull);
+                .filter(Objects::nonNull)
+                .map(e -> context.map(c -> c.manage(clazz, key, e)).orElse(e));
     }
 
     @Override
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> clazz) throws NullPointerException {
-        return StreamSupport.stream(getManager()
-                .get(keys).spliterator(), false)
-                .map(v -> getConverter().toEntity(clazz, v))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (!context.isPresent()) {
+            return StreamSupport.stream(getManager()
+                    .get(keys).spliterator(), false)
+                    .map(v -> getConverter().toEntity(clazz, v))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        PersistenceContext persistenceContext = context.get();
+        List<T> entities = new ArrayList<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            Optional<T> managed = persistenceContext.find(clazz, key);
+            if (managed.isPresent()) {
+                entities.add(managed.get());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return entities;
+        }
+        for (Value value : getManager().get(misses)) {
+            T entity = getConverter().toEntity(clazz, value);
+            if (entity != null) {
+                Object key = getConverter().toKeyValue(entity).getKey();
+                entities.add(persistenceContext.manage(clazz, key, entity));
+            }
+        }
+        return entities;
     }
 
     @Override
     public <K> void remove(K key) throws NullPointerException {
         getManager().remove(key);
+        PersistenceContext.current().ifPresent(c -> c.removeKey(key));
     }
 
     @Override
     public <K> void remove(Iterable<K> keys) throws NullPointerException {
         getManager().remove(keys);
+        PersistenceContext.current().ifPresent(c -> keys.forEach(c::removeKey));
+    }
+
+    private <T> T manage(AtomicReference<Object> key, T entity) {
+        Optional<PersistenceContext> context = PersistenceContext.current();
+        if (context.isPresent() && key.get() != null && entity != null) {
+            context.get().put(entity.getClass(), key.get(), entity);
+        }
+        return entity;
     }
 }
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.artemis.executor.AsyncOperations;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The template method to {@link KeyValueTemplateAsync}. Diana has no asynchronous bucket manager, so each operation
+ * of the {@link KeyValueTemplate} runs at the executor and holds a permit of the {@link ConcurrencyLimiter} while
+ * it runs.
+ */
+public abstract class AbstractKeyValueTemplateAsync implements KeyValueTemplateAsync {
+
+    protected abstract KeyValueTemplate getTemplate();
+
+    protected abstract Executor getExecutor();
+
+    private final ConcurrencyLimiter limiter = ConcurrencyLimiter.fromSystemProperties();
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return supply(() -> getTemplate().put(entity));
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return supply(() -> getTemplate().put(entity, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return supply(() -> getTemplate().put(entities));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return supply(() -> getTemplate().put(entities, ttl));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> clazz) throws NullPointerException {
+        requireNonNull(key, "key is required");
+        requireNonNull(clazz, "class is required");
+        return supply(() -> getTemplate().get(key, clazz));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> clazz) throws NullPointerException {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(clazz, "class is required");
+        return supply(() -> getTemplate().get(keys, clazz));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(K key) throws NullPointerException {
+        requireNonNull(key, "key is required");
+        return supply(() -> {
+            getTemplate().remove(key);
+            return null;
+        });
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(Iterable<K> keys) throws NullPointerException {
+        requireNonNull(keys, "keys is required");
+        return supply(() -> {
+            getTemplate().remove(keys);
+            return null;
+        });
+    }
+
+    /**
+     * The limiter of the operations in flight of this template, by default it's configured from the
+     * {@link ConcurrencyLimiter#LIMIT_PROPERTY} system properties.
+     *
+     * @return the limiter
+     */
+    @Override
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private <R> CompletionStage<R> supply(Supplier<R> operation) {
+        return AsyncOperations.supply(getExecutor(), getLimiter(), operation);
+    }
+}
@@ -19,9 +19,13 @@ import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+import static org.jnosql.artemis.util.EventObservers.hasObserver;
+
 class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager {
 
     @Inject
@@ -42,34 +46,74 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     @Inject
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    /*
+     * The observers are resolved once, when there is no container every event is fired.
+     */
+    private boolean hasKeyValueEntityPrePersistObserver = true;
+
+    private boolean hasKeyValueEntityPostPersistObserver = true;
+
+    private boolean hasEntityPrePersistObserver = true;
+
+    private boolean hasEntityPostPersitObserver = true;
+
+    private boolean hasEntityKeyValuePrePersistObserver = true;
+
+    private boolean hasEntityKeyValuePostPersistObserver = true;
+
+    @PostConstruct
+    public void init() {
+        KeyValueEntity<String> sample = KeyValueEntity.of("sample", "sample");
+        hasKeyValueEntityPrePersistObserver = hasObserver(beanManager, KeyValueEntityPrePersist.of(sample));
+        hasKeyValueEntityPostPersistObserver = hasObserver(beanManager, KeyValueEntityPostPersist.of(sample));
+        hasEntityPrePersistObserver = hasObserver(beanManager, EntityPrePersist.of(sample));
+        hasEntityPostPersitObserver = hasObserver(beanManager, EntityPostPersit.of(sample));
+        hasEntityKeyValuePrePersistObserver = hasObserver(beanManager, EntityKeyValuePrePersist.of(sample));
+        hasEntityKeyValuePostPersistObserver = hasObserver(beanManager, EntityKeyValuePostPersist.of(sample));
+    }
 
     @Override
     public void firePreKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        if (hasKeyValueEntityPrePersistObserver) {
+            keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        if (hasKeyValueEntityPostPersistObserver) {
+            keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (hasEntityPrePersistObserver) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (hasEntityPostPersitObserver) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreKeyValueEntity(T entity) {
-        entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        if (hasEntityKeyValuePrePersistObserver) {
+            entityKeyValuePrePersist.fire(EntityKeyValuePrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostKeyValueEntity(T entity) {
-        entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        if (hasEntityKeyValuePostPersistObserver) {
+            entityKeyValuePostPersist.fire(EntityKeyValuePostPersist.of(entity));
+        }
     }
 }
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.executor.AsyncExecutors;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.util.concurrent.Executor;
+
+/**
+ * The default implementation of {@link KeyValueTemplateAsync}, it runs the default {@link KeyValueTemplate}
+ * at {@link AsyncExecutors#getDefault()}
+ */
+class DefaultKeyValueTemplateAsync extends AbstractKeyValueTemplateAsync {
+
+    private Instance<KeyValueTemplate> template;
+
+    @Inject
+    DefaultKeyValueTemplateAsync(Instance<KeyValueTemplate> template) {
+        this.template = template;
+    }
+
+    DefaultKeyValueTemplateAsync() {
+    }
+
+    @Override
+    protected KeyValueTemplate getTemplate() {
+        return template.get();
+    }
+
+    @Override
+    protected Executor getExecutor() {
+        return AsyncExecutors.getDefault();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+
+import javax.enterprise.inject.Vetoed;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * The default implementation of {@link KeyValueTemplateAsyncProducer}
+ */
+class DefaultKeyValueTemplateAsyncProducer implements KeyValueTemplateAsyncProducer {
+
+    @Override
+    public KeyValueTemplateAsync get(KeyValueTemplate template, Executor executor) throws NullPointerException {
+        return get(template, executor, ConcurrencyLimiter.fromSystemProperties());
+    }
+
+    @Override
+    public KeyValueTemplateAsync get(KeyValueTemplate template, Executor executor, ConcurrencyLimiter limiter)
+            throws NullPointerException {
+        Objects.requireNonNull(template, "template is required");
+        Objects.requireNonNull(executor, "executor is required");
+        Objects.requireNonNull(limiter, "limiter is required");
+        return new ProducerKeyValueTemplateAsync(template, executor, limiter);
+    }
+
+    @Vetoed
+    static class ProducerKeyValueTemplateAsync extends AbstractKeyValueTemplateAsync {
+
+        private KeyValueTemplate template;
+
+        private Executor executor;
+
+        private ConcurrencyLimiter limiter;
+
+        ProducerKeyValueTemplateAsync(KeyValueTemplate template, Executor executor, ConcurrencyLimiter limiter) {
+            this.template = template;
+            this.executor = executor;
+            this.limiter = limiter;
+        }
+
+        ProducerKeyValueTemplateAsync() {
+        }
+
+        @Override
+        protected KeyValueTemplate getTemplate() {
+            return template;
+        }
+
+        @Override
+        protected Executor getExecutor() {
+            return executor;
+        }
+
+        @Override
+        public ConcurrencyLimiter getLimiter() {
+            return limiter;
+        }
+    }
+}
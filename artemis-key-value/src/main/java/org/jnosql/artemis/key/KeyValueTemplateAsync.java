@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous version of {@link KeyValueTemplate}, each operation returns a {@link CompletionStage} that is
+ * completed with the result of the operation or exceptionally with its failure.
+ */
+public interface KeyValueTemplateAsync {
+
+    /**
+     * Saves the entity
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> put(T entity) throws NullPointerException;
+
+    /**
+     * Saves the entity with time to live
+     *
+     * @param entity the entity to be saved
+     * @param ttl    the defined time to live
+     * @param <T>    the entity type
+     * @return the stage completed with the entity saved
+     * @throws NullPointerException when entity or ttl is null
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl) throws NullPointerException;
+
+    /**
+     * Saves the entities
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) throws NullPointerException;
+
+    /**
+     * Saves the entities with time to live
+     *
+     * @param entities the entities to be saved
+     * @param ttl      the defined time to live
+     * @param <T>      the entity type
+     * @return the stage completed with the entities saved
+     * @throws NullPointerException when entities or ttl is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) throws NullPointerException;
+
+    /**
+     * Finds the entity from the key
+     *
+     * @param key   the key
+     * @param clazz the entity class
+     * @param <K>   the key type
+     * @param <T>   the entity type
+     * @return the stage completed with the entity found or empty
+     * @throws NullPointerException when key or clazz is null
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> clazz) throws NullPointerException;
+
+    /**
+     * Finds the entities from the keys
+     *
+     * @param keys  the keys
+     * @param clazz the entity class
+     * @param <K>   the key type
+     * @param <T>   the entity type
+     * @return the stage completed with the entities found
+     * @throws NullPointerException when keys or clazz is null
+     */
+    <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> clazz) throws NullPointerException;
+
+    /**
+     * Removes the entity from the key
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return the stage completed when the entity is removed
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Void> remove(K key) throws NullPointerException;
+
+    /**
+     * Removes the entities from the keys
+     *
+     * @param keys the keys
+     * @param <K>  the key type
+     * @return the stage completed when the entities are removed
+     * @throws NullPointerException when keys is null
+     */
+    <K> CompletionStage<Void> remove(Iterable<K> keys) throws NullPointerException;
+
+    /**
+     * Returns the limiter of the operations in flight of this template. Its limit, queue depth and rejections are
+     * the admission metrics of this template.
+     *
+     * @return the limiter
+     */
+    ConcurrencyLimiter getLimiter();
+}
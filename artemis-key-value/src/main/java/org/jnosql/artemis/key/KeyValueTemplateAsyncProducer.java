@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The producer of {@link KeyValueTemplateAsync}
+ *
+ * @param <T> the KeyValueTemplateAsync instance
+ */
+public interface KeyValueTemplateAsyncProducer<T extends KeyValueTemplateAsync> {
+
+    /**
+     * creates a {@link KeyValueTemplateAsync} that runs each operation of the template at the executor
+     *
+     * @param template the synchronous template
+     * @param executor the executor that runs the operations
+     * @return a new instance
+     * @throws NullPointerException when template or executor is null
+     * @see org.jnosql.artemis.executor.AsyncExecutors
+     */
+    T get(KeyValueTemplate template, Executor executor) throws NullPointerException;
+
+    /**
+     * creates a {@link KeyValueTemplateAsync} whose operations in flight are bounded by the limiter
+     *
+     * @param template the synchronous template
+     * @param executor the executor that runs the operations
+     * @param limiter  the limiter of the operations in flight
+     * @return a new instance
+     * @throws NullPointerException when template, executor or limiter is null
+     */
+    T get(KeyValueTemplate template, Executor executor, ConcurrencyLimiter limiter) throws NullPointerException;
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.executor.AsyncOperations;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+class KeyValueRepositoryAsyncProxy<T> implements InvocationHandler {
+
+    private final DefaultKeyValueRepositoryAsync crudRepository;
+
+    private static final List<Method> METHODS;
+
+    static {
+        METHODS = new ArrayList<>();
+        Stream.of(Object.class.getMethods()).forEach(METHODS::add);
+        Stream.of(RepositoryAsync.class.getMethods()).forEach(METHODS::add);
+    }
+
+    KeyValueRepositoryAsyncProxy(Class<?> repositoryType, KeyValueTemplateAsync repository) {
+        Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
+                .getActualTypeArguments()[0]);
+        this.crudRepository = new DefaultKeyValueRepositoryAsync(typeClass, repository);
+    }
+
+    @Override
+    public Object invoke(Object o, Method method, Object[] args) throws Throwable {
+
+        if (METHODS.stream().anyMatch(method::equals)) {
+            return method.invoke(crudRepository, args);
+        } else {
+            throw new DynamicQueryException("Key Value repository does not support query method");
+        }
+    }
+
+    class DefaultKeyValueRepositoryAsync implements RepositoryAsync {
+
+        private final Class<T> typeClass;
+
+        private final KeyValueTemplateAsync repository;
+
+        DefaultKeyValueRepositoryAsync(Class<T> typeClass, KeyValueTemplateAsync repository) {
+            this.typeClass = typeClass;
+            this.repository = repository;
+        }
+
+        @Override
+        public void save(Object entity) throws NullPointerException {
+            AsyncOperations.logFailure(repository.put(entity));
+        }
+
+        @Override
+        public void save(Iterable entities) throws NullPointerException {
+            AsyncOperations.logFailure(repository.put(entities));
+        }
+
+        @Override
+        public void deleteById(Object key) throws NullPointerException {
+            AsyncOperations.logFailure(repository.remove(key));
+        }
+
+        @Override
+        public void findById(Object key, Consumer callBack) throws NullPointerException {
+            requireNonNull(callBack, "callBack is required");
+            AsyncOperations.logFailure(repository.get(key, typeClass).thenAccept(callBack));
+        }
+
+        @Override
+        public void existsById(Object key, Consumer callBack) throws NullPointerException {
+            requireNonNull(callBack, "callBack is required");
+            AsyncOperations.logFailure(existsByIdAsync(key).thenAccept(callBack));
+        }
+
+        @Override
+        public CompletionStage saveAsync(Object entity) throws NullPointerException {
+            return repository.put(entity);
+        }
+
+        @Override
+        public CompletionStage<Void> deleteByIdAsync(Object key) throws NullPointerException {
+            return repository.remove(key);
+        }
+
+        @Override
+        public CompletionStage<Optional> findByIdAsync(Object key) throws NullPointerException {
+            return repository.get(key, typeClass).thenApply(Optional.class::cast);
+        }
+
+        @Override
+        public CompletionStage<Boolean> existsByIdAsync(Object key) throws NullPointerException {
+            return repository.get(key, typeClass).thenApply(Optional::isPresent);
+        }
+    }
+}
@@ -18,6 +18,8 @@ package org.jnosql.artemis.key.spi;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.Databases;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.query.KeyValueRepositoryAsyncBean;
 import org.jnosql.artemis.key.query.KeyValueRepositoryBean;
 import org.jnosql.diana.api.key.BucketManager;
 
@@ -38,7 +40,9 @@ import java.util.stream.Stream;
 import static org.jnosql.artemis.DatabaseType.KEY_VALUE;
 
 /**
- * Extension to start up {@link org.jnosql.artemis.key.KeyValueTemplate} and {@link org.jnosql.artemis.Repository}
+ * Extension to start up {@link org.jnosql.artemis.key.KeyValueTemplate},
+ * {@link org.jnosql.artemis.key.KeyValueTemplateAsync}, {@link org.jnosql.artemis.Repository}
+ * and {@link org.jnosql.artemis.RepositoryAsync}
  * from the {@link javax.enterprise.inject.Default} and {@link Database} qualifier
  */
 public class BucketManagerProducerExtension implements Extension {
@@ -49,6 +53,8 @@ public class BucketManagerProducerExtension implements Extension {
 
     private final Collection<Class<?>> crudTypes = new HashSet<>();
 
+    private final Collection<Class<?>> crudAsyncTypes = new HashSet<>();
+
     <T, X extends BucketManager> void processProducer(@Observes final ProcessProducer<T, X> pp) {
         Databases.addDatabase(pp, KEY_VALUE, databases);
     }
@@ -67,20 +73,42 @@ public class BucketManagerProducerExtension implements Extension {
         }
     }
 
+    <T extends RepositoryAsync> void onProcessAnnotatedTypeAsync(@Observes final ProcessAnnotatedType<T> repo) {
+        Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
+
+        if (RepositoryAsync.class.equals(javaClass)) {
+            return;
+        }
+
+        if (Stream.of(javaClass.getInterfaces()).anyMatch(RepositoryAsync.class::equals)
+                && Modifier.isInterface(javaClass.getModifiers())) {
+            LOGGER.info("Adding a new KeyValueRepositoryAsync as discovered on key-value: " + javaClass);
+            crudAsyncTypes.add(javaClass);
+        }
+    }
+
     void onAfterBeanDiscovery(@Observes final AfterBeanDiscovery afterBeanDiscovery, final BeanManager beanManager) {
-        LOGGER.info(String.format("Processing buckets: %d databases crud %d ",
-                databases.size(), crudTypes.size()));
+        LOGGER.info(String.format("Processing buckets: %d databases crud %d and crudAsync %d",
+                databases.size(), crudTypes.size(), crudAsyncTypes.size()));
 
         databases.forEach(type -> {
             final org.jnosql.artemis.key.spi.KeyValueRepositoryBean bean = new org.jnosql.artemis.key.spi.KeyValueRepositoryBean(beanManager, type.provider());
             afterBeanDiscovery.addBean(bean);
         });
 
+        databases.forEach(type -> afterBeanDiscovery.addBean(new KeyValueTemplateAsyncBean(beanManager, type.provider())));
+
         crudTypes.forEach(type -> {
             afterBeanDiscovery.addBean(new KeyValueRepositoryBean(type, beanManager, ""));
             databases.forEach(database -> afterBeanDiscovery
                     .addBean(new KeyValueRepositoryBean(type, beanManager, database.provider())));
         });
 
+        crudAsyncTypes.forEach(type -> {
+            afterBeanDiscovery.addBean(new KeyValueRepositoryAsyncBean(type, beanManager, ""));
+            databases.forEach(database -> afterBeanDiscovery
+                    .addBean(new KeyValueRepositoryAsyncBean(type, beanManager, database.provider())));
+        });
+
     }
 }
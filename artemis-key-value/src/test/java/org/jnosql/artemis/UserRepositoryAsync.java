@@ -12,16 +12,10 @@
  *
  *   Otavio Santana
  */
-package org.jnosql.artemis.column.query;
+package org.jnosql.artemis;
 
-import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.column.ColumnCondition;
 
-interface ColumnTokenProcessor {
+import org.jnosql.artemis.model.User;
 
-    ColumnCondition process(String token,
-                            int index,
-                            Object[] args,
-                            String methodName,
-                            ClassRepresentation representation);
+public interface UserRepositoryAsync extends RepositoryAsync<User, String> {
 }
@@ -25,8 +25,11 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 
@@ -54,6 +57,9 @@ public class DefaultKeyValueEventPersistManagerTest {
     @Mock
     private Event<EntityKeyValuePostPersist> entityKeyValuePostPersist;
 
+    @Mock
+    private BeanManager beanManager;
+
     @Test
     public void shouldFirePreColumn() {
         KeyValueEntity entity = KeyValueEntity.of("key", "value");
@@ -121,6 +127,18 @@ public class DefaultKeyValueEventPersistManagerTest {
         assertEquals(actor, value.getValue());
     }
 
+    @Test
+    public void shouldNotFireWhenThereIsNoObserver() {
+        KeyValueEntity<String> entity = KeyValueEntity.of("key", "value");
+        subject.init();
+        subject.firePreKeyValue(entity);
+        subject.firePostKeyValue(entity);
+        subject.firePreEntity(entity);
+        verify(keyValueEntityPrePersistEvent, never()).fire(any(KeyValueEntityPrePersist.class));
+        verify(keyValueEntityPostPersistEvent, never()).fire(any(KeyValueEntityPostPersist.class));
+        verify(entityPrePersistEvent, never()).fire(any(EntityPrePersist.class));
+    }
+
     class Actor {
         private String name;
     }
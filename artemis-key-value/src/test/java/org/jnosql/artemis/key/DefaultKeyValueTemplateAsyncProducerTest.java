@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.time.Duration;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(CDIJUnitRunner.class)
+public class DefaultKeyValueTemplateAsyncProducerTest {
+
+
+    @Inject
+    private KeyValueTemplateAsyncProducer producer;
+
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTemplateNull() {
+        producer.get(null, Runnable::run);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenExecutorNull() {
+        producer.get(Mockito.mock(KeyValueTemplate.class), null);
+    }
+
+    @Test
+    public void shouldReturn() {
+        KeyValueTemplate template = Mockito.mock(KeyValueTemplate.class);
+        KeyValueTemplateAsync templateAsync = producer.get(template, Runnable::run);
+        assertNotNull(templateAsync);
+    }
+
+    @Test
+    public void shouldReturnWithLimiter() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fixed(1, Duration.ZERO);
+        KeyValueTemplateAsync templateAsync = producer.get(Mockito.mock(KeyValueTemplate.class), Runnable::run, limiter);
+        assertSame(limiter, templateAsync.getLimiter());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.limit.ConcurrencyLimiter;
+import org.jnosql.artemis.limit.LimitExceededException;
+import org.jnosql.artemis.model.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(CDIJUnitRunner.class)
+public class DefaultKeyValueTemplateAsyncTest {
+
+    @Inject
+    private KeyValueTemplateAsyncProducer producer;
+
+    @Inject
+    private KeyValueTemplateAsync defaultTemplateAsync;
+
+    private KeyValueTemplate template;
+
+    private KeyValueTemplateAsync subject;
+
+    private User user = new User("otaviojava", "Otavio", 27);
+
+    @Before
+    public void setUp() {
+        template = Mockito.mock(KeyValueTemplate.class);
+        subject = producer.get(template, Runnable::run);
+    }
+
+    @Test
+    public void shouldPut() {
+        when(template.put(user)).thenReturn(user);
+        assertSame(user, subject.put(user).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldPutWithTTL() {
+        Duration ttl = Duration.ofSeconds(10);
+        when(template.put(user, ttl)).thenReturn(user);
+        assertSame(user, subject.put(user, ttl).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldPutIterable() {
+        List<User> users = Collections.singletonList(user);
+        when(template.put(users)).thenReturn(users);
+        assertSame(users, subject.put(users).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldGet() {
+        when(template.get("otaviojava", User.class)).thenReturn(Optional.of(user));
+        assertEquals(Optional.of(user), subject.get("otaviojava", User.class).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldGetIterable() {
+        List<String> keys = Arrays.asList("otaviojava", "poliana");
+        when(template.get(keys, User.class)).thenReturn(Collections.singletonList(user));
+        Iterable<User> users = subject.get(keys, User.class).toCompletableFuture().join();
+        assertEquals(Collections.singletonList(user), users);
+    }
+
+    @Test
+    public void shouldRemove() {
+        subject.remove("otaviojava").toCompletableFuture().join();
+        verify(template).remove("otaviojava");
+        List<String> keys = Arrays.asList("otaviojava", "poliana");
+        subject.remove(keys).toCompletableFuture().join();
+        verify(template).remove(keys);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenTemplateFails() {
+        when(template.get("otaviojava", User.class)).thenThrow(new IllegalStateException("get failed"));
+        CompletableFuture<Optional<User>> future = subject.get("otaviojava", User.class).toCompletableFuture();
+        try {
+            future.join();
+            fail("the get should fail");
+        } catch (CompletionException exception) {
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, subject.getLimiter().getInFlight());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenKeyIsNull() {
+        subject.get((String) null, User.class);
+    }
+
+    @Test
+    public void shouldRejectWhenLimitIsReached() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        when(template.put(user)).then(i -> {
+            latch.await();
+            return user;
+        });
+        try {
+            KeyValueTemplateAsync limited = producer.get(template, executor, ConcurrencyLimiter.fixed(1, Duration.ZERO));
+            CompletableFuture<User> first = limited.put(user).toCompletableFuture();
+            CompletableFuture<User> second = limited.put(user).toCompletableFuture();
+            assertTrue(second.isCompletedExceptionally());
+            try {
+                second.join();
+            } catch (CompletionException exception) {
+                assertTrue(exception.getCause() instanceof LimitExceededException);
+            }
+            latch.countDown();
+            assertSame(user, first.join());
+            assertEquals(1L, limited.getLimiter().getRejections());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldInjectDefaultTemplateAsync() {
+        Optional<User> found = defaultTemplateAsync.get("user", User.class).toCompletableFuture().join();
+        assertTrue(found.isPresent());
+        assertEquals("Default", found.get().getName());
+    }
+}
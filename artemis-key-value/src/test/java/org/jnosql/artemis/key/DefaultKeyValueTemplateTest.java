@@ -15,7 +15,9 @@
 package org.jnosql.artemis.key;
 
 import org.jnosql.artemis.CDIJUnitRunner;
+import org.jnosql.artemis.cache.PersistenceContext;
 import org.jnosql.artemis.model.User;
+import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.BucketManager;
 import org.jnosql.diana.api.key.KeyValueEntity;
 import org.junit.Before;
@@ -26,8 +28,13 @@ import org.mockito.Mockito;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 
 @RunWith(CDIJUnitRunner.class)
@@ -65,4 +72,49 @@ public class DefaultKeyValueTemplateTest {
         assertEquals("otaviojava", entity.getKey());
         assertEquals(user, entity.getValue().get());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnTheSameInstanceInPersistenceContext() {
+        User user = new User("otaviojava", "otavio", 27);
+        Mockito.when(manager.get("otaviojava")).thenReturn(Optional.of(Value.of(user)));
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            User first = subject.get("otaviojava", User.class).get();
+            User second = subject.get("otaviojava", User.class).get();
+            assertSame(first, second);
+        }
+        Mockito.verify(manager, Mockito.times(1)).get("otaviojava");
+    }
+
+    @Test
+    public void shouldManageThePutEntityInPersistenceContext() {
+        User user = new User("otaviojava", "otavio", 27);
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            User result = subject.put(user);
+            assertSame(result, subject.get("otaviojava", User.class).get());
+            List<User> users = (List<User>) subject.get(Collections.singletonList("otaviojava"), User.class);
+            assertSame(result, users.get(0));
+        }
+        Mockito.verify(manager, Mockito.never()).get(Mockito.any(Object.class));
+        Mockito.verify(manager, Mockito.never()).get(Mockito.any(Iterable.class));
+    }
+
+    @Test
+    public void shouldFetchOnlyTheMissesInPersistenceContext() {
+        User otavio = new User("otaviojava", "otavio", 27);
+        User ada = new User("ada", "ada", 30);
+        Mockito.when(manager.get(Collections.singletonList("ada"))).thenReturn(Collections.singletonList(Value.of(ada)));
+        Mockito.when(manager.get("ada")).thenReturn(Optional.empty());
+
+        try (PersistenceContext context = PersistenceContext.open()) {
+            subject.put(otavio);
+            List<User> users = (List<User>) subject.get(Arrays.asList("otaviojava", "ada"), User.class);
+            assertEquals(2, users.size());
+            assertSame(users.get(1), subject.get("ada", User.class).get());
+            subject.remove("ada");
+            subject.get("ada", User.class);
+        }
+        Mockito.verify(manager).get("ada");
+    }
+}
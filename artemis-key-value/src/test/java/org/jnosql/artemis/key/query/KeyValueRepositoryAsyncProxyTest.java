@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.RepositoryAsync;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
+import org.jnosql.artemis.model.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KeyValueRepositoryAsyncProxyTest {
+
+    @Mock
+    private KeyValueTemplateAsync repository;
+
+    private UserRepositoryAsync userRepository;
+
+    @Before
+    public void setUp() {
+
+        KeyValueRepositoryAsyncProxy handler = new KeyValueRepositoryAsyncProxy(UserRepositoryAsync.class, repository);
+        userRepository = (UserRepositoryAsync) Proxy.newProxyInstance(UserRepositoryAsync.class.getClassLoader(),
+                new Class[]{UserRepositoryAsync.class},
+                handler);
+    }
+
+    @Test
+    public void shouldSave() {
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.put(user)).thenReturn(CompletableFuture.completedFuture(user));
+        userRepository.save(user);
+        Mockito.verify(repository).put(captor.capture());
+        assertEquals(user, captor.getValue());
+    }
+
+    @Test
+    public void shouldSaveIterable() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.put(Mockito.any(Iterable.class))).thenReturn(CompletableFuture.completedFuture(null));
+        userRepository.save(Collections.singleton(user));
+        Mockito.verify(repository).put(captor.capture());
+        assertEquals(user, captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldSaveAsync() {
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.put(user)).thenReturn(CompletableFuture.completedFuture(user));
+
+        assertEquals(user, userRepository.saveAsync(user).toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldDelete() {
+        Mockito.when(repository.remove("key")).thenReturn(CompletableFuture.completedFuture(null));
+        userRepository.deleteById("key");
+        Mockito.verify(repository).remove("key");
+    }
+
+    @Test
+    public void shouldNotThrowWhenSaveFails() {
+        User user = new User("ada", "Ada", 10);
+        CompletableFuture<User> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IllegalStateException("The bucket is not available"));
+        Mockito.when(repository.put(user)).thenReturn(failure);
+
+        userRepository.save(user);
+        Mockito.verify(repository).put(user);
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        Mockito.when(repository.remove("key")).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertTrue(userRepository.deleteByIdAsync("key").toCompletableFuture().isDone());
+    }
+
+    @Test
+    public void shouldFindById() {
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.get("key", User.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(user)));
+
+        AtomicReference<Optional<User>> reference = new AtomicReference<>();
+        userRepository.findById("key", reference::set);
+        assertEquals(user, reference.get().get());
+        assertEquals(user, userRepository.findByIdAsync("key").toCompletableFuture().join().get());
+    }
+
+    @Test
+    public void shouldExistsById() {
+        Mockito.when(repository.get("key", User.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        AtomicReference<Boolean> reference = new AtomicReference<>();
+        userRepository.existsById("key", reference::set);
+        assertFalse(reference.get());
+        assertFalse(userRepository.existsByIdAsync("key").toCompletableFuture().join());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenExecuteMethodQuery() {
+        userRepository.findByName("name");
+    }
+
+    @Test
+    public void shouldReturnToString() {
+        assertNotNull(userRepository.toString());
+    }
+
+    @Test
+    public void shouldReturnHasCode() {
+        assertEquals(userRepository.hashCode(), userRepository.hashCode());
+    }
+
+    interface UserRepositoryAsync extends RepositoryAsync<User, String> {
+
+        Optional<User> findByName(String name);
+    }
+
+}
@@ -17,8 +17,10 @@ package org.jnosql.artemis.key.spi;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.UserRepository;
+import org.jnosql.artemis.UserRepositoryAsync;
 import org.jnosql.artemis.CDIJUnitRunner;
 import org.jnosql.artemis.key.KeyValueTemplate;
+import org.jnosql.artemis.key.KeyValueTemplateAsync;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.User;
 import org.junit.Test;
@@ -38,6 +40,10 @@ public class BucketManagerProducerExtensionTest {
     @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
     private KeyValueTemplate repositoryMock;
 
+    @Inject
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    private KeyValueTemplateAsync templateAsyncMock;
+
     @Inject
     private UserRepository userRepository;
 
@@ -49,6 +55,13 @@ public class BucketManagerProducerExtensionTest {
     @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
     private UserRepository userRepositoryMock;
 
+    @Inject
+    private UserRepositoryAsync userRepositoryAsync;
+
+    @Inject
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    private UserRepositoryAsync userRepositoryAsyncMock;
+
     @Test
     public void shouldUseMock() {
         Person person = repository.get("key", Person.class).get();
@@ -71,4 +84,17 @@ public class BucketManagerProducerExtensionTest {
         assertEquals("keyvalueMock", userMock.getName());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUseAsyncTemplate() {
+        Person personMock = templateAsyncMock.get("key", Person.class).toCompletableFuture().join().get();
+        assertEquals("keyvalueMock", personMock.getName());
+    }
+
+    @Test
+    public void shouldUseRepositoryAsync() {
+        User user = userRepositoryAsync.findByIdAsync("user").toCompletableFuture().join().get();
+        User userMock = userRepositoryAsyncMock.findByIdAsync("user").toCompletableFuture().join().get();
+        assertEquals("Default", user.getName());
+        assertEquals("keyvalueMock", userMock.getName());
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Convert;
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Id;
+import org.jnosql.artemis.MappedSuperclass;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Creates the source code of an {@link org.jnosql.artemis.reflection.EntityMetadata} to a class.
+ * The fields are listed in the same order that {@link org.jnosql.artemis.reflection.Reflections#getFields(Class)}
+ * returns. A field is read and written directly when it is visible to the generated class, that is in the same
+ * package of the entity, otherwise through its getter and setter; when neither is visible the accessor is left
+ * to the runtime.
+ */
+class EntityMetadataGenerator {
+
+    private static final String SUFFIX = "_EntityMetadata";
+
+    private static final String FIELD_METADATA = "org.jnosql.artemis.reflection.FieldMetadata";
+
+    private static final String FIELD_TYPE = "org.jnosql.artemis.reflection.FieldType";
+
+    private final Elements elements;
+
+    private final Types types;
+
+    private final TypeElement type;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    EntityMetadataGenerator(ProcessingEnvironment processingEnv, TypeElement type) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.type = type;
+        this.packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        this.simpleName = getFlatName(type) + SUFFIX;
+    }
+
+    String getQualifiedName() {
+        if (packageName.isEmpty()) {
+            return simpleName;
+        }
+        return packageName + '.' + simpleName;
+    }
+
+    String generate() {
+        String entityType = type.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by org.jnosql.artemis.processor.EntityProcessor, do not edit.\n */\n");
+        source.append("public final class ").append(simpleName)
+                .append(" implements org.jnosql.artemis.reflection.EntityMetadata {\n\n");
+
+        source.append("    private static final java.util.logging.Logger LOGGER = java.util.logging.Logger.getLogger(")
+                .append(simpleName).append(".class.getName());\n\n");
+        source.append("    private static final java.util.List<").append(FIELD_METADATA).append("> FIELDS = ")
+                .append("java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        List<VariableElement> fields = getFields(type);
+        for (int index = 0; index < fields.size(); index++) {
+            source.append(index == 0 ? "\n" : ",\n");
+            appendField(source, fields.get(index));
+        }
+        source.append("));\n\n");
+
+        Optional<String> instantiator = getInstantiator();
+        if (instantiator.isPresent()) {
+            source.append("    private static final java.util.function.Supplier<Object> INSTANCE_SUPPLIER = ")
+                    .append(instantiator.get()).append(";\n\n");
+        }
+
+        Cacheable cacheable = type.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            source.append("    private static final org.jnosql.artemis.Cacheable CACHEABLE = ")
+                    .append("org.jnosql.artemis.reflection.EntityMetadata.cacheable(").append(cacheable.maxSize())
+                    .append(", ").append(cacheable.ttl()).append("L, java.util.concurrent.TimeUnit.")
+                    .append(cacheable.unit().name()).append(");\n\n");
+        }
+
+        source.append("    @Override\n    public Class<?> getClassInstance() {\n        return ")
+                .append(entityType).append(".class;\n    }\n\n");
+        source.append("    @Override\n    public String getName() {\n        return ")
+                .append(literal(getEntityName(type))).append(";\n    }\n\n");
+        source.append("    @Override\n    public java.util.List<").append(FIELD_METADATA)
+                .append("> getFields() {\n        return FIELDS;\n    }\n\n");
+        source.append("    @Override\n    public java.util.Optional<java.util.function.Supplier<Object>> ")
+                .append("getInstanceSupplier() {\n        return ")
+                .append(instantiator.isPresent() ? "java.util.Optional.of(INSTANCE_SUPPLIER)" : "java.util.Optional.empty()")
+                .append(";\n    }\n\n");
+        source.append("    @Override\n    public java.util.Optional<org.jnosql.artemis.Cacheable> getCacheable() {\n        return ")
+                .append(cacheable == null ? "java.util.Optional.empty()" : "java.util.Optional.of(CACHEABLE)")
+                .append(";\n    }\n}\n");
+        return source.toString();
+    }
+
+    private void appendField(StringBuilder source, VariableElement field) {
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        String fieldName = field.getSimpleName().toString();
+        boolean id = field.getAnnotation(Id.class) != null;
+
+        source.append("            ").append(FIELD_METADATA).append(".builder()")
+                .append("\n                    .withDeclaringClass(").append(erasure(declaringType.asType())).append(".class)")
+                .append("\n                    .withFieldName(").append(literal(fieldName)).append(')')
+                .append("\n                    .withName(").append(literal(getColumnName(field, id))).append(')')
+                .append("\n                    .withType(").append(FIELD_TYPE).append('.').append(getFieldType(field)).append(')')
+                .append("\n                    .withId(").append(id).append(')');
+        getConverter(field).ifPresent(c -> source.append("\n                    .withConverter(")
+                .append(c).append(".class)"));
+        getEmbeddedEntityName(field).ifPresent(n -> source.append("\n                    .withEntityName(")
+                .append(literal(n)).append(')'));
+        getReader(field).ifPresent(r -> source.append("\n                    .withReader(").append(r).append(')'));
+        getWriter(field).ifPresent(w -> source.append("\n                    .withWriter(").append(w).append(')'));
+        source.append("\n                    .build()");
+    }
+
+    private List<VariableElement> getFields(TypeElement classElement) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror superclass = classElement.getSuperclass();
+        if (TypeKind.DECLARED.equals(superclass.getKind())) {
+            TypeElement superElement = (TypeElement) types.asElement(superclass);
+            if (superElement.getAnnotation(MappedSuperclass.class) != null) {
+                fields.addAll(getFields(superElement));
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(classElement.getEnclosedElements())) {
+            if (field.getAnnotation(Column.class) != null || field.getAnnotation(Id.class) != null) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private Optional<String> getReader(VariableElement field) {
+        String cast = getCast(field);
+        if (cast == null) {
+            return Optional.empty();
+        }
+        if (isVisible(field)) {
+            return Optional.of("bean -> ((" + cast + ") bean)." + field.getSimpleName());
+        }
+        return findGetter(field).map(g -> "bean -> ((" + cast + ") bean)." + g + "()");
+    }
+
+    private Optional<String> getWriter(VariableElement field) {
+        String cast = getCast(field);
+        if (cast == null || field.getModifiers().contains(Modifier.FINAL)) {
+            return Optional.empty();
+        }
+        String valueCast = "(" + boxed(field.asType()) + ") value";
+        Optional<String> write;
+        if (isVisible(field)) {
+            write = Optional.of("((" + cast + ") bean)." + field.getSimpleName() + " = " + valueCast);
+        } else {
+            write = findSetter(field).map(s -> "((" + cast + ") bean)." + s + "(" + valueCast + ")");
+        }
+        if (field.asType().getKind().isPrimitive()) {
+            String message = literal("The primitive field " + field.getSimpleName() + " cannot receive a null value");
+            return write.map(w -> "(bean, value) -> {\n                        if (value == null) {"
+                    + "\n                            LOGGER.log(java.util.logging.Level.SEVERE, " + message + ");"
+                    + "\n                        } else {\n                            " + w + ";"
+                    + "\n                        }\n                    }");
+        }
+        return write.map(w -> "(bean, value) -> " + w);
+    }
+
+    private String getCast(VariableElement field) {
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        if (declaringType.equals(type) || isVisible(declaringType)) {
+            return erasure(declaringType.asType());
+        }
+        return null;
+    }
+
+    private Optional<String> findGetter(VariableElement field) {
+        String name = capitalize(field.getSimpleName().toString());
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(declaringType.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean isGetter = methodName.equals("get" + name)
+                    || (methodName.equals("is" + name) && TypeKind.BOOLEAN.equals(field.asType().getKind()));
+            if (isGetter && method.getParameters().isEmpty() && isVisible(method)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getReturnType(), field.asType())) {
+                return Optional.of(methodName);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> findSetter(VariableElement field) {
+        String methodName = "set" + capitalize(field.getSimpleName().toString());
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(declaringType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(methodName) && method.getParameters().size() == 1
+                    && isVisible(method) && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return Optional.of(methodName);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> getInstantiator() {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return Optional.empty();
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return Optional.of(type.getQualifiedName() + "::new");
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isVisible(Element element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        Element enclosing = element instanceof TypeElement ? element : element.getEnclosingElement();
+        PackageElement elementPackage = elements.getPackageOf(enclosing);
+        return elementPackage.getQualifiedName().contentEquals(packageName);
+    }
+
+    private String getColumnName(VariableElement field, boolean id) {
+        String name = id ? field.getAnnotation(Id.class).value() : field.getAnnotation(Column.class).value();
+        if (name == null || name.trim().isEmpty()) {
+            return field.getSimpleName().toString();
+        }
+        return name;
+    }
+
+    private Optional<String> getConverter(VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(Convert.class.getName())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return Optional.of(erasure((TypeMirror) entry.getValue().getValue()));
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The same rule of {@link org.jnosql.artemis.reflection.FieldType#of(java.lang.reflect.Field)}
+     */
+    private String getFieldType(VariableElement field) {
+        TypeMirror fieldType = types.erasure(field.asType());
+        if (isAssignable(fieldType, Collection.class)) {
+            return "COLLECTION";
+        }
+        if (isAssignable(fieldType, Map.class)) {
+            return "MAP";
+        }
+        if (getEmbeddedEntityName(field).isPresent()) {
+            return "EMBEDDED";
+        }
+        return "DEFAULT";
+    }
+
+    private boolean isAssignable(TypeMirror fieldType, Class<?> superType) {
+        TypeElement superElement = elements.getTypeElement(superType.getName());
+        return types.isAssignable(fieldType, types.erasure(superElement.asType()));
+    }
+
+    private Optional<String> getEmbeddedEntityName(VariableElement field) {
+        if (!TypeKind.DECLARED.equals(field.asType().getKind())) {
+            return Optional.empty();
+        }
+        TypeElement fieldType = (TypeElement) ((DeclaredType) field.asType()).asElement();
+        if (fieldType.getAnnotation(Embeddable.class) != null || fieldType.getAnnotation(Entity.class) != null) {
+            return Optional.of(getEntityName(fieldType));
+        }
+        return Optional.empty();
+    }
+
+    private String getEntityName(TypeElement classElement) {
+        Entity entity = classElement.getAnnotation(Entity.class);
+        if (entity == null || entity.value().trim().isEmpty()) {
+            return classElement.getSimpleName().toString();
+        }
+        return entity.value();
+    }
+
+    private String erasure(TypeMirror typeMirror) {
+        return types.erasure(typeMirror).toString();
+    }
+
+    private String boxed(TypeMirror typeMirror) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) typeMirror).getQualifiedName().toString();
+        }
+        return erasure(typeMirror);
+    }
+
+    private static String getFlatName(TypeElement classElement) {
+        Element enclosing = classElement.getEnclosingElement();
+        if (enclosing instanceof TypeElement) {
+            return getFlatName((TypeElement) enclosing) + '_' + classElement.getSimpleName();
+        }
+        return classElement.getSimpleName().toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
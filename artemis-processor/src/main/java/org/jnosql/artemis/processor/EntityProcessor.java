@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Embeddable;
+import org.jnosql.artemis.Entity;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates, to each class annotated with {@link Entity} or {@link Embeddable},
+ * an {@link org.jnosql.artemis.reflection.EntityMetadata} implementation with the fields information, the field
+ * accessors and the instantiator. The generated classes are registered at
+ * META-INF/services/org.jnosql.artemis.reflection.EntityMetadata, so the
+ * {@link org.jnosql.artemis.reflection.ClassRepresentations} uses them instead of the reflection.
+ * The classes already registered at that file are kept, so an incremental compilation does not drop the entities
+ * that are not at the current compilation.
+ */
+@SupportedAnnotationTypes({"org.jnosql.artemis.Entity", "org.jnosql.artemis.Embeddable"})
+public class EntityProcessor extends AbstractProcessor {
+
+    static final String SERVICE_FILE = "META-INF/services/org.jnosql.artemis.reflection.EntityMetadata";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Entity.class)) {
+            generate(element);
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Embeddable.class)) {
+            if (element.getAnnotation(Entity.class) == null) {
+                generate(element);
+            }
+        }
+        return false;
+    }
+
+    private void generate(Element element) {
+        if (!ElementKind.CLASS.equals(element.getKind())) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (!isVisible(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "The class is not visible to the generated metadata, it will use reflection", type);
+            return;
+        }
+        EntityMetadataGenerator generator = new EntityMetadataGenerator(processingEnv, type);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(generator.getQualifiedName(), type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(generator.generate());
+            }
+            generated.add(generator.getQualifiedName());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when generates the entity metadata: " + exception.getMessage(), type);
+        }
+    }
+
+    private boolean isVisible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (NestingKind.MEMBER.equals(currentType.getNestingKind())
+                    && !currentType.getModifiers().contains(Modifier.STATIC)
+                    && current == type) {
+                return false;
+            }
+            if (NestingKind.LOCAL.equals(currentType.getNestingKind())
+                    || NestingKind.ANONYMOUS.equals(currentType.getNestingKind())) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        try {
+            Set<String> classes = new TreeSet<>(readServiceFile());
+            classes.addAll(generated);
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String className : classes) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Error when writes the " + SERVICE_FILE + ": " + exception.getMessage());
+        }
+    }
+
+    private Set<String> readServiceFile() {
+        Set<String> classes = new TreeSet<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = file.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!className.isEmpty()) {
+                        classes.add(className);
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException exception) {
+            return classes;
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "The existing " + SERVICE_FILE + " cannot be read, it will be replaced: " + exception.getMessage());
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Cacheable;
+import org.jnosql.artemis.reflection.EntityMetadata;
+import org.jnosql.artemis.reflection.FieldMetadata;
+import org.jnosql.artemis.reflection.FieldType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class EntityProcessorTest {
+
+    private static final String PERSON = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "@MappedSuperclass\n" +
+            "public class Person {\n" +
+            "    @Id(\"_id\") private long id;\n" +
+            "    @Column String name;\n" +
+            "    private String ignore;\n" +
+            "    public long getId() { return id; }\n" +
+            "    public void setId(long id) { this.id = id; }\n" +
+            "}\n";
+
+    private static final String ACTOR = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "@Entity(\"actors\")\n" +
+            "@Cacheable(maxSize = 2, ttl = 10, unit = java.util.concurrent.TimeUnit.MINUTES)\n" +
+            "public class Actor extends Person {\n" +
+            "    @Column(\"character\") private String movieCharacter;\n" +
+            "    @Column private Address address;\n" +
+            "    @Column int age;\n" +
+            "    @Column java.util.List<String> phones;\n" +
+            "    Actor() { }\n" +
+            "}\n";
+
+    private static final String ADDRESS = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "@Embeddable\n" +
+            "public class Address {\n" +
+            "    @Column private String street;\n" +
+            "    private Address() { }\n" +
+            "}\n";
+
+    private static final String MOVIE = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "@Entity\n" +
+            "public class Movie {\n" +
+            "    @Id private String name;\n" +
+            "}\n";
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("artemis-processor");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void shouldGenerateEntityMetadata() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+
+            EntityMetadata metadata = newMetadata(loader, "sample.Actor_EntityMetadata");
+            assertEquals("actors", metadata.getName());
+            assertEquals(loader.loadClass("sample.Actor"), metadata.getClassInstance());
+            assertThat(metadata.getFields().stream().map(FieldMetadata::getName).collect(Collectors.toList()),
+                    contains("_id", "name", "character", "address", "age", "phones"));
+
+            Map<String, FieldMetadata> fields = metadata.getFields().stream()
+                    .collect(Collectors.toMap(FieldMetadata::getName, Function.identity()));
+            assertTrue(fields.get("_id").isId());
+            assertEquals(loader.loadClass("sample.Person"), fields.get("_id").getDeclaringClass());
+            assertEquals("Address", fields.get("address").getEntityName().get());
+            assertFalse(fields.get("character").getReader().isPresent());
+            assertEquals(FieldType.DEFAULT, fields.get("name").getType());
+            assertEquals(FieldType.EMBEDDED, fields.get("address").getType());
+            assertEquals(FieldType.COLLECTION, fields.get("phones").getType());
+
+            Cacheable cacheable = metadata.getCacheable().get();
+            assertEquals(2, cacheable.maxSize());
+            assertEquals(10L, cacheable.ttl());
+            assertEquals(TimeUnit.MINUTES, cacheable.unit());
+
+            Object actor = metadata.getInstanceSupplier().get().get();
+            fields.get("_id").getWriter().get().write(actor, 10L);
+            fields.get("name").getWriter().get().write(actor, "Ada");
+            fields.get("age").getWriter().get().write(actor, 32);
+            assertEquals(10L, fields.get("_id").getReader().get().read(actor));
+            assertEquals("Ada", fields.get("name").getReader().get().read(actor));
+            assertEquals(32, fields.get("age").getReader().get().read(actor));
+        }
+    }
+
+    @Test
+    public void shouldIgnoreNullValueToPrimitiveField() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+
+            EntityMetadata metadata = newMetadata(loader, "sample.Actor_EntityMetadata");
+            Map<String, FieldMetadata> fields = metadata.getFields().stream()
+                    .collect(Collectors.toMap(FieldMetadata::getName, Function.identity()));
+
+            Object actor = metadata.getInstanceSupplier().get().get();
+            fields.get("age").getWriter().get().write(actor, 32);
+            fields.get("age").getWriter().get().write(actor, null);
+            fields.get("_id").getWriter().get().write(actor, null);
+            assertEquals(32, fields.get("age").getReader().get().read(actor));
+            assertEquals(0L, fields.get("_id").getReader().get().read(actor));
+        }
+    }
+
+    @Test
+    public void shouldNotCreateInstanceSupplierWhenConstructorIsPrivate() throws Exception {
+        compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            EntityMetadata metadata = newMetadata(loader, "sample.Address_EntityMetadata");
+            assertEquals("Address", metadata.getName());
+            assertFalse(metadata.getInstanceSupplier().isPresent());
+            assertFalse(metadata.getCacheable().isPresent());
+        }
+    }
+
+    @Test
+    public void shouldRegisterService() throws Exception {
+        compile();
+        List<String> services = Files.readAllLines(directory.resolve(EntityProcessor.SERVICE_FILE),
+                StandardCharsets.UTF_8);
+        assertThat(services, contains("sample.Actor_EntityMetadata", "sample.Address_EntityMetadata"));
+    }
+
+    @Test
+    public void shouldKeepRegisteredServicesOnIncrementalCompilation() throws Exception {
+        compile();
+        Path sources = directory.resolve("sample");
+        Files.write(sources.resolve("Movie.java"), MOVIE.getBytes(StandardCharsets.UTF_8));
+        compile(sources.resolve("Movie.java").toFile());
+        List<String> services = Files.readAllLines(directory.resolve(EntityProcessor.SERVICE_FILE),
+                StandardCharsets.UTF_8);
+        assertThat(services, contains("sample.Actor_EntityMetadata", "sample.Address_EntityMetadata",
+                "sample.Movie_EntityMetadata"));
+    }
+
+    private EntityMetadata newMetadata(ClassLoader loader, String className) throws Exception {
+        return EntityMetadata.class.cast(loader.loadClass(className).newInstance());
+    }
+
+    private void compile() throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("sample"));
+        Files.write(sources.resolve("Person.java"), PERSON.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Actor.java"), ACTOR.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Address.java"), ADDRESS.getBytes(StandardCharsets.UTF_8));
+        compile(sources.resolve("Person.java").toFile(), sources.resolve("Actor.java").toFile(),
+                sources.resolve("Address.java").toFile());
+    }
+
+    private void compile(File... files) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", directory.toString(),
+                    "-classpath", System.getProperty("java.class.path") + File.pathSeparator + directory);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null,
+                    fileManager.getJavaFileObjects(files));
+            task.setProcessors(Collections.singletonList(new EntityProcessor()));
+            assertTrue("The compilation should work", task.call());
+        }
+    }
+}